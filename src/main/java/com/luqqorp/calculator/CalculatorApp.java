@@ -2,9 +2,14 @@ package com.luqqorp.calculator;
 
 
 import com.luqqorp.calculator.view.CalculatorGraphic;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.management.ManagementFactory;
+
+@Slf4j
 public class CalculatorApp extends Application {
    private final CalculatorGraphic calculatorGraphic = new CalculatorGraphic();
 
@@ -17,6 +22,24 @@ public class CalculatorApp extends Application {
    public void start(Stage primaryStage) throws Exception {
       primaryStage = calculatorGraphic.calcStage(primaryStage);
       primaryStage.show();
+      logFirstFrame();
    }
-}
 
+   @Override
+   public void stop() {
+      calculatorGraphic.close();
+   }
+
+   /**
+    * Logs time from start of JVM to the first pulse that renders shown stage
+    */
+   private static void logFirstFrame() {
+      new AnimationTimer() {
+         @Override
+         public void handle(long now) {
+            stop();
+            log.info("First frame in {} ms", ManagementFactory.getRuntimeMXBean().getUptime());
+         }
+      }.start();
+   }
+}
@@ -1,29 +1,76 @@
 package com.luqqorp.calculator.controller;
 
 import com.luqqorp.calculator.model.data.History;
+import com.luqqorp.calculator.model.data.HistoryEntry;
 import com.luqqorp.calculator.model.data.Operator;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.AnchorPane;
+import javafx.util.Duration;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import com.luqqorp.calculator.controller.utils.CalculationDispatcher;
 import com.luqqorp.calculator.controller.utils.DecimalViewFormer;
 import com.luqqorp.calculator.controller.utils.HistoryViewFormer;
+import com.luqqorp.calculator.controller.utils.PagedHistoryList;
+import com.luqqorp.calculator.controller.utils.ViewUpdateCoalescer;
 import com.luqqorp.calculator.model.Calculation;
-
+import com.luqqorp.calculator.model.HistoryArchive;
+import com.luqqorp.calculator.model.JournaledCalculation;
+import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
+import com.luqqorp.calculator.model.exceptions.InvalidInputException;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Calculator controller manages commands for model, handles exceptions,
- * creates view text for numbers
+ * creates view text for numbers. Operations are computed by background thread,
+ * keys pressed meanwhile are handled after them in order of pressing
  */
 @Slf4j
 public class CalculatorController {
+   /**
+    * Delay before long computation is shown on main label
+    */
+   private static final Duration BUSY_DELAY = Duration.millis(100);
+   /**
+    * Opacity of main label while operation is computed
+    */
+   private static final double BUSY_OPACITY = 0.4;
+   /**
+    * System property of directory of journal and history, it is ".calculator" in user home by default
+    */
+   public static final String DATA_DIRECTORY_PROPERTY = "calculator.dir";
+   /**
+    * File of journal of calculator inputs, the last session is recovered from it on start
+    */
+   private static final String JOURNAL_FILE = "session.journal";
+   /**
+    * File of archive of completed calculations shown in history tab
+    */
+   private static final String HISTORY_FILE = "history";
+   /**
+    * Maximum time of waiting for computed operation when application stops
+    */
+   private static final long CLOSE_TIMEOUT_MILLIS = 5000;
 
    /**
-    * Calculator model
+    * Calculator model, it is replaced by the last session when it is recovered
     */
    private Calculation calculation = new Calculation();
    /**
@@ -34,123 +81,193 @@ public class CalculatorController {
     * Formatter for creating text history
     */
    private HistoryViewFormer historyViewFormer = new HistoryViewFormer();
+   /**
+    * Archive of completed calculations, it is opened by thread of operations, null until it is opened
+    */
+   private HistoryArchive historyArchive;
+   /**
+    * Entries of archive shown in history tab, null until archive is opened
+    */
+   private PagedHistoryList historyEntries;
+   /**
+    * Formatter of completed expressions, it is used by thread of calculation
+    */
+   private final HistoryViewFormer archiveViewFormer = new HistoryViewFormer();
+   /**
+    * Formatter of archived results, it is used by thread of calculation
+    */
+   private final DecimalViewFormer archiveDecimalFormer = new DecimalViewFormer();
+   /**
+    * Shows computed operation on main label, if it is not done in delay
+    */
+   private final PauseTransition busyIndicator = new PauseTransition(BUSY_DELAY);
+   /**
+    * Dispatcher of keys and operations of calculation
+    */
+   private final CalculationDispatcher dispatcher = new CalculationDispatcher(this::showBusy);
+   /**
+    * Applies texts of labels once per pulse
+    */
+   private final ViewUpdateCoalescer viewUpdates = new ViewUpdateCoalescer();
 
    @FXML
+   @Setter
    private Label mainLabel;
 
    @FXML
+   @Setter
    private Label historyLabel;
 
    @FXML
+   @Setter
    private Label memoryLabel;
 
    @FXML
+   @Setter
    private Label memoryMessageLabel;
 
    @FXML
+   @Setter
    private AnchorPane memoryBox;
 
    @FXML
+   @Setter
    private Button buttonPercent, buttonSqrt, buttonSquare, button1x, buttonDivide,
            buttonMultiply, buttonMinus, buttonPlus, buttonDot, buttonNegate,
            memoryAddBtn, memorySubstactBtn, memorySBtn;
 
    @FXML
+   @Setter
    private Button memoryBtn, memoryRBtn, memoryClearBtn;
 
+   @FXML
+   private ListView<HistoryEntry> historyList;
+
+   /**
+    * Shows archived calculations in list, which creates cells only for visible entries
+    *
+    * @param historyList list of history tab
+    */
+   public void setHistoryList(ListView<HistoryEntry> historyList) {
+      this.historyList = historyList;
+      historyList.setCellFactory(list -> new ListCell<>() {
+         @Override
+         protected void updateItem(HistoryEntry entry, boolean empty) {
+            super.updateItem(entry, empty);
+            setText(empty || entry == null ? null : entry.getExpression() + "\n" + entry.getResult());
+         }
+      });
+      showHistoryEntries();
+   }
+
+   /**
+    * Shows entries of archive in history list, list is hidden while archive is not opened
+    */
+   private void showHistoryEntries() {
+      if (historyList == null) {
+         return;
+      }
+      if (historyEntries == null) {
+         historyList.setVisible(false);
+         return;
+      }
+      historyList.setItems(historyEntries);
+      historyList.visibleProperty().bind(Bindings.isNotEmpty(historyEntries));
+   }
+
    @FXML
    public void button0OnAction(ActionEvent event) {
-      addSymbol(0);
+      addSymbol(0, 1);
    }
 
    @FXML
    public void button1OnAction(ActionEvent event) {
-      addSymbol(1);
+      addSymbol(1, 1);
    }
 
    @FXML
    public void button2OnAction(ActionEvent event) {
-      addSymbol(2);
+      addSymbol(2, 1);
    }
 
    @FXML
    public void button3OnAction(ActionEvent event) {
-      addSymbol(3);
+      addSymbol(3, 1);
    }
 
    @FXML
    public void button4OnAction(ActionEvent event) {
-      addSymbol(4);
+      addSymbol(4, 1);
    }
 
    @FXML
    public void button5OnAction(ActionEvent event) {
-      addSymbol(5);
+      addSymbol(5, 1);
    }
 
    @FXML
    public void button6OnAction(ActionEvent event) {
-      addSymbol(6);
+      addSymbol(6, 1);
    }
 
    @FXML
    public void button7OnAction(ActionEvent event) {
-      addSymbol(7);
+      addSymbol(7, 1);
    }
 
    @FXML
    public void button8OnAction(ActionEvent event) {
-      addSymbol(8);
+      addSymbol(8, 1);
    }
 
    @FXML
    public void button9OnAction(ActionEvent event) {
-      addSymbol(9);
+      addSymbol(9, 1);
    }
 
    @FXML
    public void buttonPlus(ActionEvent event) {
-      createOperation(Operator.ADD);
+      createOperation(Operator.ADD, 1);
    }
 
    @FXML
    public void buttonMinus(ActionEvent event) {
-      createOperation(Operator.SUBTRACT);
+      createOperation(Operator.SUBTRACT, 1);
    }
 
    @FXML
    public void buttonMultiply(ActionEvent event) {
-      createOperation(Operator.MULTIPLY);
+      createOperation(Operator.MULTIPLY, 1);
    }
 
    @FXML
    public void buttonDivide(ActionEvent event) {
-      createOperation(Operator.DIVIDE);
+      createOperation(Operator.DIVIDE, 1);
    }
 
    @FXML
    public void buttonPercent(ActionEvent event) {
-      createOperation(Operator.PERCENT);
+      createOperation(Operator.PERCENT, 1);
    }
 
    @FXML
    public void buttonSqrt(ActionEvent event) {
-      createOperation(Operator.SQRT);
+      createOperation(Operator.SQRT, 1);
    }
 
    @FXML
    public void buttonNegate(ActionEvent event) {
-      createOperation(Operator.NEGATE);
+      createOperation(Operator.NEGATE, 1);
    }
 
    @FXML
    public void buttonSquare(ActionEvent event) {
-      createOperation(Operator.SQUARE);
+      createOperation(Operator.SQUARE, 1);
    }
 
    @FXML
    public void button1x(ActionEvent event) {
-      createOperation(Operator.ONE_BY_X);
+      createOperation(Operator.ONE_BY_X, 1);
    }
 
 
@@ -162,7 +279,7 @@ public class CalculatorController {
     */
    @FXML
    public void buttonDot(ActionEvent event) {
-      addSymbol(10);
+      addSymbol(10, 1);
 //      BigDecimal currentDecimal = calculation.getCurrentDecimal();
 //      if(calculation.isCurrentValNew()) {
 //         calculation.editCurrentDecimal(ZERO);
@@ -175,18 +292,132 @@ public class CalculatorController {
 //      setDecimalAndHistoryText();
    }
 
-   private void addSymbol(int code) {
-      unlock();
-      BigDecimal decimal = calculation.getCurrentDecimal();
-      boolean currentValNew = calculation.isCurrentValNew();
-      decimal = decimalViewFormer.parseDecimal(decimal, code, currentValNew);
-      calculation.editCurrentDecimal(decimal);
-      setDecimalAndHistoryText();
+   private void addSymbol(int code, int count) {
+      dispatcher.run(() -> {
+         unlock();
+         for (int i = 0; i < count; i++) {
+            BigDecimal decimal = calculation.getCurrentDecimal();
+            boolean currentValNew = calculation.isCurrentValNew();
+            decimal = decimalViewFormer.parseDecimal(decimal, code, currentValNew);
+            calculation.editCurrentDecimal(decimal);
+         }
+         setDecimalAndHistoryText();
+      });
+   }
+
+   /**
+    * Opens archive of history and recovers the last session from journal by thread of operations
+    * and shows them, keys pressed meanwhile are handled after it. Completed calculations of session are appended to archive
+    */
+   public void recoverCalculation() {
+      dispatcher.prepare(CalculatorController::openArchive, archive -> {
+         if (archive != null) {
+            historyArchive = archive;
+            historyEntries = new PagedHistoryList(archive);
+            showHistoryEntries();
+         }
+      }, e -> log.warn("History cannot be opened", e));
+      dispatcher.prepare(CalculatorController::openCalculation, recovered -> {
+         calculation = recovered;
+         if (historyArchive != null) {
+            calculation.setCompletionListener(this::archive);
+         }
+         setDecimalAndHistoryText();
+      }, e -> {
+         log.warn("Session cannot be recovered", e);
+         setDecimalAndHistoryText();
+      });
+   }
+
+   /**
+    * Cancels computed operation, forces journal of session to disk and closes archive of history
+    * by thread of operations, so they are not closed while operation appends to them. It is called when application stops
+    */
+   public void close() {
+      try {
+         if (!dispatcher.shutdown(this::closeCalculation, CLOSE_TIMEOUT_MILLIS)) {
+            log.warn("Operation is not finished in {} ms, journal and history are not closed", CLOSE_TIMEOUT_MILLIS);
+         }
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   private void closeCalculation() {
+      if (calculation instanceof JournaledCalculation) {
+         ((JournaledCalculation) calculation).close();
+      }
+      if (historyArchive != null) {
+         try {
+            historyArchive.close();
+         } catch (IOException e) {
+            log.warn("History is not closed", e);
+         }
+      }
+   }
+
+   /**
+    * Returns directory of journal and history, it is adjusted by {@link #DATA_DIRECTORY_PROPERTY}
+    *
+    * @return data directory
+    */
+   private static Path dataDirectory() {
+      String directory = System.getProperty(DATA_DIRECTORY_PROPERTY);
+      return directory == null ? Paths.get(System.getProperty("user.home"), ".calculator") : Paths.get(directory);
+   }
+
+   /**
+    * Recovers the last session from journal, calculation is not journaled if journal cannot be opened
+    *
+    * @return calculation of session
+    */
+   private static Calculation openCalculation() {
+      Path journal = dataDirectory().resolve(JOURNAL_FILE);
+      try {
+         Files.createDirectories(journal.getParent());
+         JournaledCalculation calculation = JournaledCalculation.open(journal);
+         log.info("Session is recovered by {} records of journal", calculation.getReplayedRecords());
+         return calculation;
+      } catch (IOException | UncheckedIOException e) {
+         log.warn("Journal {} cannot be opened, session is not journaled", journal, e);
+         return new Calculation();
+      }
+   }
+
+   /**
+    * Opens archive of history
+    *
+    * @return archive or null if it cannot be opened
+    */
+   private static HistoryArchive openArchive() {
+      Path history = dataDirectory().resolve(HISTORY_FILE);
+      try {
+         Files.createDirectories(history.getParent());
+         return HistoryArchive.open(history);
+      } catch (IOException e) {
+         log.warn("History {} cannot be opened, calculations are not archived", history, e);
+         return null;
+      }
+   }
+
+   /**
+    * Appends completed calculation to archive and shows it in history tab on the application thread
+    *
+    * @param history history of completed expression
+    * @param result  result of expression, it is archived as displayed text
+    */
+   private void archive(History history, BigDecimal result) {
+      try {
+         historyArchive.append(archiveViewFormer.getHistoryText(history) + " =", archiveDecimalFormer.formOperateDecimalText(result));
+         Platform.runLater(historyEntries::sync);
+      } catch (IOException e) {
+         log.warn("Calculation is not archived", e);
+      }
    }
 
    private void setDecimalAndHistoryText() {
-      mainLabel.setText(decimalViewFormer.formatInputNumber(calculation.getCurrentDecimal()));
-      historyLabel.setText(historyViewFormer.getHistoryText(calculation.getHistory()));
+      viewUpdates.setText(mainLabel.textProperty(), decimalViewFormer.formatInputNumber(calculation.getCurrentDecimal()));
+      viewUpdates.setText(historyLabel.textProperty(), historyViewFormer.getHistoryText(calculation.getHistory()));
    }
 
    /**
@@ -197,27 +428,41 @@ public class CalculatorController {
     */
    @FXML
    public void buttonBackspace(ActionEvent event) {
-      unlock();
-      if (!calculation.isCurrentValNew()) {
-         calculation.editCurrentDecimal(decimalViewFormer.tryRemoveLast());
-      }
-      mainLabel.setText(decimalViewFormer.getCurrentDecimalText());
+      removeLast(1);
    }
 
    /**
-    * Unlocks buttons, refreshes calculation, history, memory and views
+    * Removes adjusted count of last digits from number
+    *
+    * @param count count of removed digits
+    */
+   private void removeLast(int count) {
+      dispatcher.run(() -> {
+         unlock();
+         for (int i = 0; i < count && !calculation.isCurrentValNew(); i++) {
+            calculation.editCurrentDecimal(decimalViewFormer.tryRemoveLast());
+         }
+         viewUpdates.setText(mainLabel.textProperty(), decimalViewFormer.getCurrentDecimalText());
+      });
+   }
+
+   /**
+    * Cancels computed operation and queued keys, unlocks buttons,
+    * refreshes calculation, history, memory and views
     * and set it main-label text
     *
     * @param event ActionEvent of pressed button
     */
    @FXML
    public void buttonC(ActionEvent event) {
-      unlock();
-      calculation.clearAll();
-      decimalViewFormer = new DecimalViewFormer();
-      historyViewFormer = new HistoryViewFormer();
-      historyLabel.setText("");
-      mainLabel.setText("0");
+      dispatcher.cancel(() -> {
+         unlock();
+         calculation.clearAll();
+         decimalViewFormer = new DecimalViewFormer();
+         historyViewFormer = new HistoryViewFormer();
+         viewUpdates.setText(historyLabel.textProperty(), "");
+         viewUpdates.setText(mainLabel.textProperty(), "0");
+      });
    }
 
    /**
@@ -228,27 +473,33 @@ public class CalculatorController {
     */
    @FXML
    public void buttonCE(ActionEvent event) {
-      unlock();
-      calculation.clearEnter();
-      decimalViewFormer = new DecimalViewFormer();
-      setDecimalAndHistoryText();
+      dispatcher.run(() -> {
+         unlock();
+         calculation.clearEnter();
+         decimalViewFormer = new DecimalViewFormer();
+         setDecimalAndHistoryText();
+      });
    }
 
    /**
     * Requests result from calculation process, refreshes history,
-    * unlock buttons, formats this to string and set it to main-label text
+    * unlock buttons, formats this to string and set it to main-label text.
     *
     * @param event ActionEvent of pressed button
     */
    @FXML
    public void buttonEquals(ActionEvent event) {
-      unlock();
-      try {
-         decimalViewFormer.formResultDecimalText(calculation.getResultDecimal());
-         setDecimalAndHistoryText();
-      } catch (Exception e) {
-         exceptionHandle(e);
-      }
+      repeatEquals(1);
+   }
+
+   /**
+    * Resolves equals pressed adjusted count of times
+    *
+    * @param count count of presses
+    */
+   private void repeatEquals(int count) {
+      dispatcher.run(this::unlock);
+      dispatcher.compute(() -> calculation.repeatResultDecimal(count), this::setResultText, this::operationFailed);
    }
 
    /**
@@ -259,9 +510,11 @@ public class CalculatorController {
     * @param event ActionEvent of pressed button
     */
    @FXML
-   void memoryMinus(MouseEvent event) {
-      lockButtons(false, new Button[]{memoryBtn, memoryRBtn, memoryClearBtn});
-      memoryLabel.setText(decimalViewFormer.formOperateDecimalText(calculation.memorySubstract()));
+   public void memoryMinus(MouseEvent event) {
+      dispatcher.run(() -> {
+         lockButtons(false, new Button[]{memoryBtn, memoryRBtn, memoryClearBtn});
+         viewUpdates.setText(memoryLabel.textProperty(), decimalViewFormer.formOperateDecimalText(calculation.memorySubstract()));
+      });
    }
 
    /**
@@ -272,9 +525,11 @@ public class CalculatorController {
     * @param event ActionEvent of pressed button
     */
    @FXML
-   void memoryPlus(MouseEvent event) {
-      lockButtons(false, new Button[]{memoryBtn, memoryRBtn, memoryClearBtn});
-      memoryLabel.setText(decimalViewFormer.formOperateDecimalText(calculation.memoryAdd()));
+   public void memoryPlus(MouseEvent event) {
+      dispatcher.run(() -> {
+         lockButtons(false, new Button[]{memoryBtn, memoryRBtn, memoryClearBtn});
+         viewUpdates.setText(memoryLabel.textProperty(), decimalViewFormer.formOperateDecimalText(calculation.memoryAdd()));
+      });
    }
 
    /**
@@ -285,7 +540,7 @@ public class CalculatorController {
     */
    @FXML
    public void pickFromMemory(MouseEvent event) {
-      mainLabel.setText(decimalViewFormer.formOperateDecimalText(calculation.setCurrentDecimalFromMemory()));
+      dispatcher.run(() -> viewUpdates.setText(mainLabel.textProperty(), decimalViewFormer.formOperateDecimalText(calculation.setCurrentDecimalFromMemory())));
    }
 
    /**
@@ -295,9 +550,11 @@ public class CalculatorController {
     */
    @FXML
    public void memoryClear(MouseEvent event) {
-      lockButtons(true, new Button[]{memoryBtn, memoryRBtn, memoryClearBtn});
-      memoryBox.setOpacity(0);
-      memoryLabel.setText(decimalViewFormer.formOperateDecimalText(calculation.memoryClear()));
+      dispatcher.run(() -> {
+         lockButtons(true, new Button[]{memoryBtn, memoryRBtn, memoryClearBtn});
+         memoryBox.setOpacity(0);
+         viewUpdates.setText(memoryLabel.textProperty(), decimalViewFormer.formOperateDecimalText(calculation.memoryClear()));
+      });
    }
 
    /**
@@ -306,13 +563,95 @@ public class CalculatorController {
     * and history label text
     *
     * @param operator Adjusted operation
+    * @param count    count of presses
     */
-   private void createOperation(Operator operator) {
-      try {
-         decimalViewFormer.formResultDecimalText(calculation.createOperation(operator));
-         setDecimalAndHistoryText();
-      } catch (Exception e) {
-         exceptionHandle(e);
+   private void createOperation(Operator operator, int count) {
+      dispatcher.compute(() -> {
+         BigDecimal result = calculation.createOperation(operator);
+         for (int i = 1; i < count; i++) {
+            result = calculation.createOperation(operator);
+         }
+         return result;
+      }, this::setResultText, this::operationFailed);
+   }
+
+   /**
+    * Handles key pressed adjusted count of times, e.g. auto-repeated presses of held hotkey.
+    * Presses of digits, dot, backspace, operations and equals are handled at once
+    *
+    * @param buttonId id of button of key
+    * @param count    count of presses
+    * @return false if presses of key are not collected, e.g. clear
+    */
+   public boolean pressRepeated(String buttonId, int count) {
+      switch (buttonId) {
+         case "btn-0": case "btn-1": case "btn-2": case "btn-3": case "btn-4":
+         case "btn-5": case "btn-6": case "btn-7": case "btn-8": case "btn-9":
+            addSymbol(buttonId.charAt(4) - '0', count);
+            return true;
+         case "btn-dot":
+            addSymbol(10, count);
+            return true;
+         case "btn-undo":
+            removeLast(count);
+            return true;
+         case "btn-equals":
+            repeatEquals(count);
+            return true;
+         case "btn-plus":
+            createOperation(Operator.ADD, count);
+            return true;
+         case "btn-minus":
+            createOperation(Operator.SUBTRACT, count);
+            return true;
+         case "btn-multiply":
+            createOperation(Operator.MULTIPLY, count);
+            return true;
+         case "btn-divide":
+            createOperation(Operator.DIVIDE, count);
+            return true;
+         case "btn-percent":
+            createOperation(Operator.PERCENT, count);
+            return true;
+         case "btn-sqrt":
+            createOperation(Operator.SQRT, count);
+            return true;
+         case "btn-negate":
+            createOperation(Operator.NEGATE, count);
+            return true;
+         case "btn-square":
+            createOperation(Operator.SQUARE, count);
+            return true;
+         case "btn-1x":
+            createOperation(Operator.ONE_BY_X, count);
+            return true;
+         default:
+            return false;
+      }
+   }
+
+   /**
+    * Forms view of operation result and sets it to main-label text and history label text
+    *
+    * @param result result of operation
+    */
+   private void setResultText(BigDecimal result) {
+      decimalViewFormer.formResultDecimalText(result);
+      setDecimalAndHistoryText();
+   }
+
+   /**
+    * Dims main label, if operation is computed longer than delay
+    *
+    * @param busy true if operation is started, false if it is done
+    */
+   private void showBusy(boolean busy) {
+      if (busy) {
+         busyIndicator.setOnFinished(event -> mainLabel.setOpacity(BUSY_OPACITY));
+         busyIndicator.playFromStart();
+      } else {
+         busyIndicator.stop();
+         mainLabel.setOpacity(1);
       }
    }
 
@@ -366,21 +705,40 @@ public class CalculatorController {
       }
    }
 
+   /**
+    * Handles exception thrown by computed operation, exceptions of calculation
+    * are shown on the main-label, any other exception is logged and the view is refreshed
+    *
+    * @param e thrown exception
+    */
+   private void operationFailed(Exception e) {
+      if (e instanceof OverflowException || e instanceof CannotDivideByZeroException
+              || e instanceof ResultIsUndefinedException || e instanceof InvalidInputException) {
+         exceptionHandle(e);
+      } else {
+         log.error("Operation is failed", e);
+         setDecimalAndHistoryText();
+      }
+   }
+
    /**
     * Handles exception and display exception message
     * on the main-label, also saves history of expression
-    * that leads to exception, refreshes model and memory
+    * that leads to exception, refreshes model and memory.
+    * Exception without message keeps text of main-label
     *
     * @param e thrown exception
     */
    private void exceptionHandle(Exception e) {
       String message = e.getMessage();
-      mainLabel.setText(message.split(":")[0]);
+      if (message != null) {
+         viewUpdates.setText(mainLabel.textProperty(), message.split(":")[0]);
+      }
       lockForException();
       History exceptionHistory = calculation.getHistory();
       calculation.clearAll();
       calculation.memoryClear();
-      historyLabel.setText(historyViewFormer.getHistoryText(exceptionHistory));
+      viewUpdates.setText(historyLabel.textProperty(), historyViewFormer.getHistoryText(exceptionHistory));
       log.info(message);
    }
 }
@@ -0,0 +1,221 @@
+package com.luqqorp.calculator.controller.utils;
+
+import javafx.application.Platform;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This class runs keys of calculator in order of pressing. Operations are computed
+ * by a background thread, so long operations, e.g. square root of number with thousands
+ * of digits, do not block the application thread. Keys that are pressed while operation
+ * is computed are queued and run after its result is handled.
+ * Computation is cancelled by interruption of its thread, operations check it
+ * between their steps. Methods of dispatcher are called only by the application thread
+ */
+public class CalculationDispatcher {
+   /**
+    * Thread that computes operations
+    */
+   private final ExecutorService computingExecutor;
+   /**
+    * Runs handlers of results on the application thread
+    */
+   private final Executor applicationExecutor;
+   /**
+    * Gets true when operation is started and false when its result is handled
+    */
+   private final Consumer<Boolean> busyHandler;
+   /**
+    * Keys pressed while operation is computed
+    */
+   private final Deque<Runnable> queuedKeys = new ArrayDeque<>();
+   /**
+    * Shows if operation is computed
+    */
+   private boolean computing;
+   /**
+    * Shows if computed operation can be cancelled
+    */
+   private boolean cancellable;
+   /**
+    * Shows if computed operation is cancelled, its result is not handled
+    */
+   private volatile boolean cancelled;
+   /**
+    * Thread of computed operation, it is interrupted and released under {@link #interruptLock},
+    * so cancel never interrupts thread after its operation is finished
+    */
+   private Thread computingThread;
+   private final Object interruptLock = new Object();
+
+   /**
+    * Constructs dispatcher with a single daemon thread of operations,
+    * results are handled on JavaFX application thread
+    *
+    * @param busyHandler handler of computation start and end
+    */
+   public CalculationDispatcher(Consumer<Boolean> busyHandler) {
+      this(Executors.newSingleThreadExecutor(runnable -> {
+         Thread thread = new Thread(runnable, "calculation");
+         thread.setDaemon(true);
+         return thread;
+      }), Platform::runLater, busyHandler);
+   }
+
+   /**
+    * Constructs dispatcher with adjusted executors
+    *
+    * @param computingExecutor   single thread executor of operations
+    * @param applicationExecutor executor of application thread
+    * @param busyHandler         handler of computation start and end
+    */
+   public CalculationDispatcher(ExecutorService computingExecutor, Executor applicationExecutor, Consumer<Boolean> busyHandler) {
+      this.computingExecutor = computingExecutor;
+      this.applicationExecutor = applicationExecutor;
+      this.busyHandler = busyHandler;
+   }
+
+   /**
+    * Runs key now or queues it while operation is computed
+    *
+    * @param key handler of pressed key
+    */
+   public void run(Runnable key) {
+      if (computing) {
+         queuedKeys.add(key);
+      } else {
+         key.run();
+      }
+   }
+
+   /**
+    * Computes operation by background thread after previous keys,
+    * its result or exception is handled on the application thread
+    *
+    * @param operation        computed operation
+    * @param resultHandler    handler of result
+    * @param exceptionHandler handler of thrown exception
+    * @param <T>              type of result
+    */
+   public <T> void compute(Callable<T> operation, Consumer<T> resultHandler, Consumer<Exception> exceptionHandler) {
+      run(() -> start(operation, resultHandler, exceptionHandler, true));
+   }
+
+   /**
+    * Computes task that prepares calculation by background thread, e.g. recovery of session.
+    * The task is not cancelled, keys pressed meanwhile are queued including cancelling ones
+    *
+    * @param task             computed task
+    * @param resultHandler    handler of result
+    * @param exceptionHandler handler of thrown exception
+    * @param <T>              type of result
+    */
+   public <T> void prepare(Callable<T> task, Consumer<T> resultHandler, Consumer<Exception> exceptionHandler) {
+      run(() -> start(task, resultHandler, exceptionHandler, false));
+   }
+
+   /**
+    * Cancels computed operation and drops queued keys, the key is run
+    * after computation is stopped or after task that cannot be cancelled
+    *
+    * @param key handler of pressed key, e.g. clear
+    */
+   public void cancel(Runnable key) {
+      queuedKeys.clear();
+      interrupt();
+      run(key);
+   }
+
+   /**
+    * Cancels computed operation, drops queued keys and stops thread of operations.
+    * Closing task runs by thread of operations after the computed operation,
+    * so it never runs at the same time with operation, e.g. when journal is closed
+    *
+    * @param closer        task that releases resources of operations
+    * @param timeoutMillis maximum time of waiting for closing task
+    * @return true if closing task is done in time
+    * @throws InterruptedException if waiting thread is interrupted
+    */
+   public boolean shutdown(Runnable closer, long timeoutMillis) throws InterruptedException {
+      queuedKeys.clear();
+      interrupt();
+      computingExecutor.execute(closer);
+      computingExecutor.shutdown();
+      return computingExecutor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+   }
+
+   /**
+    * Shows if operation is computed
+    *
+    * @return true if keys are queued
+    */
+   public boolean isComputing() {
+      return computing;
+   }
+
+   /**
+    * Interrupts computed operation if it can be cancelled, its result is not handled
+    */
+   private void interrupt() {
+      if (computing && cancellable) {
+         cancelled = true;
+         synchronized (interruptLock) {
+            if (computingThread != null) {
+               computingThread.interrupt();
+            }
+         }
+      }
+   }
+
+   private <T> void start(Callable<T> operation, Consumer<T> resultHandler, Consumer<Exception> exceptionHandler, boolean cancellable) {
+      computing = true;
+      this.cancellable = cancellable;
+      cancelled = false;
+      busyHandler.accept(true);
+      computingExecutor.execute(() -> {
+         T result = null;
+         Exception exception = null;
+         synchronized (interruptLock) {
+            computingThread = Thread.currentThread();
+         }
+         try {
+            if (!cancelled) {
+               result = operation.call();
+            }
+         } catch (Exception e) {
+            exception = e;
+         } finally {
+            synchronized (interruptLock) {
+               computingThread = null;
+            }
+            // interruption of cancelled operation is not passed to the next one
+            Thread.interrupted();
+         }
+         T finalResult = result;
+         Exception finalException = exception;
+         applicationExecutor.execute(() -> finish(finalResult, finalException, resultHandler, exceptionHandler));
+      });
+   }
+
+   private <T> void finish(T result, Exception exception, Consumer<T> resultHandler, Consumer<Exception> exceptionHandler) {
+      computing = false;
+      busyHandler.accept(false);
+      if (!cancelled) {
+         if (exception == null) {
+            resultHandler.accept(result);
+         } else {
+            exceptionHandler.accept(exception);
+         }
+      }
+      while (!computing && !queuedKeys.isEmpty()) {
+         queuedKeys.poll().run();
+      }
+   }
+}
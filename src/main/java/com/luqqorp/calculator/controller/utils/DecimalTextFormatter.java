@@ -0,0 +1,223 @@
+package com.luqqorp.calculator.controller.utils;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import static com.luqqorp.calculator.controller.utils.FormatSpec.DIGITS_MAX_VALUE;
+import static java.math.RoundingMode.DOWN;
+
+/**
+ * Picks view text layout of decimal values from unscaled value, scale and precision.
+ * Plain string of value is never created, only the displayed digits
+ * are rounded out of value by precompiled format spec.
+ * Formatter has no state, so it is safe to use from any thread without locks
+ */
+final class DecimalTextFormatter {
+   /**
+    * Minimum plain length of value with zero fraction start to show exponent
+    */
+   private static final int LIMIT_EXP = 18;
+   /**
+    * Minimum degree of fraction exponent
+    */
+   private static final int FRACTION_E_START = 4;
+   /**
+    * Decimal exponent of values that are always shown with exponent, 1e16
+    */
+   private static final int VALUE_EXPONENT = 16;
+   /**
+    * Decimal exponent of small values that are shown without exponent if first digit is lower than 5
+    */
+   private static final int SMALL_VALUE_EXPONENT = -16;
+   /**
+    * Zeros at the end of fraction that are trimmed before checking plain length
+    */
+   private static final int MAX_ZERO_END = 30;
+   /**
+    * Zero digits at the fraction start which mean period value, e.g. 5.0001
+    */
+   private static final int PERIOD_ZEROS = 3;
+   /**
+    * Context which truncates value to its first digit
+    */
+   private static final MathContext FIRST_DIGIT_CONTEXT = new MathContext(1, DOWN);
+   private static final BigInteger ZERO_END_MODULUS = BigInteger.TEN.pow(MAX_ZERO_END);
+   private static final BigInteger LONG_DIGITS_MODULUS = BigInteger.TEN.pow(18);
+   private static final BigInteger PERIOD_MODULUS = BigInteger.TEN.pow(PERIOD_ZEROS);
+
+   private DecimalTextFormatter() {
+   }
+
+   /**
+    * Picks layout of value and rounds it to displayed digits.
+    * Layout is the same as the one of DecimalFormat patterns
+    * "#,###.################", "0.#################" and "0.###############E0"
+    *
+    * @param value adjusted decimal
+    * @return immutable layout of value
+    */
+   static Layout layout(BigDecimal value) {
+      boolean isZero = value.signum() == 0;
+      int valueExponent = isZero ? 0 : exponent(value);
+      int scale = value.scale();
+
+      FormatSpec spec;
+      if (!isZero && valueExponent >= VALUE_EXPONENT || isPeriodValue(value, isZero, valueExponent)) {
+         if (!isZero && valueExponent == SMALL_VALUE_EXPONENT && isUnderFive(value)) {
+            spec = FormatSpec.SMALL_FRACTION;
+         } else {
+            return exponentLayout(value);
+         }
+      } else if (scale > 0 && (isZero || valueExponent < 0)) {
+         spec = FormatSpec.ZERO_INT;
+      } else {
+         spec = FormatSpec.grouped(DIGITS_MAX_VALUE - integerLength(isZero, valueExponent));
+      }
+      return new Layout(value, spec, spec.round(value));
+   }
+
+   /**
+    * Shows if value has long plain text with zero fraction start, e.g. 5.000...01 or 0.000...01,
+    * plain text is counted without 30 last zeros
+    *
+    * @param value         adjusted decimal
+    * @param isZero        shows if value is zero
+    * @param valueExponent decimal exponent of non-zero value
+    * @return true if value is shown with exponent
+    */
+   private static boolean isPeriodValue(BigDecimal value, boolean isZero, int valueExponent) {
+      int scale = value.scale();
+      if (scale <= 0) {
+         return false;
+      }
+      int fractionLength = scale - Math.min(scale, zeroEndsCount(value));
+      int textLength = integerLength(isZero, valueExponent) + 1 + fractionLength;          //1 for '.'
+      if (textLength <= LIMIT_EXP || fractionLength < PERIOD_ZEROS) {
+         return false;
+      }
+
+      boolean zeroStart;
+      if (isZero || valueExponent < 0) {
+         zeroStart = isZero || -valueExponent > PERIOD_ZEROS;
+      } else {
+         BigDecimal truncated = value.setScale(PERIOD_ZEROS, DOWN);
+         zeroStart = truncated.unscaledValue().mod(PERIOD_MODULUS).signum() == 0;
+      }
+      return zeroStart;
+   }
+
+   /**
+    * Counts zeros at the end of unscaled value, but no more than 30
+    *
+    * @param value adjusted decimal
+    * @return count of trimmed end zeros
+    */
+   private static int zeroEndsCount(BigDecimal value) {
+      BigInteger end = value.unscaledValue().mod(ZERO_END_MODULUS);
+      if (end.signum() == 0) {
+         return MAX_ZERO_END;
+      }
+      long lowDigits = end.mod(LONG_DIGITS_MODULUS).longValue();
+      int count = 0;
+      if (lowDigits == 0) {
+         lowDigits = end.divide(LONG_DIGITS_MODULUS).longValue();
+         count = 18;
+      }
+      while (lowDigits % 10 == 0) {
+         lowDigits /= 10;
+         count++;
+      }
+      return count;
+   }
+
+   private static boolean isUnderFive(BigDecimal value) {
+      return value.round(FIRST_DIGIT_CONTEXT).unscaledValue().abs().intValue() < 5;
+   }
+
+   /**
+    * Rounds value to 16 significant digits and picks exponent layout,
+    * if exponent degree is lower than 4 value is shown with 15 fraction digits
+    *
+    * @param value adjusted decimal
+    * @return immutable layout of value
+    */
+   private static Layout exponentLayout(BigDecimal value) {
+      BigDecimal rounded = FormatSpec.EXPONENT.round(value);
+      int roundedExponent = rounded.signum() == 0 ? 0 : exponent(rounded);
+      if (Math.abs(roundedExponent) < FRACTION_E_START) {
+         return new Layout(value, FormatSpec.PLAIN, FormatSpec.PLAIN.round(value));
+      }
+      return new Layout(value, FormatSpec.EXPONENT, rounded);
+   }
+
+   /**
+    * Returns length of integer part of plain text, 1 for values lower than 1
+    */
+   private static int integerLength(boolean isZero, int valueExponent) {
+      return isZero || valueExponent < 0 ? 1 : valueExponent + 1;
+   }
+
+   /**
+    * Returns decimal exponent of non-zero value, e.g. 2 for 123.4 and -3 for 0.001
+    */
+   private static int exponent(BigDecimal value) {
+      return value.precision() - value.scale() - 1;
+   }
+
+   /**
+    * Immutable layout of formatted value: picked spec and value rounded by it
+    */
+   @Getter
+   static final class Layout {
+      /**
+       * Formatted value
+       */
+      private final BigDecimal value;
+      /**
+       * Spec picked for value
+       */
+      private final FormatSpec spec;
+      /**
+       * Value rounded to its displayed digits
+       */
+      private final BigDecimal rounded;
+
+      private Layout(BigDecimal value, FormatSpec spec, BigDecimal rounded) {
+         this.value = value;
+         this.spec = spec;
+         this.rounded = rounded;
+      }
+
+      /**
+       * Forms result text: plain text with thousand separators,
+       * plain text of small fraction or text with exponent, e.g. 1.e+16, 2.5e-20
+       *
+       * @return String format
+       */
+      String resultText() {
+         return spec.format(rounded, value.signum() < 0, spec.isExponent(), true);
+      }
+
+      /**
+       * Forms result text without thousand separators, e.g. 1234.5 or 1.e+16
+       *
+       * @return String format
+       */
+      String historyText() {
+         return spec.format(rounded, value.signum() < 0, spec.isExponent(), true, false);
+      }
+
+      /**
+       * Forms input text, exponent is written without plus sign, e.g. 1e16, 2.5e-20
+       *
+       * @param hasDot shows if dot is written for value without fraction digits
+       * @return String format
+       */
+      String inputText(boolean hasDot) {
+         return spec.format(rounded, value.signum() < 0, hasDot, false);
+      }
+   }
+}
@@ -4,7 +4,6 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
 
 import static java.math.BigDecimal.*;
 import static java.math.MathContext.DECIMAL64;
@@ -22,17 +21,9 @@ public class DecimalViewFormer {
     */
    private static final int DIGITS_MAX_VALUE = 16;
    /**
-    * Minimum length before exponent for number that has zero int part
+    * Layout of the last formatted value, result and input texts of the same value are rounded once
     */
-   private static final int LIMIT_EXP = 18;
-   /**
-    * Minimum degree of fraction exponent
-    */
-   private static final int FRACTION_E_START = 4;
-   /**
-    * DecimalFormat responds for primary formatting and rounding views
-    */
-   private static final DecimalFormat df = new DecimalFormat();
+   private DecimalTextFormatter.Layout lastLayout;
    /**
     * Shows if current unit has a fraction part
     */
@@ -115,15 +106,14 @@ public class DecimalViewFormer {
 
    /**
     * Formats big decimal into string
-    * using pattern 16 fraction digits
+    * by the same layout as result text
     * with thousand separator ',' comma
     *
     * @param decimal adjusted decimal value
     * @return String format
     */
    public String formatInputNumber(BigDecimal decimal) {
-      df.setDecimalSeparatorAlwaysShown(hasDot);
-      return df.format(decimal).toLowerCase();
+      return layoutOf(decimal).inputText(hasDot);
    }
 
    /**
@@ -135,187 +125,49 @@ public class DecimalViewFormer {
 
    /**
     * Forms a result text for BigDecimal
-    * picks format patterns depending on value
+    * picks format layout depending on value
     * and its plain length
     *
     * @param unitValue adjusted decimal value
     * @return String format
     */
    public String formOperateDecimalText(BigDecimal unitValue) {
-      df.applyPattern("0.#################");
-      String decimalValueText;
-      if (exponentCheck(unitValue)) {
-         decimalValueText = exponentHandle(unitValue);                                               //picks format for exponent
-
-      } else if (containsZeroInt(unitValue)) {
-         decimalValueText = zeroIntValueFormat(unitValue);
-      } else {
-         decimalValueText = valueFormat(unitValue);
-      }
-      return decimalValueText;
-   }
-
-   /**
-    * Sets result format text to current text
-    *
-    * @param decimal adjusted result unit
-    */
-   public void formResultDecimalText(BigDecimal decimal) {
-      currentDecimalText = formOperateDecimalText(decimal);
-   }
-
-   /**
-    * Sets maximum fraction digits to 16 and formats decimal value
-    *
-    * @param decimal adjusted decimal
-    * @return String format
-    */
-   private String zeroIntValueFormat(BigDecimal decimal) {
-      df.setMaximumFractionDigits(DIGITS_MAX_VALUE);                          //16 fraction digits for number with zero integer part
-      return df.format(decimal);
-   }
-
-   /**
-    * Sets maximum fraction digit, depending on its plain length and formats decimal value
-    *
-    * @param decimal adjusted decimal
-    * @return String format
-    */
-   private String valueFormat(BigDecimal decimal) {
-      int val = decimal.abs().toBigInteger().toString().length();
-      int limitFractionDigits = DIGITS_MAX_VALUE - val;
-      df.applyPattern("#,###.################");
-      df.setMaximumFractionDigits(limitFractionDigits);
-      return df.format(decimal);
-   }
-
-   /**
-    * Sets half-up rounding mode and formats,
-    * depending on plain values of decimal
-    *
-    * @param decimal adjusted decimal
-    * @return String format
-    */
-   private String exponentHandle(BigDecimal decimal) {
-      String text;
-      df.setRoundingMode(HALF_UP);
-      if (firstExpCheck(decimal.abs().toPlainString())) {
-         df.applyPattern("0.#################");                                 //17 fraction digits
-         text = df.format(decimal);
-      } else {
-         df.applyPattern("0.###############E0");                                //15 fraction digits, exponent from e-4 or e+4, from e+16 or e-16
-         text = exponentFormat(decimal);
-      }
-      return text;
+      return layoutOf(unitValue).resultText();
    }
 
    /**
-    * Checks if exponent is needed
-    * If decimal has zero int, it will count zeros
-    * before first non-zero digit and if it counts equals returns true
-    * or if non-zero digit is lower than 5 it also returns true
+    * Returns layout of value, reuses the last one for the same value
     *
-    * @param plainValue adjusted String plain value of decimal
-    * @return boolean value shows if exponent is needed
+    * @param value adjusted decimal value
+    * @return layout of value
     */
-   private boolean firstExpCheck(String plainValue) {
-      boolean expCheck = false;
-      boolean underFiveExp = false;
-      if (plainValue.startsWith("0.")) {
-         int a = 0;
-         for (int i = 2; i < LIMIT_EXP; i++) {                                // 1 for '0', 1 for '.'
-            if (plainValue.charAt(i) == '0') {
-               a++;
-               int maxZerosBeforeExp = 15;
-               expCheck = a == maxZerosBeforeExp;
-            } else {
-               underFiveExp = isUnderFiveExp(plainValue.charAt(i));
-               break;
-            }
-         }
+   private DecimalTextFormatter.Layout layoutOf(BigDecimal value) {
+      DecimalTextFormatter.Layout layout = lastLayout;
+      if (layout == null || layout.getValue() != value) {
+         layout = DecimalTextFormatter.layout(value);
+         lastLayout = layout;
       }
-      return expCheck && (underFiveExp || plainValue.length() <= LIMIT_EXP);
-   }
-
-   /**
-    * Checks if char represents of int is under 5
-    *
-    * @param digit adjusted char
-    * @return boolean if digit is lower than 5
-    */
-   private boolean isUnderFiveExp(char digit) {
-      return digit == '1' || digit == '2' || digit == '3' || digit == '4';
-   }
-
-   /**
-    * Shows if value has zero integer value
-    *
-    * @param value adjusted decimal
-    * @return boolean if it has zero integer
-    */
-   private boolean containsZeroInt(BigDecimal value) {
-      return value.abs().toPlainString().startsWith("0.");
-   }
-
-   /**
-    * Returns true if decimal value is greater then 10,000,000,000,000,000
-    * or if decimal value text length is greater the 18 and contains .000
-    *
-    * @param value adjusted value
-    * @return boolean shows if exponent is needed
-    */
-   private boolean exponentCheck(BigDecimal value) {
-      boolean limitValueToExponent = value.abs().compareTo(new BigDecimal("10000000000000000")) >= 0;
-      String decimalText = zeroEndsTrim(value.abs().toPlainString());
-      boolean periodExponent = decimalText.contains(".") && decimalText.length() > LIMIT_EXP && decimalText.contains(".000");
-      return limitValueToExponent || periodExponent;
+      return layout;
    }
 
    /**
-    * Format decimal value to string with exponent
+    * Forms a history text for BigDecimal,
+    * the same as result text without thousand separators
     *
-    * @param decimal BigDecimal adjusted decimal
-    * @return String exponent format
+    * @param unitValue adjusted decimal value
+    * @return String format
     */
-   private String exponentFormat(BigDecimal decimal) {
-      String textValue = df.format(decimal);
-      int e = textValue.indexOf('E');
-
-      String beforeEValue = zeroEndsTrim(textValue.substring(0, e));
-      if (!beforeEValue.contains(".")) {
-         beforeEValue += ".";
-      }
-
-      String postEValue = textValue.substring(e).toLowerCase();
-      if (!postEValue.contains("e-")) {
-         postEValue = postEValue.replace("e", "e+");
-      }
-
-      String expValue = beforeEValue + postEValue.toLowerCase();
-      if ((Integer.valueOf(expValue.substring(expValue.indexOf('e') + 2)) < FRACTION_E_START)) {    //1 for 'e' and 1 for sign
-         df.applyPattern("0.###############");
-         expValue = df.format(decimal);
-      }
-      return expValue;
+   public String formHistoryDecimalText(BigDecimal unitValue) {
+      return layoutOf(unitValue).historyText();
    }
 
    /**
-    * Trim extra zeros in exponent value text
+    * Sets result format text to current text
     *
-    * @param currentDecimal adjusted string
-    * @return string trimmed text
+    * @param decimal adjusted result unit
     */
-   private String zeroEndsTrim(String currentDecimal) {
-      StringBuilder sb = new StringBuilder(currentDecimal);
-      if (!currentDecimal.contains("e") && currentDecimal.contains(".")) {
-         int maxZeroEnd = 30;
-         for (int i = 0; i < maxZeroEnd; i++) {
-            if (sb.toString().endsWith("0") && sb.toString().length() > 1) {
-               sb.deleteCharAt(sb.toString().length() - 1);
-            }
-         }
-      }
-      return sb.toString();
+   public void formResultDecimalText(BigDecimal decimal) {
+      currentDecimalText = formOperateDecimalText(decimal);
    }
 
    /**
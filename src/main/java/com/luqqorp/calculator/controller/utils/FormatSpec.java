@@ -0,0 +1,194 @@
+package com.luqqorp.calculator.controller.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * This class represent precompiled layout of decimal view text:
+ * plain text with limited fraction digits, grouped by thousands or not,
+ * or text with exponent and limited significant digits.
+ * Specs are immutable and keep no formatted values,
+ * so they are shared by all sessions and threads
+ */
+final class FormatSpec {
+   /**
+    * Maximum displayed digits for number without exponent
+    */
+   static final int DIGITS_MAX_VALUE = 16;
+   /**
+    * Plain text of value with zero integer part, e.g. 0.0021598272138229
+    */
+   static final FormatSpec ZERO_INT = new FormatSpec(false, false, DIGITS_MAX_VALUE);
+   /**
+    * Plain text of small value that is lower than 5e-16, e.g. 0.00000000000000012
+    */
+   static final FormatSpec SMALL_FRACTION = new FormatSpec(false, false, 17);
+   /**
+    * Plain text of long period value, e.g. 5 for 5.000...01
+    */
+   static final FormatSpec PLAIN = new FormatSpec(false, false, 15);
+   /**
+    * Text with exponent and 16 significant digits, e.g. 8.006952976513278e-7
+    */
+   static final FormatSpec EXPONENT = new FormatSpec(true, false, 15);
+   /**
+    * Grouped plain texts by count of fraction digits, e.g. 1,234.5
+    */
+   private static final FormatSpec[] GROUPED = new FormatSpec[DIGITS_MAX_VALUE + 1];
+
+   static {
+      for (int i = 0; i < GROUPED.length; i++) {
+         GROUPED[i] = new FormatSpec(false, true, i);
+      }
+   }
+
+   /**
+    * Shows if value is written with exponent
+    */
+   private final boolean exponent;
+   /**
+    * Shows if integer part is grouped by thousands
+    */
+   private final boolean grouping;
+   /**
+    * Maximum fraction digits, for exponent text digits after the first one
+    */
+   private final int fractionDigits;
+   /**
+    * Rounding of exponent text to its significant digits
+    */
+   private final MathContext context;
+
+   private FormatSpec(boolean exponent, boolean grouping, int fractionDigits) {
+      this.exponent = exponent;
+      this.grouping = grouping;
+      this.fractionDigits = fractionDigits;
+      this.context = new MathContext(fractionDigits + 1, HALF_UP);
+   }
+
+   /**
+    * Returns grouped plain text spec
+    *
+    * @param fractionDigits maximum fraction digits from 0 to 16
+    * @return precompiled spec
+    */
+   static FormatSpec grouped(int fractionDigits) {
+      return GROUPED[fractionDigits];
+   }
+
+   /**
+    * Rounds value half-up to the displayed digits and removes zeros at the end of fraction
+    *
+    * @param value adjusted decimal
+    * @return rounded decimal with non-negative scale
+    */
+   BigDecimal round(BigDecimal value) {
+      BigDecimal rounded = exponent ? value.round(context) : value.setScale(fractionDigits, HALF_UP);
+      rounded = rounded.stripTrailingZeros();
+      return rounded.scale() < 0 && !exponent ? rounded.setScale(0) : rounded;
+   }
+
+   /**
+    * Writes rounded value, e.g. -1,234.5, 1.5e+20 or 1e20
+    *
+    * @param rounded      value rounded by this spec
+    * @param negative     shows if formatted value is negative, value rounded to zero keeps its sign
+    * @param hasDot       shows if dot is written for value without fraction digits
+    * @param exponentSign shows if plus sign is written for positive exponent
+    * @return String format
+    */
+   String format(BigDecimal rounded, boolean negative, boolean hasDot, boolean exponentSign) {
+      return format(rounded, negative, hasDot, exponentSign, grouping);
+   }
+
+   /**
+    * Writes rounded value, thousand separators are written only if they are requested and used by spec
+    *
+    * @param rounded      value rounded by this spec
+    * @param negative     shows if formatted value is negative
+    * @param hasDot       shows if dot is written for value without fraction digits
+    * @param exponentSign shows if plus sign is written for positive exponent
+    * @param separators   shows if integer part is grouped by thousands
+    * @return String format
+    */
+   String format(BigDecimal rounded, boolean negative, boolean hasDot, boolean exponentSign, boolean separators) {
+      char[] digits = digitsOf(rounded.unscaledValue());
+      char[] text = new char[digits.length * 2 + fractionDigits + 16];
+      int length = 0;
+      if (negative) {
+         text[length++] = '-';
+      }
+
+      if (exponent) {
+         text[length++] = digits[0];
+         if (digits.length > 1 || hasDot) {
+            text[length++] = '.';
+         }
+         System.arraycopy(digits, 1, text, length, digits.length - 1);
+         length += digits.length - 1;
+         text[length++] = 'e';
+         int valueExponent = rounded.precision() - rounded.scale() - 1;
+         if (valueExponent < 0) {
+            text[length++] = '-';
+         } else if (exponentSign) {
+            text[length++] = '+';
+         }
+         String degree = Integer.toString(Math.abs(valueExponent));
+         degree.getChars(0, degree.length(), text, length);
+         length += degree.length();
+         return new String(text, 0, length);
+      }
+
+      int fractionLength = rounded.scale();
+      int integerLength = digits.length - fractionLength;
+      if (integerLength <= 0) {
+         text[length++] = '0';
+      }
+      for (int i = 0; i < integerLength; i++) {
+         if (separators && grouping && i != 0 && (integerLength - i) % 3 == 0) {
+            text[length++] = ',';
+         }
+         text[length++] = digits[i];
+      }
+      if (fractionLength > 0 || hasDot) {
+         text[length++] = '.';
+      }
+      for (int i = integerLength; i < 0; i++) {
+         text[length++] = '0';
+      }
+      for (int i = Math.max(integerLength, 0); i < digits.length; i++) {
+         text[length++] = digits[i];
+      }
+      return new String(text, 0, length);
+   }
+
+   boolean isExponent() {
+      return exponent;
+   }
+
+   /**
+    * Returns digits of absolute unscaled value
+    *
+    * @param unscaled adjusted rounded unscaled value
+    * @return decimal digits
+    */
+   private static char[] digitsOf(BigInteger unscaled) {
+      if (unscaled.bitLength() >= Long.SIZE) {
+         return unscaled.abs().toString().toCharArray();
+      }
+      long number = Math.abs(unscaled.longValue());
+      int count = 1;
+      for (long rest = number / 10; rest != 0; rest /= 10) {
+         count++;
+      }
+      char[] digits = new char[count];
+      for (int i = digits.length - 1; i >= 0; i--) {
+         digits[i] = (char) ('0' + number % 10);
+         number /= 10;
+      }
+      return digits;
+   }
+}
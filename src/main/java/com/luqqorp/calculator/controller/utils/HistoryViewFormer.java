@@ -1,10 +1,13 @@
 package com.luqqorp.calculator.controller.utils;
 
 import com.luqqorp.calculator.model.data.History;
+import com.luqqorp.calculator.model.data.HistoryStore;
 import com.luqqorp.calculator.model.data.HistoryUnit;
 import com.luqqorp.calculator.model.data.Operator;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -12,6 +15,10 @@ import java.util.Map;
  * in adjusted sequences
  */
 public class HistoryViewFormer {
+   /**
+    * Maximum length of single unit view, longer nested views are shown by head and tail
+    */
+   static final int MAX_UNIT_LENGTH = 1000;
 
    /**
     * Forms a BigDecimal's value view for history units
@@ -19,17 +26,92 @@ public class HistoryViewFormer {
    private DecimalViewFormer viewFormer = new DecimalViewFormer();
 
    /**
-    * Concatenates all history units views in history list in one string
+    * History, which views are kept in rendered units
+    */
+   private History renderedHistory;
+   /**
+    * Count of units dropped by full history, when its views were kept
+    */
+   private long renderedDroppedCount;
+   /**
+    * Kept views of history units in history order
+    */
+   private final List<RenderedUnit> renderedUnits = new ArrayList<>();
+   /**
+    * Concatenated views of rendered units
+    */
+   private final StringBuilder historyText = new StringBuilder();
+   /**
+    * The last returned history text
+    */
+   private String renderedText = "";
+
+   /**
+    * Concatenates all history units views in history list in one string.
+    * History handler changes only the last units, so kept views are checked from the end
+    * and only changed or new units are formed again, views of units dropped by full history
+    * are removed from the start
     *
     * @param history adjusted History
     * @return String representation of History
     */
    public String getHistoryText(History history) {
-      StringBuilder sb = new StringBuilder();
-      for (HistoryUnit historyUnit : history.getHistoryUnits()) {
-         sb.append(formatHistoryUnit(historyUnit, sb));
+      HistoryStore historyUnits = history.getHistoryUnits();
+      if (history != renderedHistory) {
+         renderedHistory = history;
+         renderedDroppedCount = historyUnits.getDroppedCount();
+         renderedUnits.clear();
+         historyText.setLength(0);
+         renderedText = "";
+      }
+      boolean dropped = dropViews(historyUnits.getDroppedCount() - renderedDroppedCount);
+      renderedDroppedCount = historyUnits.getDroppedCount();
+
+      int size = historyUnits.size();
+      int validCount = Math.min(size, renderedUnits.size());
+      while (validCount > 0 && !renderedUnits.get(validCount - 1).isViewOf(historyUnits.get(validCount - 1))) {
+         validCount--;
+      }
+      if (!dropped && validCount == size && validCount == renderedUnits.size()) {
+         return renderedText;
+      }
+
+      if (validCount < renderedUnits.size()) {
+         historyText.setLength(renderedUnits.get(validCount).offset);
+         renderedUnits.subList(validCount, renderedUnits.size()).clear();
       }
-      return sb.toString();
+      for (int i = validCount; i < size; i++) {
+         HistoryUnit historyUnit = historyUnits.get(i);
+         renderedUnits.add(new RenderedUnit(historyUnit, historyText.length()));
+         appendHistoryUnit(historyUnit, historyText);
+      }
+      renderedText = historyText.toString();
+      return renderedText;
+   }
+
+   /**
+    * Removes kept views of the oldest units, which were dropped by full history,
+    * and shifts views of the rest units to the start of history text
+    *
+    * @param count count of dropped units since views were kept
+    * @return true if any view is removed
+    */
+   private boolean dropViews(long count) {
+      if (count <= 0) {
+         return false;
+      }
+      if (count >= renderedUnits.size()) {
+         renderedUnits.clear();
+         historyText.setLength(0);
+         return true;
+      }
+      int shift = renderedUnits.get((int) count).offset;
+      renderedUnits.subList(0, (int) count).clear();
+      historyText.delete(0, shift);
+      for (RenderedUnit renderedUnit : renderedUnits) {
+         renderedUnit.offset -= shift;
+      }
+      return true;
    }
 
    /**
@@ -54,26 +136,44 @@ public class HistoryViewFormer {
 
 
    /**
-    * Forms a single history unit view
+    * Writes a single history unit view, long nested view is truncated to its head and tail
     *
     * @param historyUnit adjusted historyUnit from list
-    * @return String representation of historyUnit
+    * @param sb          adjusted StringBuilder
     */
-   private String formatHistoryUnit(HistoryUnit historyUnit, StringBuilder sb) {
-      String decimalText = viewFormer.formOperateDecimalText(historyUnit.getValue()).replaceAll(",", "");
-      String historyUnitText = decimalText;
-      for (Operator nB : historyUnit.getNonBinaries()) {
-          if (nB != Operator.PERCENT) {
-              sb.append(signMap.get(nB)).append("(").append(historyUnitText).append(")");
-          } else {
-              sb.append(decimalText);
-          }
-         historyUnitText = sb.toString();
-         sb.setLength(0);
-      }
+   private void appendHistoryUnit(HistoryUnit historyUnit, StringBuilder sb) {
+      String decimalText = viewFormer.formHistoryDecimalText(historyUnit.getValue());
+      new NestedText(decimalText, historyUnit, signMap).appendTruncated(sb, MAX_UNIT_LENGTH);
       if (historyUnit.getBinary() != null) {
-         historyUnitText += signMap.get(historyUnit.getBinary());
+         sb.append(signMap.get(historyUnit.getBinary()));
+      }
+   }
+
+   /**
+    * Kept view of history unit with its version and position in history text
+    */
+   private static class RenderedUnit {
+      private final HistoryUnit historyUnit;
+      private final int version;
+      /**
+       * Start of unit view in history text
+       */
+      private int offset;
+
+      private RenderedUnit(HistoryUnit historyUnit, int offset) {
+         this.historyUnit = historyUnit;
+         this.version = historyUnit.getVersion();
+         this.offset = offset;
+      }
+
+      /**
+       * Shows if view is formed by the current state of history unit
+       *
+       * @param unit adjusted unit at the same position in history
+       * @return true if unit and its version are the same
+       */
+      private boolean isViewOf(HistoryUnit unit) {
+         return historyUnit == unit && version == unit.getVersion();
       }
-      return historyUnitText;
    }
 }
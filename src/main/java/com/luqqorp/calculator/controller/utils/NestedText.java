@@ -0,0 +1,148 @@
+package com.luqqorp.calculator.controller.utils;
+
+import com.luqqorp.calculator.model.data.HistoryUnit;
+import com.luqqorp.calculator.model.data.Operator;
+
+import java.util.Map;
+
+/**
+ * This class represent view of value nested in non-binary operators
+ * as prefix of operator signs, value text and suffix of closing brackets,
+ * e.g. "sqr(√(" + "25" + "))". Parts are not concatenated, so view is written in linear time
+ * and long view can be written as its head and tail without building the full text
+ */
+final class NestedText {
+   /**
+    * Mark of skipped middle part of truncated view
+    */
+   static final String ELLIPSIS = "…";
+
+   /**
+    * Unit, which non-binary operators are read in order they were performed
+    */
+   private final HistoryUnit historyUnit;
+   /**
+    * Count of non-binary operators of unit
+    */
+   private final int count;
+   /**
+    * Index of the innermost operator of view
+    */
+   private final int from;
+   /**
+    * Signs of operators
+    */
+   private final Map<Operator, String> signMap;
+   /**
+    * Text of value
+    */
+   private final String valueText;
+   /**
+    * Length of full view
+    */
+   private final int length;
+
+   /**
+    * Creates view of value with operators, percent operator resets the view to value text
+    *
+    * @param valueText   adjusted value text
+    * @param historyUnit adjusted unit with performed non-binary operators
+    * @param signMap     adjusted signs of operators
+    */
+   NestedText(String valueText, HistoryUnit historyUnit, Map<Operator, String> signMap) {
+      this.valueText = valueText;
+      this.historyUnit = historyUnit;
+      this.count = historyUnit.getNonBinaryCount();
+      this.signMap = signMap;
+      int index = count;
+      int textLength = valueText.length();
+      while (index > 0 && historyUnit.getNonBinary(index - 1) != Operator.PERCENT) {
+         index--;
+         textLength += signMap.get(historyUnit.getNonBinary(index)).length() + 2;       //2 for brackets
+      }
+      this.from = index;
+      this.length = textLength;
+   }
+
+   int length() {
+      return length;
+   }
+
+   /**
+    * Writes full view
+    *
+    * @param sb adjusted StringBuilder
+    */
+   void appendTo(StringBuilder sb) {
+      sb.ensureCapacity(sb.length() + length);
+      for (int i = count - 1; i >= from; i--) {
+         sb.append(signMap.get(historyUnit.getNonBinary(i))).append('(');
+      }
+      sb.append(valueText);
+      appendBrackets(sb, count - from);
+   }
+
+   /**
+    * Writes full view if it is not longer than maximum length,
+    * otherwise writes its head, ellipsis and its tail, e.g. "sqr(sqr(s…25))))"
+    *
+    * @param sb        adjusted StringBuilder
+    * @param maxLength maximum length of written view
+    */
+   void appendTruncated(StringBuilder sb, int maxLength) {
+      if (length <= maxLength) {
+         appendTo(sb);
+         return;
+      }
+      int headLength = (maxLength - ELLIPSIS.length()) / 2;
+      int tailLength = maxLength - ELLIPSIS.length() - headLength;
+      appendHead(sb, headLength);
+      sb.append(ELLIPSIS);
+      appendTail(sb, tailLength);
+   }
+
+   /**
+    * Writes first characters of view, starting from the outermost operator
+    */
+   private void appendHead(StringBuilder sb, int headLength) {
+      int end = sb.length() + headLength;
+      for (int i = count - 1; i >= from && sb.length() < end; i--) {
+         appendPart(sb, signMap.get(historyUnit.getNonBinary(i)), end);
+         appendPart(sb, "(", end);
+      }
+      appendPart(sb, valueText, end);
+   }
+
+   /**
+    * Writes last characters of view: the end of prefix and value text, then closing brackets
+    */
+   private void appendTail(StringBuilder sb, int tailLength) {
+      int brackets = count - from;
+      int innerLength = Math.max(0, tailLength - brackets);
+      int start = sb.length();
+      int index = from;
+      String part = valueText;
+      boolean bracket = false;
+      while (sb.length() - start < innerLength) {
+         int taken = Math.min(part.length(), innerLength - (sb.length() - start));
+         sb.insert(start, part, part.length() - taken, part.length());
+         if (bracket) {
+            part = signMap.get(historyUnit.getNonBinary(index++));
+         } else {
+            part = "(";
+         }
+         bracket = !bracket;
+      }
+      appendBrackets(sb, Math.min(brackets, tailLength));
+   }
+
+   private static void appendPart(StringBuilder sb, String part, int end) {
+      sb.append(part, 0, Math.min(part.length(), Math.max(0, end - sb.length())));
+   }
+
+   private static void appendBrackets(StringBuilder sb, int count) {
+      for (int i = 0; i < count; i++) {
+         sb.append(')');
+      }
+   }
+}
@@ -0,0 +1,100 @@
+package com.luqqorp.calculator.controller.utils;
+
+import com.luqqorp.calculator.model.HistoryArchive;
+import com.luqqorp.calculator.model.data.HistoryEntry;
+import javafx.collections.ObservableListBase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class shows entries of history archive as observable list, the newest entry first.
+ * Entries are read by pages on demand and only the recently used pages are kept,
+ * so virtualized list view of archive of millions of entries takes constant heap.
+ * Entries appended to archive are added to list by {@link #sync()}.
+ * Methods are called only by the application thread
+ */
+public class PagedHistoryList extends ObservableListBase<HistoryEntry> {
+   /**
+    * Count of entries in page
+    */
+   static final int PAGE_SIZE = 64;
+   /**
+    * Count of kept pages
+    */
+   static final int MAX_PAGES = 16;
+
+   private final HistoryArchive archive;
+   /**
+    * Recently used pages by their indexes in archive
+    */
+   private final Map<Integer, List<HistoryEntry>> pages = new LinkedHashMap<>(MAX_PAGES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, List<HistoryEntry>> eldest) {
+         return size() > MAX_PAGES;
+      }
+   };
+   /**
+    * Count of entries of archive, which are added to list
+    */
+   private int size;
+
+   /**
+    * Constructs list of all entries of archive, no entries are read
+    *
+    * @param archive adjusted archive
+    */
+   public PagedHistoryList(HistoryArchive archive) {
+      this.archive = archive;
+      size = archive.size();
+   }
+
+   /**
+    * Returns entry by its position in list
+    *
+    * @param index position in list, 0 is the newest entry
+    * @return entry of archive
+    * @throws UncheckedIOException if page of entry cannot be read
+    */
+   @Override
+   public HistoryEntry get(int index) {
+      if (index < 0 || index >= size) {
+         throw new IndexOutOfBoundsException("Index " + index + " is out of list of " + size);
+      }
+      int entry = size - 1 - index;
+      int page = entry / PAGE_SIZE;
+      int offset = entry - page * PAGE_SIZE;
+      List<HistoryEntry> entries = pages.get(page);
+      if (entries == null || offset >= entries.size()) {
+         try {
+            entries = archive.read(page * PAGE_SIZE, Math.min(page * PAGE_SIZE + PAGE_SIZE, size));
+         } catch (IOException e) {
+            throw new UncheckedIOException("History page " + page + " cannot be read", e);
+         }
+         pages.put(page, entries);
+      }
+      return entries.get(offset);
+   }
+
+   @Override
+   public int size() {
+      return size;
+   }
+
+   /**
+    * Adds entries appended to archive since the last sync to the start of list
+    */
+   public void sync() {
+      int archived = archive.size();
+      if (archived > size) {
+         int added = archived - size;
+         size = archived;
+         beginChange();
+         nextAdd(0, added);
+         endChange();
+      }
+   }
+}
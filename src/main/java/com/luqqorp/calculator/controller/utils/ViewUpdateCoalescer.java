@@ -0,0 +1,102 @@
+package com.luqqorp.calculator.controller.utils;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.StringProperty;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class collects texts of labels and applies them once per JavaFX pulse.
+ * Every text change of label fires its font and layout listeners, so texts
+ * that are changed several times in one pulse, e.g. by key auto-repeat or pasted input,
+ * are applied only with their last value. Counts of requested and applied texts are logged
+ * on every pulse at debug level. Methods are called only by the application thread
+ */
+@Slf4j
+public class ViewUpdateCoalescer {
+   /**
+    * The last texts of changed properties in order of their first change
+    */
+   private final Map<StringProperty, String> pendingTexts = new LinkedHashMap<>();
+   /**
+    * Requests {@link #applyUpdates()} on the next pulse
+    */
+   private final Runnable pulseRequest;
+   /**
+    * Shows if updates are requested for the next pulse
+    */
+   private boolean requested;
+   /**
+    * Count of texts set by controller
+    */
+   @Getter
+   private long requestedUpdates;
+   /**
+    * Count of texts applied to properties
+    */
+   @Getter
+   private long appliedUpdates;
+   /**
+    * Count of pulses that applied texts
+    */
+   @Getter
+   private long pulses;
+
+   /**
+    * Constructs coalescer that applies texts by animation timer of JavaFX pulses
+    */
+   public ViewUpdateCoalescer() {
+      AnimationTimer timer = new AnimationTimer() {
+         @Override
+         public void handle(long now) {
+            stop();
+            applyUpdates();
+         }
+      };
+      this.pulseRequest = timer::start;
+   }
+
+   /**
+    * Constructs coalescer with adjusted request of the next pulse
+    *
+    * @param pulseRequest runs {@link #applyUpdates()} on the next pulse
+    */
+   public ViewUpdateCoalescer(Runnable pulseRequest) {
+      this.pulseRequest = pulseRequest;
+   }
+
+   /**
+    * Keeps text of property until the next pulse
+    *
+    * @param property text property of label
+    * @param text     new text
+    */
+   public void setText(StringProperty property, String text) {
+      requestedUpdates++;
+      pendingTexts.put(property, text);
+      if (!requested) {
+         requested = true;
+         pulseRequest.run();
+      }
+   }
+
+   /**
+    * Applies the last texts of changed properties
+    */
+   public void applyUpdates() {
+      requested = false;
+      if (pendingTexts.isEmpty()) {
+         return;
+      }
+      pulses++;
+      for (Map.Entry<StringProperty, String> entry : pendingTexts.entrySet()) {
+         entry.getKey().set(entry.getValue());
+         appliedUpdates++;
+      }
+      pendingTexts.clear();
+      log.debug("Pulse {}: {} texts are applied, {} are requested", pulses, appliedUpdates, requestedUpdates);
+   }
+}
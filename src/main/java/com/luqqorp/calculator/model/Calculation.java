@@ -1,7 +1,11 @@
 package com.luqqorp.calculator.model;
 
 import com.luqqorp.calculator.model.data.History;
+import com.luqqorp.calculator.model.data.HistoryStore;
+import com.luqqorp.calculator.model.data.HistoryUnit;
 import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.data.StateReader;
+import com.luqqorp.calculator.model.data.StateWriter;
 import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
 import com.luqqorp.calculator.model.exceptions.InvalidInputException;
 import com.luqqorp.calculator.model.exceptions.OverflowException;
@@ -10,10 +14,13 @@ import com.luqqorp.calculator.model.handler.ExpressionResolver;
 import com.luqqorp.calculator.model.handler.HistoryHandler;
 import com.luqqorp.calculator.model.handler.MemoryHandler;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.util.concurrent.CancellationException;
 
+import static com.luqqorp.calculator.model.CalculationState.*;
 import static java.math.BigDecimal.ZERO;
 
 /**
@@ -22,14 +29,42 @@ import static java.math.BigDecimal.ZERO;
  */
 @Slf4j
 public class Calculation {
+   /**
+    * This interface presents a listener of expressions completed by equals
+    */
+   @FunctionalInterface
+   public interface CompletionListener {
+      /**
+       * Receives completed expression, e.g. history "5 + 3" of "5 + 3 =",
+       * or "8 + 3" of equals repeated after it. Equals repeated at once by
+       * {@link #repeatResultDecimal(long)} are received one by one, as if they were pressed separately
+       *
+       * @param history history of expression, it should not be kept
+       * @param result  result of expression
+       */
+      void completed(History history, BigDecimal result);
+   }
+
+   /**
+    * Shows if operands are resolved as exact rational values
+    */
+   private final boolean exactMode;
+   /**
+    * Maximum count of history units
+    */
+   private final int historyCapacity;
+   /**
+    * Action with a new history unit, when history is full
+    */
+   private final HistoryStore.OverflowPolicy historyOverflowPolicy;
    /**
     * solver that responds for calculation process
     */
-   private ExpressionResolver expressionResolver = new ExpressionResolver();
+   private ExpressionResolver expressionResolver;
    /**
     * handler that responds for persisting history
     */
-   private HistoryHandler historyHandler = new HistoryHandler();
+   private HistoryHandler historyHandler;
    /**
     * handler that responds for persisting memory
     */
@@ -53,29 +88,51 @@ public class Calculation {
     */
    private Operator currentOperator = null;
    /**
-    * Shows if operation is new
+    * State id of calculation, bits of {@link CalculationState} show if operation,
+    * non-binary operation, equals and current decimal are new, if percent
+    * returns zero after equals and if previous operator is set
     */
-   private boolean operationIsNew = true;
+   private int state = CalculationState.INITIAL;
    /**
-    * Shows if non-binary operation is new
+    * Listener of completed expressions, it is not kept in snapshot
     */
-   private boolean nonBinaryIsNew = true;
+   @Setter
+   private CompletionListener completionListener;
+
    /**
-    * Shows if non-binary history is new
+    * Constructs calculation of decimal operands
     */
-   private boolean equalsIsNew = false;
+   public Calculation() {
+      this(false);
+   }
+
    /**
-    * Shows if current decimal is returned zero after equals operation
+    * Constructs calculation with adjusted mode.
+    * In exact mode add, subtract, multiply, divide, square, fraction and negate
+    * keep exact rational results which are only rounded into returned decimals,
+    * square root and percent are resolved by decimals
+    *
+    * @param exactMode if true, operands are resolved as exact rational values
     */
-   private boolean zeroPercent = false;
+   public Calculation(boolean exactMode) {
+      this(exactMode, HistoryStore.UNBOUNDED, HistoryStore.OverflowPolicy.DROP_OLDEST);
+   }
+
    /**
-    * Boolean value that shows if unit is new and in completed form after
-    * calculation operation is done. Default value of Unit is zero and no operations
-    * have been performed
+    * Constructs calculation with adjusted mode and limit of history units.
+    * Full history drops its oldest units or rejects new ones with overflow
+    *
+    * @param exactMode             if true, operands are resolved as exact rational values
+    * @param historyCapacity       maximum count of history units
+    * @param historyOverflowPolicy action with a new history unit, when history is full
     */
-   @Getter
-   private boolean currentValNew = false;
-
+   public Calculation(boolean exactMode, int historyCapacity, HistoryStore.OverflowPolicy historyOverflowPolicy) {
+      this.exactMode = exactMode;
+      this.historyCapacity = historyCapacity;
+      this.historyOverflowPolicy = historyOverflowPolicy;
+      expressionResolver = new ExpressionResolver(exactMode);
+      historyHandler = new HistoryHandler(historyCapacity, historyOverflowPolicy);
+   }
 
    /**
     * Sets received unit as current decimal
@@ -84,11 +141,7 @@ public class Calculation {
     * @param unit received value
     */
    public void editCurrentDecimal(BigDecimal unit) {
-      if (currentValNew) {
-         historyHandler.clearEnter(nonBinaryIsNew);
-      }
-      nonBinaryIsNew = true;
-      currentValNew = false;
+      changeState(EDIT);
       currentDecimal = unit;
    }
 
@@ -101,15 +154,7 @@ public class Calculation {
    public BigDecimal createOperation(Operator operator) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
       setOperation(operator);
       expressionResolver.setValues(currentDecimal);
-      if (currentOperator.isBinary && !operationIsNew && (!currentValNew || (!nonBinaryIsNew && equalsIsNew))) {
-         binaryResolveHandle();
-      } else if (!currentOperator.isBinary) {
-         nonBinaryHandle();
-      } else {
-         historyHandle(operationIsNew);
-         binaryOperationDone();
-      }
-      operationIsNew = false;
+      performSteps(keyClass(operator));
       return currentDecimal;
    }
 
@@ -119,16 +164,42 @@ public class Calculation {
     * @return Decimal with result value
     */
    public BigDecimal getResultDecimal() throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
-      if (prevOperator != null) {
-         expressionResolver.setValues(currentDecimal);
-         if (equalsIsNew) {
-            prevDecimal = currentDecimal;
-         } else {
-            expressionResolver.setValues(prevDecimal);
+      performSteps(EQUALS);
+      return currentDecimal;
+   }
+
+   /**
+    * Handles equals pressed adjusted count of times, e.g. "5 + = = =".
+    * Repeated add and subtract are resolved as a single multiply and repeated multiply
+    * as a power, only operations which results come close to limits of supported values
+    * are resolved one by one. Result, history and exceptions are the same as
+    * of equals pressed one by one. All repeats are resolved one by one while completion
+    * listener is set, so it receives every completed expression. Interrupted thread stops repeats between equals
+    *
+    * @param count count of equals
+    * @return Decimal with result value
+    * @throws CancellationException if thread is interrupted
+    */
+   public BigDecimal repeatResultDecimal(long count) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      boolean oneByOne = completionListener != null;
+      for (long rest = count; rest > 0; rest--) {
+         if (Thread.interrupted()) {
+            throw new CancellationException("Repeated equals are cancelled");
          }
-         resolveOperation(prevOperator);
+         int steps = steps(transition(state, EQUALS));
+         if (!oneByOne && (steps & RESOLVE_PREVIOUS) == 0) {
+            rest = 1;
+         } else if (!oneByOne && rest > 1 && (steps & SET_PREVIOUS_VALUES) != 0) {
+            long repeats = expressionResolver.countRepeats(prevOperator, currentDecimal, prevDecimal, rest - 1);
+            if (repeats > 0) {
+               currentDecimal = expressionResolver.repeat(prevOperator, currentDecimal, prevDecimal, repeats);
+               state = nextState(transition(state, EQUALS));
+               equalsDone(null, 0);
+               rest -= repeats;
+            }
+         }
+         performSteps(EQUALS);
       }
-      equalsOperationDone();
       return currentDecimal;
    }
 
@@ -140,7 +211,7 @@ public class Calculation {
     */
    public BigDecimal clearEnter() {
       currentDecimal = ZERO;
-      historyHandler.clearEnter(nonBinaryIsNew);
+      changeState(CLEAR_ENTER);
       return currentDecimal;
    }
 
@@ -151,7 +222,7 @@ public class Calculation {
     */
    public BigDecimal setCurrentDecimalFromMemory() {
       currentDecimal = memoryHandler.getMemoryDecimal();
-      currentValNew = false;
+      changeState(MEMORY_VALUE);
       return currentDecimal;
    }
 
@@ -180,7 +251,7 @@ public class Calculation {
     */
    public BigDecimal memoryClear() {
       memoryHandler = new MemoryHandler();
-      currentValNew = false;
+      changeState(MEMORY_VALUE);
       return memoryHandler.getMemoryDecimal();
    }
 
@@ -194,143 +265,217 @@ public class Calculation {
     * @return Decimal current default value;
     */
    public BigDecimal clearAll() {
-      expressionResolver = new ExpressionResolver();
-      historyHandler = new HistoryHandler();
+      expressionResolver = new ExpressionResolver(exactMode);
+      historyHandler = new HistoryHandler(historyCapacity, historyOverflowPolicy);
       prevDecimal = ZERO;
       currentDecimal = ZERO;
       prevOperator = null;
       currentOperator = null;
-      operationIsNew = true;
-      nonBinaryIsNew = true;
-      equalsIsNew = false;
-      zeroPercent = false;
+      changeState(CLEAR);
       return currentDecimal;
    }
 
    /**
-    * Method sets to current decimal result value of operation
+    * Takes snapshot of expression, history and memory.
+    * Mode and history limit are not kept in snapshot
     *
-    * @param operator name of operation
-    * @throws CannotDivideByZeroException to indicate that a method is trying to divide by zero
-    * @throws ResultIsUndefinedException  to indicate that a method is trying divide zero by zero
-    * @throws InvalidInputException       to indicate that a method is trying to get square root from negative number
-    * @throws OverflowException           to indicate that a method is reached overflow
+    * @return immutable state of calculation
     */
-   private void resolveOperation(Operator operator) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
-      currentDecimal = expressionResolver.resolve(operator, operationIsNew);
+   public CalculationSnapshot snapshot() {
+      StateWriter writer = new StateWriter();
+      writer.writeVarint((state & 0xFFFFFFFFL) << 1 | (exactMode ? 1 : 0));
+      writer.writeDecimal(prevDecimal);
+      writer.writeDecimal(currentDecimal);
+      writer.writeOperator(prevOperator);
+      writer.writeOperator(currentOperator);
+      expressionResolver.writeState(writer);
+      historyHandler.writeState(writer);
+      memoryHandler.writeState(writer);
+      return new CalculationSnapshot(writer.toByteArray());
    }
 
    /**
-    * Handles percent logic of result and updates its history
+    * Restores snapshot taken by calculation with the same mode and history limit.
+    * Previous state of this calculation is replaced, it is not changed if snapshot cannot be restored
+    *
+    * @param snapshot adjusted snapshot
+    * @throws IllegalArgumentException if snapshot is taken in another mode or is corrupted
     */
-   private void percentResolve() throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
-      if (prevOperator == null || zeroPercent) {
-         currentDecimal = ZERO;
-         expressionResolver.setValues(currentDecimal);
-      } else {
-         resolveOperation(currentOperator);
+   public void restore(CalculationSnapshot snapshot) {
+      StateReader reader = new StateReader(snapshot.state);
+      long flags = reader.readVarint();
+      if ((flags & 1) != (exactMode ? 1 : 0)) {
+         throw new IllegalArgumentException("Snapshot is taken in another mode");
       }
-      historyHandle(nonBinaryIsNew);
-      nonBinaryNew(false);
-   }
-
-   /**
-    * Sets current operator
-    * @param operator adjusted operation
-    */
-   private void setOperation(Operator operator) {
-      currentOperator = operator;
-      historyHandler.setCurrentOperator(currentOperator);
+      BigDecimal restoredPrevDecimal = reader.readDecimal();
+      BigDecimal restoredCurrentDecimal = reader.readDecimal();
+      Operator restoredPrevOperator = reader.readOperator();
+      Operator restoredCurrentOperator = reader.readOperator();
+      ExpressionResolver restoredResolver = new ExpressionResolver(exactMode);
+      restoredResolver.readState(reader);
+      HistoryHandler restoredHistory = new HistoryHandler(historyCapacity, historyOverflowPolicy);
+      restoredHistory.readState(reader);
+      MemoryHandler restoredMemory = new MemoryHandler();
+      restoredMemory.readState(reader);
+      if (!reader.isFinished()) {
+         throw new IllegalArgumentException("Snapshot has bytes after state");
+      }
+      state = (int) (flags >>> 1);
+      prevDecimal = restoredPrevDecimal;
+      currentDecimal = restoredCurrentDecimal;
+      prevOperator = restoredPrevOperator;
+      currentOperator = restoredCurrentOperator;
+      expressionResolver = restoredResolver;
+      historyHandler = restoredHistory;
+      memoryHandler = restoredMemory;
    }
 
    /**
-    * Controls if non-binary is new after operations
-    * for handling a history behavior
-    * @param nonBinaryIsNew boolean value
+    * Shows if current decimal is new and in completed form after calculation operation is done.
+    * Default value of Unit is zero and no operations have been performed
+    *
+    * @return true if current decimal is completed by operation
     */
-   private void nonBinaryNew(boolean nonBinaryIsNew) {
-      this.nonBinaryIsNew = nonBinaryIsNew;
-      this.currentValNew = true;
+   public boolean isCurrentValNew() {
+      return (state & CURRENT_VALUE_NEW) != 0;
    }
 
    /**
-    * Ends binary operation. Sets current operator as a previous,
-    * sets equals new to use
+    * Handles key by precomputed transition of state, steps of transition
+    * are performed in their order, state is changed only if all steps are done
+    *
+    * @param keyClass class of pressed key
+    * @throws CannotDivideByZeroException to indicate that a method is trying to divide by zero
+    * @throws ResultIsUndefinedException  to indicate that a method is trying divide zero by zero
+    * @throws InvalidInputException       to indicate that a method is trying to get square root from negative number
+    * @throws OverflowException           to indicate that a method is reached overflow
     */
-   private void binaryOperationDone() {
-      prevOperator = currentOperator;
-      equalsIsNew = true;
-      nonBinaryNew(true);
+   private void performSteps(int keyClass) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      int transition = transition(state, keyClass);
+      int steps = steps(transition);
+      boolean operationIsNew = (state & OPERATION_NEW) != 0;
+      BigDecimal value = currentDecimal;
+      if ((steps & ADD_HISTORY) != 0) {
+         historyHandler.addHistory(currentDecimal);
+      }
+      if ((steps & CHANGE_HISTORY) != 0) {
+         historyHandler.changeOperator(currentDecimal);
+      }
+      if ((steps & SET_VALUES) != 0) {
+         expressionResolver.setValues(currentDecimal);
+      }
+      if ((steps & SAVE_PREVIOUS) != 0) {
+         prevDecimal = currentDecimal;
+      }
+      if ((steps & SET_PREVIOUS_VALUES) != 0) {
+         expressionResolver.setValues(prevDecimal);
+      }
+      if ((steps & RESOLVE_PREVIOUS) != 0) {
+         currentDecimal = expressionResolver.resolve(prevOperator, operationIsNew);
+      }
+      if ((steps & RESOLVE_CURRENT) != 0) {
+         currentDecimal = expressionResolver.resolve(currentOperator, operationIsNew);
+      }
+      if ((steps & ZERO_VALUE) != 0) {
+         currentDecimal = ZERO;
+         expressionResolver.setValues(currentDecimal);
+      }
+      if ((steps & ADD_HISTORY_AFTER) != 0) {
+         historyHandler.addHistory(currentDecimal);
+      }
+      if ((steps & CHANGE_HISTORY_AFTER) != 0) {
+         historyHandler.changeOperator(currentDecimal);
+      }
+      if ((steps & SET_VALUES_AFTER) != 0) {
+         expressionResolver.setValues(currentDecimal);
+      }
+      if ((steps & SAVE_OPERATOR) != 0) {
+         prevOperator = currentOperator;
+      }
+      state = nextState(transition);
+      if ((steps & EQUALS_DONE) != 0) {
+         equalsDone(value, steps);
+      }
    }
 
    /**
-    * Ends equals operation. Clears history,
-    * sets binary and non-binary operations new to use
-    * checks if result is zero for percent to return zero value
+    * Passes completed expression to listener, clears history after equals and keeps
+    * if result is zero for the next percent
+    *
+    * @param value current decimal before equals, null for equals repeated at once
+    * @param steps performed steps of equals
     */
-   private void equalsOperationDone() {
-      operationIsNew = true;
-      equalsIsNew = false;
-      nonBinaryNew(true);
+   private void equalsDone(BigDecimal value, int steps) throws OverflowException {
+      if (completionListener != null && value != null) {
+         completionListener.completed(completedHistory(value, steps), currentDecimal);
+      }
       clearHistory();
-      zeroPercent = currentDecimal.compareTo(ZERO) == 0;
+      if (currentDecimal.compareTo(ZERO) == 0) {
+         state |= ZERO_PERCENT;
+      }
    }
 
    /**
-    * Handles binary operator and if equals operation is completed
-    * resolves the result from current expression. Adds a new
-    * unit to history
+    * Adds operand of equals to history of expression, e.g. "5 + 3" of "5 + 3 =".
+    * Equals after equals repeats the previous operation, e.g. "8 + 3" of "5 + 3 = =",
+    * "√(9) + 3" of "5 + 3 = 9 √ ="
+    *
+    * @param value current decimal before equals
+    * @param steps performed steps of equals
+    * @return history of completed expression
     */
-   private void binaryResolveHandle() throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
-      historyHandler.addHistory(currentDecimal);
-      if (equalsIsNew) {
-         resolveOperation(prevOperator);
+   private History completedHistory(BigDecimal value, int steps) throws OverflowException {
+      HistoryStore units = historyHandler.getHistory().getHistoryUnits();
+      History completed = new History();
+      HistoryStore completedUnits = completed.getHistoryUnits();
+      for (int i = 0; i < units.size(); i++) {
+         completedUnits.add(units.get(i));
       }
-      expressionResolver.setValues(currentDecimal);
-      binaryOperationDone();
+      if (completedUnits.isEmpty()) {
+         completedUnits.add(new HistoryUnit(value));
+      }
+      if ((steps & SET_PREVIOUS_VALUES) != 0) {
+         HistoryUnit last = completedUnits.pollLast();
+         HistoryUnit repeated = new HistoryUnit(last.getValue());
+         for (int i = 0; i < last.getNonBinaryCount(); i++) {
+            repeated.addNonBinary(last.getNonBinary(i));
+         }
+         repeated.setBinary(prevOperator);
+         completedUnits.add(repeated);
+      }
+      if (completedUnits.getLast().getBinary() != null) {
+         completedUnits.add(new HistoryUnit(prevDecimal));
+      }
+      return completed;
    }
 
    /**
-    * Handles non-binary currentOperator to resolve the result from current expression,
-    * handles operation into history unit depending on operation name:
-    * Percent checks if operation goes after zero equals result and sets
-    * current decimal zero value, otherwise resolver percent by previous number.
-    * handles history by non-binary operation completed status
-    * than sets complete status for non-binary operation to false.
-    * If negate uses while current decimal is not completed it's not effect the history
-    * and non-binary completed status
-    */
-   private void nonBinaryHandle() throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
-      if (currentOperator == Operator.PERCENT) {
-         percentResolve();
-      } else if (currentOperator == Operator.NEGATE && !currentValNew) {
-         resolveOperation(currentOperator);
-         nonBinaryIsNew = true;
-      } else {
-         historyHandle(nonBinaryIsNew);
-         resolveOperation(currentOperator);
-         nonBinaryNew(false);
+    * Handles key that changes no values of expression by precomputed transition of state
+    *
+    * @param keyClass class of pressed key
+    */
+   private void changeState(int keyClass) {
+      int transition = transition(state, keyClass);
+      if ((steps(transition) & REMOVE_HISTORY) != 0) {
+         historyHandler.removeLast();
       }
+      state = nextState(transition);
    }
 
    /**
-    * Handles history, calls add method or change, whether history-unit is new
-    *
-    * @param newHistoryDecimal boolean value shows if history unit is new
+    * Sets current operator
+    * @param operator adjusted operation
     */
-   private void historyHandle(boolean newHistoryDecimal) {
-      if (newHistoryDecimal) {
-         historyHandler.addHistory(currentDecimal);
-      } else {
-         historyHandler.changeOperator(currentDecimal);
-      }
+   private void setOperation(Operator operator) {
+      currentOperator = operator;
+      historyHandler.setCurrentOperator(currentOperator);
    }
 
    /**
     * Clears history
     */
    private void clearHistory() {
-      historyHandler = new HistoryHandler();
+      historyHandler = new HistoryHandler(historyCapacity, historyOverflowPolicy);
    }
 
 
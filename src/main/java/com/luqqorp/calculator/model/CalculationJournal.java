@@ -0,0 +1,426 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Key;
+import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.data.StateReader;
+import com.luqqorp.calculator.model.data.StateWriter;
+import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
+import com.luqqorp.calculator.model.exceptions.InvalidInputException;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class appends inputs of calculation to memory-mapped journal files.
+ * Journal starts with header of magic number, version and index of the latest snapshot record,
+ * records follow it: byte of record type and varint values written by {@link StateWriter}.
+ * Type of record is written after its values, so record which is not written completely
+ * has zero type, which ends journal. Snapshot of calculation is written at the start
+ * of journal and after every adjusted count of records, recovery restores the latest
+ * snapshot and replays records after it. Mapped pages are forced to disk by background
+ * thread after every adjusted count of records, records after the last force
+ * can be lost by crash of host, but not by crash of application.
+ * Every start and every full journal begin a new generation of journal file,
+ * e.g. "session.journal.7", files of older generations are deleted. Files are never
+ * replaced, because mapped file cannot be replaced on some systems.
+ * Methods of journal are called by one thread at a time
+ */
+@Slf4j
+final class CalculationJournal implements Closeable {
+   /**
+    * The first int of journal file, "CJRN"
+    */
+   private static final int MAGIC = 0x434A524E;
+   private static final int VERSION = 1;
+   /**
+    * Index of long index of the latest snapshot record in header
+    */
+   private static final int SNAPSHOT_INDEX = 8;
+   private static final int HEADER_LENGTH = 16;
+   /**
+    * Type of not written bytes
+    */
+   private static final int END = 0;
+   /**
+    * Type of repeated equals with count, types of keys are their ordinals plus one
+    */
+   private static final int REPEAT = Key.values().length + 1;
+   /**
+    * Type of snapshot with its bytes
+    */
+   private static final int SNAPSHOT = REPEAT + 1;
+   /**
+    * Keys by types of their records
+    */
+   private static final Key[] KEYS = Key.values();
+   /**
+    * Keys by ordinals of their operators
+    */
+   private static final Key[] OPERATOR_KEYS = new Key[Operator.values().length];
+
+   static {
+      for (Key key : KEYS) {
+         if (key.operator != null) {
+            OPERATOR_KEYS[key.operator.ordinal()] = key;
+         }
+      }
+   }
+
+   /**
+    * Path of journal without generation
+    */
+   private final Path file;
+   private final Calculation calculation;
+   private final int snapshotInterval;
+   private final int forceInterval;
+   /**
+    * Thread that forces mapped pages to disk
+    */
+   private final ExecutorService forceExecutor;
+   /**
+    * Values of the appended record
+    */
+   private final StateWriter recordWriter = new StateWriter();
+   /**
+    * Bytes of the appended snapshot, snapshot is written between values of other record
+    */
+   private final StateWriter snapshotWriter = new StateWriter();
+   private long generation;
+   private MappedByteBuffer buffer;
+   private int capacity;
+   /**
+    * Index of type of the next record
+    */
+   private int position;
+   private int recordsSinceSnapshot;
+   private int recordsSinceForce;
+
+   private CalculationJournal(Path file, Calculation calculation, int capacity, int snapshotInterval, int forceInterval) {
+      this.file = file;
+      this.calculation = calculation;
+      this.capacity = capacity;
+      this.snapshotInterval = snapshotInterval;
+      this.forceInterval = forceInterval;
+      forceExecutor = Executors.newSingleThreadExecutor(runnable -> {
+         Thread thread = new Thread(runnable, "journal");
+         thread.setDaemon(true);
+         return thread;
+      });
+   }
+
+   /**
+    * Restores the latest snapshot of journal into calculation and replays records after it.
+    * Replay stops at the first record which is not written completely,
+    * generation with broken header or snapshot is skipped for the previous one
+    *
+    * @param file        path of journal without generation
+    * @param calculation calculation of the same configuration as journaled one
+    * @return count of replayed records without snapshot, -1 if there is no journal
+    * @throws IOException if files cannot be read
+    */
+   static int recover(Path file, Calculation calculation) throws IOException {
+      List<Long> generations = generations(file);
+      for (int i = generations.size() - 1; i >= 0; i--) {
+         Path generationFile = generationFile(file, generations.get(i));
+         try {
+            return recoverGeneration(generationFile, calculation);
+         } catch (IllegalArgumentException e) {
+            log.warn("Journal {} is not recovered", generationFile, e);
+         }
+      }
+      return -1;
+   }
+
+   /**
+    * Starts a new generation of journal with snapshot of calculation
+    *
+    * @param file             path of journal without generation
+    * @param calculation      journaled calculation
+    * @param capacity         length of mapped file
+    * @param snapshotInterval count of records between snapshots
+    * @param forceInterval    count of records between forces of mapped pages
+    * @return journal
+    * @throws IOException if file cannot be written
+    */
+   static CalculationJournal start(Path file, Calculation calculation, int capacity, int snapshotInterval, int forceInterval) throws IOException {
+      CalculationJournal journal = new CalculationJournal(file, calculation, capacity, snapshotInterval, forceInterval);
+      List<Long> generations = generations(file);
+      journal.generation = generations.isEmpty() ? 0 : generations.get(generations.size() - 1);
+      journal.startGeneration(0);
+      return journal;
+   }
+
+   /**
+    * Appends edit of current decimal
+    *
+    * @param decimal new current decimal
+    */
+   void appendNumber(BigDecimal decimal) {
+      startRecord();
+      recordWriter.writeDecimal(decimal);
+      writeRecord(Key.NUMBER.ordinal() + 1);
+   }
+
+   /**
+    * Appends key which is not a number
+    *
+    * @param key pressed key
+    */
+   void appendKey(Key key) {
+      startRecord();
+      writeRecord(key.ordinal() + 1);
+   }
+
+   /**
+    * Appends operation
+    *
+    * @param operator requested operator
+    */
+   void appendOperation(Operator operator) {
+      appendKey(OPERATOR_KEYS[operator.ordinal()]);
+   }
+
+   /**
+    * Appends repeated equals
+    *
+    * @param count count of equals
+    */
+   void appendRepeat(long count) {
+      startRecord();
+      recordWriter.writeVarint(count);
+      writeRecord(REPEAT);
+   }
+
+   /**
+    * Appends snapshot of calculation, it is the start of the next recovery
+    */
+   void appendSnapshot() {
+      snapshotWriter.reset();
+      snapshotWriter.writeBytes(calculation.snapshot().state);
+      int snapshotPosition = write(snapshotWriter, SNAPSHOT);
+      buffer.putLong(SNAPSHOT_INDEX, snapshotPosition);
+      recordsSinceSnapshot = 0;
+   }
+
+   /**
+    * Forces journal to disk and stops its thread
+    */
+   @Override
+   public void close() {
+      forceExecutor.shutdown();
+      buffer.force();
+   }
+
+   /**
+    * Appends snapshot, if it is time for it, and starts values of a new record
+    */
+   private void startRecord() {
+      if (recordsSinceSnapshot >= snapshotInterval) {
+         appendSnapshot();
+      }
+      recordWriter.reset();
+   }
+
+   private void writeRecord(int type) {
+      write(recordWriter, type);
+      recordsSinceSnapshot++;
+   }
+
+   /**
+    * Writes values of record and then its type, replaces full journal
+    *
+    * @return index of written record
+    */
+   private int write(StateWriter values, int type) {
+      if (position + 1 + values.length() > capacity) {
+         try {
+            startGeneration(1 + values.length());
+         } catch (IOException e) {
+            throw new UncheckedIOException("Journal cannot be continued: " + file, e);
+         }
+      }
+      int recordPosition = position;
+      values.copyTo(buffer, recordPosition + 1);
+      buffer.put(recordPosition, (byte) type);
+      position += 1 + values.length();
+      if (++recordsSinceForce >= forceInterval) {
+         recordsSinceForce = 0;
+         forceExecutor.execute(buffer::force);
+      }
+      return recordPosition;
+   }
+
+   /**
+    * Maps file of the next generation, writes snapshot of calculation and then header into it,
+    * forces it and deletes files of older generations
+    *
+    * @param reserve count of bytes which should be free after snapshot
+    */
+   private void startGeneration(int reserve) throws IOException {
+      StateWriter start = new StateWriter();
+      start.writeBytes(calculation.snapshot().state);
+      int length = HEADER_LENGTH + 1 + start.length();
+      capacity = Math.max(capacity, 2 * (length + reserve));
+      generation++;
+      try (FileChannel channel = FileChannel.open(generationFile(file, generation), StandardOpenOption.CREATE_NEW,
+              StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+         buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+      }
+      start.copyTo(buffer, HEADER_LENGTH + 1);
+      buffer.put(HEADER_LENGTH, (byte) SNAPSHOT);
+      buffer.putLong(SNAPSHOT_INDEX, HEADER_LENGTH).putInt(4, VERSION).putInt(0, MAGIC);
+      buffer.force();
+      position = length;
+      recordsSinceSnapshot = 0;
+      recordsSinceForce = 0;
+      for (long older : generations(file)) {
+         if (older < generation) {
+            try {
+               Files.deleteIfExists(generationFile(file, older));
+            } catch (IOException e) {
+               log.debug("Journal {} is not deleted yet", generationFile(file, older), e);
+            }
+         }
+      }
+   }
+
+   /**
+    * Recovers calculation from file of one generation
+    *
+    * @throws IllegalArgumentException if header or snapshot of journal are broken
+    */
+   private static int recoverGeneration(Path generationFile, Calculation calculation) throws IOException {
+      try (FileChannel channel = FileChannel.open(generationFile, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (size < HEADER_LENGTH || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal has no header");
+         }
+         MappedByteBuffer journal = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+         long snapshotPosition = journal.getLong(SNAPSHOT_INDEX);
+         if (journal.getInt(0) != MAGIC || journal.getInt(4) != VERSION
+                 || snapshotPosition < HEADER_LENGTH || snapshotPosition >= size) {
+            throw new IllegalArgumentException("Journal has broken header");
+         }
+         StateReader reader = new StateReader(journal, (int) snapshotPosition, (int) size);
+         if (reader.readVarint() != SNAPSHOT) {
+            throw new IllegalArgumentException("Journal has no snapshot at " + snapshotPosition);
+         }
+         replay(SNAPSHOT, reader, calculation);
+         int replayed = 0;
+         try {
+            while (!reader.isFinished()) {
+               int type = (int) reader.readVarint();
+               if (type == END) {
+                  break;
+               }
+               replay(type, reader, calculation);
+               replayed++;
+            }
+         } catch (IllegalArgumentException e) {
+            log.warn("Journal {} is recovered up to broken record at {}", generationFile, reader.getPosition(), e);
+         }
+         return replayed;
+      }
+   }
+
+   /**
+    * Returns existing generations of journal
+    *
+    * @return generations in ascending order
+    */
+   private static List<Long> generations(Path file) throws IOException {
+      List<Long> generations = new ArrayList<>();
+      Path directory = file.toAbsolutePath().getParent();
+      if (!Files.isDirectory(directory)) {
+         return generations;
+      }
+      String prefix = file.getFileName() + ".";
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+         for (Path generationFile : files) {
+            String suffix = generationFile.getFileName().toString().substring(prefix.length());
+            if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) && suffix.length() < 19) {
+               generations.add(Long.parseLong(suffix));
+            }
+         }
+      }
+      Collections.sort(generations);
+      return generations;
+   }
+
+   private static Path generationFile(Path file, long generation) {
+      return file.resolveSibling(file.getFileName() + "." + generation);
+   }
+
+   /**
+    * Applies record to calculation, exceptions of calculation are the same as
+    * when record was appended and are skipped
+    *
+    * @throws IllegalArgumentException if record is broken
+    */
+   private static void replay(int type, StateReader reader, Calculation calculation) {
+      try {
+         if (type == SNAPSHOT) {
+            calculation.restore(new CalculationSnapshot(reader.readBytes()));
+         } else if (type == REPEAT) {
+            calculation.repeatResultDecimal(reader.readVarint());
+         } else if (type > END && type <= KEYS.length) {
+            replayKey(KEYS[type - 1], reader, calculation);
+         } else {
+            throw new IllegalArgumentException("Unknown record type " + type);
+         }
+      } catch (OverflowException | CannotDivideByZeroException | ResultIsUndefinedException | InvalidInputException e) {
+         log.trace("Replayed record ends by {}", e.getMessage());
+      }
+   }
+
+   private static void replayKey(Key key, StateReader reader, Calculation calculation) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      switch (key) {
+         case NUMBER:
+            BigDecimal decimal = reader.readDecimal();
+            if (decimal == null) {
+               throw new IllegalArgumentException("Number record without number");
+            }
+            calculation.editCurrentDecimal(decimal);
+            break;
+         case EQUALS:
+            calculation.getResultDecimal();
+            break;
+         case CLEAR_ENTER:
+            calculation.clearEnter();
+            break;
+         case CLEAR:
+            calculation.clearAll();
+            break;
+         case MEMORY_ADD:
+            calculation.memoryAdd();
+            break;
+         case MEMORY_SUBTRACT:
+            calculation.memorySubstract();
+            break;
+         case MEMORY_RECALL:
+            calculation.setCurrentDecimalFromMemory();
+            break;
+         case MEMORY_CLEAR:
+            calculation.memoryClear();
+            break;
+         default:
+            calculation.createOperation(key.operator);
+      }
+   }
+}
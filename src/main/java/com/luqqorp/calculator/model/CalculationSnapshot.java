@@ -0,0 +1,56 @@
+package com.luqqorp.calculator.model;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+
+/**
+ * This class represent an immutable state of calculation: packed state flags and mode,
+ * decimals and operator ordinals of expression, units of history and memory value,
+ * written as varints by {@link com.luqqorp.calculator.model.data.StateWriter}.
+ * Snapshot is taken by {@link Calculation#snapshot()} and restored by
+ * {@link Calculation#restore(CalculationSnapshot)} of calculation with the same
+ * mode and history limit
+ */
+@EqualsAndHashCode
+public final class CalculationSnapshot {
+   /**
+    * Written state, never changed after snapshot is constructed
+    */
+   final byte[] state;
+
+   CalculationSnapshot(byte[] state) {
+      this.state = state;
+   }
+
+   /**
+    * Creates snapshot of bytes returned by {@link #toByteArray()}, e.g. after they are stored
+    *
+    * @param bytes adjusted bytes, they are copied
+    * @return snapshot
+    */
+   public static CalculationSnapshot of(byte[] bytes) {
+      return new CalculationSnapshot(bytes.clone());
+   }
+
+   /**
+    * Returns bytes of snapshot to store them
+    *
+    * @return copy of bytes
+    */
+   public byte[] toByteArray() {
+      return state.clone();
+   }
+
+   /**
+    * @return count of bytes of snapshot
+    */
+   public int size() {
+      return state.length;
+   }
+
+   @Override
+   public String toString() {
+      return "CalculationSnapshot" + Arrays.toString(state);
+   }
+}
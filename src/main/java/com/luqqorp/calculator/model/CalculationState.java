@@ -0,0 +1,270 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Operator;
+
+/**
+ * This class represent states of calculation as bits of a single state id
+ * and precomputed transitions between them. Transition of state by class of pressed key
+ * keeps the next state and steps that calculation performs for the key.
+ * Steps are performed in order of their bits, so the whole key is handled
+ * by a single table lookup without nested conditions
+ */
+final class CalculationState {
+   /**
+    * Shows if operation is new
+    */
+   static final int OPERATION_NEW = 1;
+   /**
+    * Shows if non-binary operation is new
+    */
+   static final int NON_BINARY_NEW = 1 << 1;
+   /**
+    * Shows if equals of binary operation is new
+    */
+   static final int EQUALS_NEW = 1 << 2;
+   /**
+    * Shows if current decimal is new and in completed form after operation
+    */
+   static final int CURRENT_VALUE_NEW = 1 << 3;
+   /**
+    * Shows if current decimal is returned zero after equals operation
+    */
+   static final int ZERO_PERCENT = 1 << 4;
+   /**
+    * Shows if previous binary operator is set
+    */
+   static final int PREVIOUS_OPERATOR = 1 << 5;
+   /**
+    * Count of states
+    */
+   static final int STATES = 1 << 6;
+   /**
+    * State of a new calculation
+    */
+   static final int INITIAL = OPERATION_NEW | NON_BINARY_NEW;
+
+   /*
+    * Classes of pressed keys
+    */
+   static final int BINARY = 0;
+   static final int PERCENT = 1;
+   static final int NEGATE = 2;
+   static final int NON_BINARY = 3;
+   static final int EQUALS = 4;
+   static final int EDIT = 5;
+   static final int CLEAR_ENTER = 6;
+   /**
+    * Keys that set current decimal without operation: memory recall and memory clear
+    */
+   static final int MEMORY_VALUE = 7;
+   static final int CLEAR = 8;
+   static final int KEY_CLASSES = 9;
+
+   /*
+    * Steps of transitions in order they are performed
+    */
+   /**
+    * Adds current decimal to history before operation is resolved
+    */
+   static final int ADD_HISTORY = 1;
+   /**
+    * Adds operator to the last history unit before operation is resolved
+    */
+   static final int CHANGE_HISTORY = 1 << 1;
+   /**
+    * Sets current decimal as the next operand of resolver
+    */
+   static final int SET_VALUES = 1 << 2;
+   /**
+    * Keeps current decimal as previous decimal for repeated equals
+    */
+   static final int SAVE_PREVIOUS = 1 << 3;
+   /**
+    * Sets previous decimal as the next operand of resolver
+    */
+   static final int SET_PREVIOUS_VALUES = 1 << 4;
+   /**
+    * Resolves previous binary operator
+    */
+   static final int RESOLVE_PREVIOUS = 1 << 5;
+   /**
+    * Resolves pressed operator
+    */
+   static final int RESOLVE_CURRENT = 1 << 6;
+   /**
+    * Sets zero as current decimal and as the next operand of resolver
+    */
+   static final int ZERO_VALUE = 1 << 7;
+   /**
+    * Adds current decimal to history after operation is resolved
+    */
+   static final int ADD_HISTORY_AFTER = 1 << 8;
+   /**
+    * Adds operator to the last history unit after operation is resolved
+    */
+   static final int CHANGE_HISTORY_AFTER = 1 << 9;
+   /**
+    * Sets result as the next operand of resolver
+    */
+   static final int SET_VALUES_AFTER = 1 << 10;
+   /**
+    * Keeps pressed binary operator as previous operator
+    */
+   static final int SAVE_OPERATOR = 1 << 11;
+   /**
+    * Removes the last history unit
+    */
+   static final int REMOVE_HISTORY = 1 << 12;
+   /**
+    * Clears history after equals and sets {@link #ZERO_PERCENT} if result is zero
+    */
+   static final int EQUALS_DONE = 1 << 13;
+
+   /**
+    * Bits of next state in transition
+    */
+   private static final int STATE_BITS = 8;
+   /**
+    * Transitions by state and class of key
+    */
+   private static final int[] TRANSITIONS = new int[STATES * KEY_CLASSES];
+
+   static {
+      for (int state = 0; state < STATES; state++) {
+         for (int keyClass = 0; keyClass < KEY_CLASSES; keyClass++) {
+            TRANSITIONS[state * KEY_CLASSES + keyClass] = computeTransition(state, keyClass);
+         }
+      }
+   }
+
+   private CalculationState() {
+   }
+
+   /**
+    * Returns precomputed transition
+    *
+    * @param state    adjusted state
+    * @param keyClass class of pressed key
+    * @return next state and steps, read by {@link #nextState(int)} and {@link #steps(int)}
+    */
+   static int transition(int state, int keyClass) {
+      return TRANSITIONS[state * KEY_CLASSES + keyClass];
+   }
+
+   static int nextState(int transition) {
+      return transition & ((1 << STATE_BITS) - 1);
+   }
+
+   static int steps(int transition) {
+      return transition >>> STATE_BITS;
+   }
+
+   /**
+    * Returns class of key of operator
+    *
+    * @param operator adjusted operator
+    * @return key class
+    */
+   static int keyClass(Operator operator) {
+      if (operator.isBinary) {
+         return BINARY;
+      } else if (operator == Operator.PERCENT) {
+         return PERCENT;
+      } else if (operator == Operator.NEGATE) {
+         return NEGATE;
+      }
+      return NON_BINARY;
+   }
+
+   /**
+    * Computes transition as calculation handles key in state
+    */
+   private static int computeTransition(int state, int keyClass) {
+      boolean operationIsNew = (state & OPERATION_NEW) != 0;
+      boolean nonBinaryIsNew = (state & NON_BINARY_NEW) != 0;
+      boolean equalsIsNew = (state & EQUALS_NEW) != 0;
+      boolean currentValNew = (state & CURRENT_VALUE_NEW) != 0;
+      boolean zeroPercent = (state & ZERO_PERCENT) != 0;
+      boolean previousOperator = (state & PREVIOUS_OPERATOR) != 0;
+      int steps = 0;
+
+      switch (keyClass) {
+         case BINARY:
+            if (!operationIsNew && (!currentValNew || (!nonBinaryIsNew && equalsIsNew))) {
+               steps |= ADD_HISTORY | SET_VALUES_AFTER;
+               if (equalsIsNew) {
+                  steps |= RESOLVE_PREVIOUS;
+               }
+            } else {
+               steps |= operationIsNew ? ADD_HISTORY : CHANGE_HISTORY;
+            }
+            steps |= SAVE_OPERATOR;
+            previousOperator = true;
+            equalsIsNew = true;
+            nonBinaryIsNew = true;
+            currentValNew = true;
+            operationIsNew = false;
+            break;
+         case PERCENT:
+            steps |= !previousOperator || zeroPercent ? ZERO_VALUE : RESOLVE_CURRENT;
+            steps |= nonBinaryIsNew ? ADD_HISTORY_AFTER : CHANGE_HISTORY_AFTER;
+            nonBinaryIsNew = false;
+            currentValNew = true;
+            operationIsNew = false;
+            break;
+         case NEGATE:
+         case NON_BINARY:
+            if (keyClass == NEGATE && !currentValNew) {
+               steps |= RESOLVE_CURRENT;
+               nonBinaryIsNew = true;
+            } else {
+               // negate of completed value is handled as other non-binary operations
+               steps |= (nonBinaryIsNew ? ADD_HISTORY : CHANGE_HISTORY) | RESOLVE_CURRENT;
+               nonBinaryIsNew = false;
+               currentValNew = true;
+            }
+            operationIsNew = false;
+            break;
+         case EQUALS:
+            if (previousOperator) {
+               steps |= SET_VALUES | (equalsIsNew ? SAVE_PREVIOUS : SET_PREVIOUS_VALUES) | RESOLVE_PREVIOUS;
+            }
+            steps |= EQUALS_DONE;
+            operationIsNew = true;
+            equalsIsNew = false;
+            nonBinaryIsNew = true;
+            currentValNew = true;
+            zeroPercent = false;
+            break;
+         case EDIT:
+            if (currentValNew && !nonBinaryIsNew) {
+               steps |= REMOVE_HISTORY;
+            }
+            nonBinaryIsNew = true;
+            currentValNew = false;
+            break;
+         case CLEAR_ENTER:
+            if (!nonBinaryIsNew) {
+               steps |= REMOVE_HISTORY;
+            }
+            break;
+         case MEMORY_VALUE:
+            currentValNew = false;
+            break;
+         case CLEAR:
+            operationIsNew = true;
+            nonBinaryIsNew = true;
+            equalsIsNew = false;
+            zeroPercent = false;
+            previousOperator = false;
+            break;
+         default:
+            throw new IllegalArgumentException("Unknown key class: " + keyClass);
+      }
+
+      int nextState = (operationIsNew ? OPERATION_NEW : 0) | (nonBinaryIsNew ? NON_BINARY_NEW : 0)
+              | (equalsIsNew ? EQUALS_NEW : 0) | (currentValNew ? CURRENT_VALUE_NEW : 0)
+              | (zeroPercent ? ZERO_PERCENT : 0) | (previousOperator ? PREVIOUS_OPERATOR : 0);
+      return nextState | steps << STATE_BITS;
+   }
+}
@@ -0,0 +1,108 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Key;
+import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
+import com.luqqorp.calculator.model.exceptions.InvalidInputException;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
+
+import java.math.BigDecimal;
+
+/**
+ * This class evaluates expression texts without view, e.g. "5 + 3 × 3 =" or "71 + = =".
+ * Every key of text is pressed in calculation as it is pressed in calculator,
+ * so results are the same as results of the same keys in calculator.
+ * Evaluator keeps a single calculation and clears it before every text,
+ * it is not thread-safe, every thread should use its own evaluator
+ */
+public class ExpressionEvaluator {
+   /**
+    * Calculation that is reused for every text
+    */
+   private final Calculation calculation;
+   /**
+    * Tokenizer that is reused for every text
+    */
+   private final KeyTokenizer tokenizer = new KeyTokenizer();
+
+   /**
+    * Constructs evaluator with fixed scale calculation
+    */
+   public ExpressionEvaluator() {
+      this(new Calculation());
+   }
+
+   /**
+    * Constructs evaluator with adjusted calculation, e.g. in exact mode
+    *
+    * @param calculation adjusted calculation, which is cleared before every text
+    */
+   public ExpressionEvaluator(Calculation calculation) {
+      this.calculation = calculation;
+   }
+
+   /**
+    * Clears calculation and its memory and presses all keys of text
+    *
+    * @param expression adjusted expression text, keys are separated by whitespaces
+    * @return current decimal after the last key
+    * @throws IllegalArgumentException    if text has unknown key
+    * @throws CannotDivideByZeroException to indicate that expression divides by zero
+    * @throws ResultIsUndefinedException  to indicate that expression divides zero by zero
+    * @throws InvalidInputException       to indicate that expression gets square root from negative number
+    * @throws OverflowException           to indicate that expression reaches overflow
+    */
+   public BigDecimal evaluate(String expression) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      calculation.clearAll();
+      calculation.memoryClear();
+      BigDecimal result = calculation.getCurrentDecimal();
+      tokenizer.reset(expression);
+      while (tokenizer.next()) {
+         if (tokenizer.getParameter() != null) {
+            throw new IllegalArgumentException("Unknown key: " + tokenizer.getParameter());
+         }
+         result = press(tokenizer.getKey(), tokenizer.getNumber());
+      }
+      return result;
+   }
+
+   /**
+    * Returns calculation of the last evaluated text, e.g. to read its history
+    *
+    * @return reused calculation
+    */
+   public Calculation getCalculation() {
+      return calculation;
+   }
+
+   /**
+    * Presses key in calculation
+    *
+    * @param key    adjusted key
+    * @param number value of number key
+    * @return value returned by calculation for key
+    */
+   private BigDecimal press(Key key, BigDecimal number) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      switch (key) {
+         case NUMBER:
+            calculation.editCurrentDecimal(number);
+            return calculation.getCurrentDecimal();
+         case EQUALS:
+            return calculation.getResultDecimal();
+         case CLEAR_ENTER:
+            return calculation.clearEnter();
+         case CLEAR:
+            return calculation.clearAll();
+         case MEMORY_ADD:
+            return calculation.memoryAdd();
+         case MEMORY_SUBTRACT:
+            return calculation.memorySubstract();
+         case MEMORY_RECALL:
+            return calculation.setCurrentDecimalFromMemory();
+         case MEMORY_CLEAR:
+            return calculation.memoryClear();
+         default:
+            return calculation.createOperation(key.operator);
+      }
+   }
+}
@@ -0,0 +1,180 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.HistoryEntry;
+import com.luqqorp.calculator.model.data.StateReader;
+import com.luqqorp.calculator.model.data.StateWriter;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class keeps completed calculations in append-only files: data file of entries
+ * written by {@link StateWriter} and index file of end offsets of entries, a long per entry.
+ * Archive is opened without reading its entries, any range of entries is read by two reads
+ * of files, so archive of millions of entries takes constant heap.
+ * Entries are appended by one thread at a time and are read by any threads,
+ * appended entry is readable after {@link #append(String, String)} returns
+ */
+public class HistoryArchive implements Closeable {
+   private final FileChannel data;
+   private final FileChannel index;
+   /**
+    * Writer of appended entry
+    */
+   private final StateWriter writer = new StateWriter();
+   /**
+    * Bytes of appended index
+    */
+   private final ByteBuffer indexBuffer = ByteBuffer.allocate(Long.BYTES);
+   /**
+    * Count of readable entries
+    */
+   private volatile int size;
+   private long dataLength;
+
+   private HistoryArchive(FileChannel data, FileChannel index) {
+      this.data = data;
+      this.index = index;
+   }
+
+   /**
+    * Opens archive or creates empty one, entry which is not written completely is removed
+    *
+    * @param file path of data file, index file has the same name with ".index" suffix
+    * @return archive
+    * @throws IOException if files cannot be opened
+    */
+   public static HistoryArchive open(Path file) throws IOException {
+      FileChannel data = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      FileChannel index;
+      try {
+         index = FileChannel.open(file.resolveSibling(file.getFileName() + ".index"),
+                 StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      } catch (IOException e) {
+         data.close();
+         throw e;
+      }
+      HistoryArchive archive = new HistoryArchive(data, index);
+      try {
+         archive.truncate();
+      } catch (IOException e) {
+         archive.close();
+         throw e;
+      }
+      return archive;
+   }
+
+   /**
+    * Appends completed calculation
+    *
+    * @param expression text of expression
+    * @param result     displayed text of result
+    * @throws IOException if entry cannot be written
+    */
+   public void append(String expression, String result) throws IOException {
+      writer.reset();
+      writer.writeBytes(expression.getBytes(StandardCharsets.UTF_8));
+      writer.writeBytes(result.getBytes(StandardCharsets.UTF_8));
+      writeFully(data, ByteBuffer.wrap(writer.toByteArray()), dataLength);
+      dataLength += writer.length();
+      indexBuffer.clear();
+      indexBuffer.putLong(0, dataLength);
+      writeFully(index, indexBuffer, (long) size * Long.BYTES);
+      size++;
+   }
+
+   /**
+    * Reads range of entries
+    *
+    * @param from index of the first entry
+    * @param to   index after the last entry
+    * @return entries in order of appending
+    * @throws IOException               if entries cannot be read
+    * @throws IndexOutOfBoundsException if range is out of archive
+    */
+   public List<HistoryEntry> read(int from, int to) throws IOException {
+      if (from < 0 || from > to || to > size) {
+         throw new IndexOutOfBoundsException("Range " + from + ".." + to + " is out of archive of " + size);
+      }
+      int first = Math.max(from - 1, 0);
+      ByteBuffer ends = ByteBuffer.allocate((to - first) * Long.BYTES);
+      readFully(index, ends, (long) first * Long.BYTES);
+      long start = from == 0 ? 0 : ends.getLong(0);
+      long end = to == 0 ? 0 : ends.getLong(ends.capacity() - Long.BYTES);
+      ByteBuffer entries = ByteBuffer.allocate(Math.toIntExact(end - start));
+      readFully(data, entries, start);
+      List<HistoryEntry> read = new ArrayList<>(to - from);
+      int entryStart = 0;
+      for (int i = from; i < to; i++) {
+         int entryEnd = (int) (ends.getLong((i - first) * Long.BYTES) - start);
+         StateReader reader = new StateReader(entries, entryStart, entryEnd);
+         read.add(new HistoryEntry(new String(reader.readBytes(), StandardCharsets.UTF_8),
+                 new String(reader.readBytes(), StandardCharsets.UTF_8)));
+         entryStart = entryEnd;
+      }
+      return read;
+   }
+
+   /**
+    * Returns count of entries
+    *
+    * @return count of readable entries
+    */
+   public int size() {
+      return size;
+   }
+
+   @Override
+   public void close() throws IOException {
+      try {
+         data.close();
+      } finally {
+         index.close();
+      }
+   }
+
+   /**
+    * Counts complete entries and cuts bytes after them
+    */
+   private void truncate() throws IOException {
+      long dataSize = data.size();
+      int count = (int) Math.min(index.size() / Long.BYTES, Integer.MAX_VALUE);
+      ByteBuffer end = ByteBuffer.allocate(Long.BYTES);
+      while (count > 0) {
+         end.clear();
+         readFully(index, end, (long) (count - 1) * Long.BYTES);
+         if (end.getLong(0) <= dataSize) {
+            break;
+         }
+         count--;
+      }
+      size = count;
+      dataLength = count == 0 ? 0 : end.getLong(0);
+      index.truncate((long) count * Long.BYTES);
+      data.truncate(dataLength);
+   }
+
+   private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+      while (buffer.hasRemaining()) {
+         position += channel.write(buffer, position);
+      }
+   }
+
+   private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+      while (buffer.hasRemaining()) {
+         int read = channel.read(buffer, position);
+         if (read < 0) {
+            throw new EOFException("Archive ends at " + position);
+         }
+         position += read;
+      }
+   }
+}
@@ -0,0 +1,193 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Key;
+import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
+import com.luqqorp.calculator.model.exceptions.InvalidInputException;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Calculation which appends every input to memory-mapped journal before it is handled,
+ * so the last session is rebuilt after the application is restarted or crashed.
+ * Journal keeps periodic snapshots, recovery replays only records after the latest of them.
+ * Calculation is changed by one thread at a time, as the plain one
+ */
+public class JournaledCalculation extends Calculation implements Closeable {
+   /**
+    * Default length of journal file
+    */
+   public static final int DEFAULT_CAPACITY = 4 << 20;
+   private static final int SNAPSHOT_INTERVAL = 1024;
+   private static final int FORCE_INTERVAL = 256;
+
+   /**
+    * Journal of inputs, null while journal is replayed
+    */
+   private CalculationJournal journal;
+   /**
+    * Count of records replayed after the latest snapshot, -1 if there was no journal
+    */
+   @Getter
+   private int replayedRecords;
+
+   private JournaledCalculation() {
+   }
+
+   /**
+    * Rebuilds calculation of fixed scale precision from journal or starts a new one
+    *
+    * @param file path of journal, files of its generations have numeric suffixes
+    * @return recovered calculation
+    * @throws IOException if journal cannot be read or written
+    */
+   public static JournaledCalculation open(Path file) throws IOException {
+      return open(file, DEFAULT_CAPACITY);
+   }
+
+   /**
+    * Rebuilds calculation of fixed scale precision from journal or starts a new one
+    *
+    * @param file     path of journal, files of its generations have numeric suffixes
+    * @param capacity length of journal file, full journal is continued by a new file
+    * @return recovered calculation
+    * @throws IOException if journal cannot be read or written
+    */
+   public static JournaledCalculation open(Path file, int capacity) throws IOException {
+      return open(file, capacity, SNAPSHOT_INTERVAL, FORCE_INTERVAL);
+   }
+
+   /**
+    * Rebuilds calculation from journal with adjusted intervals
+    *
+    * @param file             path of journal, files of its generations have numeric suffixes
+    * @param capacity         length of journal file, full journal is continued by a new file
+    * @param snapshotInterval count of records between snapshots, recovery replays at most this count
+    * @param forceInterval    count of records between forces of journal to disk
+    * @return recovered calculation
+    * @throws IOException if journal cannot be read or written
+    */
+   public static JournaledCalculation open(Path file, int capacity, int snapshotInterval, int forceInterval) throws IOException {
+      JournaledCalculation calculation = new JournaledCalculation();
+      calculation.replayedRecords = CalculationJournal.recover(file, calculation);
+      calculation.journal = CalculationJournal.start(file, calculation, capacity, snapshotInterval, forceInterval);
+      return calculation;
+   }
+
+   @Override
+   public void editCurrentDecimal(BigDecimal unit) {
+      if (journal != null) {
+         journal.appendNumber(unit);
+      }
+      super.editCurrentDecimal(unit);
+   }
+
+   @Override
+   public BigDecimal createOperation(Operator operator) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      if (journal != null) {
+         journal.appendOperation(operator);
+      }
+      return super.createOperation(operator);
+   }
+
+   @Override
+   public BigDecimal getResultDecimal() throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      if (journal != null) {
+         journal.appendKey(Key.EQUALS);
+      }
+      return super.getResultDecimal();
+   }
+
+   /**
+    * {@inheritDoc}
+    * Cancelled repeats are followed by snapshot, because replay would not stop at the same equals
+    */
+   @Override
+   public BigDecimal repeatResultDecimal(long count) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      if (journal == null) {
+         return super.repeatResultDecimal(count);
+      }
+      journal.appendRepeat(count);
+      try {
+         return super.repeatResultDecimal(count);
+      } catch (CancellationException e) {
+         journal.appendSnapshot();
+         throw e;
+      }
+   }
+
+   @Override
+   public BigDecimal clearEnter() {
+      if (journal != null) {
+         journal.appendKey(Key.CLEAR_ENTER);
+      }
+      return super.clearEnter();
+   }
+
+   @Override
+   public BigDecimal setCurrentDecimalFromMemory() {
+      if (journal != null) {
+         journal.appendKey(Key.MEMORY_RECALL);
+      }
+      return super.setCurrentDecimalFromMemory();
+   }
+
+   @Override
+   public BigDecimal memoryAdd() {
+      if (journal != null) {
+         journal.appendKey(Key.MEMORY_ADD);
+      }
+      return super.memoryAdd();
+   }
+
+   @Override
+   public BigDecimal memorySubstract() {
+      if (journal != null) {
+         journal.appendKey(Key.MEMORY_SUBTRACT);
+      }
+      return super.memorySubstract();
+   }
+
+   @Override
+   public BigDecimal memoryClear() {
+      if (journal != null) {
+         journal.appendKey(Key.MEMORY_CLEAR);
+      }
+      return super.memoryClear();
+   }
+
+   @Override
+   public BigDecimal clearAll() {
+      if (journal != null) {
+         journal.appendKey(Key.CLEAR);
+      }
+      return super.clearAll();
+   }
+
+   /**
+    * {@inheritDoc}
+    * Restored state is appended to journal as snapshot
+    */
+   @Override
+   public void restore(CalculationSnapshot snapshot) {
+      super.restore(snapshot);
+      if (journal != null) {
+         journal.appendSnapshot();
+      }
+   }
+
+   /**
+    * Forces journal to disk, calculation should not be changed after it
+    */
+   @Override
+   public void close() {
+      journal.close();
+   }
+}
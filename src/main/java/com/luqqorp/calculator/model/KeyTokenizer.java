@@ -0,0 +1,161 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Key;
+
+import java.math.BigDecimal;
+
+/**
+ * This class reads keys of expression text one by one, keys are separated by whitespaces,
+ * e.g. "71 + = =". Numbers are written as decimals, e.g. "0.5" or "1e5",
+ * or as names of parameters, e.g. "rate", which start with a letter and are not key signs.
+ * Tokenizer keeps no parts of text, so it is reused for every text
+ */
+public final class KeyTokenizer {
+   /**
+    * Maximum digits of number that is parsed as long
+    */
+   private static final int LONG_DIGITS = 18;
+
+   /**
+    * Read expression text
+    */
+   private String text = "";
+   /**
+    * Index of the next char to read
+    */
+   private int position;
+   /**
+    * Index of the first char of the last read key
+    */
+   private int start;
+   /**
+    * The last read key
+    */
+   private Key key;
+   /**
+    * Value of the last read number
+    */
+   private BigDecimal number;
+   /**
+    * Name of the last read parameter
+    */
+   private String parameter;
+
+   /**
+    * Starts reading of expression text
+    *
+    * @param text adjusted expression text
+    * @return this tokenizer
+    */
+   public KeyTokenizer reset(String text) {
+      this.text = text;
+      this.position = 0;
+      this.key = null;
+      this.number = null;
+      this.parameter = null;
+      return this;
+   }
+
+   /**
+    * Reads the next key of text
+    *
+    * @return true if key is read, false if text is over
+    * @throws IllegalArgumentException if part of text is neither key sign nor number
+    */
+   public boolean next() {
+      int length = text.length();
+      while (position < length && Character.isWhitespace(text.charAt(position))) {
+         position++;
+      }
+      number = null;
+      parameter = null;
+      if (position == length) {
+         key = null;
+         return false;
+      }
+      start = position;
+      while (position < length && !Character.isWhitespace(text.charAt(position))) {
+         position++;
+      }
+      key = Key.ofSign(text, start, position);
+      if (key == null) {
+         key = Key.NUMBER;
+         if (Character.isLetter(text.charAt(start))) {
+            parameter = text.substring(start, position);
+         } else {
+            number = parseNumber(start, position);
+         }
+      }
+      return true;
+   }
+
+   /**
+    * Returns the last read key
+    *
+    * @return key, {@link Key#NUMBER} for number
+    */
+   public Key getKey() {
+      return key;
+   }
+
+   /**
+    * Returns the last read number
+    *
+    * @return value of number or null if the last read key is not a number or it is a parameter
+    */
+   public BigDecimal getNumber() {
+      return number;
+   }
+
+   /**
+    * Returns the last read parameter
+    *
+    * @return name of parameter or null if the last read key is not a parameter
+    */
+   public String getParameter() {
+      return parameter;
+   }
+
+   /**
+    * Parses number, short plain numbers are parsed as scaled long without copy of text
+    *
+    * @param from index of the first char of number
+    * @param to   index after the last char of number
+    * @return value of number
+    * @throws IllegalArgumentException if part of text is not a number
+    */
+   private BigDecimal parseNumber(int from, int to) {
+      long unscaled = 0;
+      int digits = 0;
+      int scale = -1;
+      for (int i = from; i < to; i++) {
+         char c = text.charAt(i);
+         if (c >= '0' && c <= '9' && digits < LONG_DIGITS) {
+            unscaled = unscaled * 10 + (c - '0');
+            digits++;
+            if (scale >= 0) {
+               scale++;
+            }
+         } else if (c == '.' && scale < 0) {
+            scale = 0;
+         } else {
+            return parseDecimal(from, to);
+         }
+      }
+      if (digits == 0) {
+         return parseDecimal(from, to);
+      }
+      return BigDecimal.valueOf(unscaled, Math.max(scale, 0));
+   }
+
+   /**
+    * Parses number of any length by BigDecimal
+    */
+   private BigDecimal parseDecimal(int from, int to) {
+      try {
+         return new BigDecimal(text.substring(from, to));
+      } catch (NumberFormatException e) {
+         throw new IllegalArgumentException("Unknown key: " + text.substring(from, to), e);
+      }
+   }
+}
@@ -0,0 +1,216 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.ProgramPlan.Instruction;
+import com.luqqorp.calculator.model.data.Key;
+import com.luqqorp.calculator.model.data.Operator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class compiles keystroke programs, e.g. "x × rate + fee =", into plans.
+ * Keys of program are passed through the same transitions of {@link CalculationState}
+ * as keys pressed in {@link Calculation}, so plan keeps only operations that calculation
+ * performs for these keys. Zero result of equals is not known before execution,
+ * so percent after equals is checked by plan.
+ * Compiled plans are cached by program text, compiler is thread-safe
+ */
+public class ProgramCompiler {
+   /**
+    * Maximum count of cached plans, plans of other programs are compiled on every call
+    */
+   private static final int MAX_CACHED_PLANS = 1024;
+
+   /**
+    * Compiled plans by program text
+    */
+   private final Map<String, ProgramPlan> plans = new ConcurrentHashMap<>();
+
+   /**
+    * Returns cached plan of program or compiles it
+    *
+    * @param program adjusted program text, keys are separated by whitespaces,
+    *                names of parameters start with a letter
+    * @return compiled plan
+    * @throws IllegalArgumentException if program has unknown key
+    */
+   public ProgramPlan compile(String program) {
+      ProgramPlan plan = plans.get(program);
+      if (plan == null) {
+         plan = new Compilation(program).compile();
+         if (plans.size() < MAX_CACHED_PLANS) {
+            plans.putIfAbsent(program, plan);
+         }
+      }
+      return plan;
+   }
+
+   /**
+    * Single compilation of program, it keeps states of calculation after compiled keys
+    */
+   private static class Compilation {
+      private final String program;
+      private final List<String> parameters = new ArrayList<>();
+      private final List<BigDecimal> numbers = new ArrayList<>();
+      private final List<Instruction> instructions = new ArrayList<>();
+      private final List<Operator> operators = new ArrayList<>();
+      private final List<Boolean> newOperations = new ArrayList<>();
+      private final List<Integer> slots = new ArrayList<>();
+      private boolean memoryResult;
+
+      /**
+       * State of calculation after compiled keys, {@link CalculationState#ZERO_PERCENT} is never set
+       */
+      private int state = CalculationState.INITIAL;
+      private Operator prevOperator = null;
+
+      private Compilation(String program) {
+         this.program = program;
+      }
+
+      private ProgramPlan compile() {
+         KeyTokenizer tokenizer = new KeyTokenizer().reset(program);
+         while (tokenizer.next()) {
+            memoryResult = false;
+            Key key = tokenizer.getKey();
+            if (key == Key.NUMBER) {
+               load(tokenizer.getNumber(), tokenizer.getParameter());
+            } else if (key.operator != null) {
+               operation(key.operator);
+            } else {
+               key(key);
+            }
+         }
+         return new ProgramPlan(program, parameters, numbers, instructions, operators, newOperations, slots, memoryResult);
+      }
+
+      /**
+       * Compiles edit of current decimal by number or parameter
+       */
+      private void load(BigDecimal number, String parameter) {
+         int slot;
+         if (parameter == null) {
+            numbers.add(number);
+            slot = -numbers.size();
+         } else {
+            slot = parameters.indexOf(parameter);
+            if (slot < 0) {
+               parameters.add(parameter);
+               slot = parameters.size() - 1;
+            }
+         }
+         emit(Instruction.LOAD, null, slot);
+         changeState(CalculationState.EDIT);
+      }
+
+      /**
+       * Compiles operation as {@link Calculation#createOperation(Operator)} handles it
+       */
+      private void operation(Operator operator) {
+         emit(Instruction.SET_VALUES);
+         compileSteps(CalculationState.keyClass(operator), operator);
+      }
+
+      /**
+       * Compiles keys that are not operations as calculation handles them
+       */
+      private void key(Key key) {
+         switch (key) {
+            case EQUALS:
+               compileSteps(CalculationState.EQUALS, null);
+               break;
+            case CLEAR_ENTER:
+               emit(Instruction.CLEAR_ENTER);
+               changeState(CalculationState.CLEAR_ENTER);
+               break;
+            case CLEAR:
+               emit(Instruction.CLEAR);
+               prevOperator = null;
+               changeState(CalculationState.CLEAR);
+               break;
+            case MEMORY_ADD:
+               emit(Instruction.MEMORY_ADD);
+               memoryResult = true;
+               break;
+            case MEMORY_SUBTRACT:
+               emit(Instruction.MEMORY_SUBTRACT);
+               memoryResult = true;
+               break;
+            case MEMORY_RECALL:
+               emit(Instruction.MEMORY_RECALL);
+               changeState(CalculationState.MEMORY_VALUE);
+               break;
+            case MEMORY_CLEAR:
+               emit(Instruction.MEMORY_CLEAR);
+               changeState(CalculationState.MEMORY_VALUE);
+               memoryResult = true;
+               break;
+            default:
+               throw new IllegalArgumentException("Unknown key: " + key);
+         }
+      }
+
+      /**
+       * Compiles steps of transition that change values, history steps are skipped
+       *
+       * @param keyClass class of compiled key
+       * @param operator operator of key or null for equals
+       */
+      private void compileSteps(int keyClass, Operator operator) {
+         int steps = CalculationState.steps(CalculationState.transition(state, keyClass));
+         if ((steps & CalculationState.SET_VALUES) != 0) {
+            emit(Instruction.SET_VALUES);
+         }
+         if ((steps & CalculationState.SAVE_PREVIOUS) != 0) {
+            emit(Instruction.SAVE_PREVIOUS);
+         }
+         if ((steps & CalculationState.SET_PREVIOUS_VALUES) != 0) {
+            emit(Instruction.SET_PREVIOUS_VALUES);
+         }
+         if ((steps & CalculationState.RESOLVE_PREVIOUS) != 0) {
+            emit(Instruction.RESOLVE, prevOperator, 0);
+         }
+         if ((steps & CalculationState.RESOLVE_CURRENT) != 0) {
+            if (operator == Operator.PERCENT) {
+               emit(Instruction.PERCENT);
+            } else {
+               emit(Instruction.RESOLVE, operator, 0);
+            }
+         }
+         if ((steps & CalculationState.ZERO_VALUE) != 0) {
+            emit(Instruction.ZERO_PERCENT);
+         }
+         if ((steps & CalculationState.SET_VALUES_AFTER) != 0) {
+            emit(Instruction.SET_VALUES);
+         }
+         if ((steps & CalculationState.SAVE_OPERATOR) != 0) {
+            prevOperator = operator;
+         }
+         if ((steps & CalculationState.EQUALS_DONE) != 0) {
+            emit(Instruction.EQUALS_DONE);
+         }
+         changeState(keyClass);
+      }
+
+      private void changeState(int keyClass) {
+         state = CalculationState.nextState(CalculationState.transition(state, keyClass));
+      }
+
+      private void emit(Instruction instruction) {
+         emit(instruction, null, 0);
+      }
+
+      /**
+       * Adds instruction, resolve and percent instructions keep current state of operation
+       */
+      private void emit(Instruction instruction, Operator operator, int slot) {
+         instructions.add(instruction);
+         operators.add(operator);
+         newOperations.add((state & CalculationState.OPERATION_NEW) != 0);
+         slots.add(slot);
+      }
+   }
+}
@@ -0,0 +1,251 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
+import com.luqqorp.calculator.model.exceptions.InvalidInputException;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
+import com.luqqorp.calculator.model.handler.ExpressionResolver;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * This class represent compiled keystroke program, e.g. "x × rate + fee =",
+ * as a sequence of {@link ExpressionResolver} operations with operand slots.
+ * States of calculation that decide operations are resolved once by {@link ProgramCompiler},
+ * only check of zero result for percent is left for execution.
+ * Plan is immutable and keeps no values of execution, so it is shared by all threads.
+ * Plan gives the same result and throws the same exception as calculation that is cleared
+ * and gets the same keys, history of expression is not kept
+ */
+public final class ProgramPlan {
+
+   /**
+    * This enum lists instructions of plan
+    */
+   enum Instruction {
+      /**
+       * Sets number or argument of slot as current decimal
+       */
+      LOAD,
+      /**
+       * Sets current decimal as the next operand of resolver
+       */
+      SET_VALUES,
+      /**
+       * Sets previous decimal as the next operand of resolver
+       */
+      SET_PREVIOUS_VALUES,
+      /**
+       * Keeps current decimal as previous decimal for repeated equals
+       */
+      SAVE_PREVIOUS,
+      /**
+       * Resolves operator and sets its result as current decimal
+       */
+      RESOLVE,
+      /**
+       * Resolves percent if previous result is not zero, otherwise sets zero as current decimal
+       */
+      PERCENT,
+      /**
+       * Sets zero as current decimal and as the next operand of resolver
+       */
+      ZERO_PERCENT,
+      /**
+       * Keeps if result of equals is zero for the next percent
+       */
+      EQUALS_DONE,
+      /**
+       * Sets zero as current decimal
+       */
+      CLEAR_ENTER,
+      /**
+       * Clears all values except memory and creates a new resolver
+       */
+      CLEAR,
+      MEMORY_ADD,
+      MEMORY_SUBTRACT,
+      MEMORY_RECALL,
+      MEMORY_CLEAR
+   }
+
+   /**
+    * Compiled program text
+    */
+   private final String program;
+   /**
+    * Names of parameters in order of their slots
+    */
+   private final List<String> parameters;
+   /**
+    * Numbers of program, they are loaded by negative slots from -1
+    */
+   private final BigDecimal[] numbers;
+   private final Instruction[] instructions;
+   /**
+    * Operators of resolve instructions
+    */
+   private final Operator[] operators;
+   /**
+    * Shows if operation is new for resolve and percent instructions
+    */
+   private final boolean[] newOperations;
+   /**
+    * Slots of load instructions, non-negative for arguments and negative for numbers
+    */
+   private final int[] slots;
+   /**
+    * Shows if the last key returns memory instead of current decimal
+    */
+   private final boolean memoryResult;
+
+   ProgramPlan(String program, List<String> parameters, List<BigDecimal> numbers, List<Instruction> instructions,
+               List<Operator> operators, List<Boolean> newOperations, List<Integer> slots, boolean memoryResult) {
+      this.program = program;
+      this.parameters = Collections.unmodifiableList(new ArrayList<>(parameters));
+      this.numbers = numbers.toArray(new BigDecimal[0]);
+      this.instructions = instructions.toArray(new Instruction[0]);
+      this.operators = operators.toArray(new Operator[0]);
+      this.newOperations = new boolean[newOperations.size()];
+      this.slots = new int[slots.size()];
+      for (int i = 0; i < this.instructions.length; i++) {
+         this.newOperations[i] = newOperations.get(i);
+         this.slots[i] = slots.get(i);
+      }
+      this.memoryResult = memoryResult;
+   }
+
+   /**
+    * Executes plan of decimal operands
+    *
+    * @param arguments values of parameters in order of {@link #getParameters()}
+    * @return value returned by the last key
+    * @throws IllegalArgumentException    if count of arguments is not count of parameters
+    * @throws CannotDivideByZeroException to indicate that program divides by zero
+    * @throws ResultIsUndefinedException  to indicate that program divides zero by zero
+    * @throws InvalidInputException       to indicate that program gets square root from negative number
+    * @throws OverflowException           to indicate that program reaches overflow
+    */
+   public BigDecimal execute(BigDecimal... arguments) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      return execute(false, arguments);
+   }
+
+   /**
+    * Executes plan in adjusted mode, as calculation constructed with it
+    *
+    * @param exactMode if true, operands are resolved as exact rational values
+    * @param arguments values of parameters in order of {@link #getParameters()}
+    * @return value returned by the last key
+    * @throws IllegalArgumentException    if count of arguments is not count of parameters
+    * @throws CannotDivideByZeroException to indicate that program divides by zero
+    * @throws ResultIsUndefinedException  to indicate that program divides zero by zero
+    * @throws InvalidInputException       to indicate that program gets square root from negative number
+    * @throws OverflowException           to indicate that program reaches overflow
+    */
+   public BigDecimal execute(boolean exactMode, BigDecimal... arguments)
+           throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      if (arguments.length != parameters.size()) {
+         throw new IllegalArgumentException("Program " + program + " expects parameters " + parameters
+                 + ", but got " + arguments.length + " arguments");
+      }
+      ExpressionResolver resolver = new ExpressionResolver(exactMode);
+      BigDecimal currentDecimal = ZERO;
+      BigDecimal prevDecimal = ZERO;
+      BigDecimal memoryDecimal = ZERO;
+      boolean zeroPercent = false;
+      for (int i = 0; i < instructions.length; i++) {
+         switch (instructions[i]) {
+            case LOAD:
+               currentDecimal = slots[i] >= 0 ? arguments[slots[i]] : numbers[-slots[i] - 1];
+               break;
+            case SET_VALUES:
+               resolver.setValues(currentDecimal);
+               break;
+            case SET_PREVIOUS_VALUES:
+               resolver.setValues(prevDecimal);
+               break;
+            case SAVE_PREVIOUS:
+               prevDecimal = currentDecimal;
+               break;
+            case RESOLVE:
+               currentDecimal = resolver.resolve(operators[i], newOperations[i]);
+               break;
+            case PERCENT:
+               if (!zeroPercent) {
+                  currentDecimal = resolver.resolve(Operator.PERCENT, newOperations[i]);
+                  break;
+               }
+               currentDecimal = ZERO;
+               resolver.setValues(currentDecimal);
+               break;
+            case ZERO_PERCENT:
+               currentDecimal = ZERO;
+               resolver.setValues(currentDecimal);
+               break;
+            case EQUALS_DONE:
+               zeroPercent = currentDecimal.compareTo(ZERO) == 0;
+               break;
+            case CLEAR_ENTER:
+               currentDecimal = ZERO;
+               break;
+            case CLEAR:
+               resolver = new ExpressionResolver(exactMode);
+               currentDecimal = ZERO;
+               prevDecimal = ZERO;
+               zeroPercent = false;
+               break;
+            case MEMORY_ADD:
+               memoryDecimal = memoryDecimal.add(currentDecimal);
+               break;
+            case MEMORY_SUBTRACT:
+               memoryDecimal = memoryDecimal.subtract(currentDecimal);
+               break;
+            case MEMORY_RECALL:
+               currentDecimal = memoryDecimal;
+               break;
+            case MEMORY_CLEAR:
+               memoryDecimal = ZERO;
+               break;
+         }
+      }
+      return memoryResult ? memoryDecimal : currentDecimal;
+   }
+
+   /**
+    * Returns names of parameters in order of their first use in program
+    *
+    * @return unmodifiable list of names
+    */
+   public List<String> getParameters() {
+      return parameters;
+   }
+
+   /**
+    * Returns count of resolver operations and other instructions of plan
+    *
+    * @return count of instructions
+    */
+   public int size() {
+      return instructions.length;
+   }
+
+   @Override
+   public String toString() {
+      StringBuilder sb = new StringBuilder(program).append(':');
+      for (int i = 0; i < instructions.length; i++) {
+         sb.append(' ').append(instructions[i]);
+         if (instructions[i] == Instruction.RESOLVE) {
+            sb.append('(').append(operators[i]).append(')');
+         } else if (instructions[i] == Instruction.LOAD) {
+            sb.append('(').append(slots[i] >= 0 ? parameters.get(slots[i]) : numbers[-slots[i] - 1]).append(')');
+         }
+      }
+      return sb.toString();
+   }
+}
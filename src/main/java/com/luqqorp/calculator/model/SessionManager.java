@@ -0,0 +1,278 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
+import com.luqqorp.calculator.model.exceptions.InvalidInputException;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * This class keeps independent calculation sessions by id.
+ * Every session is changed by one thread at a time under its own monitor,
+ * sessions of different ids never wait for each other.
+ * Sessions which are idle longer than timeout or the least recently used ones
+ * over limit of live sessions are evicted by {@link #evictIdle()} into
+ * {@link CalculationSnapshot} and are restored on the next access
+ */
+public class SessionManager {
+   /**
+    * Limit of live sessions without limit
+    */
+   public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+   /**
+    * This interface presents an action with calculation of session
+    *
+    * @param <T> type of result
+    */
+   @FunctionalInterface
+   public interface SessionAction<T> {
+      T apply(Calculation calculation) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException;
+   }
+
+   /**
+    * Live session, calculation is null after session is evicted or closed
+    */
+   private static final class Session {
+      private Calculation calculation;
+      private volatile long lastAccess;
+
+      private Session(Calculation calculation, long lastAccess) {
+         this.calculation = calculation;
+         this.lastAccess = lastAccess;
+      }
+   }
+
+   /**
+    * Creates calculations of new and restored sessions, all of them have the same configuration
+    */
+   private final Supplier<Calculation> calculationFactory;
+   /**
+    * Maximum count of live sessions after eviction
+    */
+   private final int maxLiveSessions;
+   /**
+    * Nanoseconds of idle time after which session is evicted
+    */
+   private final long idleTimeout;
+   /**
+    * Source of nanoseconds of session access
+    */
+   private final LongSupplier clock;
+   private final ConcurrentHashMap<Long, Session> liveSessions = new ConcurrentHashMap<>();
+   /**
+    * Snapshots of evicted sessions
+    */
+   private final ConcurrentHashMap<Long, CalculationSnapshot> evictedSessions = new ConcurrentHashMap<>();
+   private final AtomicLong nextId = new AtomicLong();
+
+   /**
+    * Constructs manager of sessions with fixed scale calculations and without eviction
+    */
+   public SessionManager() {
+      this(Calculation::new, UNBOUNDED, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * Constructs manager of sessions
+    *
+    * @param calculationFactory creates calculations of sessions
+    * @param maxLiveSessions    maximum count of live sessions after eviction
+    * @param idleTimeout        idle time after which session is evicted
+    * @param unit               unit of idle time
+    */
+   public SessionManager(Supplier<Calculation> calculationFactory, int maxLiveSessions, long idleTimeout, TimeUnit unit) {
+      this(calculationFactory, maxLiveSessions, unit.toNanos(idleTimeout), System::nanoTime);
+   }
+
+   /**
+    * Constructs manager of sessions with adjusted clock
+    *
+    * @param calculationFactory creates calculations of sessions
+    * @param maxLiveSessions    maximum count of live sessions after eviction
+    * @param idleTimeout        nanoseconds of idle time after which session is evicted
+    * @param clock              source of nanoseconds of session access
+    */
+   SessionManager(Supplier<Calculation> calculationFactory, int maxLiveSessions, long idleTimeout, LongSupplier clock) {
+      if (maxLiveSessions < 0) {
+         throw new IllegalArgumentException("Limit of live sessions should not be negative: " + maxLiveSessions);
+      }
+      this.calculationFactory = calculationFactory;
+      this.maxLiveSessions = maxLiveSessions;
+      this.idleTimeout = idleTimeout;
+      this.clock = clock;
+   }
+
+   /**
+    * Creates a new session
+    *
+    * @return id of session
+    */
+   public long create() {
+      long id = nextId.getAndIncrement();
+      liveSessions.put(id, new Session(calculationFactory.get(), clock.getAsLong()));
+      return id;
+   }
+
+   /**
+    * Applies action to calculation of session, evicted session is restored before.
+    * Actions of the same session run one by one, actions of different sessions run in parallel
+    *
+    * @param id     id of session
+    * @param action action with calculation, it should not keep calculation after return
+    * @param <T>    type of result
+    * @return result of action
+    * @throws NoSuchElementException if session is not created or is closed
+    */
+   public <T> T apply(long id, SessionAction<T> action) throws OverflowException, CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
+      while (true) {
+         Session session = liveSessions.get(id);
+         if (session == null) {
+            session = restore(id);
+         }
+         synchronized (session) {
+            if (session.calculation != null) {
+               session.lastAccess = clock.getAsLong();
+               return action.apply(session.calculation);
+            }
+         }
+      }
+   }
+
+   /**
+    * Removes session
+    *
+    * @param id id of session
+    * @return true if session was live or evicted
+    */
+   public boolean close(long id) {
+      boolean closed = false;
+      while (true) {
+         Session session = liveSessions.get(id);
+         if (session == null) {
+            // snapshot is removed atomically with restore of the same session
+            boolean[] removed = {false};
+            session = liveSessions.computeIfAbsent(id, key -> {
+               removed[0] = evictedSessions.remove(key) != null;
+               return null;
+            });
+            if (session == null) {
+               return closed || removed[0];
+            }
+         }
+         synchronized (session) {
+            if (session.calculation != null) {
+               session.calculation = null;
+               closed = true;
+            }
+         }
+         liveSessions.remove(id, session);
+      }
+   }
+
+   /**
+    * Evicts sessions which are idle longer than timeout, then the least recently used
+    * sessions over limit of live sessions. Session which is accessed during eviction stays live.
+    * Should be called periodically, e.g. by a scheduled executor
+    *
+    * @return count of evicted sessions
+    */
+   public int evictIdle() {
+      long idleAccess = clock.getAsLong() - idleTimeout;
+      int evicted = 0;
+      for (Long id : liveSessions.keySet()) {
+         if (evict(id, idleAccess)) {
+            evicted++;
+         }
+      }
+      int excess = liveSessions.size() - maxLiveSessions;
+      if (excess > 0) {
+         long[] accesses = liveSessions.values().stream().mapToLong(session -> session.lastAccess).toArray();
+         Arrays.sort(accesses);
+         long leastRecentAccess = accesses[Math.min(excess, accesses.length) - 1];
+         for (Long id : liveSessions.keySet()) {
+            if (excess == 0) {
+               break;
+            }
+            if (evict(id, leastRecentAccess)) {
+               evicted++;
+               excess--;
+            }
+         }
+      }
+      return evicted;
+   }
+
+   /**
+    * Shows if session is live or evicted
+    *
+    * @param id id of session
+    * @return true if session is not closed
+    */
+   public boolean contains(long id) {
+      return liveSessions.containsKey(id) || evictedSessions.containsKey(id);
+   }
+
+   public int liveCount() {
+      return liveSessions.size();
+   }
+
+   public int evictedCount() {
+      return evictedSessions.size();
+   }
+
+   /**
+    * Takes snapshot of session if it is not accessed after adjusted time.
+    * Session monitor is not held inside operations of map, so a long action blocks only its own session
+    *
+    * @param id         id of session
+    * @param lastAccess the latest access of evicted session
+    * @return true if session is evicted
+    */
+   private boolean evict(long id, long lastAccess) {
+      Session session = liveSessions.get(id);
+      if (session == null) {
+         return false;
+      }
+      synchronized (session) {
+         if (session.calculation == null || session.lastAccess - lastAccess > 0) {
+            return false;
+         }
+         // snapshot is published before session is unlinked, so restore always finds it
+         evictedSessions.put(id, session.calculation.snapshot());
+         session.calculation = null;
+      }
+      liveSessions.remove(id, session);
+      return true;
+   }
+
+   /**
+    * Makes evicted session live again
+    *
+    * @param id id of session
+    * @return restored session or session restored by another thread
+    * @throws NoSuchElementException if session is not created or is closed
+    */
+   private Session restore(long id) {
+      Session session = liveSessions.computeIfAbsent(id, key -> {
+         CalculationSnapshot snapshot = evictedSessions.remove(key);
+         if (snapshot == null) {
+            return null;
+         }
+         Calculation calculation = calculationFactory.get();
+         calculation.restore(snapshot);
+         return new Session(calculation, clock.getAsLong());
+      });
+      if (session == null) {
+         throw new NoSuchElementException("No session " + id);
+      }
+      return session;
+   }
+}
@@ -2,14 +2,29 @@ package com.luqqorp.calculator.model.data;
 
 import lombok.Data;
 
-import java.util.LinkedList;
-
 /**
  * The class represent the history, that stores a list of values with operations on them
  * in time sequence of expression.
  */
 @Data
 public class History {
-   private LinkedList<HistoryUnit> historyUnits = new LinkedList<>();
+   private HistoryStore historyUnits;
+
+   /**
+    * Constructs history without limit of units
+    */
+   public History() {
+      this(HistoryStore.UNBOUNDED, HistoryStore.OverflowPolicy.DROP_OLDEST);
+   }
+
+   /**
+    * Constructs history with limit of units
+    *
+    * @param capacity       maximum count of kept units
+    * @param overflowPolicy action with a new unit, when history is full
+    */
+   public History(int capacity, HistoryStore.OverflowPolicy overflowPolicy) {
+      historyUnits = new HistoryStore(capacity, overflowPolicy);
+   }
 
 }
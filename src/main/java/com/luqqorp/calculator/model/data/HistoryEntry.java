@@ -0,0 +1,19 @@
+package com.luqqorp.calculator.model.data;
+
+import lombok.Data;
+
+/**
+ * This class represent a completed calculation in archive of history:
+ * texts of its expression and its result as they were displayed
+ */
+@Data
+public final class HistoryEntry {
+   /**
+    * Expression as it was shown in history, e.g. "5 + 3 ="
+    */
+   private final String expression;
+   /**
+    * Result as it was shown on main label, e.g. "8" or "0.3333333333333333"
+    */
+   private final String result;
+}
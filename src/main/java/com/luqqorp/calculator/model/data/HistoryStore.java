@@ -0,0 +1,192 @@
+package com.luqqorp.calculator.model.data;
+
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * This class stores history units in a growable circular array.
+ * Units are appended, read and removed at the end in constant time,
+ * count of units can be limited by capacity, then overflow policy
+ * decides what happens with a new unit
+ */
+public class HistoryStore {
+   /**
+    * Capacity of store without limit
+    */
+   public static final int UNBOUNDED = Integer.MAX_VALUE;
+   /**
+    * Length of array of a new store
+    */
+   private static final int INITIAL_LENGTH = 16;
+
+   /**
+    * This enum lists actions with a new unit, when store is full
+    */
+   public enum OverflowPolicy {
+      /**
+       * The oldest unit is removed to keep the new one
+       */
+      DROP_OLDEST,
+      /**
+       * The new unit is not kept and overflow is thrown
+       */
+      REJECT
+   }
+
+   /**
+    * Maximum count of kept units
+    */
+   @Getter
+   private final int capacity;
+   /**
+    * Action with a new unit, when store is full
+    */
+   @Getter
+   private final OverflowPolicy overflowPolicy;
+   /**
+    * Units in circular order from head
+    */
+   private HistoryUnit[] units;
+   /**
+    * Index of the first unit in array
+    */
+   private int head;
+   /**
+    * Count of kept units
+    */
+   private int size;
+   /**
+    * Count of the oldest units removed by overflow policy,
+    * lets history view shift views of kept units
+    */
+   @Getter
+   @Setter
+   private long droppedCount;
+
+   /**
+    * Constructs store without limit of units
+    */
+   public HistoryStore() {
+      this(UNBOUNDED, OverflowPolicy.DROP_OLDEST);
+   }
+
+   /**
+    * Constructs store with limit of units
+    *
+    * @param capacity       maximum count of kept units, at least one
+    * @param overflowPolicy action with a new unit, when store is full
+    */
+   public HistoryStore(int capacity, OverflowPolicy overflowPolicy) {
+      if (capacity < 1) {
+         throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+      }
+      this.capacity = capacity;
+      this.overflowPolicy = overflowPolicy;
+      this.units = new HistoryUnit[Math.min(capacity, INITIAL_LENGTH)];
+   }
+
+   /**
+    * Appends unit to the end of history
+    *
+    * @param historyUnit adjusted unit
+    * @throws OverflowException if store is full and overflow policy rejects new units
+    */
+   public void add(HistoryUnit historyUnit) throws OverflowException {
+      if (size == capacity) {
+         if (overflowPolicy == OverflowPolicy.REJECT) {
+            throw new OverflowException("history of " + capacity + " units");
+         }
+         units[head] = null;
+         head = position(1);
+         size--;
+         droppedCount++;
+      } else if (size == units.length) {
+         grow();
+      }
+      units[position(size)] = historyUnit;
+      size++;
+   }
+
+   /**
+    * Returns unit by its index in history
+    *
+    * @param index index from 0 for the oldest kept unit
+    * @return history unit
+    */
+   public HistoryUnit get(int index) {
+      if (index < 0 || index >= size) {
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+      return units[position(index)];
+   }
+
+   /**
+    * Returns the last unit of history
+    *
+    * @return the last unit
+    * @throws NoSuchElementException if store is empty
+    */
+   public HistoryUnit getLast() {
+      if (size == 0) {
+         throw new NoSuchElementException();
+      }
+      return units[position(size - 1)];
+   }
+
+   /**
+    * Removes the last unit of history
+    *
+    * @return removed unit or null if store is empty
+    */
+   public HistoryUnit pollLast() {
+      if (size == 0) {
+         return null;
+      }
+      int last = position(size - 1);
+      HistoryUnit historyUnit = units[last];
+      units[last] = null;
+      size--;
+      return historyUnit;
+   }
+
+   public int size() {
+      return size;
+   }
+
+   public boolean isEmpty() {
+      return size == 0;
+   }
+
+   @Override
+   public String toString() {
+      StringJoiner joiner = new StringJoiner(", ", "[", "]");
+      for (int i = 0; i < size; i++) {
+         joiner.add(String.valueOf(get(i)));
+      }
+      return joiner.toString();
+   }
+
+   /**
+    * Returns position in array of unit by its index in history
+    */
+   private int position(int index) {
+      int position = head + index;
+      return position < units.length ? position : position - units.length;
+   }
+
+   /**
+    * Doubles array up to capacity, units are moved to the start of array
+    */
+   private void grow() {
+      HistoryUnit[] grown = new HistoryUnit[(int) Math.min(capacity, 2L * units.length)];
+      int headLength = Math.min(size, units.length - head);
+      System.arraycopy(units, head, grown, 0, headLength);
+      System.arraycopy(units, 0, grown, headLength, size - headLength);
+      units = grown;
+      head = 0;
+   }
+}
@@ -3,8 +3,8 @@ package com.luqqorp.calculator.model.data;
 import lombok.*;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.StringJoiner;
 
 /**
  * This class represent a single unit in history of expression.
@@ -15,6 +15,11 @@ import java.util.List;
 @Data
 @RequiredArgsConstructor
 public class HistoryUnit {
+   /**
+    * Shared packed operators of unit without non-binary operations
+    */
+   private static final byte[] NO_OPERATORS = new byte[0];
+
    /**
     * The initial value of operations
     */
@@ -27,9 +32,71 @@ public class HistoryUnit {
    private Operator binary;
 
    /**
-    * List of performed non-binary operations
+    * Ordinals of performed non-binary operations packed in bytes,
+    * array is longer than count of operations to grow by doubling
+    */
+   @Getter(AccessLevel.NONE)
+   @Setter(AccessLevel.NONE)
+   @EqualsAndHashCode.Exclude
+   @ToString.Exclude
+   private byte[] nonBinaries = NO_OPERATORS;
+
+   /**
+    * Count of performed non-binary operations
+    */
+   @Setter(AccessLevel.NONE)
+   private int nonBinaryCount;
+
+   /**
+    * Count of changes of unit after it was added to history,
+    * lets history view find out units that need to be formed again
+    */
+   @EqualsAndHashCode.Exclude
+   private int version;
+
+   /**
+    * Returns performed non-binary operation
+    *
+    * @param index index of operation from 0 for the first performed one
+    * @return non-binary operator
+    */
+   public Operator getNonBinary(int index) {
+      if (index >= nonBinaryCount) {
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nonBinaryCount);
+      }
+      return Operator.ofOrdinal(nonBinaries[index]);
+   }
+
+   /**
+    * Adds performed non-binary operation
+    *
+    * @param operator adjusted non-binary operator
     */
-   private List<Operator> nonBinaries = new ArrayList<>();
+   public void addNonBinary(Operator operator) {
+      if (nonBinaryCount == nonBinaries.length) {
+         nonBinaries = Arrays.copyOf(nonBinaries, Math.max(4, nonBinaryCount * 2));
+      }
+      nonBinaries[nonBinaryCount++] = (byte) operator.ordinal();
+   }
 
+   /**
+    * Increases version of unit, should be called after value or operators of unit are changed
+    */
+   public void markChanged() {
+      version++;
+   }
+
+   /**
+    * Performed non-binary operations without unused bytes of packed array
+    */
+   @EqualsAndHashCode.Include
+   @ToString.Include(name = "nonBinaries")
+   private String nonBinaryList() {
+      StringJoiner joiner = new StringJoiner(", ", "[", "]");
+      for (int i = 0; i < nonBinaryCount; i++) {
+         joiner.add(Operator.ofOrdinal(nonBinaries[i]).name());
+      }
+      return joiner.toString();
+   }
 
 }
@@ -0,0 +1,75 @@
+package com.luqqorp.calculator.model.data;
+
+import java.util.Arrays;
+
+/**
+ * This enum lists calculator keys, which are written in expression text,
+ * e.g. "5 + 3 × 3 =" or "500 m+ mr"
+ */
+public enum Key {
+   NUMBER(null),
+   ADD(Operator.ADD, "+"),
+   SUBTRACT(Operator.SUBTRACT, "-"),
+   MULTIPLY(Operator.MULTIPLY, "×", "*"),
+   DIVIDE(Operator.DIVIDE, "÷", "/"),
+   SQUARE(Operator.SQUARE, "sqr"),
+   ONE_BY_X(Operator.ONE_BY_X, "1/x"),
+   PERCENT(Operator.PERCENT, "%"),
+   SQRT(Operator.SQRT, "√"),
+   NEGATE(Operator.NEGATE, "±"),
+   EQUALS(null, "="),
+   CLEAR_ENTER(null, "ce"),
+   CLEAR(null, "c"),
+   MEMORY_ADD(null, "m+"),
+   MEMORY_SUBTRACT(null, "m-"),
+   MEMORY_RECALL(null, "mr"),
+   MEMORY_CLEAR(null, "mc");
+
+   /**
+    * Keys that are written by signs
+    */
+   private static final Key[] SIGNED_KEYS = Arrays.copyOfRange(values(), 1, values().length);
+
+   /**
+    * Operator of key, null for keys that are not operations
+    */
+   public final Operator operator;
+   /**
+    * Signs of key in expression text, the first one is the main sign
+    */
+   private final String[] signs;
+
+   Key(Operator operator, String... signs) {
+      this.operator = operator;
+      this.signs = signs;
+   }
+
+   /**
+    * Returns the main sign of key
+    *
+    * @return sign, e.g. "×", or null for number
+    */
+   public String getSign() {
+      return signs.length == 0 ? null : signs[0];
+   }
+
+   /**
+    * Finds key written by part of text
+    *
+    * @param text  adjusted expression text
+    * @param start index of the first char of key
+    * @param end   index after the last char of key
+    * @return key with the same sign or null if part is not a sign
+    */
+   public static Key ofSign(String text, int start, int end) {
+      int length = end - start;
+      for (Key key : SIGNED_KEYS) {
+         for (String sign : key.signs) {
+            if (sign.length() == length && text.startsWith(sign, start)) {
+               return key;
+            }
+         }
+      }
+      return null;
+   }
+}
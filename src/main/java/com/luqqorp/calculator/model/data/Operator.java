@@ -14,6 +14,11 @@ public enum Operator {
    SQRT(false),
    NEGATE(false);
 
+   /**
+    * Operators by ordinal, values() creates a new array on every call
+    */
+   private static final Operator[] VALUES = values();
+
    /**
     * Boolean value shows if operation is arithmetic binary
     */
@@ -22,4 +27,14 @@ public enum Operator {
    Operator(boolean isBinary) {
       this.isBinary = isBinary;
    }
+
+   /**
+    * Returns operator by its ordinal
+    *
+    * @param ordinal adjusted ordinal, e.g. packed in history unit
+    * @return operator
+    */
+   public static Operator ofOrdinal(int ordinal) {
+      return VALUES[ordinal];
+   }
 }
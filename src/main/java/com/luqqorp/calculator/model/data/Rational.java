@@ -0,0 +1,133 @@
+package com.luqqorp.calculator.model.data;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.math.BigInteger.TEN;
+
+/**
+ * This class represent an exact rational value as reduced
+ * BigInteger numerator and positive BigInteger denominator.
+ */
+@Getter
+@EqualsAndHashCode
+public final class Rational {
+   public static final Rational ZERO = new Rational(BigInteger.ZERO, BigInteger.ONE);
+   public static final Rational ONE = new Rational(BigInteger.ONE, BigInteger.ONE);
+
+   /**
+    * Numerator of value, carries its sign
+    */
+   private final BigInteger numerator;
+   /**
+    * Positive denominator of value
+    */
+   private final BigInteger denominator;
+
+   private Rational(BigInteger numerator, BigInteger denominator) {
+      this.numerator = numerator;
+      this.denominator = denominator;
+   }
+
+   /**
+    * Creates reduced rational value
+    *
+    * @param numerator   adjusted numerator
+    * @param denominator adjusted non-zero denominator
+    * @return reduced rational
+    */
+   public static Rational of(BigInteger numerator, BigInteger denominator) {
+      if (denominator.signum() < 0) {
+         numerator = numerator.negate();
+         denominator = denominator.negate();
+      }
+      BigInteger gcd = numerator.gcd(denominator);
+      if (!gcd.equals(BigInteger.ONE) && gcd.signum() != 0) {
+         numerator = numerator.divide(gcd);
+         denominator = denominator.divide(gcd);
+      }
+      return new Rational(numerator, denominator);
+   }
+
+   /**
+    * Creates exact rational value of decimal
+    *
+    * @param decimal adjusted decimal
+    * @return rational with the same value
+    */
+   public static Rational valueOf(BigDecimal decimal) {
+      int scale = decimal.scale();
+      if (scale <= 0) {
+         return new Rational(decimal.unscaledValue().multiply(TEN.pow(-scale)), BigInteger.ONE);
+      }
+      return of(decimal.unscaledValue(), TEN.pow(scale));
+   }
+
+   public Rational add(Rational value) {
+      if (denominator.equals(value.denominator)) {
+         return of(numerator.add(value.numerator), denominator);
+      }
+      return of(numerator.multiply(value.denominator).add(value.numerator.multiply(denominator)), denominator.multiply(value.denominator));
+   }
+
+   public Rational subtract(Rational value) {
+      return add(value.negate());
+   }
+
+   public Rational multiply(Rational value) {
+      return of(numerator.multiply(value.numerator), denominator.multiply(value.denominator));
+   }
+
+   /**
+    * Divides value by adjusted non-zero value
+    *
+    * @param value adjusted divisor
+    * @return quotient
+    */
+   public Rational divide(Rational value) {
+      return of(numerator.multiply(value.denominator), denominator.multiply(value.numerator));
+   }
+
+   public Rational negate() {
+      return new Rational(numerator.negate(), denominator);
+   }
+
+   public int signum() {
+      return numerator.signum();
+   }
+
+   /**
+    * Shows if value is integer
+    *
+    * @return true if denominator is one
+    */
+   public boolean isInteger() {
+      return denominator.equals(BigInteger.ONE);
+   }
+
+   /**
+    * Compares absolute value with adjusted positive decimal exactly
+    *
+    * @param bound adjusted positive decimal
+    * @return -1, 0 or 1 as absolute value is less than, equal to, or greater than bound
+    */
+   public int compareAbsTo(BigDecimal bound) {
+      BigInteger left = numerator.abs();
+      BigInteger right = bound.unscaledValue().multiply(denominator);
+      int scale = bound.scale();
+      if (scale > 0) {
+         left = left.multiply(TEN.pow(scale));
+      } else if (scale < 0) {
+         right = right.multiply(TEN.pow(-scale));
+      }
+      return left.compareTo(right);
+   }
+
+   @Override
+   public String toString() {
+      return numerator + "/" + denominator;
+   }
+}
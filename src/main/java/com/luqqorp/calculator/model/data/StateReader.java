@@ -0,0 +1,192 @@
+package com.luqqorp.calculator.model.data;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * This class reads values of calculation state written by {@link StateWriter}
+ * from array or buffer, e.g. mapped file of journal
+ */
+public class StateReader {
+   private final ByteBuffer bytes;
+   /**
+    * Index after the last readable byte
+    */
+   private final int limit;
+   private int position;
+   private final BigDecimal[] references = new BigDecimal[StateWriter.MAX_REFERENCES];
+   private int referenceCount;
+
+   /**
+    * Constructs reader of written bytes, bytes are not copied
+    *
+    * @param bytes written bytes
+    */
+   public StateReader(byte[] bytes) {
+      this(ByteBuffer.wrap(bytes), 0, bytes.length);
+   }
+
+   /**
+    * Constructs reader of part of buffer, position of buffer is not changed
+    *
+    * @param bytes    buffer of written bytes
+    * @param position index of the first read byte
+    * @param limit    index after the last readable byte
+    */
+   public StateReader(ByteBuffer bytes, int position, int limit) {
+      this.bytes = bytes;
+      this.position = position;
+      this.limit = limit;
+   }
+
+   /**
+    * Reads non-negative number
+    *
+    * @return read value
+    * @throws IllegalArgumentException if bytes end before the last byte of number
+    */
+   public long readVarint() {
+      long value = 0;
+      for (int shift = 0; shift < Long.SIZE; shift += 7) {
+         if (position == limit) {
+            throw new IllegalArgumentException("State ends in a number at " + position);
+         }
+         byte next = bytes.get(position++);
+         value |= (long) (next & 0x7F) << shift;
+         if (next >= 0) {
+            return value;
+         }
+      }
+      throw new IllegalArgumentException("Too long number at " + position);
+   }
+
+   /**
+    * Reads number written by zigzag varint
+    *
+    * @return read value
+    */
+   public long readSignedVarint() {
+      return unzigzag(readVarint());
+   }
+
+   /**
+    * Reads integer
+    *
+    * @return read value
+    */
+   public BigInteger readInteger() {
+      long header = readVarint();
+      return (header & 1) == 0 ? BigInteger.valueOf(unzigzag(header >>> 1)) : readIntegerBytes(header);
+   }
+
+   /**
+    * Reads decimal with its written scale or instance of referenced decimal,
+    * decimal which is not referenced is always a new instance
+    *
+    * @return read value or null
+    */
+   public BigDecimal readDecimal() {
+      long header = readVarint();
+      if (header == 0) {
+         return null;
+      }
+      if ((header & 1) == 0) {
+         long reference = (header >>> 1) - 1;
+         if (reference >= referenceCount) {
+            throw new IllegalArgumentException("Reference to unknown decimal at " + position);
+         }
+         return references[(int) reference];
+      }
+      int scale = (int) unzigzag(header >>> 1);
+      long unscaledHeader = readVarint();
+      BigDecimal decimal = (unscaledHeader & 1) == 0
+              ? newDecimal(unzigzag(unscaledHeader >>> 1), scale)
+              : new BigDecimal(readIntegerBytes(unscaledHeader), scale);
+      if (referenceCount < StateWriter.MAX_REFERENCES) {
+         references[referenceCount++] = decimal;
+      }
+      return decimal;
+   }
+
+   /**
+    * Reads rational
+    *
+    * @return read value or null
+    */
+   public Rational readRational() {
+      BigInteger denominator = readInteger();
+      return denominator.signum() == 0 ? null : Rational.of(readInteger(), denominator);
+   }
+
+   /**
+    * Reads operator
+    *
+    * @return read operator or null
+    */
+   public Operator readOperator() {
+      int ordinal = (int) readVarint();
+      return ordinal == 0 ? null : Operator.ofOrdinal(ordinal - 1);
+   }
+
+   /**
+    * Reads bytes written by {@link StateWriter#writeBytes(byte[])}
+    *
+    * @return new array of read bytes
+    */
+   public byte[] readBytes() {
+      long length = readVarint();
+      if (length > limit - position) {
+         throw new IllegalArgumentException("State ends in bytes at " + position);
+      }
+      byte[] values = new byte[(int) length];
+      bytes.get(position, values);
+      position += values.length;
+      return values;
+   }
+
+   /**
+    * @return index of the next read byte
+    */
+   public int getPosition() {
+      return position;
+   }
+
+   /**
+    * Shows if all bytes are read
+    *
+    * @return true if there are no bytes after position
+    */
+   public boolean isFinished() {
+      return position == limit;
+   }
+
+   /**
+    * Reads two's-complement bytes of integer, their count is kept in header
+    */
+   private BigInteger readIntegerBytes(long header) {
+      long valueLength = header >>> 1;
+      if (valueLength > limit - position) {
+         throw new IllegalArgumentException("State ends in an integer at " + position);
+      }
+      byte[] values = new byte[(int) valueLength];
+      bytes.get(position, values);
+      position += values.length;
+      return new BigInteger(values);
+   }
+
+   /**
+    * Creates a new instance of decimal, unlike {@link BigDecimal#valueOf(long, int)}
+    * which returns shared instances of zeros and small integers
+    */
+   private static BigDecimal newDecimal(long unscaled, int scale) {
+      if (scale == 0) {
+         return new BigDecimal(unscaled);
+      }
+      return unscaled == 0 ? new BigDecimal(BigInteger.ZERO, scale) : BigDecimal.valueOf(unscaled, scale);
+   }
+
+   private static long unzigzag(long value) {
+      return (value >>> 1) ^ -(value & 1);
+   }
+}
@@ -0,0 +1,177 @@
+package com.luqqorp.calculator.model.data;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * This class writes values of calculation state into a growable byte array.
+ * Numbers are written as varints, so small values take a single byte,
+ * decimals are written as varint scale and varint unscaled value if it fits long,
+ * otherwise as bytes of unscaled value. Decimal which is the same instance as one
+ * of the first written decimals is written as reference to it, so shared decimals
+ * are shared after they are read, e.g. resolver finds exact values of operands
+ * by instances. Values are read by {@link StateReader}
+ */
+public class StateWriter {
+   /**
+    * Length of array of a new writer, enough for a typical session
+    */
+   private static final int INITIAL_LENGTH = 64;
+   /**
+    * Bit length of integers written as a single varint
+    */
+   private static final int MAX_VARINT_BITS = 62;
+   /**
+    * Count of the first written decimals which can be referenced
+    */
+   static final int MAX_REFERENCES = 16;
+
+   private byte[] bytes = new byte[INITIAL_LENGTH];
+   private int length;
+   private final BigDecimal[] references = new BigDecimal[MAX_REFERENCES];
+   private int referenceCount;
+
+   /**
+    * Writes non-negative number, 7 bits per byte from the lowest
+    *
+    * @param value adjusted non-negative value
+    */
+   public void writeVarint(long value) {
+      if (length + 10 > bytes.length) {
+         bytes = Arrays.copyOf(bytes, bytes.length * 2);
+      }
+      while ((value & ~0x7FL) != 0) {
+         bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+         value >>>= 7;
+      }
+      bytes[length++] = (byte) value;
+   }
+
+   /**
+    * Writes number by zigzag varint, so small negative values also take a single byte
+    *
+    * @param value adjusted value
+    */
+   public void writeSignedVarint(long value) {
+      writeVarint((value << 1) ^ (value >> 63));
+   }
+
+   /**
+    * Writes integer as varint if it is short, otherwise as length and two's-complement bytes
+    *
+    * @param value adjusted integer
+    */
+   public void writeInteger(BigInteger value) {
+      if (value.bitLength() < MAX_VARINT_BITS) {
+         long longValue = value.longValue();
+         writeVarint(((longValue << 1) ^ (longValue >> 63)) << 1);
+      } else {
+         byte[] valueBytes = value.toByteArray();
+         writeVarint((long) valueBytes.length << 1 | 1);
+         writeRawBytes(valueBytes);
+      }
+   }
+
+   /**
+    * Writes decimal, reference to the same written instance or absence,
+    * the same value is read with the same scale
+    *
+    * @param decimal adjusted decimal, may be null
+    */
+   public void writeDecimal(BigDecimal decimal) {
+      if (decimal == null) {
+         writeVarint(0);
+         return;
+      }
+      for (int i = 0; i < referenceCount; i++) {
+         if (references[i] == decimal) {
+            writeVarint((long) (i + 1) << 1);
+            return;
+         }
+      }
+      if (referenceCount < MAX_REFERENCES) {
+         references[referenceCount++] = decimal;
+      }
+      int scale = decimal.scale();
+      writeVarint((((long) scale << 1) ^ (scale >> 31)) << 1 | 1);
+      writeInteger(decimal.unscaledValue());
+   }
+
+   /**
+    * Writes rational or its absence, absence is written as zero denominator
+    *
+    * @param rational adjusted rational, may be null
+    */
+   public void writeRational(Rational rational) {
+      if (rational == null) {
+         writeInteger(BigInteger.ZERO);
+      } else {
+         writeInteger(rational.getDenominator());
+         writeInteger(rational.getNumerator());
+      }
+   }
+
+   /**
+    * Writes operator or its absence as a single byte
+    *
+    * @param operator adjusted operator, may be null
+    */
+   public void writeOperator(Operator operator) {
+      writeVarint(operator == null ? 0 : operator.ordinal() + 1);
+   }
+
+   /**
+    * Writes length and bytes
+    *
+    * @param values adjusted bytes
+    */
+   public void writeBytes(byte[] values) {
+      writeVarint(values.length);
+      writeRawBytes(values);
+   }
+
+   /**
+    * Returns written bytes
+    *
+    * @return new array of written length
+    */
+   public byte[] toByteArray() {
+      return Arrays.copyOf(bytes, length);
+   }
+
+   /**
+    * Copies written bytes into buffer, position of buffer is not changed
+    *
+    * @param buffer adjusted buffer
+    * @param index  index of the first copied byte in buffer
+    */
+   public void copyTo(ByteBuffer buffer, int index) {
+      buffer.put(index, bytes, 0, length);
+   }
+
+   /**
+    * @return count of written bytes
+    */
+   public int length() {
+      return length;
+   }
+
+   /**
+    * Forgets written bytes and decimals, so writer is reused for other values
+    */
+   public void reset() {
+      length = 0;
+      Arrays.fill(references, 0, referenceCount, null);
+      referenceCount = 0;
+   }
+
+   private void writeRawBytes(byte[] values) {
+      if (length + values.length > bytes.length) {
+         bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + values.length));
+      }
+      System.arraycopy(values, 0, bytes, length, values.length);
+      length += values.length;
+   }
+}
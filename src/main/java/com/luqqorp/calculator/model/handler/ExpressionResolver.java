@@ -1,6 +1,9 @@
 package com.luqqorp.calculator.model.handler;
 
 import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.data.Rational;
+import com.luqqorp.calculator.model.data.StateReader;
+import com.luqqorp.calculator.model.data.StateWriter;
 import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
 import com.luqqorp.calculator.model.exceptions.InvalidInputException;
 import com.luqqorp.calculator.model.exceptions.OverflowException;
@@ -8,6 +11,9 @@ import com.luqqorp.calculator.model.exceptions.ResultIsUndefinedException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.CancellationException;
 
 import static java.math.BigDecimal.ONE;
 import static java.math.BigDecimal.ZERO;
@@ -21,6 +27,9 @@ import static com.luqqorp.calculator.model.data.Operator.*;
  * depending on its logic and assumes the result value
  * Supported operations: add, subtract, multiply, divide,
  * square, sqrt, fraction, percent and negate.
+ * In exact mode operands are also kept as reduced {@link Rational} values,
+ * so BigDecimal values are only rounded views of exact results, square root
+ * and percent are resolved by decimals.
  */
 public class ExpressionResolver {
     /**
@@ -29,10 +38,38 @@ public class ExpressionResolver {
     /**
      * The scale value that supports by calculator
      */
-    private static final int SCALE = 20050;
+    public static final int SCALE = 20050;
+    /**
+     * Bit length of integer which square root is resolved directly
+     */
+    private static final int DIRECT_SQRT_BITS = 1024;
     private static final BigDecimal MAX_SUPPORTED_VALUE = new BigDecimal("9.9999999999999995e9999");
     private static final BigDecimal MIN_SUPPORTED_VALUE = new BigDecimal("1e-9999");
     private static final BigDecimal ZERO_ROUND_LIMIT = new BigDecimal("1e-20000");
+    /**
+     * Digits of rounded result which decide comparison with limits without exact value
+     */
+    private static final MathContext LIMIT_CONTEXT = new MathContext(18, RoundingMode.HALF_UP);
+    /**
+     * Decimal exponent of results that are always greater than maximum supported value
+     */
+    private static final int OVERFLOW_EXPONENT = exponent(MAX_SUPPORTED_VALUE) + 1;
+    /**
+     * Decimal exponent of minimum supported value
+     */
+    private static final int MIN_SUPPORTED_EXPONENT = exponent(MIN_SUPPORTED_VALUE);
+    /**
+     * Decimal exponent of zero round limit
+     */
+    private static final int ZERO_ROUND_EXPONENT = exponent(ZERO_ROUND_LIMIT);
+    /**
+     * Maximum count of repeated multiply operations resolved by a single power
+     */
+    private static final int MAX_REPEATED_POWER = 999_999_999;
+    /**
+     * Guard digits of bounds of repeated multiply results, over digits of operand
+     */
+    private static final int BOUND_GUARD_DIGITS = 20;
 
     /**
      * The BigDecimal value of the first operand in expression
@@ -46,6 +83,38 @@ public class ExpressionResolver {
      * The BigDecimal value of returned result of expression
      */
     private BigDecimal result = ZERO;
+    /**
+     * Shows if operands are resolved as exact rational values
+     */
+    private final boolean exactMode;
+    /**
+     * The exact value of the first operand in exact mode
+     */
+    private Rational firstRational;
+    /**
+     * The exact value of the second operand in exact mode
+     */
+    private Rational secondRational;
+    /**
+     * The exact value of returned result in exact mode
+     */
+    private Rational resultRational = Rational.ZERO;
+
+    /**
+     * Constructs resolver of decimal operands
+     */
+    public ExpressionResolver() {
+        this(false);
+    }
+
+    /**
+     * Constructs resolver with adjusted mode
+     *
+     * @param exactMode if true, operands are resolved as exact rational values
+     */
+    public ExpressionResolver(boolean exactMode) {
+        this.exactMode = exactMode;
+    }
 
     /**
      * Set value for two of operands
@@ -55,27 +124,230 @@ public class ExpressionResolver {
      *                and the second will take the new one
      */
     public void setValues(BigDecimal decimal) {
+        Rational rational = exactMode ? rationalOf(decimal) : null;
         if (firstVal == null) {
             firstVal = decimal;
+            firstRational = rational;
         } else {
             firstVal = secondVal;
+            firstRational = secondRational;
         }
         secondVal = decimal;
+        secondRational = rational;
+    }
+
+    /**
+     * Writes operands and result of expression, exact values are written only in exact mode
+     *
+     * @param writer adjusted writer
+     */
+    public void writeState(StateWriter writer) {
+        writer.writeDecimal(firstVal);
+        writer.writeDecimal(secondVal);
+        writer.writeDecimal(result);
+        if (exactMode) {
+            writer.writeRational(firstRational);
+            writer.writeRational(secondRational);
+            writer.writeRational(resultRational);
+        }
+    }
+
+    /**
+     * Reads operands and result of expression written by resolver of the same mode
+     *
+     * @param reader adjusted reader
+     */
+    public void readState(StateReader reader) {
+        firstVal = reader.readDecimal();
+        secondVal = reader.readDecimal();
+        result = reader.readDecimal();
+        if (exactMode) {
+            firstRational = reader.readRational();
+            secondRational = reader.readRational();
+            resultRational = reader.readRational();
+        }
     }
 
     /**
      * Set value for two of operands, resolves the given operation
      */
     public BigDecimal calculate(BigDecimal firstVal, BigDecimal secondVal, Operator operator) throws InvalidInputException, CannotDivideByZeroException, ResultIsUndefinedException, OverflowException {
+        if (exactMode) {
+            firstRational = rationalOf(firstVal);
+            secondRational = rationalOf(secondVal);
+        }
         this.firstVal = firstVal;
         this.secondVal = secondVal;
         return resolve(operator, true);
     }
 
+    /**
+     * Counts repeated binary operations with the same second operand, e.g. "5 + = = =",
+     * which results are exact and in limits of supported values, so {@link #repeat} returns
+     * the same value as these operations resolved one by one.
+     * Add, subtract and multiply of decimals are counted, other operations
+     * and operations in exact mode round their results and are never counted
+     *
+     * @param operator repeated operator
+     * @param value    first operand of the first operation
+     * @param operand  second operand of every operation
+     * @param limit    maximum count
+     * @return count of the first operations that are resolved by {@link #repeat}
+     */
+    public long countRepeats(Operator operator, BigDecimal value, BigDecimal operand, long limit) {
+        if (exactMode || limit <= 0) {
+            return 0;
+        } else if (operator == ADD) {
+            return countLinearRepeats(value, operand, limit);
+        } else if (operator == SUBTRACT) {
+            return countLinearRepeats(value, operand.negate(), limit);
+        } else if (operator == MULTIPLY) {
+            return countPowerRepeats(value, operand, Math.min(limit, MAX_REPEATED_POWER));
+        }
+        return 0;
+    }
+
+    /**
+     * Resolves repeated operations by a single operation: repeated add and subtract
+     * by multiply of operand and repeated multiply by power of operand.
+     * Operands are not changed
+     *
+     * @param operator repeated operator
+     * @param value    first operand of the first operation
+     * @param operand  second operand of every operation
+     * @param count    count of operations, not greater than {@link #countRepeats}
+     * @return result of the last operation
+     */
+    public BigDecimal repeat(Operator operator, BigDecimal value, BigDecimal operand, long count) {
+        BigDecimal repeated;
+        if (count == 0) {
+            return value;
+        } else if (operator == ADD) {
+            repeated = value.add(operand.multiply(BigDecimal.valueOf(count)));
+        } else if (operator == SUBTRACT) {
+            repeated = value.subtract(operand.multiply(BigDecimal.valueOf(count)));
+        } else if (operator == MULTIPLY) {
+            repeated = value.signum() == 0 || operand.signum() == 0 ? ZERO : value.multiply(operand.pow((int) count));
+        } else {
+            throw new IllegalArgumentException("Operation " + operator + " is not repeated");
+        }
+        return repeated.signum() == 0 ? ZERO : repeated;
+    }
+
+    /**
+     * Counts repeated add operations before the first result that is out of supported values
+     * or rounded to zero. Results change linearly, so they can only come close to zero once
+     *
+     * @param value first operand of the first operation
+     * @param step  added operand, negated for subtract
+     * @param limit maximum count
+     * @return count of operations
+     */
+    private static long countLinearRepeats(BigDecimal value, BigDecimal step, long limit) {
+        if (step.signum() == 0) {
+            return value.signum() == 0 || isSupported(value) ? limit : 0;
+        } else if (step.signum() < 0) {
+            value = value.negate();
+            step = step.negate();
+        }
+        // results grow, so they are supported if the last one is and they do not pass zero
+        BigDecimal last = value.add(step.multiply(BigDecimal.valueOf(limit)));
+        if (last.compareTo(MAX_SUPPORTED_VALUE) < 0 && (last.compareTo(MIN_SUPPORTED_VALUE.negate()) <= 0
+                || value.add(step).compareTo(MIN_SUPPORTED_VALUE) >= 0)) {
+            return limit;
+        }
+        // the first result above negative minimum can be close to zero
+        BigDecimal nearZero = MIN_SUPPORTED_VALUE.negate().subtract(value).divide(step, 0, RoundingMode.FLOOR).add(ONE).max(ONE);
+        BigDecimal overflow = MAX_SUPPORTED_VALUE.subtract(value).divide(step, 0, RoundingMode.CEILING).max(ONE);
+        BigDecimal firstUnsupported = overflow;
+        if (nearZero.compareTo(overflow) < 0
+                && value.add(step.multiply(nearZero)).compareTo(MIN_SUPPORTED_VALUE) < 0) {
+            firstUnsupported = nearZero;
+        }
+        BigDecimal count = firstUnsupported.subtract(ONE);
+        return count.compareTo(BigDecimal.valueOf(limit)) < 0 ? count.longValue() : limit;
+    }
+
+    /**
+     * Counts repeated multiply operations before the first result that is out of supported values
+     * or rounded to zero. Absolute results change monotonically, so all results are supported
+     * if the first and the last of them are. Results are compared with limits by their rounded bounds,
+     * results that are close to limits are left for single operations
+     *
+     * @param value   first operand of the first operation
+     * @param operand multiplier
+     * @param limit   maximum count
+     * @return count of operations
+     */
+    private static long countPowerRepeats(BigDecimal value, BigDecimal operand, long limit) {
+        if (value.signum() == 0 || operand.signum() == 0) {
+            return limit;
+        } else if (!isSupported(value)) {
+            return 0;
+        } else if (operand.abs().compareTo(ONE) == 0) {
+            return limit;
+        }
+        int precision = operand.precision() + BOUND_GUARD_DIGITS;
+        MathContext lower = new MathContext(precision, RoundingMode.DOWN);
+        MathContext upper = new MathContext(precision, RoundingMode.UP);
+
+        long supported = 0;
+        long count = 1;
+        while (isPowerSupported(value, operand, count, lower, upper)) {
+            supported = count;
+            if (count == limit) {
+                return limit;
+            }
+            count = Math.min(count << 1, limit);
+        }
+        while (count - supported > 1) {
+            long middle = (supported + count) >>> 1;
+            if (isPowerSupported(value, operand, middle, lower, upper)) {
+                supported = middle;
+            } else {
+                count = middle;
+            }
+        }
+        return supported;
+    }
+
+    /**
+     * Shows if absolute value multiplied by power of operand is certainly in limits of supported values
+     */
+    private static boolean isPowerSupported(BigDecimal value, BigDecimal operand, long count, MathContext lower, MathContext upper) {
+        return powerBound(value, operand, count, lower).compareTo(MIN_SUPPORTED_VALUE) >= 0
+                && powerBound(value, operand, count, upper).compareTo(MAX_SUPPORTED_VALUE) < 0;
+    }
+
+    /**
+     * Computes absolute value multiplied by power of operand by binary exponentiation,
+     * every product is rounded to the side of the context, so the result is the bound of exact one
+     */
+    private static BigDecimal powerBound(BigDecimal value, BigDecimal operand, long count, MathContext context) {
+        BigDecimal bound = value.abs().round(context);
+        BigDecimal square = operand.abs();
+        for (long rest = count; rest > 0; rest >>>= 1) {
+            if ((rest & 1) != 0) {
+                bound = bound.multiply(square, context);
+            }
+            if (rest > 1) {
+                square = square.multiply(square, context);
+            }
+        }
+        return bound;
+    }
+
+    private static boolean isSupported(BigDecimal value) {
+        BigDecimal abs = value.abs();
+        return abs.compareTo(MIN_SUPPORTED_VALUE) >= 0 && abs.compareTo(MAX_SUPPORTED_VALUE) < 0;
+    }
+
     /**
      * Handles expression depending on operation
      * and consider if operation is new for non-binary operations
-     * for next usages of result in same expression
+     * for next usages of result in same expression.
+     * Operands and result are not changed if operation overflows,
+     * so predicted and computed overflows leave the same state
      *
      * @param operator Name of operation
      * @param isNew    boolean determines if a result value need to in set in second operand
@@ -86,6 +358,75 @@ public class ExpressionResolver {
      * @throws OverflowException           to indicate that a method is reached overflow
      */
     public BigDecimal resolve(Operator operator, boolean isNew) throws CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException, OverflowException {
+        BigDecimal first = firstVal;
+        BigDecimal second = secondVal;
+        BigDecimal previousResult = result;
+        Rational firstExact = firstRational;
+        Rational secondExact = secondRational;
+        Rational previousExact = resultRational;
+        if (exactMode && operator != SQRT && operator != PERCENT) {
+            resolveExact(operator, isNew);
+        } else if (predictResult(operator)) {
+            result = ZERO;
+        } else {
+            resolveDecimal(operator, isNew);
+        }
+        zeroRounding();
+        try {
+            overflowCheck(operator);
+        } catch (OverflowException e) {
+            firstVal = first;
+            secondVal = second;
+            result = previousResult;
+            firstRational = firstExact;
+            secondRational = secondExact;
+            resultRational = previousExact;
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Estimates decimal exponent of multiply, divide, square and fraction results
+     * by exponents of operands before the result is computed
+     *
+     * @param operator Name of operation
+     * @return true if binary result is certainly rounded to zero
+     * @throws OverflowException if result is certainly out of supported values
+     */
+    private boolean predictResult(Operator operator) throws OverflowException {
+        int lowerExponent;
+        int upperExponent;
+        if (operator == MULTIPLY && firstVal.signum() != 0 && secondVal.signum() != 0) {
+            lowerExponent = exponent(firstVal) + exponent(secondVal);
+            upperExponent = lowerExponent + 1;
+        } else if (operator == SQUARE && secondVal.signum() != 0) {
+            lowerExponent = exponent(secondVal) << 1;
+            upperExponent = lowerExponent + 1;
+        } else if (operator == DIVIDE && firstVal.signum() != 0 && secondVal.signum() != 0) {
+            // rounded quotient can reach the next power of ten
+            upperExponent = exponent(firstVal) - exponent(secondVal) + 1;
+            lowerExponent = upperExponent - 2;
+        } else if (operator == ONE_BY_X && secondVal.signum() != 0) {
+            upperExponent = 1 - exponent(secondVal);
+            lowerExponent = upperExponent - 2;
+        } else {
+            return false;
+        }
+
+        if (lowerExponent >= OVERFLOW_EXPONENT || lowerExponent >= ZERO_ROUND_EXPONENT && upperExponent < MIN_SUPPORTED_EXPONENT) {
+            throw new OverflowException(exceptionMessage(operator));
+        }
+        return operator.isBinary && upperExponent < ZERO_ROUND_EXPONENT;
+    }
+
+    /**
+     * Handles expression by decimal operands
+     *
+     * @param operator Name of operation
+     * @param isNew    boolean determines if a result value need to in set in second operand
+     */
+    private void resolveDecimal(Operator operator, boolean isNew) throws CannotDivideByZeroException, ResultIsUndefinedException, InvalidInputException {
         if (operator == ADD) {
             add();
         } else if (operator == SUBTRACT) {
@@ -112,9 +453,94 @@ public class ExpressionResolver {
         } else if (operator == NEGATE) {
             negate(isNew);
         }
-        zeroRounding();
-        overflowCheck(operator);
-        return result;
+        if (exactMode) {
+            rationalControl();
+        }
+    }
+
+    /**
+     * Handles expression by exact rational operands,
+     * result decimal is rounded to supported scale
+     *
+     * @param operator Name of operation
+     * @param isNew    boolean determines if a result value need to in set in second operand
+     */
+    private void resolveExact(Operator operator, boolean isNew) throws CannotDivideByZeroException, ResultIsUndefinedException {
+        if (operator == ADD) {
+            resultRational = firstRational.add(secondRational);
+        } else if (operator == SUBTRACT) {
+            resultRational = firstRational.subtract(secondRational);
+        } else if (operator == MULTIPLY) {
+            resultRational = firstRational.multiply(secondRational);
+        } else if (operator == DIVIDE) {
+            if (firstRational.signum() == 0 && secondRational.signum() == 0) {
+                throw new ResultIsUndefinedException(exceptionMessage(DIVIDE));
+            } else if (secondRational.signum() == 0) {
+                throw new CannotDivideByZeroException(exceptionMessage(DIVIDE));
+            }
+            resultRational = firstRational.divide(secondRational);
+        } else if (operator == SQUARE) {
+            resultRational = secondRational.multiply(secondRational);
+        } else if (operator == ONE_BY_X) {
+            if (secondRational.signum() == 0) {
+                throw new CannotDivideByZeroException(exceptionMessage(ONE_BY_X));
+            }
+            resultRational = Rational.ONE.divide(secondRational);
+        } else if (operator == NEGATE) {
+            resultRational = secondRational.negate();
+        }
+        result = toDecimal(resultRational);
+        if (!operator.isBinary) {
+            operandControl(isNew);
+            secondRational = isNew ? resultRational : firstRational;
+        }
+    }
+
+    /**
+     * Converts exact value into decimal, non-integer values are rounded to supported scale
+     *
+     * @param rational adjusted exact value
+     * @return decimal view of value
+     */
+    private BigDecimal toDecimal(Rational rational) {
+        if (rational.isInteger()) {
+            return new BigDecimal(rational.getNumerator());
+        }
+        return new BigDecimal(rational.getNumerator()).divide(new BigDecimal(rational.getDenominator()), SCALE, HALF_UP);
+    }
+
+    /**
+     * Returns exact value of decimal operand, operands and results
+     * of this resolver keep its exact values, other decimals are converted
+     *
+     * @param decimal adjusted decimal
+     * @return exact value
+     */
+    private Rational rationalOf(BigDecimal decimal) {
+        if (decimal == result) {
+            return resultRational;
+        } else if (decimal == secondVal) {
+            return secondRational;
+        } else if (decimal == firstVal) {
+            return firstRational;
+        }
+        return Rational.valueOf(decimal);
+    }
+
+    /**
+     * Updates exact values after decimal operation, new result
+     * takes value of decimal and operands follow its decimals
+     */
+    private void rationalControl() {
+        resultRational = Rational.valueOf(result);
+        if (firstVal == result) {
+            firstRational = resultRational;
+        }
+        if (secondVal == result) {
+            secondRational = resultRational;
+        } else if (secondVal == firstVal) {
+            secondRational = firstRational;
+        }
     }
 
     /**
@@ -196,41 +622,46 @@ public class ExpressionResolver {
 
 
     /**
-     * Returns the square root calculated for the given {@link BigDecimal} number. Source of square root algorithm for {@link BigDecimal} is
-     * <a href="https://www.java-forums.org/advanced-java/44345-square-rooting-bigdecimal.html">square rooting a BigDecimal</a>
+     * Calculates square root truncated to the supported scale by integer square root
+     * that doubles its precision on each step. Root of perfect square is exact,
+     * because it has fewer fraction digits than the supported scale.
      *
-     * @return the square root calculated for the given {@link BigDecimal} number
-     * @throws InvalidInputException if the given {@link BigDecimal} number is negative
+     * @param value adjusted non-negative value
+     * @return square root with supported scale
      */
-    private BigDecimal sqrt(BigDecimal value) throws InvalidInputException {
-        if (value.compareTo(ZERO) < 0) {
-            throw new InvalidInputException();
-        }
-
-        if (value.compareTo(ZERO) == 0) {
+    static BigDecimal sqrt(BigDecimal value) {
+        if (value.signum() == 0) {
             return ZERO;
         }
-
-        // n = x*(10^(2*scale))
+        // n = x*(10^(2*scale)), floor(sqrt(n)) has scale fraction digits
         BigInteger n = value.movePointRight(SCALE << 1).toBigInteger();
+        return new BigDecimal(integerSqrt(n), SCALE);
+    }
 
-        // The first approximation is the upper half of n.
-        int bits = (n.bitLength() + 1) >> 1;
-        BigInteger ix = n.shiftRight(bits);
-        BigInteger ixPrev;
-
-        // Loop until the approximations converge
-        // (two successive approximations are equal after rounding).
-        do {
-            ixPrev = ix;
-
-            // x = (x + n/x)/2
-            ix = ix.add(n.divide(ix)).shiftRight(1);
-
-            Thread.yield();
-        } while (ix.compareTo(ixPrev) != 0);
-
-        return new BigDecimal(ix, SCALE);
+    /**
+     * Calculates floor of square root. The root of the upper half of bits is
+     * resolved recursively, so a single Newton step from it doubles correct bits.
+     * Short values are resolved by {@link BigInteger#sqrt()} seeded from double estimate.
+     * Interrupted thread stops computation between steps
+     *
+     * @param n adjusted positive integer
+     * @return floor of square root
+     * @throws CancellationException if thread is interrupted
+     */
+    private static BigInteger integerSqrt(BigInteger n) {
+        if (n.bitLength() <= DIRECT_SQRT_BITS) {
+            return n.sqrt();
+        } else if (Thread.interrupted()) {
+            throw new CancellationException("Square root is cancelled");
+        }
+        int shift = n.bitLength() >> 2;
+        BigInteger guess = integerSqrt(n.shiftRight(shift << 1)).shiftLeft(shift);
+        // x = (x + n/x)/2 is never lower than floor of root
+        BigInteger root = guess.add(n.divide(guess)).shiftRight(1);
+        while (root.multiply(root).compareTo(n) > 0) {
+            root = root.subtract(BigInteger.ONE);
+        }
+        return root;
     }
 
     /**
@@ -285,7 +716,7 @@ public class ExpressionResolver {
      * @throws OverflowException to indicate that a method is reached greater than 9999
      */
     private void overflowCheck(Operator operator) throws OverflowException {
-        if (result.compareTo(ZERO) != 0 && (result.abs().compareTo(MAX_SUPPORTED_VALUE) >= 0 || result.abs().compareTo(MIN_SUPPORTED_VALUE) < 0)) {
+        if (result.signum() != 0 && (compareAbs(MAX_SUPPORTED_VALUE) >= 0 || compareAbs(MIN_SUPPORTED_VALUE) < 0)) {
             throw new OverflowException(exceptionMessage(operator));
         }
     }
@@ -295,9 +726,43 @@ public class ExpressionResolver {
      * Rounds a result value to zero
      */
     private void zeroRounding() {
-        if (result.abs().compareTo(ZERO_ROUND_LIMIT) < 0) {
+        if (compareAbs(ZERO_ROUND_LIMIT) < 0) {
             result = ZERO;
+            resultRational = Rational.ZERO;
+        }
+    }
+
+    /**
+     * Compares absolute result with limit value by decimal exponents,
+     * values are compared only if exponents are equal. In exact mode rounded result
+     * that equals to limit in first digits is compared by its exact value
+     *
+     * @param limit adjusted positive limit
+     * @return -1, 0 or 1 as absolute result is less than, equal to, or greater than limit
+     */
+    private int compareAbs(BigDecimal limit) {
+        if (result.signum() == 0) {
+            return -1;
+        }
+        int exponentDifference = exponent(result) - exponent(limit);
+        if (exponentDifference != 0) {
+            return Integer.signum(exponentDifference);
+        }
+        BigDecimal absResult = result.abs();
+        if (exactMode && absResult.round(LIMIT_CONTEXT).compareTo(limit) == 0) {
+            return resultRational.compareAbsTo(limit);
         }
+        return absResult.compareTo(limit);
+    }
+
+    /**
+     * Returns decimal exponent of non-zero value, e.g. 2 for 123.4 and -3 for 0.001
+     *
+     * @param value adjusted non-zero decimal
+     * @return floor of decimal logarithm of absolute value
+     */
+    private static int exponent(BigDecimal value) {
+        return value.precision() - value.scale() - 1;
     }
 
     private String exceptionMessage(Operator operator) {
@@ -3,11 +3,14 @@ package com.luqqorp.calculator.model.handler;
 import lombok.Getter;
 import lombok.Setter;
 import com.luqqorp.calculator.model.data.History;
+import com.luqqorp.calculator.model.data.HistoryStore;
 import com.luqqorp.calculator.model.data.HistoryUnit;
 import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.data.StateReader;
+import com.luqqorp.calculator.model.data.StateWriter;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
 
 import java.math.BigDecimal;
-import java.util.LinkedList;
 
 import static com.luqqorp.calculator.model.data.Operator.PERCENT;
 
@@ -19,10 +22,29 @@ public class HistoryHandler {
     * Returned History instance
     */
    @Getter
-   private History history = new History();
-   private LinkedList<HistoryUnit> historyUnits = history.getHistoryUnits();
+   private final History history;
+   private final HistoryStore historyUnits;
    @Setter
    private Operator currentOperator = null;
+
+   /**
+    * Constructs handler of history without limit of units
+    */
+   public HistoryHandler() {
+      this(HistoryStore.UNBOUNDED, HistoryStore.OverflowPolicy.DROP_OLDEST);
+   }
+
+   /**
+    * Constructs handler of history with limit of units
+    *
+    * @param capacity       maximum count of kept units
+    * @param overflowPolicy action with a new unit, when history is full
+    */
+   public HistoryHandler(int capacity, HistoryStore.OverflowPolicy overflowPolicy) {
+      history = new History(capacity, overflowPolicy);
+      historyUnits = history.getHistoryUnits();
+   }
+
    /**
     * Creates a new HistoryUnit with value and currentOperator
     * If currentOperator is binary it checks if the previous unit in history
@@ -32,19 +54,21 @@ public class HistoryHandler {
     * for new unit and adds it to the history
     *
     * @param value    BigDecimal unit value
+    * @throws OverflowException if history is full and its overflow policy rejects new units
     */
-   public void addHistory(BigDecimal value) {
+   public void addHistory(BigDecimal value) throws OverflowException {
       HistoryUnit historyUnit = new HistoryUnit(value);
       if (currentOperator.isBinary) {
          if (!historyUnits.isEmpty() && historyUnits.getLast().getBinary() == null) {
             historyUnits.getLast().setBinary(currentOperator);
+            historyUnits.getLast().markChanged();
          } else {
             historyUnit.setBinary(currentOperator);
             historyUnits.add(historyUnit);
          }
       } else {
          if (currentOperator != PERCENT) {
-            historyUnit.getNonBinaries().add(currentOperator);
+            historyUnit.addNonBinary(currentOperator);
          }
          historyUnits.add(historyUnit);
       }
@@ -64,27 +88,72 @@ public class HistoryHandler {
     * @param value    BigDecimal unit value
     */
    public void changeOperator(BigDecimal value) {
-      if (!history.getHistoryUnits().isEmpty()) {
-         HistoryUnit historyUnit = history.getHistoryUnits().getLast();
+      if (!historyUnits.isEmpty()) {
+         HistoryUnit historyUnit = historyUnits.getLast();
          if (currentOperator.isBinary) {
             historyUnit.setBinary(currentOperator);
          } else {
             if (currentOperator == PERCENT) {
                historyUnit.setValue(value);
             }
-            historyUnit.getNonBinaries().add(currentOperator);
+            historyUnit.addNonBinary(currentOperator);
+         }
+         historyUnit.markChanged();
+      }
+   }
+
+   /**
+    * Removes last HistoryUnit from history if it is not empty
+    */
+   public void removeLast() {
+      historyUnits.pollLast();
+   }
+
+   /**
+    * Writes current operator, count of dropped units and units of history
+    * with their operators and versions
+    *
+    * @param writer adjusted writer
+    */
+   public void writeState(StateWriter writer) {
+      writer.writeOperator(currentOperator);
+      writer.writeVarint(historyUnits.getDroppedCount());
+      writer.writeVarint(historyUnits.size());
+      for (int i = 0; i < historyUnits.size(); i++) {
+         HistoryUnit historyUnit = historyUnits.get(i);
+         writer.writeDecimal(historyUnit.getValue());
+         writer.writeOperator(historyUnit.getBinary());
+         writer.writeVarint(historyUnit.getNonBinaryCount());
+         for (int j = 0; j < historyUnit.getNonBinaryCount(); j++) {
+            writer.writeOperator(historyUnit.getNonBinary(j));
          }
+         writer.writeVarint(historyUnit.getVersion());
       }
    }
 
    /**
-    * Removes last HistoryUnit from historyList if
+    * Reads current operator and units of empty history
     *
-    * @param nonBinaryHistoryIsNew indicates if last history unit has non-binary operator not completed
+    * @param reader adjusted reader
+    * @throws IllegalArgumentException if history has less capacity than count of units
     */
-   public void clearEnter(boolean nonBinaryHistoryIsNew) {
-      if (!nonBinaryHistoryIsNew && !historyUnits.isEmpty()) {
-         historyUnits.pollLast();
+   public void readState(StateReader reader) {
+      currentOperator = reader.readOperator();
+      historyUnits.setDroppedCount(reader.readVarint());
+      int size = (int) reader.readVarint();
+      for (int i = 0; i < size; i++) {
+         HistoryUnit historyUnit = new HistoryUnit(reader.readDecimal());
+         historyUnit.setBinary(reader.readOperator());
+         int nonBinaryCount = (int) reader.readVarint();
+         for (int j = 0; j < nonBinaryCount; j++) {
+            historyUnit.addNonBinary(reader.readOperator());
+         }
+         historyUnit.setVersion((int) reader.readVarint());
+         try {
+            historyUnits.add(historyUnit);
+         } catch (OverflowException e) {
+            throw new IllegalArgumentException("History state does not fit capacity " + historyUnits.getCapacity(), e);
+         }
       }
    }
 
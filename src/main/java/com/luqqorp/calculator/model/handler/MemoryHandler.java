@@ -1,5 +1,7 @@
 package com.luqqorp.calculator.model.handler;
 
+import com.luqqorp.calculator.model.data.StateReader;
+import com.luqqorp.calculator.model.data.StateWriter;
 
 import java.math.BigDecimal;
 
@@ -35,4 +37,22 @@ public class MemoryHandler {
    public BigDecimal getMemoryDecimal() {
       return memoryValue;
    }
+
+   /**
+    * Writes memory value
+    *
+    * @param writer adjusted writer
+    */
+   public void writeState(StateWriter writer) {
+      writer.writeDecimal(memoryValue);
+   }
+
+   /**
+    * Reads memory value
+    *
+    * @param reader adjusted reader
+    */
+   public void readState(StateReader reader) {
+      memoryValue = reader.readDecimal();
+   }
 }
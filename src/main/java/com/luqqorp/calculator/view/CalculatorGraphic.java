@@ -1,6 +1,6 @@
 package com.luqqorp.calculator.view;
 
-import javafx.fxml.FXMLLoader;
+import com.luqqorp.calculator.controller.CalculatorController;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
@@ -13,10 +13,6 @@ import com.luqqorp.calculator.view.handlers.HotkeyHandler;
 import com.luqqorp.calculator.view.handlers.WindowOptionHandler;
 import com.luqqorp.calculator.view.listeners.ResizeListener;
 
-import java.io.IOException;
-import java.net.URL;
-
-import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.containsIgnoreCase;
 
 /**
@@ -24,6 +20,9 @@ import static org.apache.commons.lang3.StringUtils.containsIgnoreCase;
  */
 public class CalculatorGraphic {
     public static final String CALCULATOR_ICON_PNG = "calculator-icon.png";
+    /**
+     * Source of {@link StandardCalcView}, the view is generated from it by FxmlViewGenerator
+     */
     public static final String STANDARD_CALC_FXML = "/standard_calc.fxml";
     public static final String WINDOWS = "Windows";
     /**
@@ -50,6 +49,10 @@ public class CalculatorGraphic {
      * Root anchor-pane
      */
     private AnchorPane root = null;
+    /**
+     * Controller of view
+     */
+    private CalculatorController controller = null;
 
     private static boolean isWindows() {
         String osName = System.getProperty("os.name");
@@ -61,9 +64,8 @@ public class CalculatorGraphic {
      *
      * @param primaryStage adjusted Stage
      * @return Stage primaryStage
-     * @throws IOException if an error occurs during loading
      */
-    public Stage calcStage(Stage primaryStage) throws IOException {
+    public Stage calcStage(Stage primaryStage) {
         setStageProperties(primaryStage);
         addOSSpecificGraphic();
         addKeyListener();
@@ -71,6 +73,15 @@ public class CalculatorGraphic {
         return stage;
     }
 
+    /**
+     * Closes journal of calculation, it is called when application stops
+     */
+    public void close() {
+        if (controller != null) {
+            controller.close();
+        }
+    }
+
     private void addOSSpecificGraphic() {
         if (isWindows()) {
             addResize();
@@ -84,16 +95,14 @@ public class CalculatorGraphic {
     }
 
     /**
-     * Sets style and size properties to primary stage
+     * Builds view and sets style and size properties to primary stage
      *
      * @param primaryStage adjusted Stage
-     * @throws IOException if an error occurs during loading
      */
-    private void setStageProperties(Stage primaryStage) throws IOException {
-        URL resource = getClass().getResource(STANDARD_CALC_FXML);
-        requireNonNull(resource);
-
-        root = FXMLLoader.load(resource);
+    private void setStageProperties(Stage primaryStage) {
+        controller = new CalculatorController();
+        root = new StandardCalcView(controller).build();
+        controller.recoverCalculation();
         root.setMinHeight(MIN_HEIGHT);
         root.setMinWidth(MIN_WIDTH);
         scene = new Scene(root, MIN_WIDTH, MIN_HEIGHT, Color.TRANSPARENT);
@@ -117,7 +126,7 @@ public class CalculatorGraphic {
     }
 
     private void addKeyListener() {
-        HotkeyHandler hotkeyHandler = new HotkeyHandler(scene);
+        HotkeyHandler hotkeyHandler = new HotkeyHandler(scene, controller::pressRepeated);
         hotkeyHandler.addKeyListener();
     }
 
@@ -0,0 +1,70 @@
+package com.luqqorp.calculator.view;
+
+import javafx.scene.Node;
+
+/**
+ * This class keeps builders of node content that is not shown on start,
+ * e.g. option scroll and history tab. Builder is kept in properties of node
+ * and runs once, when content is needed for the first time
+ */
+public final class LazyContent {
+   /**
+    * Key of node property that keeps builder of its content
+    */
+   private static final String BUILDER = "lazy-content-builder";
+
+   private LazyContent() {
+   }
+
+   /**
+    * Keeps builder of node content until it is needed
+    *
+    * @param node    node with lazy content
+    * @param builder builder of content
+    */
+   public static void register(Node node, Runnable builder) {
+      node.getProperties().put(BUILDER, builder);
+   }
+
+   /**
+    * Runs action after content of node is built,
+    * action runs at once if content is already built
+    *
+    * @param node   node with lazy content
+    * @param action action that needs content
+    */
+   public static void whenBuilt(Node node, Runnable action) {
+      Runnable builder = (Runnable) node.getProperties().get(BUILDER);
+      if (builder == null) {
+         action.run();
+      } else {
+         Runnable chain = () -> {
+            builder.run();
+            action.run();
+         };
+         node.getProperties().put(BUILDER, chain);
+      }
+   }
+
+   /**
+    * Builds content of node if it is not built yet
+    *
+    * @param node node with lazy content
+    */
+   public static void build(Node node) {
+      Runnable builder = (Runnable) node.getProperties().remove(BUILDER);
+      if (builder != null) {
+         builder.run();
+      }
+   }
+
+   /**
+    * Shows if content of node is built
+    *
+    * @param node node with lazy content
+    * @return true if content has no waiting builder
+    */
+   public static boolean isBuilt(Node node) {
+      return !node.getProperties().containsKey(BUILDER);
+   }
+}
@@ -0,0 +1,2099 @@
+package com.luqqorp.calculator.view;
+
+import com.luqqorp.calculator.controller.CalculatorController;
+import com.luqqorp.calculator.model.data.HistoryEntry;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Standard calculator view built by plain code instead of parsing FXML on start.
+ * Content of option scroll and history tab is built on the first open, see {@link LazyContent}.
+ * Generated by FxmlViewGenerator from standard_calc.fxml, do not edit
+ */
+public class StandardCalcView {
+   /**
+    * Resource /stylesheet/standard_calc.css
+    */
+   private static final String STANDARD_CALC_CSS = StandardCalcView.class.getResource("/stylesheet/standard_calc.css").toExternalForm();
+   /**
+    * Controller of nodes
+    */
+   private final CalculatorController controller;
+
+   /**
+    * Constructs view of controller
+    *
+    * @param controller controller of nodes
+    */
+   public StandardCalcView(CalculatorController controller) {
+      this.controller = controller;
+   }
+
+   /**
+    * Builds nodes of view and wires them with controller
+    *
+    * @return root of view
+    */
+   public AnchorPane build() {
+      return root();
+   }
+
+   private AnchorPane root() {
+      AnchorPane root = new AnchorPane();
+      root.setId("root");
+      root.setMaxHeight(Double.NEGATIVE_INFINITY);
+      root.setMaxWidth(Double.NEGATIVE_INFINITY);
+      root.setMinHeight(Double.NEGATIVE_INFINITY);
+      root.setMinWidth(Double.NEGATIVE_INFINITY);
+      root.setPrefHeight(501.0);
+      root.setPrefWidth(322.0);
+      root.getStylesheets().add(STANDARD_CALC_CSS);
+      root.getChildren().add(rootAnc());
+      root.getChildren().add(optionTab());
+      root.getChildren().add(historyTab());
+      root.getChildren().add(memoryTab());
+      return root;
+   }
+
+   private VBox rootAnc() {
+      VBox rootAnc = new VBox();
+      AnchorPane.setBottomAnchor(rootAnc, 8.0);
+      AnchorPane.setLeftAnchor(rootAnc, 0.0);
+      AnchorPane.setRightAnchor(rootAnc, 0.0);
+      AnchorPane.setTopAnchor(rootAnc, 0.0);
+      rootAnc.setId("root-anc");
+      rootAnc.setMaxHeight(Double.NEGATIVE_INFINITY);
+      rootAnc.setMaxWidth(Double.NEGATIVE_INFINITY);
+      rootAnc.setMinHeight(Double.NEGATIVE_INFINITY);
+      rootAnc.setMinWidth(Double.NEGATIVE_INFINITY);
+      rootAnc.setPrefHeight(501.0);
+      rootAnc.setPrefWidth(322.0);
+      rootAnc.getChildren().add(hboxToolbar());
+      rootAnc.getChildren().add(hboxOpt());
+      rootAnc.getChildren().add(hboxDisplay());
+      rootAnc.getChildren().add(hboxMemory());
+      rootAnc.getChildren().add(hbox1());
+      rootAnc.getChildren().add(hbox2());
+      rootAnc.getChildren().add(hbox3());
+      rootAnc.getChildren().add(hbox4());
+      rootAnc.getChildren().add(hbox5());
+      rootAnc.getChildren().add(hbox6());
+      return rootAnc;
+   }
+
+   private HBox hboxToolbar() {
+      HBox hboxToolbar = new HBox();
+      hboxToolbar.setFillHeight(false);
+      hboxToolbar.setId("hbox-toolbar");
+      hboxToolbar.setMaxHeight(Double.NEGATIVE_INFINITY);
+      hboxToolbar.setMaxWidth(Double.NEGATIVE_INFINITY);
+      hboxToolbar.setPrefHeight(34.0);
+      hboxToolbar.setPrefWidth(322.0);
+      hboxToolbar.getChildren().add(toolbar());
+      return hboxToolbar;
+   }
+
+   private AnchorPane toolbar() {
+      AnchorPane toolbar = new AnchorPane();
+      HBox.setHgrow(toolbar, Priority.ALWAYS);
+      toolbar.setId("toolbar");
+      toolbar.setMaxHeight(Double.MAX_VALUE);
+      toolbar.setMaxWidth(Double.MAX_VALUE);
+      toolbar.setMinHeight(Double.NEGATIVE_INFINITY);
+      toolbar.setMinWidth(Double.NEGATIVE_INFINITY);
+      toolbar.setPrefHeight(30.0);
+      toolbar.setPrefWidth(324.0);
+      Button iconifyBtn = new Button();
+      AnchorPane.setRightAnchor(iconifyBtn, 96.0);
+      AnchorPane.setTopAnchor(iconifyBtn, 0.0);
+      iconifyBtn.setId("iconify_btn");
+      iconifyBtn.setLayoutX(184.0);
+      iconifyBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      iconifyBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      iconifyBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      iconifyBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      iconifyBtn.setMnemonicParsing(false);
+      iconifyBtn.setPrefHeight(31.0);
+      iconifyBtn.setPrefWidth(45.0);
+      iconifyBtn.getStyleClass().add("titlebar-btn");
+      toolbar.getChildren().add(iconifyBtn);
+      Button maximizeBtn = new Button();
+      AnchorPane.setRightAnchor(maximizeBtn, 49.0);
+      AnchorPane.setTopAnchor(maximizeBtn, 0.0);
+      maximizeBtn.setId("maximize_btn");
+      maximizeBtn.setLayoutX(229.0);
+      maximizeBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      maximizeBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      maximizeBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      maximizeBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      maximizeBtn.setMnemonicParsing(false);
+      maximizeBtn.setPrefHeight(31.0);
+      maximizeBtn.setPrefWidth(46.0);
+      maximizeBtn.getStyleClass().add("titlebar-btn");
+      toolbar.getChildren().add(maximizeBtn);
+      toolbar.getChildren().add(pane());
+      toolbar.getChildren().add(titleBar());
+      return toolbar;
+   }
+
+   private Pane pane() {
+      Pane pane = new Pane();
+      AnchorPane.setRightAnchor(pane, 3.0);
+      AnchorPane.setTopAnchor(pane, 0.0);
+      pane.setLayoutX(277.0);
+      pane.setPrefHeight(31.0);
+      pane.setPrefWidth(46.0);
+      pane.getStyleClass().add("close_btn");
+      Button closeBtn = new Button();
+      closeBtn.setAlignment(Pos.TOP_RIGHT);
+      closeBtn.setId("close_btn");
+      closeBtn.setLayoutY(4.0);
+      closeBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      closeBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      closeBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      closeBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      closeBtn.setMnemonicParsing(false);
+      closeBtn.setPrefHeight(21.0);
+      closeBtn.setPrefWidth(39.0);
+      closeBtn.setStyle("-fx-padding: -3 7 0 0;");
+      closeBtn.getStyleClass().add("close_btn");
+      closeBtn.setText("\u00D7");
+      closeBtn.setTextAlignment(TextAlignment.CENTER);
+      closeBtn.setFont(new Font("Times New Roman", 26.0));
+      pane.getChildren().add(closeBtn);
+      pane.setPadding(new Insets(5.0, 3.0, 0.0, 0.0));
+      return pane;
+   }
+
+   private Pane titleBar() {
+      Pane titleBar = new Pane();
+      AnchorPane.setLeftAnchor(titleBar, 0.0);
+      AnchorPane.setRightAnchor(titleBar, 142.0);
+      titleBar.setId("title_bar");
+      titleBar.setLayoutY(4.0);
+      titleBar.setPrefHeight(25.0);
+      titleBar.setPrefWidth(182.0);
+      Label title = new Label();
+      title.setId("title");
+      title.setLayoutX(13.0);
+      title.setLayoutY(3.0);
+      title.setText("Calculator");
+      title.setFont(new Font("Segoe UI Semilight", 12.0));
+      titleBar.getChildren().add(title);
+      return titleBar;
+   }
+
+   private HBox hboxOpt() {
+      HBox hboxOpt = new HBox();
+      hboxOpt.setFillHeight(false);
+      hboxOpt.setId("hbox-opt");
+      hboxOpt.setLayoutY(30.0);
+      hboxOpt.setMaxHeight(Double.NEGATIVE_INFINITY);
+      hboxOpt.setMaxWidth(Double.NEGATIVE_INFINITY);
+      hboxOpt.setPrefHeight(414.0);
+      hboxOpt.setPrefWidth(322.0);
+      hboxOpt.getChildren().add(anchorPane());
+      return hboxOpt;
+   }
+
+   private AnchorPane anchorPane() {
+      AnchorPane anchorPane = new AnchorPane();
+      HBox.setHgrow(anchorPane, Priority.ALWAYS);
+      anchorPane.setPrefWidth(322.0);
+      Button optBtn = new Button();
+      AnchorPane.setBottomAnchor(optBtn, 0.0);
+      AnchorPane.setLeftAnchor(optBtn, 0.0);
+      AnchorPane.setTopAnchor(optBtn, 0.0);
+      optBtn.setId("opt_btn");
+      optBtn.setMaxHeight(Double.POSITIVE_INFINITY);
+      optBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      optBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      optBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      optBtn.setMnemonicParsing(false);
+      optBtn.setPrefHeight(43.0);
+      optBtn.setPrefWidth(45.0);
+      optBtn.getStyleClass().add("opt_btn");
+      optBtn.setOpaqueInsets(new Insets(0.0, 0.0, 0.0, 0.0));
+      optBtn.setPadding(new Insets(0.0, 0.0, 10.0, 0.0));
+      anchorPane.getChildren().add(optBtn);
+      Label name = new Label();
+      AnchorPane.setBottomAnchor(name, 8.0);
+      AnchorPane.setLeftAnchor(name, 48.0);
+      AnchorPane.setTopAnchor(name, 8.0);
+      name.setId("name");
+      name.setLayoutX(45.0);
+      name.setLayoutY(8.0);
+      name.setPrefHeight(27.0);
+      name.setPrefWidth(83.0);
+      name.setText("Standard");
+      name.setFont(new Font("Segoe UI", 20.0));
+      anchorPane.getChildren().add(name);
+      Button clockBtn = new Button();
+      AnchorPane.setBottomAnchor(clockBtn, 1.0);
+      AnchorPane.setRightAnchor(clockBtn, 0.0);
+      AnchorPane.setTopAnchor(clockBtn, 0.0);
+      clockBtn.setId("clock_btn");
+      clockBtn.setLayoutX(279.0);
+      clockBtn.setMnemonicParsing(false);
+      clockBtn.setPrefHeight(42.0);
+      clockBtn.setPrefWidth(42.0);
+      clockBtn.getStyleClass().add("opt_btn");
+      anchorPane.getChildren().add(clockBtn);
+      return anchorPane;
+   }
+
+   private HBox hboxDisplay() {
+      HBox hboxDisplay = new HBox();
+      hboxDisplay.setFillHeight(false);
+      hboxDisplay.setId("hbox-display");
+      hboxDisplay.setLayoutY(84.0);
+      hboxDisplay.setMaxHeight(Double.NEGATIVE_INFINITY);
+      hboxDisplay.setMaxWidth(Double.NEGATIVE_INFINITY);
+      hboxDisplay.setPrefHeight(91.0);
+      hboxDisplay.setPrefWidth(322.0);
+      hboxDisplay.getChildren().add(anchorPane2());
+      return hboxDisplay;
+   }
+
+   private AnchorPane anchorPane2() {
+      AnchorPane anchorPane2 = new AnchorPane();
+      HBox.setHgrow(anchorPane2, Priority.ALWAYS);
+      anchorPane2.setPrefHeight(91.0);
+      anchorPane2.setPrefWidth(596.0);
+      Label mainLabel = new Label();
+      AnchorPane.setLeftAnchor(mainLabel, 8.0);
+      AnchorPane.setRightAnchor(mainLabel, 10.0);
+      AnchorPane.setTopAnchor(mainLabel, 24.0);
+      mainLabel.setAlignment(Pos.CENTER_RIGHT);
+      mainLabel.setId("mainLabel");
+      mainLabel.setLayoutX(8.0);
+      mainLabel.setLayoutY(24.0);
+      mainLabel.setPrefHeight(67.0);
+      mainLabel.setPrefWidth(302.0);
+      mainLabel.setStyle("-fx-padding: 0;");
+      mainLabel.setText("0");
+      mainLabel.setFont(new Font("Segoe UI Semibold", 45.0));
+      controller.setMainLabel(mainLabel);
+      anchorPane2.getChildren().add(mainLabel);
+      anchorPane2.getChildren().add(historyAnc());
+      return anchorPane2;
+   }
+
+   private AnchorPane historyAnc() {
+      AnchorPane historyAnc = new AnchorPane();
+      AnchorPane.setLeftAnchor(historyAnc, 1.0);
+      AnchorPane.setRightAnchor(historyAnc, 1.0);
+      historyAnc.setId("history-anc");
+      historyAnc.setLayoutX(11.0);
+      historyAnc.setMinHeight(0.0);
+      historyAnc.setMinWidth(0.0);
+      historyAnc.setPrefHeight(40.0);
+      historyAnc.setPrefWidth(298.0);
+      historyAnc.setStyle("-fx-background-color: transparent;");
+      historyAnc.getChildren().add(historyScroll());
+      return historyAnc;
+   }
+
+   private ScrollPane historyScroll() {
+      ScrollPane historyScroll = new ScrollPane();
+      AnchorPane.setLeftAnchor(historyScroll, 8.0);
+      AnchorPane.setRightAnchor(historyScroll, 8.0);
+      historyScroll.setId("history-scroll");
+      historyScroll.setLayoutX(8.0);
+      historyScroll.setMaxHeight(37.0);
+      historyScroll.setPrefHeight(30.0);
+      historyScroll.setPrefWidth(302.0);
+      historyScroll.setVbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+      historyScroll.setContent(anchorPane3());
+      historyScroll.setPadding(new Insets(0.0, 3.0, 0.0, 3.0));
+      return historyScroll;
+   }
+
+   private AnchorPane anchorPane3() {
+      AnchorPane anchorPane3 = new AnchorPane();
+      anchorPane3.setPrefHeight(23.0);
+      anchorPane3.setPrefWidth(296.0);
+      Label historyLabel = new Label();
+      AnchorPane.setBottomAnchor(historyLabel, 0.0);
+      AnchorPane.setLeftAnchor(historyLabel, 0.0);
+      AnchorPane.setRightAnchor(historyLabel, 6.0);
+      AnchorPane.setTopAnchor(historyLabel, 0.0);
+      historyLabel.setAlignment(Pos.CENTER_RIGHT);
+      historyLabel.setContentDisplay(ContentDisplay.RIGHT);
+      historyLabel.setId("history-label");
+      historyLabel.setMinHeight(Double.NEGATIVE_INFINITY);
+      historyLabel.setMinWidth(Double.NEGATIVE_INFINITY);
+      historyLabel.setPrefHeight(23.0);
+      historyLabel.setPrefWidth(290.0);
+      historyLabel.setStyle("-fx-background-color: #E6E6E6;");
+      historyLabel.setTextAlignment(TextAlignment.RIGHT);
+      historyLabel.setFont(new Font("Segoe UI Semilight", 15.0));
+      historyLabel.setOpaqueInsets(new Insets(0.0, 0.0, 0.0, 0.0));
+      controller.setHistoryLabel(historyLabel);
+      anchorPane3.getChildren().add(historyLabel);
+      return anchorPane3;
+   }
+
+   private HBox hboxMemory() {
+      HBox hboxMemory = new HBox();
+      hboxMemory.setFillHeight(false);
+      hboxMemory.setId("hbox-memory");
+      hboxMemory.setLayoutY(175.0);
+      hboxMemory.setMaxHeight(Double.NEGATIVE_INFINITY);
+      hboxMemory.setMaxWidth(Double.NEGATIVE_INFINITY);
+      hboxMemory.setPrefHeight(27.0);
+      hboxMemory.getChildren().add(mc2());
+      hboxMemory.getChildren().add(mr2());
+      hboxMemory.getChildren().add(mPlus2());
+      hboxMemory.getChildren().add(mMinus2());
+      hboxMemory.getChildren().add(ms2());
+      hboxMemory.getChildren().add(m2());
+      hboxMemory.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hboxMemory;
+   }
+
+   private AnchorPane mc2() {
+      AnchorPane mc2 = new AnchorPane();
+      mc2.setId("mc2");
+      HBox.setMargin(mc2, new Insets(0.0, 6.0, 0.0, 5.0));
+      Button memoryClearBtn = new Button();
+      AnchorPane.setBottomAnchor(memoryClearBtn, 0.0);
+      AnchorPane.setLeftAnchor(memoryClearBtn, 0.0);
+      AnchorPane.setRightAnchor(memoryClearBtn, 0.0);
+      AnchorPane.setTopAnchor(memoryClearBtn, 0.0);
+      memoryClearBtn.setContentDisplay(ContentDisplay.CENTER);
+      memoryClearBtn.setDisable(true);
+      memoryClearBtn.setId("mc");
+      memoryClearBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memoryClearBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memoryClearBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      memoryClearBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      memoryClearBtn.setMnemonicParsing(false);
+      memoryClearBtn.setOnMousePressed(controller::memoryClear);
+      memoryClearBtn.setPrefHeight(27.0);
+      memoryClearBtn.setPrefWidth(47.0);
+      memoryClearBtn.getStylesheets().add(STANDARD_CALC_CSS);
+      memoryClearBtn.setText("MC");
+      memoryClearBtn.setTextAlignment(TextAlignment.CENTER);
+      memoryClearBtn.setTextOverrun(OverrunStyle.CLIP);
+      memoryClearBtn.setFont(new Font("Segoe UI Semibold", 12.0));
+      memoryClearBtn.getStyleClass().add("memory");
+      memoryClearBtn.getStyleClass().add("btn");
+      controller.setMemoryClearBtn(memoryClearBtn);
+      mc2.getChildren().add(memoryClearBtn);
+      return mc2;
+   }
+
+   private AnchorPane mr2() {
+      AnchorPane mr2 = new AnchorPane();
+      mr2.setId("mr2");
+      HBox.setMargin(mr2, new Insets(0.0, 6.0, 0.0, 0.0));
+      Button memoryRBtn = new Button();
+      AnchorPane.setBottomAnchor(memoryRBtn, 0.0);
+      AnchorPane.setLeftAnchor(memoryRBtn, 0.0);
+      AnchorPane.setRightAnchor(memoryRBtn, 0.0);
+      AnchorPane.setTopAnchor(memoryRBtn, 0.0);
+      memoryRBtn.setDisable(true);
+      memoryRBtn.setId("mr");
+      memoryRBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memoryRBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memoryRBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      memoryRBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      memoryRBtn.setMnemonicParsing(false);
+      memoryRBtn.setOnMousePressed(controller::pickFromMemory);
+      memoryRBtn.setPrefHeight(27.0);
+      memoryRBtn.setPrefWidth(47.0);
+      memoryRBtn.getStylesheets().add(STANDARD_CALC_CSS);
+      memoryRBtn.setText("MR");
+      memoryRBtn.setFont(new Font("Segoe UI Semibold", 12.0));
+      memoryRBtn.getStyleClass().add("memory");
+      memoryRBtn.getStyleClass().add("btn");
+      controller.setMemoryRBtn(memoryRBtn);
+      mr2.getChildren().add(memoryRBtn);
+      return mr2;
+   }
+
+   private AnchorPane mPlus2() {
+      AnchorPane mPlus2 = new AnchorPane();
+      mPlus2.setId("m-plus2");
+      HBox.setMargin(mPlus2, new Insets(0.0, 6.0, 0.0, 0.0));
+      Button memoryAddBtn = new Button();
+      AnchorPane.setBottomAnchor(memoryAddBtn, 0.0);
+      AnchorPane.setLeftAnchor(memoryAddBtn, 0.0);
+      AnchorPane.setRightAnchor(memoryAddBtn, 0.0);
+      AnchorPane.setTopAnchor(memoryAddBtn, 0.0);
+      memoryAddBtn.setId("m-plus");
+      memoryAddBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memoryAddBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memoryAddBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      memoryAddBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      memoryAddBtn.setMnemonicParsing(false);
+      memoryAddBtn.setOnMousePressed(controller::memoryPlus);
+      memoryAddBtn.setPrefHeight(27.0);
+      memoryAddBtn.setPrefWidth(47.0);
+      memoryAddBtn.getStylesheets().add(STANDARD_CALC_CSS);
+      memoryAddBtn.setText("M+");
+      memoryAddBtn.setFont(new Font("Segoe UI Semibold", 12.0));
+      memoryAddBtn.getStyleClass().add("memory");
+      memoryAddBtn.getStyleClass().add("btn");
+      controller.setMemoryAddBtn(memoryAddBtn);
+      mPlus2.getChildren().add(memoryAddBtn);
+      return mPlus2;
+   }
+
+   private AnchorPane mMinus2() {
+      AnchorPane mMinus2 = new AnchorPane();
+      mMinus2.setId("m-minus2");
+      HBox.setMargin(mMinus2, new Insets(0.0, 6.0, 0.0, 0.0));
+      Button memorySubstactBtn = new Button();
+      AnchorPane.setBottomAnchor(memorySubstactBtn, 0.0);
+      AnchorPane.setLeftAnchor(memorySubstactBtn, 0.0);
+      AnchorPane.setRightAnchor(memorySubstactBtn, 0.0);
+      AnchorPane.setTopAnchor(memorySubstactBtn, 0.0);
+      memorySubstactBtn.setId("m-minus");
+      memorySubstactBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memorySubstactBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memorySubstactBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      memorySubstactBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      memorySubstactBtn.setMnemonicParsing(false);
+      memorySubstactBtn.setOnMousePressed(controller::memoryMinus);
+      memorySubstactBtn.setPrefHeight(27.0);
+      memorySubstactBtn.setPrefWidth(47.0);
+      memorySubstactBtn.getStylesheets().add(STANDARD_CALC_CSS);
+      memorySubstactBtn.setText("M-");
+      memorySubstactBtn.setFont(new Font("Segoe UI Semibold", 12.0));
+      memorySubstactBtn.getStyleClass().add("memory");
+      memorySubstactBtn.getStyleClass().add("btn");
+      controller.setMemorySubstactBtn(memorySubstactBtn);
+      mMinus2.getChildren().add(memorySubstactBtn);
+      return mMinus2;
+   }
+
+   private AnchorPane ms2() {
+      AnchorPane ms2 = new AnchorPane();
+      ms2.setId("ms2");
+      HBox.setMargin(ms2, new Insets(0.0, 6.0, 0.0, 0.0));
+      Button memorySBtn = new Button();
+      AnchorPane.setBottomAnchor(memorySBtn, 0.0);
+      AnchorPane.setLeftAnchor(memorySBtn, 0.0);
+      AnchorPane.setRightAnchor(memorySBtn, 0.0);
+      AnchorPane.setTopAnchor(memorySBtn, 0.0);
+      memorySBtn.setId("ms");
+      memorySBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memorySBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memorySBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      memorySBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      memorySBtn.setMnemonicParsing(false);
+      memorySBtn.setPrefHeight(27.0);
+      memorySBtn.setPrefWidth(47.0);
+      memorySBtn.getStylesheets().add(STANDARD_CALC_CSS);
+      memorySBtn.setText("MS");
+      memorySBtn.setFont(new Font("Segoe UI Semibold", 12.0));
+      memorySBtn.getStyleClass().add("memory");
+      memorySBtn.getStyleClass().add("btn");
+      controller.setMemorySBtn(memorySBtn);
+      ms2.getChildren().add(memorySBtn);
+      return ms2;
+   }
+
+   private AnchorPane m2() {
+      AnchorPane m2 = new AnchorPane();
+      m2.setId("m2");
+      Button memoryBtn = new Button();
+      AnchorPane.setBottomAnchor(memoryBtn, 0.0);
+      AnchorPane.setLeftAnchor(memoryBtn, 0.0);
+      AnchorPane.setRightAnchor(memoryBtn, 0.0);
+      AnchorPane.setTopAnchor(memoryBtn, 0.0);
+      memoryBtn.setDisable(true);
+      memoryBtn.setId("m");
+      memoryBtn.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memoryBtn.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memoryBtn.setMinHeight(Double.NEGATIVE_INFINITY);
+      memoryBtn.setMinWidth(Double.NEGATIVE_INFINITY);
+      memoryBtn.setMnemonicParsing(false);
+      memoryBtn.setPrefHeight(27.0);
+      memoryBtn.setPrefWidth(47.0);
+      memoryBtn.getStylesheets().add(STANDARD_CALC_CSS);
+      memoryBtn.setText("M");
+      memoryBtn.setFont(new Font("Segoe UI Semibold", 12.0));
+      memoryBtn.getStyleClass().add("memory");
+      memoryBtn.getStyleClass().add("btn");
+      controller.setMemoryBtn(memoryBtn);
+      m2.getChildren().add(memoryBtn);
+      m2.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return m2;
+   }
+
+   private HBox hbox1() {
+      HBox hbox1 = new HBox();
+      hbox1.setFillHeight(false);
+      hbox1.setId("hbox1");
+      hbox1.setLayoutY(202.0);
+      hbox1.setMaxHeight(Double.MAX_VALUE);
+      hbox1.setMaxWidth(Double.MAX_VALUE);
+      hbox1.setMinHeight(Double.NEGATIVE_INFINITY);
+      hbox1.setMinWidth(Double.NEGATIVE_INFINITY);
+      hbox1.getChildren().add(btnPercent2());
+      hbox1.getChildren().add(btnSqrt2());
+      hbox1.getChildren().add(btnSquare2());
+      hbox1.getChildren().add(btn1x2());
+      hbox1.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hbox1;
+   }
+
+   private AnchorPane btnPercent2() {
+      AnchorPane btnPercent2 = new AnchorPane();
+      btnPercent2.setId("btn-percent2");
+      btnPercent2.setPrefWidth(82.0);
+      HBox.setMargin(btnPercent2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonPercent = new Button();
+      AnchorPane.setBottomAnchor(buttonPercent, 0.0);
+      AnchorPane.setLeftAnchor(buttonPercent, 0.0);
+      AnchorPane.setRightAnchor(buttonPercent, 0.0);
+      AnchorPane.setTopAnchor(buttonPercent, 0.0);
+      buttonPercent.setId("btn-percent");
+      buttonPercent.setLayoutX(40.0);
+      buttonPercent.setLayoutY(250.0);
+      buttonPercent.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonPercent.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonPercent.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonPercent.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonPercent.setMnemonicParsing(false);
+      buttonPercent.setOnAction(controller::buttonPercent);
+      buttonPercent.setPrefHeight(47.0);
+      buttonPercent.setPrefWidth(76.0);
+      buttonPercent.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonPercent.setText("\uE94C");
+      buttonPercent.setFont(new Font("Segoe MDL2 Assets", 16.0));
+      buttonPercent.getStyleClass().add("spec-operator");
+      buttonPercent.getStyleClass().add("btn");
+      controller.setButtonPercent(buttonPercent);
+      btnPercent2.getChildren().add(buttonPercent);
+      btnPercent2.setPadding(new Insets(2.0, 2.0, 0.0, 4.0));
+      return btnPercent2;
+   }
+
+   private AnchorPane btnSqrt2() {
+      AnchorPane btnSqrt2 = new AnchorPane();
+      btnSqrt2.setId("btn-sqrt2");
+      btnSqrt2.setPrefWidth(78.0);
+      HBox.setMargin(btnSqrt2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonSqrt = new Button();
+      AnchorPane.setBottomAnchor(buttonSqrt, 0.0);
+      AnchorPane.setLeftAnchor(buttonSqrt, 0.0);
+      AnchorPane.setRightAnchor(buttonSqrt, 0.0);
+      AnchorPane.setTopAnchor(buttonSqrt, 0.0);
+      buttonSqrt.setId("btn-sqrt");
+      buttonSqrt.setLayoutX(120.0);
+      buttonSqrt.setLayoutY(250.0);
+      buttonSqrt.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonSqrt.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonSqrt.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonSqrt.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonSqrt.setMnemonicParsing(false);
+      buttonSqrt.setOnAction(controller::buttonSqrt);
+      buttonSqrt.setPrefHeight(47.0);
+      buttonSqrt.setPrefWidth(76.0);
+      buttonSqrt.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonSqrt.setText("\uE94B");
+      buttonSqrt.getStyleClass().add("spec-operator");
+      buttonSqrt.getStyleClass().add("btn");
+      buttonSqrt.setFont(new Font("Segoe MDL2 Assets", 16.0));
+      controller.setButtonSqrt(buttonSqrt);
+      btnSqrt2.getChildren().add(buttonSqrt);
+      btnSqrt2.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btnSqrt2;
+   }
+
+   private AnchorPane btnSquare2() {
+      AnchorPane btnSquare2 = new AnchorPane();
+      btnSquare2.setId("btn-square2");
+      btnSquare2.setPrefWidth(78.0);
+      HBox.setMargin(btnSquare2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonSquare = new Button();
+      AnchorPane.setBottomAnchor(buttonSquare, 0.0);
+      AnchorPane.setLeftAnchor(buttonSquare, 0.0);
+      AnchorPane.setRightAnchor(buttonSquare, 0.0);
+      AnchorPane.setTopAnchor(buttonSquare, 0.0);
+      buttonSquare.setId("btn-square");
+      buttonSquare.setLayoutX(200.0);
+      buttonSquare.setLayoutY(250.0);
+      buttonSquare.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonSquare.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonSquare.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonSquare.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonSquare.setMnemonicParsing(false);
+      buttonSquare.setOnAction(controller::buttonSquare);
+      buttonSquare.setPrefHeight(47.0);
+      buttonSquare.setPrefWidth(76.0);
+      buttonSquare.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonSquare.setText("x\u00B2");
+      buttonSquare.getStyleClass().add("spec-operator");
+      buttonSquare.getStyleClass().add("btn");
+      buttonSquare.setFont(new Font("Times New Roman Italic", 20.0));
+      controller.setButtonSquare(buttonSquare);
+      btnSquare2.getChildren().add(buttonSquare);
+      btnSquare2.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btnSquare2;
+   }
+
+   private AnchorPane btn1x2() {
+      AnchorPane btn1x2 = new AnchorPane();
+      btn1x2.setId("btn-1x2");
+      btn1x2.setPrefWidth(83.0);
+      HBox.setMargin(btn1x2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button1x = new Button();
+      AnchorPane.setBottomAnchor(button1x, 0.0);
+      AnchorPane.setLeftAnchor(button1x, 0.0);
+      AnchorPane.setRightAnchor(button1x, 0.0);
+      AnchorPane.setTopAnchor(button1x, 0.0);
+      button1x.setId("btn-1x");
+      button1x.setLayoutX(3.0);
+      button1x.setLayoutY(1.0);
+      button1x.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button1x.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button1x.setMinHeight(Double.NEGATIVE_INFINITY);
+      button1x.setMinWidth(Double.NEGATIVE_INFINITY);
+      button1x.setMnemonicParsing(false);
+      button1x.setOnAction(controller::button1x);
+      button1x.setPrefHeight(47.0);
+      button1x.setPrefWidth(76.0);
+      button1x.getStylesheets().add(STANDARD_CALC_CSS);
+      button1x.setText("\u00B9\u2044x");
+      button1x.getStyleClass().add("spec-operator");
+      button1x.getStyleClass().add("btn");
+      button1x.setOpaqueInsets(new Insets(0.0, 0.0, 0.0, 0.0));
+      button1x.setFont(new Font("Times New Roman Italic", 20.0));
+      controller.setButton1x(button1x);
+      btn1x2.getChildren().add(button1x);
+      btn1x2.setPadding(new Insets(2.0, 5.0, 0.0, 0.0));
+      return btn1x2;
+   }
+
+   private HBox hbox2() {
+      HBox hbox2 = new HBox();
+      hbox2.setFillHeight(false);
+      hbox2.setId("hbox2");
+      hbox2.setLayoutY(251.0);
+      hbox2.setMaxHeight(Double.MAX_VALUE);
+      hbox2.setMaxWidth(Double.MAX_VALUE);
+      hbox2.setMinHeight(Double.NEGATIVE_INFINITY);
+      hbox2.setMinWidth(Double.NEGATIVE_INFINITY);
+      hbox2.getChildren().add(btnCe2());
+      hbox2.getChildren().add(btnC2());
+      hbox2.getChildren().add(btnUndo2());
+      hbox2.getChildren().add(btnDivide2());
+      hbox2.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hbox2;
+   }
+
+   private AnchorPane btnCe2() {
+      AnchorPane btnCe2 = new AnchorPane();
+      btnCe2.setId("btn-ce2");
+      btnCe2.setPrefWidth(82.0);
+      HBox.setMargin(btnCe2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonCE = new Button();
+      AnchorPane.setBottomAnchor(buttonCE, 0.0);
+      AnchorPane.setLeftAnchor(buttonCE, 0.0);
+      AnchorPane.setRightAnchor(buttonCE, 0.0);
+      AnchorPane.setTopAnchor(buttonCE, 0.0);
+      buttonCE.setId("btn-ce");
+      buttonCE.setLayoutX(40.0);
+      buttonCE.setLayoutY(300.0);
+      buttonCE.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonCE.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonCE.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonCE.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonCE.setMnemonicParsing(false);
+      buttonCE.setOnAction(controller::buttonCE);
+      buttonCE.setPrefHeight(47.0);
+      buttonCE.setPrefWidth(76.0);
+      buttonCE.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonCE.setText("CE");
+      buttonCE.setFont(new Font("Segoe UI", 16.0));
+      buttonCE.getStyleClass().add("spec-operator");
+      buttonCE.getStyleClass().add("btn");
+      btnCe2.getChildren().add(buttonCE);
+      btnCe2.setPadding(new Insets(2.0, 2.0, 0.0, 4.0));
+      return btnCe2;
+   }
+
+   private AnchorPane btnC2() {
+      AnchorPane btnC2 = new AnchorPane();
+      btnC2.setId("btn-c2");
+      btnC2.setPrefWidth(78.0);
+      HBox.setMargin(btnC2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonC = new Button();
+      AnchorPane.setBottomAnchor(buttonC, 0.0);
+      AnchorPane.setLeftAnchor(buttonC, 0.0);
+      AnchorPane.setRightAnchor(buttonC, 0.0);
+      AnchorPane.setTopAnchor(buttonC, 0.0);
+      buttonC.setId("btn-c");
+      buttonC.setLayoutX(120.0);
+      buttonC.setLayoutY(300.0);
+      buttonC.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonC.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonC.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonC.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonC.setMnemonicParsing(false);
+      buttonC.setOnAction(controller::buttonC);
+      buttonC.setPrefHeight(47.0);
+      buttonC.setPrefWidth(76.0);
+      buttonC.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonC.setText("C");
+      buttonC.setFont(new Font("Segoe UI", 16.0));
+      buttonC.getStyleClass().add("spec-operator");
+      buttonC.getStyleClass().add("btn");
+      btnC2.getChildren().add(buttonC);
+      btnC2.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btnC2;
+   }
+
+   private AnchorPane btnUndo2() {
+      AnchorPane btnUndo2 = new AnchorPane();
+      btnUndo2.setId("btn-undo2");
+      btnUndo2.setPrefWidth(78.0);
+      HBox.setMargin(btnUndo2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonBackspace = new Button();
+      AnchorPane.setBottomAnchor(buttonBackspace, 0.0);
+      AnchorPane.setLeftAnchor(buttonBackspace, 0.0);
+      AnchorPane.setRightAnchor(buttonBackspace, 0.0);
+      AnchorPane.setTopAnchor(buttonBackspace, 0.0);
+      buttonBackspace.setId("btn-undo");
+      buttonBackspace.setLayoutX(200.0);
+      buttonBackspace.setLayoutY(300.0);
+      buttonBackspace.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonBackspace.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonBackspace.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonBackspace.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonBackspace.setMnemonicParsing(false);
+      buttonBackspace.setOnAction(controller::buttonBackspace);
+      buttonBackspace.setPrefHeight(47.0);
+      buttonBackspace.setPrefWidth(76.0);
+      buttonBackspace.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonBackspace.setText("\uE94F");
+      buttonBackspace.getStyleClass().add("spec-operator");
+      buttonBackspace.getStyleClass().add("btn");
+      buttonBackspace.setFont(new Font("Segoe MDL2 Assets", 16.0));
+      btnUndo2.getChildren().add(buttonBackspace);
+      btnUndo2.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btnUndo2;
+   }
+
+   private AnchorPane btnDivide2() {
+      AnchorPane btnDivide2 = new AnchorPane();
+      btnDivide2.setId("btn-divide2");
+      btnDivide2.setPrefWidth(83.0);
+      HBox.setMargin(btnDivide2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonDivide = new Button();
+      AnchorPane.setBottomAnchor(buttonDivide, 0.0);
+      AnchorPane.setLeftAnchor(buttonDivide, 0.0);
+      AnchorPane.setRightAnchor(buttonDivide, 0.0);
+      AnchorPane.setTopAnchor(buttonDivide, 0.0);
+      buttonDivide.setId("btn-divide");
+      buttonDivide.setLayoutX(280.0);
+      buttonDivide.setLayoutY(300.0);
+      buttonDivide.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonDivide.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonDivide.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonDivide.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonDivide.setMnemonicParsing(false);
+      buttonDivide.setOnAction(controller::buttonDivide);
+      buttonDivide.setPrefHeight(47.0);
+      buttonDivide.setPrefWidth(76.0);
+      buttonDivide.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonDivide.setText("\u00F7");
+      buttonDivide.getStyleClass().add("spl-operator");
+      buttonDivide.getStyleClass().add("btn");
+      buttonDivide.setFont(new Font("Times New Roman", 30.0));
+      controller.setButtonDivide(buttonDivide);
+      btnDivide2.getChildren().add(buttonDivide);
+      btnDivide2.setPadding(new Insets(2.0, 5.0, 0.0, 0.0));
+      return btnDivide2;
+   }
+
+   private HBox hbox3() {
+      HBox hbox3 = new HBox();
+      hbox3.setFillHeight(false);
+      hbox3.setId("hbox3");
+      hbox3.setLayoutY(300.0);
+      hbox3.setMaxHeight(Double.MAX_VALUE);
+      hbox3.setMaxWidth(Double.MAX_VALUE);
+      hbox3.setMinHeight(Double.NEGATIVE_INFINITY);
+      hbox3.setMinWidth(Double.NEGATIVE_INFINITY);
+      hbox3.getChildren().add(btn72());
+      hbox3.getChildren().add(btn82());
+      hbox3.getChildren().add(btn92());
+      hbox3.getChildren().add(btnMultiply2());
+      hbox3.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hbox3;
+   }
+
+   private AnchorPane btn72() {
+      AnchorPane btn72 = new AnchorPane();
+      btn72.setId("btn-72");
+      btn72.setPrefWidth(82.0);
+      HBox.setMargin(btn72, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button7 = new Button();
+      AnchorPane.setBottomAnchor(button7, 0.0);
+      AnchorPane.setLeftAnchor(button7, 0.0);
+      AnchorPane.setRightAnchor(button7, 0.0);
+      AnchorPane.setTopAnchor(button7, 0.0);
+      button7.setEllipsisString("");
+      button7.setGraphicTextGap(0.0);
+      button7.setId("btn-7");
+      button7.setLayoutX(40.0);
+      button7.setLayoutY(350.0);
+      button7.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button7.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button7.setMinHeight(Double.NEGATIVE_INFINITY);
+      button7.setMinWidth(Double.NEGATIVE_INFINITY);
+      button7.setMnemonicParsing(false);
+      button7.setOnAction(controller::button7OnAction);
+      button7.setPrefHeight(47.0);
+      button7.setPrefWidth(76.0);
+      button7.getStylesheets().add(STANDARD_CALC_CSS);
+      button7.setText("7");
+      button7.setTextAlignment(TextAlignment.CENTER);
+      button7.setFont(new Font("Segoe UI Semibold", 24.0));
+      button7.getStyleClass().add("number");
+      button7.getStyleClass().add("btn");
+      btn72.getChildren().add(button7);
+      btn72.setPadding(new Insets(2.0, 2.0, 0.0, 4.0));
+      return btn72;
+   }
+
+   private AnchorPane btn82() {
+      AnchorPane btn82 = new AnchorPane();
+      btn82.setId("btn-82");
+      btn82.setPrefWidth(78.0);
+      HBox.setMargin(btn82, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button8 = new Button();
+      AnchorPane.setBottomAnchor(button8, 0.0);
+      AnchorPane.setLeftAnchor(button8, 0.0);
+      AnchorPane.setRightAnchor(button8, 0.0);
+      AnchorPane.setTopAnchor(button8, 0.0);
+      button8.setId("btn-8");
+      button8.setLayoutX(120.0);
+      button8.setLayoutY(350.0);
+      button8.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button8.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button8.setMinHeight(Double.NEGATIVE_INFINITY);
+      button8.setMinWidth(Double.NEGATIVE_INFINITY);
+      button8.setMnemonicParsing(false);
+      button8.setOnAction(controller::button8OnAction);
+      button8.setPrefHeight(47.0);
+      button8.setPrefWidth(76.0);
+      button8.getStylesheets().add(STANDARD_CALC_CSS);
+      button8.setText("8");
+      button8.getStyleClass().add("number");
+      button8.getStyleClass().add("btn");
+      button8.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn82.getChildren().add(button8);
+      btn82.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn82;
+   }
+
+   private AnchorPane btn92() {
+      AnchorPane btn92 = new AnchorPane();
+      btn92.setId("btn-92");
+      btn92.setPrefWidth(78.0);
+      HBox.setMargin(btn92, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button9 = new Button();
+      AnchorPane.setBottomAnchor(button9, 0.0);
+      AnchorPane.setLeftAnchor(button9, 0.0);
+      AnchorPane.setRightAnchor(button9, 0.0);
+      AnchorPane.setTopAnchor(button9, 0.0);
+      button9.setId("btn-9");
+      button9.setLayoutX(200.0);
+      button9.setLayoutY(350.0);
+      button9.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button9.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button9.setMinHeight(Double.NEGATIVE_INFINITY);
+      button9.setMinWidth(Double.NEGATIVE_INFINITY);
+      button9.setMnemonicParsing(false);
+      button9.setOnAction(controller::button9OnAction);
+      button9.setPrefHeight(47.0);
+      button9.setPrefWidth(76.0);
+      button9.getStylesheets().add(STANDARD_CALC_CSS);
+      button9.setText("9");
+      button9.getStyleClass().add("number");
+      button9.getStyleClass().add("btn");
+      button9.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn92.getChildren().add(button9);
+      btn92.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn92;
+   }
+
+   private AnchorPane btnMultiply2() {
+      AnchorPane btnMultiply2 = new AnchorPane();
+      btnMultiply2.setId("btn-multiply2");
+      btnMultiply2.setPrefWidth(83.0);
+      HBox.setMargin(btnMultiply2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonMultiply = new Button();
+      AnchorPane.setBottomAnchor(buttonMultiply, 0.0);
+      AnchorPane.setLeftAnchor(buttonMultiply, 0.0);
+      AnchorPane.setRightAnchor(buttonMultiply, 0.0);
+      AnchorPane.setTopAnchor(buttonMultiply, 0.0);
+      buttonMultiply.setId("btn-multiply");
+      buttonMultiply.setLayoutX(280.0);
+      buttonMultiply.setLayoutY(350.0);
+      buttonMultiply.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonMultiply.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonMultiply.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonMultiply.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonMultiply.setMnemonicParsing(false);
+      buttonMultiply.setOnAction(controller::buttonMultiply);
+      buttonMultiply.setPrefHeight(47.0);
+      buttonMultiply.setPrefWidth(76.0);
+      buttonMultiply.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonMultiply.setText("\u00D7");
+      buttonMultiply.getStyleClass().add("spl-operator");
+      buttonMultiply.getStyleClass().add("btn");
+      buttonMultiply.setFont(new Font("Times New Roman", 30.0));
+      controller.setButtonMultiply(buttonMultiply);
+      btnMultiply2.getChildren().add(buttonMultiply);
+      btnMultiply2.setPadding(new Insets(2.0, 5.0, 0.0, 0.0));
+      return btnMultiply2;
+   }
+
+   private HBox hbox4() {
+      HBox hbox4 = new HBox();
+      hbox4.setFillHeight(false);
+      hbox4.setId("hbox4");
+      hbox4.setLayoutY(349.0);
+      hbox4.setMaxHeight(Double.MAX_VALUE);
+      hbox4.setMaxWidth(Double.MAX_VALUE);
+      hbox4.setMinHeight(Double.NEGATIVE_INFINITY);
+      hbox4.setMinWidth(Double.NEGATIVE_INFINITY);
+      hbox4.getChildren().add(btn42());
+      hbox4.getChildren().add(btn52());
+      hbox4.getChildren().add(btn62());
+      hbox4.getChildren().add(btnMinus2());
+      hbox4.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hbox4;
+   }
+
+   private AnchorPane btn42() {
+      AnchorPane btn42 = new AnchorPane();
+      btn42.setId("btn-42");
+      HBox.setMargin(btn42, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button4 = new Button();
+      AnchorPane.setBottomAnchor(button4, 0.0);
+      AnchorPane.setLeftAnchor(button4, 0.0);
+      AnchorPane.setRightAnchor(button4, 0.0);
+      AnchorPane.setTopAnchor(button4, 0.0);
+      button4.setId("btn-4");
+      button4.setLayoutX(40.0);
+      button4.setLayoutY(395.0);
+      button4.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button4.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button4.setMinHeight(Double.NEGATIVE_INFINITY);
+      button4.setMinWidth(Double.NEGATIVE_INFINITY);
+      button4.setMnemonicParsing(false);
+      button4.setOnAction(controller::button4OnAction);
+      button4.setPrefHeight(47.0);
+      button4.setPrefWidth(76.0);
+      button4.getStylesheets().add(STANDARD_CALC_CSS);
+      button4.setText("4");
+      button4.setFont(new Font("Segoe UI Semibold", 24.0));
+      button4.getStyleClass().add("number");
+      button4.getStyleClass().add("btn");
+      btn42.getChildren().add(button4);
+      btn42.setPadding(new Insets(2.0, 2.0, 0.0, 4.0));
+      return btn42;
+   }
+
+   private AnchorPane btn52() {
+      AnchorPane btn52 = new AnchorPane();
+      btn52.setId("btn-52");
+      HBox.setMargin(btn52, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button5 = new Button();
+      AnchorPane.setBottomAnchor(button5, 0.0);
+      AnchorPane.setLeftAnchor(button5, 0.0);
+      AnchorPane.setRightAnchor(button5, 0.0);
+      AnchorPane.setTopAnchor(button5, 0.0);
+      button5.setId("btn-5");
+      button5.setLayoutX(120.0);
+      button5.setLayoutY(395.0);
+      button5.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button5.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button5.setMinHeight(Double.NEGATIVE_INFINITY);
+      button5.setMinWidth(Double.NEGATIVE_INFINITY);
+      button5.setMnemonicParsing(false);
+      button5.setOnAction(controller::button5OnAction);
+      button5.setPrefHeight(47.0);
+      button5.setPrefWidth(76.0);
+      button5.getStylesheets().add(STANDARD_CALC_CSS);
+      button5.setText("5");
+      button5.getStyleClass().add("number");
+      button5.getStyleClass().add("btn");
+      button5.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn52.getChildren().add(button5);
+      btn52.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn52;
+   }
+
+   private AnchorPane btn62() {
+      AnchorPane btn62 = new AnchorPane();
+      btn62.setId("btn-62");
+      HBox.setMargin(btn62, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button6 = new Button();
+      AnchorPane.setBottomAnchor(button6, 0.0);
+      AnchorPane.setLeftAnchor(button6, 0.0);
+      AnchorPane.setRightAnchor(button6, 0.0);
+      AnchorPane.setTopAnchor(button6, 0.0);
+      button6.setId("btn-6");
+      button6.setLayoutX(200.0);
+      button6.setLayoutY(395.0);
+      button6.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button6.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button6.setMinHeight(Double.NEGATIVE_INFINITY);
+      button6.setMinWidth(Double.NEGATIVE_INFINITY);
+      button6.setMnemonicParsing(false);
+      button6.setOnAction(controller::button6OnAction);
+      button6.setPrefHeight(47.0);
+      button6.setPrefWidth(76.0);
+      button6.getStylesheets().add(STANDARD_CALC_CSS);
+      button6.setText("6");
+      button6.getStyleClass().add("number");
+      button6.getStyleClass().add("btn");
+      button6.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn62.getChildren().add(button6);
+      btn62.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn62;
+   }
+
+   private AnchorPane btnMinus2() {
+      AnchorPane btnMinus2 = new AnchorPane();
+      btnMinus2.setId("btn-minus2");
+      btnMinus2.setPrefWidth(83.0);
+      HBox.setMargin(btnMinus2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonMinus = new Button();
+      AnchorPane.setBottomAnchor(buttonMinus, 0.0);
+      AnchorPane.setLeftAnchor(buttonMinus, 0.0);
+      AnchorPane.setRightAnchor(buttonMinus, 0.0);
+      AnchorPane.setTopAnchor(buttonMinus, 0.0);
+      buttonMinus.setId("btn-minus");
+      buttonMinus.setLayoutX(280.0);
+      buttonMinus.setLayoutY(395.0);
+      buttonMinus.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonMinus.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonMinus.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonMinus.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonMinus.setMnemonicParsing(false);
+      buttonMinus.setOnAction(controller::buttonMinus);
+      buttonMinus.setPrefHeight(47.0);
+      buttonMinus.setPrefWidth(76.0);
+      buttonMinus.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonMinus.setText("\u2014");
+      buttonMinus.getStyleClass().add("spl-operator");
+      buttonMinus.getStyleClass().add("btn");
+      buttonMinus.setFont(new Font("Times New Roman", 14.0));
+      controller.setButtonMinus(buttonMinus);
+      btnMinus2.getChildren().add(buttonMinus);
+      btnMinus2.setPadding(new Insets(2.0, 5.0, 0.0, 0.0));
+      return btnMinus2;
+   }
+
+   private HBox hbox5() {
+      HBox hbox5 = new HBox();
+      hbox5.setFillHeight(false);
+      hbox5.setId("hbox5");
+      hbox5.setLayoutY(398.0);
+      hbox5.setMaxHeight(Double.MAX_VALUE);
+      hbox5.setMaxWidth(Double.MAX_VALUE);
+      hbox5.setMinHeight(Double.NEGATIVE_INFINITY);
+      hbox5.setMinWidth(Double.NEGATIVE_INFINITY);
+      hbox5.getChildren().add(btn12());
+      hbox5.getChildren().add(btn22());
+      hbox5.getChildren().add(btn32());
+      hbox5.getChildren().add(btnPlus2());
+      hbox5.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hbox5;
+   }
+
+   private AnchorPane btn12() {
+      AnchorPane btn12 = new AnchorPane();
+      btn12.setId("btn-12");
+      HBox.setMargin(btn12, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button1 = new Button();
+      AnchorPane.setBottomAnchor(button1, 0.0);
+      AnchorPane.setLeftAnchor(button1, 0.0);
+      AnchorPane.setRightAnchor(button1, 0.0);
+      AnchorPane.setTopAnchor(button1, 0.0);
+      button1.setId("btn-1");
+      button1.setLayoutX(40.0);
+      button1.setLayoutY(440.0);
+      button1.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button1.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button1.setMinHeight(Double.NEGATIVE_INFINITY);
+      button1.setMinWidth(Double.NEGATIVE_INFINITY);
+      button1.setMnemonicParsing(false);
+      button1.setOnAction(controller::button1OnAction);
+      button1.setPrefHeight(47.0);
+      button1.setPrefWidth(76.0);
+      button1.getStylesheets().add(STANDARD_CALC_CSS);
+      button1.setText("1");
+      button1.setFont(new Font("Segoe UI Semibold", 24.0));
+      button1.getStyleClass().add("number");
+      button1.getStyleClass().add("btn");
+      btn12.getChildren().add(button1);
+      btn12.setPadding(new Insets(2.0, 2.0, 0.0, 4.0));
+      return btn12;
+   }
+
+   private AnchorPane btn22() {
+      AnchorPane btn22 = new AnchorPane();
+      btn22.setId("btn-22");
+      btn22.setPrefWidth(78.0);
+      HBox.setMargin(btn22, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button2 = new Button();
+      AnchorPane.setBottomAnchor(button2, 0.0);
+      AnchorPane.setLeftAnchor(button2, 0.0);
+      AnchorPane.setRightAnchor(button2, 0.0);
+      AnchorPane.setTopAnchor(button2, 0.0);
+      button2.setId("btn-2");
+      button2.setLayoutX(120.0);
+      button2.setLayoutY(440.0);
+      button2.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button2.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button2.setMinHeight(Double.NEGATIVE_INFINITY);
+      button2.setMinWidth(Double.NEGATIVE_INFINITY);
+      button2.setMnemonicParsing(false);
+      button2.setOnAction(controller::button2OnAction);
+      button2.setPrefHeight(47.0);
+      button2.setPrefWidth(76.0);
+      button2.getStylesheets().add(STANDARD_CALC_CSS);
+      button2.setText("2");
+      button2.getStyleClass().add("number");
+      button2.getStyleClass().add("btn");
+      button2.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn22.getChildren().add(button2);
+      btn22.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn22;
+   }
+
+   private AnchorPane btn32() {
+      AnchorPane btn32 = new AnchorPane();
+      btn32.setId("btn-32");
+      btn32.setPrefWidth(78.0);
+      HBox.setMargin(btn32, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button3 = new Button();
+      AnchorPane.setBottomAnchor(button3, 0.0);
+      AnchorPane.setLeftAnchor(button3, 0.0);
+      AnchorPane.setRightAnchor(button3, 0.0);
+      AnchorPane.setTopAnchor(button3, 0.0);
+      button3.setId("btn-3");
+      button3.setLayoutX(200.0);
+      button3.setLayoutY(440.0);
+      button3.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button3.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button3.setMinHeight(Double.NEGATIVE_INFINITY);
+      button3.setMinWidth(Double.NEGATIVE_INFINITY);
+      button3.setMnemonicParsing(false);
+      button3.setOnAction(controller::button3OnAction);
+      button3.setPrefHeight(47.0);
+      button3.setPrefWidth(76.0);
+      button3.getStylesheets().add(STANDARD_CALC_CSS);
+      button3.setText("3");
+      button3.getStyleClass().add("number");
+      button3.getStyleClass().add("btn");
+      button3.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn32.getChildren().add(button3);
+      btn32.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn32;
+   }
+
+   private AnchorPane btnPlus2() {
+      AnchorPane btnPlus2 = new AnchorPane();
+      btnPlus2.setId("btn-plus2");
+      btnPlus2.setPrefWidth(83.0);
+      HBox.setMargin(btnPlus2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonPlus = new Button();
+      AnchorPane.setBottomAnchor(buttonPlus, 0.0);
+      AnchorPane.setLeftAnchor(buttonPlus, 0.0);
+      AnchorPane.setRightAnchor(buttonPlus, 0.0);
+      AnchorPane.setTopAnchor(buttonPlus, 0.0);
+      buttonPlus.setId("btn-plus");
+      buttonPlus.setLayoutX(280.0);
+      buttonPlus.setLayoutY(440.0);
+      buttonPlus.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonPlus.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonPlus.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonPlus.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonPlus.setMnemonicParsing(false);
+      buttonPlus.setOnAction(controller::buttonPlus);
+      buttonPlus.setPrefHeight(47.0);
+      buttonPlus.setPrefWidth(76.0);
+      buttonPlus.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonPlus.setText("+");
+      buttonPlus.getStyleClass().add("spl-operator");
+      buttonPlus.getStyleClass().add("btn");
+      buttonPlus.setFont(new Font("Times New Roman Italic", 27.0));
+      controller.setButtonPlus(buttonPlus);
+      btnPlus2.getChildren().add(buttonPlus);
+      btnPlus2.setPadding(new Insets(2.0, 5.0, 0.0, 0.0));
+      return btnPlus2;
+   }
+
+   private HBox hbox6() {
+      HBox hbox6 = new HBox();
+      hbox6.setFillHeight(false);
+      hbox6.setId("hbox6");
+      hbox6.setLayoutY(447.0);
+      hbox6.setMaxHeight(Double.MAX_VALUE);
+      hbox6.setMaxWidth(Double.MAX_VALUE);
+      hbox6.setMinHeight(Double.NEGATIVE_INFINITY);
+      hbox6.setMinWidth(Double.NEGATIVE_INFINITY);
+      hbox6.getChildren().add(btnNegate2());
+      hbox6.getChildren().add(btn02());
+      hbox6.getChildren().add(btnDot2());
+      hbox6.getChildren().add(btnEquals2());
+      hbox6.setPadding(new Insets(0.0, 5.0, 0.0, 0.0));
+      return hbox6;
+   }
+
+   private AnchorPane btnNegate2() {
+      AnchorPane btnNegate2 = new AnchorPane();
+      btnNegate2.setId("btn-negate2");
+      HBox.setMargin(btnNegate2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonNegate = new Button();
+      AnchorPane.setBottomAnchor(buttonNegate, 0.0);
+      AnchorPane.setLeftAnchor(buttonNegate, 0.0);
+      AnchorPane.setRightAnchor(buttonNegate, 0.0);
+      AnchorPane.setTopAnchor(buttonNegate, 0.0);
+      buttonNegate.setId("btn-negate");
+      buttonNegate.setLayoutX(40.0);
+      buttonNegate.setLayoutY(490.0);
+      buttonNegate.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonNegate.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonNegate.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonNegate.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonNegate.setMnemonicParsing(false);
+      buttonNegate.setOnAction(controller::buttonNegate);
+      buttonNegate.setPrefHeight(47.0);
+      buttonNegate.setPrefWidth(76.0);
+      buttonNegate.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonNegate.setText("\u00B1");
+      buttonNegate.getStyleClass().add("spec-operator");
+      buttonNegate.getStyleClass().add("btn");
+      buttonNegate.setFont(new Font("Segoe UI Semilight", 24.0));
+      buttonNegate.setOpaqueInsets(new Insets(0.0, 5.0, 0.0, 0.0));
+      controller.setButtonNegate(buttonNegate);
+      btnNegate2.getChildren().add(buttonNegate);
+      btnNegate2.setPadding(new Insets(2.0, 2.0, 0.0, 4.0));
+      return btnNegate2;
+   }
+
+   private AnchorPane btn02() {
+      AnchorPane btn02 = new AnchorPane();
+      btn02.setId("btn-02");
+      HBox.setMargin(btn02, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button button0OnAction = new Button();
+      AnchorPane.setBottomAnchor(button0OnAction, 0.0);
+      AnchorPane.setLeftAnchor(button0OnAction, 0.0);
+      AnchorPane.setRightAnchor(button0OnAction, 0.0);
+      AnchorPane.setTopAnchor(button0OnAction, 0.0);
+      button0OnAction.setId("btn-0");
+      button0OnAction.setLayoutX(120.0);
+      button0OnAction.setLayoutY(490.0);
+      button0OnAction.setMaxHeight(Double.NEGATIVE_INFINITY);
+      button0OnAction.setMaxWidth(Double.NEGATIVE_INFINITY);
+      button0OnAction.setMinHeight(Double.NEGATIVE_INFINITY);
+      button0OnAction.setMinWidth(Double.NEGATIVE_INFINITY);
+      button0OnAction.setMnemonicParsing(false);
+      button0OnAction.setOnAction(controller::button0OnAction);
+      button0OnAction.setPrefHeight(47.0);
+      button0OnAction.setPrefWidth(76.0);
+      button0OnAction.getStylesheets().add(STANDARD_CALC_CSS);
+      button0OnAction.setText("0");
+      button0OnAction.getStyleClass().add("number");
+      button0OnAction.getStyleClass().add("btn");
+      button0OnAction.setFont(new Font("Segoe UI Semibold", 24.0));
+      btn02.getChildren().add(button0OnAction);
+      btn02.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btn02;
+   }
+
+   private AnchorPane btnDot2() {
+      AnchorPane btnDot2 = new AnchorPane();
+      btnDot2.setId("btn-dot2");
+      HBox.setMargin(btnDot2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonDot = new Button();
+      AnchorPane.setBottomAnchor(buttonDot, 0.0);
+      AnchorPane.setLeftAnchor(buttonDot, 0.0);
+      AnchorPane.setRightAnchor(buttonDot, 0.0);
+      AnchorPane.setTopAnchor(buttonDot, 0.0);
+      buttonDot.setId("btn-dot");
+      buttonDot.setLayoutX(200.0);
+      buttonDot.setLayoutY(490.0);
+      buttonDot.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonDot.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonDot.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonDot.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonDot.setMnemonicParsing(false);
+      buttonDot.setOnAction(controller::buttonDot);
+      buttonDot.setPrefHeight(47.0);
+      buttonDot.setPrefWidth(76.0);
+      buttonDot.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonDot.setText(".");
+      buttonDot.setFont(new Font("Segoe UI Black", 16.0));
+      buttonDot.getStyleClass().add("spec-operator");
+      buttonDot.getStyleClass().add("btn");
+      controller.setButtonDot(buttonDot);
+      btnDot2.getChildren().add(buttonDot);
+      btnDot2.setPadding(new Insets(2.0, 2.0, 0.0, 0.0));
+      return btnDot2;
+   }
+
+   private AnchorPane btnEquals2() {
+      AnchorPane btnEquals2 = new AnchorPane();
+      btnEquals2.setId("btn-equals2");
+      btnEquals2.setPrefWidth(83.0);
+      HBox.setMargin(btnEquals2, new Insets(0.0, 0.0, 0.0, 0.0));
+      Button buttonEquals = new Button();
+      AnchorPane.setBottomAnchor(buttonEquals, 0.0);
+      AnchorPane.setLeftAnchor(buttonEquals, 0.0);
+      AnchorPane.setRightAnchor(buttonEquals, 0.0);
+      AnchorPane.setTopAnchor(buttonEquals, 0.0);
+      buttonEquals.setId("btn-equals");
+      buttonEquals.setLayoutX(280.0);
+      buttonEquals.setLayoutY(490.0);
+      buttonEquals.setMaxHeight(Double.NEGATIVE_INFINITY);
+      buttonEquals.setMaxWidth(Double.NEGATIVE_INFINITY);
+      buttonEquals.setMinHeight(Double.NEGATIVE_INFINITY);
+      buttonEquals.setMinWidth(Double.NEGATIVE_INFINITY);
+      buttonEquals.setMnemonicParsing(false);
+      buttonEquals.setOnAction(controller::buttonEquals);
+      buttonEquals.setPrefHeight(47.0);
+      buttonEquals.setPrefWidth(76.0);
+      buttonEquals.getStylesheets().add(STANDARD_CALC_CSS);
+      buttonEquals.setText("=");
+      buttonEquals.getStyleClass().add("spl-operator");
+      buttonEquals.getStyleClass().add("btn");
+      buttonEquals.setFont(new Font("Times New Roman", 30.0));
+      btnEquals2.getChildren().add(buttonEquals);
+      btnEquals2.setPadding(new Insets(2.0, 5.0, 0.0, 0.0));
+      return btnEquals2;
+   }
+
+   private AnchorPane optionTab() {
+      AnchorPane optionTab = new AnchorPane();
+      AnchorPane.setBottomAnchor(optionTab, 0.0);
+      AnchorPane.setLeftAnchor(optionTab, -1.0);
+      AnchorPane.setTopAnchor(optionTab, 30.0);
+      optionTab.setId("option-tab");
+      optionTab.setLayoutY(31.0);
+      optionTab.setMaxWidth(Double.NEGATIVE_INFINITY);
+      optionTab.setMinWidth(Double.NEGATIVE_INFINITY);
+      optionTab.setPrefHeight(470.0);
+      optionTab.setPrefWidth(255.0);
+      optionTab.setStyle("-fx-background-color: #F0F0F0;");
+      optionTab.setTranslateX(-255.0);
+      optionTab.getChildren().add(pane2());
+      Button optBtn2 = new Button();
+      optBtn2.setId("opt_btn2");
+      optBtn2.setMaxHeight(Double.POSITIVE_INFINITY);
+      optBtn2.setMaxWidth(Double.NEGATIVE_INFINITY);
+      optBtn2.setMinHeight(Double.NEGATIVE_INFINITY);
+      optBtn2.setMinWidth(Double.NEGATIVE_INFINITY);
+      optBtn2.setMnemonicParsing(false);
+      optBtn2.setPrefHeight(43.0);
+      optBtn2.setPrefWidth(45.0);
+      optBtn2.getStyleClass().add("opt_btn");
+      optBtn2.setOpaqueInsets(new Insets(0.0, 0.0, 0.0, 0.0));
+      optBtn2.setPadding(new Insets(0.0, 0.0, 10.0, 0.0));
+      optionTab.getChildren().add(optBtn2);
+      optionTab.getChildren().add(optionScroll());
+      return optionTab;
+   }
+
+   private Pane pane2() {
+      Pane pane2 = new Pane();
+      AnchorPane.setBottomAnchor(pane2, 8.0);
+      AnchorPane.setLeftAnchor(pane2, 0.0);
+      AnchorPane.setRightAnchor(pane2, 0.0);
+      pane2.setLayoutY(424.0);
+      pane2.setPrefHeight(37.0);
+      pane2.setPrefWidth(255.0);
+      pane2.getStyleClass().add("memory");
+      ImageView about = new ImageView();
+      about.setFitHeight(27.0);
+      about.setFitWidth(25.0);
+      about.setId("about");
+      about.setLayoutX(14.0);
+      about.setLayoutY(5.0);
+      about.setPickOnBounds(true);
+      about.setPreserveRatio(true);
+      pane2.getChildren().add(about);
+      Label label = new Label();
+      label.setLayoutX(53.0);
+      label.setLayoutY(6.0);
+      label.setPrefHeight(27.0);
+      label.setPrefWidth(68.0);
+      label.setText("About");
+      label.setFont(new Font("Segoe UI", 16.0));
+      pane2.getChildren().add(label);
+      return pane2;
+   }
+
+   private ScrollPane optionScroll() {
+      ScrollPane optionScroll = new ScrollPane();
+      AnchorPane.setBottomAnchor(optionScroll, 45.0);
+      AnchorPane.setLeftAnchor(optionScroll, 0.0);
+      AnchorPane.setRightAnchor(optionScroll, 0.0);
+      AnchorPane.setTopAnchor(optionScroll, 54.0);
+      optionScroll.setId("option-scroll");
+      optionScroll.setLayoutY(54.0);
+      optionScroll.setPrefHeight(370.0);
+      optionScroll.setPrefWidth(255.0);
+      optionScroll.getStyleClass().add("scroll");
+      LazyContent.register(optionScroll, () -> optionScrollContent(optionScroll));
+      return optionScroll;
+   }
+
+   private void optionScrollContent(ScrollPane optionScroll) {
+      optionScroll.setContent(anchorPane4());
+   }
+
+   private AnchorPane anchorPane4() {
+      AnchorPane anchorPane4 = new AnchorPane();
+      anchorPane4.setPrefHeight(520.0);
+      anchorPane4.setPrefWidth(240.0);
+      Label opt = new Label();
+      opt.setId("opt");
+      opt.setLayoutX(10.0);
+      opt.setLayoutY(5.0);
+      opt.setPrefHeight(37.0);
+      opt.setPrefWidth(88.0);
+      opt.setText("Calculator");
+      opt.setFont(new Font("Segoe UI Black", 15.0));
+      anchorPane4.getChildren().add(opt);
+      anchorPane4.getChildren().add(pane3());
+      anchorPane4.getChildren().add(pane4());
+      anchorPane4.getChildren().add(pane5());
+      anchorPane4.getChildren().add(pane6());
+      Label opt2 = new Label();
+      opt2.setId("opt");
+      opt2.setLayoutX(10.0);
+      opt2.setLayoutY(204.0);
+      opt2.setPrefHeight(37.0);
+      opt2.setPrefWidth(100.0);
+      opt2.setText("Converter");
+      opt2.setFont(new Font("Segoe UI Black", 15.0));
+      anchorPane4.getChildren().add(opt2);
+      anchorPane4.getChildren().add(pane7());
+      anchorPane4.getChildren().add(pane8());
+      anchorPane4.getChildren().add(pane9());
+      anchorPane4.getChildren().add(pane10());
+      anchorPane4.getChildren().add(pane11());
+      anchorPane4.getChildren().add(pane12());
+      anchorPane4.getChildren().add(pane13());
+      anchorPane4.getChildren().add(pane14());
+      anchorPane4.getChildren().add(pane15());
+      anchorPane4.getChildren().add(pane16());
+      anchorPane4.getChildren().add(pane17());
+      anchorPane4.getChildren().add(pane18());
+      anchorPane4.getChildren().add(pane19());
+      return anchorPane4;
+   }
+
+   private Pane pane3() {
+      Pane pane3 = new Pane();
+      pane3.setLayoutY(40.0);
+      pane3.setPrefHeight(41.0);
+      pane3.setPrefWidth(240.0);
+      pane3.getStyleClass().add("memory");
+      ImageView standard = new ImageView();
+      standard.setFitHeight(27.0);
+      standard.setFitWidth(25.0);
+      standard.setId("standard");
+      standard.setLayoutX(14.0);
+      standard.setLayoutY(5.0);
+      standard.setPickOnBounds(true);
+      standard.setPreserveRatio(true);
+      pane3.getChildren().add(standard);
+      Label label2 = new Label();
+      label2.setLayoutX(53.0);
+      label2.setLayoutY(6.0);
+      label2.setPrefHeight(27.0);
+      label2.setPrefWidth(180.0);
+      label2.setText("Standard");
+      label2.setFont(new Font("Segoe UI", 16.0));
+      pane3.getChildren().add(label2);
+      return pane3;
+   }
+
+   private Pane pane4() {
+      Pane pane4 = new Pane();
+      pane4.setLayoutY(81.0);
+      pane4.setPrefHeight(41.0);
+      pane4.setPrefWidth(240.0);
+      pane4.getStyleClass().add("memory");
+      ImageView scientific = new ImageView();
+      scientific.setFitHeight(27.0);
+      scientific.setFitWidth(25.0);
+      scientific.setId("scientific");
+      scientific.setLayoutX(14.0);
+      scientific.setLayoutY(5.0);
+      scientific.setPickOnBounds(true);
+      scientific.setPreserveRatio(true);
+      pane4.getChildren().add(scientific);
+      Label label3 = new Label();
+      label3.setLayoutX(53.0);
+      label3.setLayoutY(6.0);
+      label3.setPrefHeight(27.0);
+      label3.setPrefWidth(180.0);
+      label3.setText("Scientific");
+      label3.setFont(new Font("Segoe UI", 16.0));
+      pane4.getChildren().add(label3);
+      return pane4;
+   }
+
+   private Pane pane5() {
+      Pane pane5 = new Pane();
+      pane5.setLayoutY(122.0);
+      pane5.setPrefHeight(41.0);
+      pane5.setPrefWidth(240.0);
+      pane5.getStyleClass().add("memory");
+      ImageView programmer = new ImageView();
+      programmer.setFitHeight(27.0);
+      programmer.setFitWidth(25.0);
+      programmer.setId("programmer");
+      programmer.setLayoutX(14.0);
+      programmer.setLayoutY(5.0);
+      programmer.setPickOnBounds(true);
+      programmer.setPreserveRatio(true);
+      pane5.getChildren().add(programmer);
+      Label label4 = new Label();
+      label4.setLayoutX(53.0);
+      label4.setLayoutY(6.0);
+      label4.setPrefHeight(27.0);
+      label4.setPrefWidth(180.0);
+      label4.setText("Programmer");
+      label4.setFont(new Font("Segoe UI", 16.0));
+      pane5.getChildren().add(label4);
+      return pane5;
+   }
+
+   private Pane pane6() {
+      Pane pane6 = new Pane();
+      pane6.setLayoutY(163.0);
+      pane6.setPrefHeight(41.0);
+      pane6.setPrefWidth(240.0);
+      pane6.getStyleClass().add("memory");
+      ImageView date = new ImageView();
+      date.setFitHeight(27.0);
+      date.setFitWidth(25.0);
+      date.setId("date");
+      date.setLayoutX(14.0);
+      date.setLayoutY(5.0);
+      date.setPickOnBounds(true);
+      date.setPreserveRatio(true);
+      pane6.getChildren().add(date);
+      Label label5 = new Label();
+      label5.setLayoutX(53.0);
+      label5.setLayoutY(6.0);
+      label5.setPrefHeight(27.0);
+      label5.setPrefWidth(180.0);
+      label5.setText("Date Calculation");
+      label5.setFont(new Font("Segoe UI", 16.0));
+      pane6.getChildren().add(label5);
+      return pane6;
+   }
+
+   private Pane pane7() {
+      Pane pane7 = new Pane();
+      pane7.setLayoutY(240.0);
+      pane7.setPrefHeight(41.0);
+      pane7.setPrefWidth(240.0);
+      pane7.getStyleClass().add("memory");
+      ImageView currency = new ImageView();
+      currency.setFitHeight(27.0);
+      currency.setFitWidth(25.0);
+      currency.setId("currency");
+      currency.setLayoutX(14.0);
+      currency.setLayoutY(5.0);
+      currency.setPickOnBounds(true);
+      currency.setPreserveRatio(true);
+      pane7.getChildren().add(currency);
+      Label label6 = new Label();
+      label6.setLayoutX(53.0);
+      label6.setLayoutY(6.0);
+      label6.setPrefHeight(27.0);
+      label6.setPrefWidth(180.0);
+      label6.setText("Currency");
+      label6.setFont(new Font("Segoe UI", 16.0));
+      pane7.getChildren().add(label6);
+      return pane7;
+   }
+
+   private Pane pane8() {
+      Pane pane8 = new Pane();
+      pane8.setLayoutY(281.0);
+      pane8.setPrefHeight(41.0);
+      pane8.setPrefWidth(240.0);
+      pane8.getStyleClass().add("memory");
+      ImageView volume = new ImageView();
+      volume.setFitHeight(27.0);
+      volume.setFitWidth(25.0);
+      volume.setId("volume");
+      volume.setLayoutX(14.0);
+      volume.setLayoutY(5.0);
+      volume.setPickOnBounds(true);
+      volume.setPreserveRatio(true);
+      pane8.getChildren().add(volume);
+      Label label7 = new Label();
+      label7.setLayoutX(53.0);
+      label7.setLayoutY(6.0);
+      label7.setPrefHeight(27.0);
+      label7.setPrefWidth(180.0);
+      label7.setText("Volume");
+      label7.setFont(new Font("Segoe UI", 16.0));
+      pane8.getChildren().add(label7);
+      return pane8;
+   }
+
+   private Pane pane9() {
+      Pane pane9 = new Pane();
+      pane9.setLayoutY(322.0);
+      pane9.setPrefHeight(41.0);
+      pane9.setPrefWidth(240.0);
+      pane9.getStyleClass().add("memory");
+      ImageView length = new ImageView();
+      length.setFitHeight(27.0);
+      length.setFitWidth(25.0);
+      length.setId("length");
+      length.setLayoutX(14.0);
+      length.setLayoutY(5.0);
+      length.setPickOnBounds(true);
+      length.setPreserveRatio(true);
+      pane9.getChildren().add(length);
+      Label label8 = new Label();
+      label8.setLayoutX(53.0);
+      label8.setLayoutY(6.0);
+      label8.setPrefHeight(27.0);
+      label8.setPrefWidth(180.0);
+      label8.setText("Length");
+      label8.setFont(new Font("Segoe UI", 16.0));
+      pane9.getChildren().add(label8);
+      return pane9;
+   }
+
+   private Pane pane10() {
+      Pane pane10 = new Pane();
+      pane10.setLayoutY(363.0);
+      pane10.setPrefHeight(41.0);
+      pane10.setPrefWidth(240.0);
+      pane10.getStyleClass().add("memory");
+      ImageView weight = new ImageView();
+      weight.setFitHeight(27.0);
+      weight.setFitWidth(25.0);
+      weight.setId("weight");
+      weight.setLayoutX(14.0);
+      weight.setLayoutY(5.0);
+      weight.setPickOnBounds(true);
+      weight.setPreserveRatio(true);
+      pane10.getChildren().add(weight);
+      Label label9 = new Label();
+      label9.setLayoutX(53.0);
+      label9.setLayoutY(6.0);
+      label9.setPrefHeight(27.0);
+      label9.setPrefWidth(180.0);
+      label9.setText("Weight and Mass");
+      label9.setFont(new Font("Segoe UI", 16.0));
+      pane10.getChildren().add(label9);
+      return pane10;
+   }
+
+   private Pane pane11() {
+      Pane pane11 = new Pane();
+      pane11.setLayoutY(404.0);
+      pane11.setPrefHeight(41.0);
+      pane11.setPrefWidth(240.0);
+      pane11.getStyleClass().add("memory");
+      ImageView temperature = new ImageView();
+      temperature.setFitHeight(27.0);
+      temperature.setFitWidth(25.0);
+      temperature.setId("temperature");
+      temperature.setLayoutX(14.0);
+      temperature.setLayoutY(5.0);
+      temperature.setPickOnBounds(true);
+      temperature.setPreserveRatio(true);
+      pane11.getChildren().add(temperature);
+      Label label10 = new Label();
+      label10.setLayoutX(53.0);
+      label10.setLayoutY(6.0);
+      label10.setPrefHeight(27.0);
+      label10.setPrefWidth(180.0);
+      label10.setText("Temperature");
+      label10.setFont(new Font("Segoe UI", 16.0));
+      pane11.getChildren().add(label10);
+      return pane11;
+   }
+
+   private Pane pane12() {
+      Pane pane12 = new Pane();
+      pane12.setLayoutY(445.0);
+      pane12.setPrefHeight(41.0);
+      pane12.setPrefWidth(240.0);
+      pane12.getStyleClass().add("memory");
+      ImageView energy = new ImageView();
+      energy.setFitHeight(27.0);
+      energy.setFitWidth(25.0);
+      energy.setId("energy");
+      energy.setLayoutX(14.0);
+      energy.setLayoutY(5.0);
+      energy.setPickOnBounds(true);
+      energy.setPreserveRatio(true);
+      pane12.getChildren().add(energy);
+      Label label11 = new Label();
+      label11.setLayoutX(53.0);
+      label11.setLayoutY(6.0);
+      label11.setPrefHeight(27.0);
+      label11.setPrefWidth(180.0);
+      label11.setText("Energy");
+      label11.setFont(new Font("Segoe UI", 16.0));
+      pane12.getChildren().add(label11);
+      return pane12;
+   }
+
+   private Pane pane13() {
+      Pane pane13 = new Pane();
+      pane13.setLayoutY(486.0);
+      pane13.setPrefHeight(41.0);
+      pane13.setPrefWidth(240.0);
+      pane13.getStyleClass().add("memory");
+      ImageView area = new ImageView();
+      area.setFitHeight(27.0);
+      area.setFitWidth(25.0);
+      area.setId("area");
+      area.setLayoutX(14.0);
+      area.setLayoutY(5.0);
+      area.setPickOnBounds(true);
+      area.setPreserveRatio(true);
+      pane13.getChildren().add(area);
+      Label label12 = new Label();
+      label12.setLayoutX(53.0);
+      label12.setLayoutY(6.0);
+      label12.setPrefHeight(27.0);
+      label12.setPrefWidth(180.0);
+      label12.setText("Area");
+      label12.setFont(new Font("Segoe UI", 16.0));
+      pane13.getChildren().add(label12);
+      return pane13;
+   }
+
+   private Pane pane14() {
+      Pane pane14 = new Pane();
+      pane14.setLayoutY(527.0);
+      pane14.setPrefHeight(41.0);
+      pane14.setPrefWidth(240.0);
+      pane14.getStyleClass().add("memory");
+      ImageView speed = new ImageView();
+      speed.setFitHeight(27.0);
+      speed.setFitWidth(25.0);
+      speed.setId("speed");
+      speed.setLayoutX(14.0);
+      speed.setLayoutY(5.0);
+      speed.setPickOnBounds(true);
+      speed.setPreserveRatio(true);
+      pane14.getChildren().add(speed);
+      Label label13 = new Label();
+      label13.setLayoutX(53.0);
+      label13.setLayoutY(6.0);
+      label13.setPrefHeight(27.0);
+      label13.setPrefWidth(180.0);
+      label13.setText("Speed");
+      label13.setFont(new Font("Segoe UI", 16.0));
+      pane14.getChildren().add(label13);
+      return pane14;
+   }
+
+   private Pane pane15() {
+      Pane pane15 = new Pane();
+      pane15.setLayoutY(568.0);
+      pane15.setPrefHeight(41.0);
+      pane15.setPrefWidth(240.0);
+      pane15.getStyleClass().add("memory");
+      ImageView time = new ImageView();
+      time.setFitHeight(27.0);
+      time.setFitWidth(25.0);
+      time.setId("time");
+      time.setLayoutX(14.0);
+      time.setLayoutY(5.0);
+      time.setPickOnBounds(true);
+      time.setPreserveRatio(true);
+      pane15.getChildren().add(time);
+      Label label14 = new Label();
+      label14.setLayoutX(53.0);
+      label14.setLayoutY(6.0);
+      label14.setPrefHeight(27.0);
+      label14.setPrefWidth(180.0);
+      label14.setText("Time");
+      label14.setFont(new Font("Segoe UI", 16.0));
+      pane15.getChildren().add(label14);
+      return pane15;
+   }
+
+   private Pane pane16() {
+      Pane pane16 = new Pane();
+      pane16.setLayoutY(609.0);
+      pane16.setPrefHeight(41.0);
+      pane16.setPrefWidth(240.0);
+      pane16.getStyleClass().add("memory");
+      ImageView power = new ImageView();
+      power.setFitHeight(27.0);
+      power.setFitWidth(25.0);
+      power.setId("power");
+      power.setLayoutX(14.0);
+      power.setLayoutY(5.0);
+      power.setPickOnBounds(true);
+      power.setPreserveRatio(true);
+      pane16.getChildren().add(power);
+      Label label15 = new Label();
+      label15.setLayoutX(53.0);
+      label15.setLayoutY(6.0);
+      label15.setPrefHeight(27.0);
+      label15.setPrefWidth(180.0);
+      label15.setText("Power");
+      label15.setFont(new Font("Segoe UI", 16.0));
+      pane16.getChildren().add(label15);
+      return pane16;
+   }
+
+   private Pane pane17() {
+      Pane pane17 = new Pane();
+      pane17.setLayoutY(660.0);
+      pane17.setPrefHeight(41.0);
+      pane17.setPrefWidth(240.0);
+      pane17.getStyleClass().add("memory");
+      ImageView data = new ImageView();
+      data.setFitHeight(27.0);
+      data.setFitWidth(25.0);
+      data.setId("data");
+      data.setLayoutX(14.0);
+      data.setLayoutY(5.0);
+      data.setPickOnBounds(true);
+      data.setPreserveRatio(true);
+      pane17.getChildren().add(data);
+      Label label16 = new Label();
+      label16.setLayoutX(53.0);
+      label16.setLayoutY(6.0);
+      label16.setPrefHeight(27.0);
+      label16.setPrefWidth(180.0);
+      label16.setText("Data");
+      label16.setFont(new Font("Segoe UI", 16.0));
+      pane17.getChildren().add(label16);
+      return pane17;
+   }
+
+   private Pane pane18() {
+      Pane pane18 = new Pane();
+      pane18.setLayoutY(701.0);
+      pane18.setPrefHeight(41.0);
+      pane18.setPrefWidth(240.0);
+      pane18.getStyleClass().add("memory");
+      ImageView pressure = new ImageView();
+      pressure.setFitHeight(27.0);
+      pressure.setFitWidth(25.0);
+      pressure.setId("pressure");
+      pressure.setLayoutX(14.0);
+      pressure.setLayoutY(5.0);
+      pressure.setPickOnBounds(true);
+      pressure.setPreserveRatio(true);
+      pane18.getChildren().add(pressure);
+      Label label17 = new Label();
+      label17.setLayoutX(53.0);
+      label17.setLayoutY(6.0);
+      label17.setPrefHeight(27.0);
+      label17.setPrefWidth(180.0);
+      label17.setText("Pressure");
+      label17.setFont(new Font("Segoe UI", 16.0));
+      pane18.getChildren().add(label17);
+      return pane18;
+   }
+
+   private Pane pane19() {
+      Pane pane19 = new Pane();
+      pane19.setLayoutY(742.0);
+      pane19.setPrefHeight(41.0);
+      pane19.setPrefWidth(240.0);
+      pane19.getStyleClass().add("memory");
+      ImageView angle = new ImageView();
+      angle.setFitHeight(27.0);
+      angle.setFitWidth(25.0);
+      angle.setId("angle");
+      angle.setLayoutX(14.0);
+      angle.setLayoutY(5.0);
+      angle.setPickOnBounds(true);
+      angle.setPreserveRatio(true);
+      pane19.getChildren().add(angle);
+      Label label18 = new Label();
+      label18.setLayoutX(53.0);
+      label18.setLayoutY(6.0);
+      label18.setPrefHeight(27.0);
+      label18.setPrefWidth(180.0);
+      label18.setText("Angle");
+      label18.setFont(new Font("Segoe UI", 16.0));
+      pane19.getChildren().add(label18);
+      return pane19;
+   }
+
+   private AnchorPane historyTab() {
+      AnchorPane historyTab = new AnchorPane();
+      AnchorPane.setLeftAnchor(historyTab, 0.0);
+      AnchorPane.setRightAnchor(historyTab, 0.0);
+      historyTab.setId("history-tab");
+      historyTab.setLayoutY(200.0);
+      historyTab.setMaxHeight(Double.MAX_VALUE);
+      historyTab.setMaxWidth(Double.MAX_VALUE);
+      historyTab.setMinHeight(Double.NEGATIVE_INFINITY);
+      historyTab.setMinWidth(Double.NEGATIVE_INFINITY);
+      historyTab.setPrefHeight(300.0);
+      historyTab.setPrefWidth(322.0);
+      historyTab.setStyle("-fx-background-color: #F0F0F0;");
+      historyTab.setTranslateY(1000.0);
+      LazyContent.register(historyTab, () -> historyTabContent(historyTab));
+      return historyTab;
+   }
+
+   private void historyTabContent(AnchorPane historyTab) {
+      Label mHistory = new Label();
+      AnchorPane.setLeftAnchor(mHistory, 21.0);
+      AnchorPane.setTopAnchor(mHistory, 26.0);
+      mHistory.setId("mHistory");
+      mHistory.setLayoutX(21.0);
+      mHistory.setLayoutY(26.0);
+      mHistory.setText("There's no history yet");
+      mHistory.setFont(new Font("Segoe UI Semibold", 15.0));
+      historyTab.getChildren().add(mHistory);
+      ListView<HistoryEntry> historyList = new ListView<>();
+      AnchorPane.setBottomAnchor(historyList, 0.0);
+      AnchorPane.setLeftAnchor(historyList, 0.0);
+      AnchorPane.setRightAnchor(historyList, 0.0);
+      AnchorPane.setTopAnchor(historyList, 0.0);
+      historyList.setFixedCellSize(56.0);
+      historyList.setId("history-list");
+      historyList.setStyle("-fx-background-color: transparent;");
+      controller.setHistoryList(historyList);
+      historyTab.getChildren().add(historyList);
+   }
+
+   private AnchorPane memoryTab() {
+      AnchorPane memoryTab = new AnchorPane();
+      AnchorPane.setLeftAnchor(memoryTab, 0.0);
+      AnchorPane.setRightAnchor(memoryTab, 0.0);
+      memoryTab.setId("memory-tab");
+      memoryTab.setLayoutY(200.0);
+      memoryTab.setMaxHeight(Double.MAX_VALUE);
+      memoryTab.setMaxWidth(Double.MAX_VALUE);
+      memoryTab.setMinHeight(Double.NEGATIVE_INFINITY);
+      memoryTab.setMinWidth(Double.NEGATIVE_INFINITY);
+      memoryTab.setPrefHeight(300.0);
+      memoryTab.setPrefWidth(322.0);
+      memoryTab.setStyle("-fx-background-color: #F0F0F0;");
+      memoryTab.setTranslateY(1000.0);
+      Label memoryMessageLabel = new Label();
+      AnchorPane.setLeftAnchor(memoryMessageLabel, 15.0);
+      AnchorPane.setTopAnchor(memoryMessageLabel, 9.0);
+      memoryMessageLabel.setAlignment(Pos.TOP_LEFT);
+      memoryMessageLabel.setId("memory-empty");
+      memoryMessageLabel.setPrefHeight(43.0);
+      memoryMessageLabel.setPrefWidth(279.0);
+      memoryMessageLabel.setText("There's nothing saved in memory");
+      memoryMessageLabel.setFont(new Font("Segoe UI Semibold", 15.0));
+      controller.setMemoryMessageLabel(memoryMessageLabel);
+      memoryTab.getChildren().add(memoryMessageLabel);
+      memoryTab.getChildren().add(memoryBox());
+      return memoryTab;
+   }
+
+   private AnchorPane memoryBox() {
+      AnchorPane memoryBox = new AnchorPane();
+      AnchorPane.setLeftAnchor(memoryBox, 0.0);
+      AnchorPane.setRightAnchor(memoryBox, 0.0);
+      AnchorPane.setTopAnchor(memoryBox, 15.0);
+      memoryBox.setId("memory-pane");
+      memoryBox.setLayoutY(250.0);
+      memoryBox.setMaxHeight(Double.NEGATIVE_INFINITY);
+      memoryBox.setMaxWidth(Double.NEGATIVE_INFINITY);
+      memoryBox.setMinHeight(Double.NEGATIVE_INFINITY);
+      memoryBox.setMinWidth(Double.NEGATIVE_INFINITY);
+      memoryBox.setOnMousePressed(controller::pickFromMemory);
+      memoryBox.setPrefHeight(91.0);
+      memoryBox.setPrefWidth(322.0);
+      memoryBox.getStyleClass().add("memory");
+      memoryBox.getStylesheets().add(STANDARD_CALC_CSS);
+      Label memoryLabel = new Label();
+      AnchorPane.setBottomAnchor(memoryLabel, 7.0);
+      AnchorPane.setLeftAnchor(memoryLabel, 0.0);
+      AnchorPane.setRightAnchor(memoryLabel, 22.0);
+      AnchorPane.setTopAnchor(memoryLabel, 5.0);
+      memoryLabel.setAlignment(Pos.TOP_RIGHT);
+      memoryLabel.setId("memoryLabel");
+      memoryLabel.setLayoutY(10.0);
+      memoryLabel.setPrefHeight(43.0);
+      memoryLabel.setPrefWidth(279.0);
+      memoryLabel.setText("0");
+      memoryLabel.setFont(new Font("Segoe UI Semibold", 25.0));
+      controller.setMemoryLabel(memoryLabel);
+      memoryBox.getChildren().add(memoryLabel);
+      Button mmc = new Button();
+      AnchorPane.setRightAnchor(mmc, 115.0);
+      mmc.setId("mmc");
+      mmc.setLayoutX(150.0);
+      mmc.setLayoutY(54.0);
+      mmc.setMnemonicParsing(false);
+      mmc.setOnMouseReleased(controller::memoryClear);
+      mmc.setPrefWidth(45.0);
+      mmc.getStyleClass().add("main-memory-btn");
+      mmc.getStylesheets().add(STANDARD_CALC_CSS);
+      mmc.setText("MC");
+      mmc.setFont(new Font("Segoe UI Semibold", 13.0));
+      memoryBox.getChildren().add(mmc);
+      Button mainMemoryPlus = new Button();
+      AnchorPane.setRightAnchor(mainMemoryPlus, 65.0);
+      mainMemoryPlus.setId("main-memory-plus");
+      mainMemoryPlus.setLayoutX(207.0);
+      mainMemoryPlus.setLayoutY(54.0);
+      mainMemoryPlus.setMnemonicParsing(false);
+      mainMemoryPlus.setOnMousePressed(controller::memoryPlus);
+      mainMemoryPlus.setPrefWidth(45.0);
+      mainMemoryPlus.getStyleClass().add("main-memory-btn");
+      mainMemoryPlus.getStylesheets().add(STANDARD_CALC_CSS);
+      mainMemoryPlus.setText("M+");
+      mainMemoryPlus.setFont(new Font("Segoe UI Semibold", 13.0));
+      memoryBox.getChildren().add(mainMemoryPlus);
+      Button mainMemorySubstract = new Button();
+      AnchorPane.setRightAnchor(mainMemorySubstract, 15.0);
+      mainMemorySubstract.setId("main-memory-substract");
+      mainMemorySubstract.setLayoutX(272.0);
+      mainMemorySubstract.setLayoutY(54.0);
+      mainMemorySubstract.setMnemonicParsing(false);
+      mainMemorySubstract.setOnMousePressed(controller::memoryMinus);
+      mainMemorySubstract.setPrefWidth(45.0);
+      mainMemorySubstract.getStyleClass().add("main-memory-btn");
+      mainMemorySubstract.getStylesheets().add(STANDARD_CALC_CSS);
+      mainMemorySubstract.setText("M-");
+      mainMemorySubstract.setFont(new Font("Segoe UI Semibold", 13.0));
+      memoryBox.getChildren().add(mainMemorySubstract);
+      controller.setMemoryBox(memoryBox);
+      return memoryBox;
+   }
+}
@@ -1,8 +1,10 @@
 package com.luqqorp.calculator.view.handlers;
 
+import com.luqqorp.calculator.view.LazyContent;
 import javafx.animation.TranslateTransition;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.ScrollPane;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -33,6 +35,10 @@ public class AdditionalOptionHandler {
     */
    @Getter
    private AnchorPane memoryTab;
+   /**
+    * Option scroll, its content is built on the first open of option-tab
+    */
+   private ScrollPane optionScroll;
    /**
     * History slide-in/slide-out button
     */
@@ -69,6 +75,10 @@ public class AdditionalOptionHandler {
     * Memory AnchorPane selector
     */
    private static final String MEMORY_TAB_SELECTOR = "#memory-tab";
+   /**
+    * Option ScrollPane selector
+    */
+   private static final String OPTION_SCROLL_SELECTOR = "#option-scroll";
    /**
     * Shows if history-tab is open
     */
@@ -95,6 +105,7 @@ public class AdditionalOptionHandler {
       historyTab = (AnchorPane) scene.lookup(HISTORY_TAB_SELECTOR);
       optionTab = (AnchorPane) scene.lookup(OPTION_TAB_SELECTOR);
       memoryTab = (AnchorPane) scene.lookup(MEMORY_TAB_SELECTOR);
+      optionScroll = (ScrollPane) scene.lookup(OPTION_SCROLL_SELECTOR);
       clockBtn = (Button) scene.lookup("#clock_btn");
       optBtn = (Button) scene.lookup("#opt_btn");
       optBtn2 = (Button) scene.lookup("#opt_btn2");
@@ -204,9 +215,10 @@ public class AdditionalOptionHandler {
    }
 
    /**
-    * Slide-in option-tab
+    * Slide-in option-tab, builds option scroll on the first open
     */
    private void openOptionTab() {
+      LazyContent.build(optionScroll);
       TranslateTransition openNav = createTransition(optionTab);
       openNav.setToX(0);
       openNav.play();
@@ -214,9 +226,10 @@ public class AdditionalOptionHandler {
    }
 
    /**
-    * Slide-in history-tab
+    * Slide-in history-tab, builds its content on the first open
     */
    private void openHistoryTab() {
+      LazyContent.build(historyTab);
       TranslateTransition openNav = createTransition(historyTab);
       openNav.setToY(TRASNLATE_TRANSITION);
       openNav.play();
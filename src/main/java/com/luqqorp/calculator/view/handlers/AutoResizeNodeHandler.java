@@ -1,7 +1,6 @@
 package com.luqqorp.calculator.view.handlers;
 
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -11,6 +10,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
 import javafx.stage.Stage;
 import lombok.RequiredArgsConstructor;
 
@@ -18,8 +18,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import static javafx.scene.text.Font.font;
 import static javafx.scene.text.FontPosture.ITALIC;
+import static javafx.scene.text.FontPosture.REGULAR;
 
 /**
  * This class responds for auto-resize of nodes and its content
@@ -40,10 +40,17 @@ public class AutoResizeNodeHandler {
     */
    private AnchorPane root;
    /**
-    * Initial instance of DoubleProperty
-    * for main-label font-size property
+    * Resolved main-label
     */
-   private static final DoubleProperty FONT_SIZE_PROPERTY = new SimpleDoubleProperty(0);
+   private Label mainLabel;
+   /**
+    * Cache of fonts for main-label and buttons
+    */
+   private final FontCache fontCache = new FontCache();
+   /**
+    * Resizable fonts of resolved buttons
+    */
+   private final List<ResizableFont> buttonFonts = new ArrayList<>();
    /**
     * Initial main-label font resize
     */
@@ -68,6 +75,22 @@ public class AutoResizeNodeHandler {
     * Declared name of non-binary buttons font style
     */
    private static final String TIMES_NEW_ROMAN = "Times New Roman";
+   /**
+    * Declared name of clear buttons font style
+    */
+   private static final String SEGOE_UI = "Segoe UI";
+   /**
+    * Declared name of operation buttons icons font style
+    */
+   private static final String SEGOE_MDL2_ASSETS = "Segoe MDL2 Assets";
+   /**
+    * Prefix of clear buttons selectors
+    */
+   private static final String CLEAR_BUTTON_PREFIX = "#btn-c";
+   /**
+    * Main-label selector
+    */
+   private static final String MAIN_LABEL_SELECTOR = "#mainLabel";
    /**
     * Suffix of main button anchors selector
     */
@@ -228,26 +251,52 @@ public class AutoResizeNodeHandler {
    }
 
    /**
-    * Calls font auto-resize for main-label
+    * Resolves main-label and buttons once and calls
+    * font auto-resize for them
     */
    private void fontResize() {
+      mainLabel = (Label) scene.lookup(MAIN_LABEL_SELECTOR);
+      buttonFonts.add(resizableFont(MAIN_FONT, REGULAR, NUMBER_BTN_FONT_RATIO, NUMBER_BUTTONS_SELECTORS));
+      buttonFonts.add(resizableFont(SEGOE_UI, REGULAR, OPERATION_BTN_2_FONT_RATIO, Arrays.stream(OPERATION_BUTTONS_SELECTORS2)
+              .filter(selector -> selector.startsWith(CLEAR_BUTTON_PREFIX)).toArray(String[]::new)));
+      buttonFonts.add(resizableFont(SEGOE_MDL2_ASSETS, REGULAR, OPERATION_BTN_2_FONT_RATIO, Arrays.stream(OPERATION_BUTTONS_SELECTORS2)
+              .filter(selector -> !selector.startsWith(CLEAR_BUTTON_PREFIX)).toArray(String[]::new)));
+      buttonFonts.add(resizableFont(TIMES_NEW_ROMAN, ITALIC, OPERATION_BTN_5_FONT_RATIO, OPERATION_BUTTONS_SELECTORS1));
+      buttonFonts.add(resizableFont(TIMES_NEW_ROMAN, ITALIC, OPERATION_BTN_5_FONT_RATIO1, OPERATION_BUTTONS_SELECTORS3));
+      buttonFonts.add(resizableFont(TIMES_NEW_ROMAN, ITALIC, OPERATION_BTN_5_FONT_RATIO2, OPERATION_BUTTONS_SELECTORS4));
+      buttonFonts.add(resizableFont(TIMES_NEW_ROMAN, ITALIC, OPERATION_BTN_5_FONT_RATIO3, OPERATION_BUTTONS_SELECTORS5));
       textFontResize();
       widthFontResize();
       heightFontResize();
    }
 
    /**
-    * Binds main-label text-property with scene width,
-    * height and text-length for main font-resize
+    * Creates resizable font of buttons
+    *
+    * @param family    font family
+    * @param posture   font posture
+    * @param ratio     ratio of scene height to font size
+    * @param selectors selectors of buttons
+    * @return resizable font of resolved buttons
+    */
+   private ResizableFont resizableFont(String family, FontPosture posture, double ratio, String... selectors) {
+      List<ObjectProperty<Font>> targets = new ArrayList<>();
+      for (String btnSelector : selectors) {
+         targets.add(((Button) scene.lookup(btnSelector)).fontProperty());
+      }
+      return new ResizableFont(fontCache, family, posture, ratio, targets);
+   }
+
+   /**
+    * Adds listener to main-label text-property and changes font,
+    * depending on scene width, height and text-length for main font-resize
     */
    private void textFontResize() {
-      Label mainLabel = (Label) scene.lookup("#mainLabel");
       mainLabel.textProperty().addListener((observable, oldValue, newValue) -> {
          if (newValue.length() > START_FONT_RESIZE_LENGTH && scene.getWidth() < END_FONT_RESIZE_WIDTH) {
-            FONT_SIZE_PROPERTY.bind(scene.widthProperty().divide(MAIN_FONT_TEXT_RATIO));
-            mainLabel.setFont(Font.font(MAIN_FONT, FONT_SIZE_PROPERTY.doubleValue()));
+            setMainFont(scene.getWidth() / MAIN_FONT_TEXT_RATIO);
          } else if (newValue.length() < START_FONT_RESIZE_LENGTH && scene.getHeight() < END_FONT_RESIZE_HEIGHT) {
-            mainLabel.setFont(Font.font(MAIN_FONT, FONT_SIZE));
+            setMainFont(FONT_SIZE);
          }
       });
    }
@@ -257,13 +306,11 @@ public class AutoResizeNodeHandler {
     * depending on height and text-length for main font-resize
     */
    private void widthFontResize() {
-      Label mainLabel = (Label) scene.lookup("#mainLabel");
       scene.widthProperty().addListener((observable, oldValue, newValue) -> {
          if (scene.getWidth() < END_FONT_RESIZE_WIDTH && mainLabel.getText().length() > START_FONT_RESIZE_LENGTH) {
-            FONT_SIZE_PROPERTY.bind(scene.widthProperty().divide(MAIN_FONT_TEXT_RATIO));
-            mainLabel.setFont(Font.font(MAIN_FONT, FONT_SIZE_PROPERTY.doubleValue()));
+            setMainFont(scene.getWidth() / MAIN_FONT_TEXT_RATIO);
          } else {
-            mainLabel.setFont(Font.font(MAIN_FONT, FONT_SIZE));
+            setMainFont(FONT_SIZE);
          }
       });
    }
@@ -274,41 +321,26 @@ public class AutoResizeNodeHandler {
     * main-label, operation-buttons, digit-buttons
     */
    private void heightFontResize() {
-      Label mainLabel = (Label) scene.lookup("#mainLabel");
       scene.heightProperty().addListener((observable, oldValue, newValue) -> {
-         if (scene.getWidth() > END_FONT_RESIZE_WIDTH && newValue.doubleValue() > END_FONT_RESIZE_HEIGHT) {
-            mainLabel.setFont(font(MAIN_FONT, (newValue.doubleValue() / MAIN_FONT_HEIGHT_RATIO)));
+         double height = newValue.doubleValue();
+         if (scene.getWidth() > END_FONT_RESIZE_WIDTH && height > END_FONT_RESIZE_HEIGHT) {
+            setMainFont(height / MAIN_FONT_HEIGHT_RATIO);
          }
-
-         for (String btnSelector : NUMBER_BUTTONS_SELECTORS) {
-            Button button = (Button) scene.lookup(btnSelector);
-            button.setFont(font(MAIN_FONT, (int) (newValue.doubleValue() / NUMBER_BTN_FONT_RATIO)));
+         for (ResizableFont buttonFont : buttonFonts) {
+            buttonFont.resize(height);
          }
-
-         for (String btnSelector : OPERATION_BUTTONS_SELECTORS2) {
-            Button button = (Button) scene.lookup(btnSelector);
-            int size = (int) (newValue.doubleValue() /  OPERATION_BTN_2_FONT_RATIO);
-            if (btnSelector.startsWith("#btn-c")) {
-               button.setFont(font("Segoe UI", size));
-            } else {
-               button.setFont(font("Segoe MDL2 Assets", size));
-            }
-         }
-         btnFontResize(newValue, OPERATION_BUTTONS_SELECTORS1, OPERATION_BTN_5_FONT_RATIO);
-         btnFontResize(newValue, OPERATION_BUTTONS_SELECTORS3, OPERATION_BTN_5_FONT_RATIO1);
-         btnFontResize(newValue, OPERATION_BUTTONS_SELECTORS4, OPERATION_BTN_5_FONT_RATIO2);
-         btnFontResize(newValue, OPERATION_BUTTONS_SELECTORS5, OPERATION_BTN_5_FONT_RATIO3);
       });
    }
 
-   private void btnFontResize(Number newValue, String[] operationButtonsSelectors5, int operationBtn5FontRatio) {
-      for (String btnSelector : operationButtonsSelectors5) {
-         Button button = (Button) scene.lookup(btnSelector);
-         button.setFont(font(TIMES_NEW_ROMAN, ITALIC, (int) (newValue.doubleValue() / operationBtn5FontRatio)));
-      }
+   /**
+    * Sets cached main-label font, font property ignores the same instance
+    *
+    * @param size font size
+    */
+   private void setMainFont(double size) {
+      mainLabel.setFont(fontCache.font(MAIN_FONT, REGULAR, size));
    }
 
-
    /**
     * Adds listener to history-label text-property and scene width-property,
     * changes font-size, depending on height and text-length for main font-resize
@@ -1,17 +1,15 @@
 package com.luqqorp.calculator.view.handlers;
 
-import com.luqqorp.calculator.view.CalculatorGraphic;
+import com.luqqorp.calculator.view.LazyContent;
 import javafx.scene.control.Button;
 import javafx.scene.control.ScrollPane;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.AnchorPane;
 
-import static com.luqqorp.calculator.view.CalculatorGraphic.ASSETS_PATH;
-
 /**
  * This class fill buttons with its content-views
- * and handles its disabled status
+ * and handles its disabled status. Icons are taken from sprite atlases,
+ * icons of option-tab are loaded on its first open
  */
 public class ButtonHandler {
    /**
@@ -22,6 +20,14 @@ public class ButtonHandler {
     * The images depth of window buttons
     */
    private static final int WINDOW_BTN_DEPTH = 10;
+   /**
+    * Atlas of window and popup-tabs buttons icons
+    */
+   private static final String WINDOW_ATLAS = "window-atlas";
+   /**
+    * Atlas of option-tab icons
+    */
+   private static final String OPTION_ATLAS = "option-atlas";
    /**
     * Adjusted AnchorPane root
     */
@@ -72,32 +78,34 @@ public class ButtonHandler {
     * @param height  double value of image height
     */
    void setButtonImg(String btnName, Button button, double width, double height) {
-      Image image = new Image(ASSETS_PATH + btnName + ".png");
-      ImageView imageView = new ImageView(image);
+      ImageView imageView = IconAtlas.of(WINDOW_ATLAS).icon(btnName);
       imageView.setFitWidth(width);
       imageView.setFitHeight(height);
       button.setGraphic(imageView);
    }
 
    /**
-    * Sets option-scroll icons
+    * Sets option-tab icons when option scroll is built,
+    * so option atlas is loaded on the first open of option-tab
     */
    private void setOptionIcons() {
-      ImageView imageView = (ImageView) root.lookup("#about");
-      Image image = new Image(ASSETS_PATH + "about.png");
-      imageView.setImage(image);
-      imageView.setY(7);
-      imageView.setFitWidth(15);
-      imageView.setFitWidth(15);
-      for (String optionView : OPTIONS_SCROLL_ICONS) {
-         setScrollImgView(optionView);
-      }
+      ScrollPane scrollPane = (ScrollPane) root.lookup("#option-scroll");
+      LazyContent.whenBuilt(scrollPane, () -> {
+         IconAtlas optionAtlas = IconAtlas.of(OPTION_ATLAS);
+         ImageView imageView = (ImageView) root.lookup("#about");
+         optionAtlas.setIcon(imageView, "about");
+         imageView.setY(7);
+         imageView.setFitWidth(15);
+         imageView.setFitWidth(15);
+         for (String optionView : OPTIONS_SCROLL_ICONS) {
+            setScrollImgView(optionAtlas, scrollPane, optionView);
+         }
+      });
    }
 
-   private void setScrollImgView(String imgViewSelector) {
-      ScrollPane scrollPane = (ScrollPane) root.lookup("#option-scroll");
+   private void setScrollImgView(IconAtlas optionAtlas, ScrollPane scrollPane, String imgViewSelector) {
       ImageView imtView = (ImageView) scrollPane.getContent().lookup("#" + imgViewSelector);
-      imtView.setImage(new Image(ASSETS_PATH + imgViewSelector + ".png"));
+      optionAtlas.setIcon(imtView, imgViewSelector);
       if (!imgViewSelector.equals("temperature")) {
          imtView.setY(7);
       }
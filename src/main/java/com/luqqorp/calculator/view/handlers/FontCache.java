@@ -0,0 +1,74 @@
+package com.luqqorp.calculator.view.handlers;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class keeps fonts by family, posture and whole size.
+ * Sizes are quantized to whole points, so resize of window
+ * takes the same instances of fonts instead of creating new ones on every event
+ */
+public class FontCache {
+   /**
+    * Maximal cached size, bigger fonts are created on every call
+    */
+   private static final int MAX_CACHED_SIZE = 256;
+   /**
+    * Count of font postures
+    */
+   private static final int POSTURES = FontPosture.values().length;
+   /**
+    * Fonts of family indexed by posture and size
+    */
+   private final Map<String, Font[][]> fonts = new HashMap<>();
+   /**
+    * Count of created fonts
+    */
+   @Getter
+   private int createdFonts;
+
+   /**
+    * Quantizes font size to whole points
+    *
+    * @param size font size
+    * @return whole size, at least 1
+    */
+   public static int quantize(double size) {
+      return Math.max(1, (int) size);
+   }
+
+   /**
+    * Returns font of quantized size, creates it only on the first call
+    *
+    * @param family  font family
+    * @param posture font posture
+    * @param size    font size
+    * @return cached font
+    */
+   public Font font(String family, FontPosture posture, double size) {
+      int quantized = quantize(size);
+      if (quantized > MAX_CACHED_SIZE) {
+         return createFont(family, posture, quantized);
+      }
+      Font[][] familyFonts = fonts.get(family);
+      if (familyFonts == null) {
+         familyFonts = new Font[POSTURES][MAX_CACHED_SIZE + 1];
+         fonts.put(family, familyFonts);
+      }
+      Font font = familyFonts[posture.ordinal()][quantized];
+      if (font == null) {
+         font = createFont(family, posture, quantized);
+         familyFonts[posture.ordinal()][quantized] = font;
+      }
+      return font;
+   }
+
+   private Font createFont(String family, FontPosture posture, int size) {
+      createdFonts++;
+      return Font.font(family, posture, size);
+   }
+}
@@ -1,37 +1,54 @@
 package com.luqqorp.calculator.view.handlers;
 
+import javafx.animation.PauseTransition;
 import javafx.geometry.Insets;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.input.KeyCode;
-import javafx.scene.input.KeyCodeCombination;
-import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.paint.Color;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import javafx.util.Duration;
 
 /**
  * This class handles keyboard inputs
  * for calling buttons depending on its
- * hotkeys
+ * hotkeys. Buttons of keys are resolved once into {@link HotkeyTable} by key code and modifiers.
+ * Auto-repeated presses of held key are collected and passed once
+ * with count of presses to handler of repeated keys
  */
 public class HotkeyHandler {
    /**
-    * Map consist of KeyCode value for
-    * key on keyboard and its button selector
+    * This interface presents a handler of key pressed several times at once
     */
-   private Map<KeyCode, String> hotkeys = new HashMap<>();
+   @FunctionalInterface
+   public interface RepeatedKeyHandler {
+      /**
+       * Handles key pressed adjusted count of times
+       *
+       * @param buttonId id of button of key
+       * @param count    count of presses
+       * @return false if presses are not handled, then button fires once
+       */
+      boolean pressRepeated(String buttonId, int count);
+   }
+
    /**
-    * Map consist of KeyCodeCombination value for
-    * keys on keyboard and its button selector
+    * Interval of firing collected auto-repeated presses
     */
-   private Map<KeyCodeCombination, String> hotCombinations = new HashMap<>();
+   private static final Duration REPEAT_INTERVAL = Duration.millis(100);
+
+   /**
+    * Buttons by key code and modifiers
+    */
+   private final HotkeyTable<Button> hotkeys = new HotkeyTable<>(this::clickButton);
+   /**
+    * Handler of collected presses of held key
+    */
+   private final RepeatedKeyHandler repeatedKeyHandler;
    /**
     * Adjusted Scene
     */
@@ -41,9 +58,9 @@ public class HotkeyHandler {
     */
    private Parent root;
    /**
-    * Button of entered key or key-combo
+    * Fires collected presses of held key
     */
-   private Button button;
+   private final PauseTransition repeatTimer = new PauseTransition(REPEAT_INTERVAL);
    /**
     * Background of entered key or key-combo
     * button pressed
@@ -54,107 +71,115 @@ public class HotkeyHandler {
     * button pressed
     */
    private Background background;
-   /**
-    * Shows if hotkey is used
-    */
-   private boolean hotkeyUsed = false;
 
    /**
     * Constructs a HotkeyHandler, adjusts scene,
-    * root and initializes hotkeys and hotCombinations map
+    * root and resolves buttons of hotkeys and hot combinations
     *
-    * @param scene Adjusted Scene
+    * @param scene              Adjusted Scene
+    * @param repeatedKeyHandler handler of collected presses of held key
     */
-   public HotkeyHandler(Scene scene) {
+   public HotkeyHandler(Scene scene, RepeatedKeyHandler repeatedKeyHandler) {
       this.scene = scene;
+      this.repeatedKeyHandler = repeatedKeyHandler;
       this.root = scene.getRoot();
-      hotkeys.put(KeyCode.DIGIT0, "#btn-0");
-      hotkeys.put(KeyCode.DIGIT1, "#btn-1");
-      hotkeys.put(KeyCode.DIGIT2, "#btn-2");
-      hotkeys.put(KeyCode.DIGIT3, "#btn-3");
-      hotkeys.put(KeyCode.DIGIT4, "#btn-4");
-      hotkeys.put(KeyCode.DIGIT5, "#btn-5");
-      hotkeys.put(KeyCode.DIGIT6, "#btn-6");
-      hotkeys.put(KeyCode.DIGIT7, "#btn-7");
-      hotkeys.put(KeyCode.DIGIT8, "#btn-8");
-      hotkeys.put(KeyCode.DIGIT9, "#btn-9");
-      hotkeys.put(KeyCode.NUMPAD0, "#btn-0");
-      hotkeys.put(KeyCode.NUMPAD1, "#btn-1");
-      hotkeys.put(KeyCode.NUMPAD2, "#btn-2");
-      hotkeys.put(KeyCode.NUMPAD3, "#btn-3");
-      hotkeys.put(KeyCode.NUMPAD4, "#btn-4");
-      hotkeys.put(KeyCode.NUMPAD5, "#btn-5");
-      hotkeys.put(KeyCode.NUMPAD6, "#btn-6");
-      hotkeys.put(KeyCode.NUMPAD7, "#btn-7");
-      hotkeys.put(KeyCode.NUMPAD8, "#btn-8");
-      hotkeys.put(KeyCode.NUMPAD9, "#btn-9");
-      hotkeys.put(KeyCode.PERIOD, "#btn-dot");
-      hotkeys.put(KeyCode.DECIMAL, "#btn-dot");
-      hotkeys.put(KeyCode.ADD, "#btn-plus");
-      hotkeys.put(KeyCode.SUBTRACT, "#btn-minus");
-      hotkeys.put(KeyCode.MINUS, "#btn-minus");
-      hotkeys.put(KeyCode.MULTIPLY, "#btn-multiply");
-      hotkeys.put(KeyCode.DIVIDE, "#btn-divide");
-      hotkeys.put(KeyCode.ESCAPE, "#btn-c");
-      hotkeys.put(KeyCode.DELETE, "#btn-ce");
-      hotkeys.put(KeyCode.BACK_SPACE, "#btn-undo");
-      hotkeys.put(KeyCode.F9, "#btn-negate");
-      hotkeys.put(KeyCode.Q, "#btn-square");
-      hotkeys.put(KeyCode.R, "#btn-1x");
-      hotkeys.put(KeyCode.EQUALS, "#btn-equals");
-      hotkeys.put(KeyCode.ENTER, "#btn-equals");
-      hotCombinations.put(new KeyCodeCombination(KeyCode.EQUALS, KeyCombination.SHIFT_DOWN), "#btn-plus");
-      hotCombinations.put(new KeyCodeCombination(KeyCode.DIGIT2, KeyCombination.SHIFT_DOWN), "#btn-sqrt");
-      hotCombinations.put(new KeyCodeCombination(KeyCode.DIGIT8, KeyCombination.SHIFT_DOWN), "#btn-multiply");
-      hotCombinations.put(new KeyCodeCombination(KeyCode.DIGIT5, KeyCombination.SHIFT_DOWN), "#btn-percent");
+      putHotkey(KeyCode.DIGIT0, "#btn-0");
+      putHotkey(KeyCode.DIGIT1, "#btn-1");
+      putHotkey(KeyCode.DIGIT2, "#btn-2");
+      putHotkey(KeyCode.DIGIT3, "#btn-3");
+      putHotkey(KeyCode.DIGIT4, "#btn-4");
+      putHotkey(KeyCode.DIGIT5, "#btn-5");
+      putHotkey(KeyCode.DIGIT6, "#btn-6");
+      putHotkey(KeyCode.DIGIT7, "#btn-7");
+      putHotkey(KeyCode.DIGIT8, "#btn-8");
+      putHotkey(KeyCode.DIGIT9, "#btn-9");
+      putHotkey(KeyCode.NUMPAD0, "#btn-0");
+      putHotkey(KeyCode.NUMPAD1, "#btn-1");
+      putHotkey(KeyCode.NUMPAD2, "#btn-2");
+      putHotkey(KeyCode.NUMPAD3, "#btn-3");
+      putHotkey(KeyCode.NUMPAD4, "#btn-4");
+      putHotkey(KeyCode.NUMPAD5, "#btn-5");
+      putHotkey(KeyCode.NUMPAD6, "#btn-6");
+      putHotkey(KeyCode.NUMPAD7, "#btn-7");
+      putHotkey(KeyCode.NUMPAD8, "#btn-8");
+      putHotkey(KeyCode.NUMPAD9, "#btn-9");
+      putHotkey(KeyCode.PERIOD, "#btn-dot");
+      putHotkey(KeyCode.DECIMAL, "#btn-dot");
+      putHotkey(KeyCode.ADD, "#btn-plus");
+      putHotkey(KeyCode.SUBTRACT, "#btn-minus");
+      putHotkey(KeyCode.MINUS, "#btn-minus");
+      putHotkey(KeyCode.MULTIPLY, "#btn-multiply");
+      putHotkey(KeyCode.DIVIDE, "#btn-divide");
+      putHotkey(KeyCode.ESCAPE, "#btn-c");
+      putHotkey(KeyCode.DELETE, "#btn-ce");
+      putHotkey(KeyCode.BACK_SPACE, "#btn-undo");
+      putHotkey(KeyCode.F9, "#btn-negate");
+      putHotkey(KeyCode.Q, "#btn-square");
+      putHotkey(KeyCode.R, "#btn-1x");
+      putHotkey(KeyCode.EQUALS, "#btn-equals");
+      putHotkey(KeyCode.ENTER, "#btn-equals");
+      putHotCombination(KeyCode.EQUALS, HotkeyTable.SHIFT, "#btn-plus");
+      putHotCombination(KeyCode.DIGIT2, HotkeyTable.SHIFT, "#btn-sqrt");
+      putHotCombination(KeyCode.DIGIT8, HotkeyTable.SHIFT, "#btn-multiply");
+      putHotCombination(KeyCode.DIGIT5, HotkeyTable.SHIFT, "#btn-percent");
+      repeatTimer.setOnFinished(event -> hotkeys.fireRepeats());
    }
 
    /**
-    * Verifies pressed key or key-combo
-    * and fires its buttons, changes fires buttons
-    * background and changes back when it released
+    * Fires buttons of pressed key or key-combo,
+    * changes fired button background and changes back when it released
     */
    public void addKeyListener() {
       scene.setOnKeyPressed(event -> {
-         Set<KeyCodeCombination> combinationSet = hotCombinations.keySet();
-         combinationSet.forEach(combo -> {
-            if (combo.match(event)) {
-               button = (Button) scene.lookup(hotCombinations.get(combo));
-               clickButton();
-               hotkeyUsed = true;
-            }
-         });
-
-         if (!hotkeyUsed) {
-            Set<KeyCode> keyCodeSet = hotkeys.keySet();
-            keyCodeSet.forEach(code -> {
-               if (event.getCode().equals(code)) {
-                  button = (Button) scene.lookup(hotkeys.get(code));
-                  clickButton();
-               }
-            });
+         if (hotkeys.press(event.getCode(), modifiers(event)) && repeatTimer.getStatus() != PauseTransition.Status.RUNNING) {
+            repeatTimer.playFromStart();
+         }
+         if (scene.getFocusOwner() != root) {
+            root.requestFocus();
          }
-         hotkeyUsed = false;
-         root.requestFocus();
       });
       scene.setOnKeyReleased(event -> {
+         repeatTimer.stop();
+         Button button = hotkeys.release();
          if (button != null) {
             button.setBackground(background);
          }
       });
    }
 
+   /**
+    * Puts button of key that is pressed with any modifiers
+    */
+   private void putHotkey(KeyCode code, String selector) {
+      hotkeys.putHotkey(code, (Button) scene.lookup(selector));
+   }
+
+   /**
+    * Puts button of key that is pressed with adjusted modifiers only
+    */
+   private void putHotCombination(KeyCode code, int modifiers, String selector) {
+      hotkeys.putHotCombination(code, modifiers, (Button) scene.lookup(selector));
+   }
+
+   private static int modifiers(KeyEvent event) {
+      return (event.isShiftDown() ? HotkeyTable.SHIFT : 0) | (event.isControlDown() ? HotkeyTable.CONTROL : 0)
+              | (event.isAltDown() ? HotkeyTable.ALT : 0) | (event.isMetaDown() ? HotkeyTable.META : 0);
+   }
+
    /**
     * Method writes default button background
     * before it fires
+    *
+    * @param button fired button
+    * @param count  count of presses, several presses are passed to handler of repeated keys
     */
-   private void clickButton() {
+   private void clickButton(Button button, int count) {
       if (!button.getBackground().equals(backgroundPressed)) {
          background = button.getBackground();
       }
-      button.fire();
+      if (count == 1 || !repeatedKeyHandler.pressRepeated(button.getId(), count)) {
+         button.fire();
+      }
       button.setBackground(backgroundPressed);
    }
 }
-
-
@@ -0,0 +1,131 @@
+package com.luqqorp.calculator.view.handlers;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * This class resolves targets of hotkeys by key code and modifiers and collects
+ * auto-repeated presses of held key, so its target fires once with count of presses.
+ * Targets are fired by adjusted consumer, e.g. buttons of {@link HotkeyHandler}
+ *
+ * @param <T> type of target
+ */
+final class HotkeyTable<T> {
+   /**
+    * Modifier bits of table index
+    */
+   static final int SHIFT = 1;
+   static final int CONTROL = 1 << 1;
+   static final int ALT = 1 << 2;
+   static final int META = 1 << 3;
+   /**
+    * Count of modifier combinations
+    */
+   private static final int MODIFIERS = 1 << 4;
+
+   /**
+    * Targets by key code and modifier bits, keys without combination
+    * fire their targets with any modifiers
+    */
+   private final Map<KeyCode, List<T>> targets = new EnumMap<>(KeyCode.class);
+   /**
+    * Fires target with count of presses
+    */
+   private final ObjIntConsumer<T> fire;
+   /**
+    * Key that is held since its last press
+    */
+   private KeyCode heldCode;
+   /**
+    * Target of the last pressed key
+    */
+   private T target;
+   /**
+    * Auto-repeated presses of held key that are not fired yet
+    */
+   private int repeats;
+
+   /**
+    * Constructs table of hotkeys
+    *
+    * @param fire fires target with count of presses
+    */
+   HotkeyTable(ObjIntConsumer<T> fire) {
+      this.fire = fire;
+   }
+
+   /**
+    * Puts target of key that is pressed with any modifiers, except combinations put before
+    */
+   void putHotkey(KeyCode code, T hotkeyTarget) {
+      List<T> keyTargets = keyTargets(code);
+      for (int i = 0; i < MODIFIERS; i++) {
+         if (keyTargets.get(i) == null) {
+            keyTargets.set(i, hotkeyTarget);
+         }
+      }
+   }
+
+   /**
+    * Puts target of key that is pressed with adjusted modifiers only
+    */
+   void putHotCombination(KeyCode code, int modifiers, T combinationTarget) {
+      keyTargets(code).set(modifiers, combinationTarget);
+   }
+
+   /**
+    * Fires target of pressed key, or collects the press if the same key is held
+    *
+    * @param code      code of pressed key
+    * @param modifiers modifier bits of pressed key
+    * @return true if press is collected and should be fired later by {@link #fireRepeats()}
+    */
+   boolean press(KeyCode code, int modifiers) {
+      List<T> keyTargets = targets.get(code);
+      T pressed = keyTargets == null ? null : keyTargets.get(modifiers);
+      if (pressed == null) {
+         return false;
+      }
+      if (code == heldCode && pressed == target) {
+         repeats++;
+         return true;
+      }
+      fireRepeats();
+      heldCode = code;
+      target = pressed;
+      fire.accept(target, 1);
+      return false;
+   }
+
+   /**
+    * Fires collected presses of held key and stops collecting them
+    *
+    * @return target of the last pressed key or null
+    */
+   T release() {
+      fireRepeats();
+      heldCode = null;
+      return target;
+   }
+
+   /**
+    * Fires collected auto-repeated presses of held key
+    */
+   void fireRepeats() {
+      if (repeats > 0) {
+         int count = repeats;
+         repeats = 0;
+         fire.accept(target, count);
+      }
+   }
+
+   private List<T> keyTargets(KeyCode code) {
+      return targets.computeIfAbsent(code, key -> new ArrayList<>(Collections.nCopies(MODIFIERS, null)));
+   }
+}
@@ -0,0 +1,87 @@
+package com.luqqorp.calculator.view.handlers;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static com.luqqorp.calculator.view.CalculatorGraphic.ASSETS_PATH;
+
+/**
+ * This class shows icons from sprite atlas generated by AtlasGenerator.
+ * Atlas image is decoded once by background loader of JavaFX, icons are viewports of it.
+ * Atlases are loaded on the first request and shared by handlers, methods are called
+ * only by the application thread
+ */
+public class IconAtlas {
+   /**
+    * Loaded atlases by names
+    */
+   private static final Map<String, IconAtlas> ATLASES = new HashMap<>();
+   /**
+    * Atlas image
+    */
+   private final Image image;
+   /**
+    * Viewports of icons by names
+    */
+   private final Map<String, Rectangle2D> viewports = new HashMap<>();
+
+   private IconAtlas(String name) {
+      Properties index = new Properties();
+      try (InputStream stream = IconAtlas.class.getResourceAsStream("/" + ASSETS_PATH + name + ".properties")) {
+         index.load(stream);
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+      for (String icon : index.stringPropertyNames()) {
+         String[] viewport = index.getProperty(icon).split(",");
+         viewports.put(icon, new Rectangle2D(Double.parseDouble(viewport[0]), Double.parseDouble(viewport[1]),
+                 Double.parseDouble(viewport[2]), Double.parseDouble(viewport[3])));
+      }
+      image = new Image(ASSETS_PATH + name + ".png", true);
+   }
+
+   /**
+    * Returns atlas, loads it on the first call
+    *
+    * @param name name of atlas in assets
+    * @return loaded atlas
+    */
+   public static IconAtlas of(String name) {
+      return ATLASES.computeIfAbsent(name, IconAtlas::new);
+   }
+
+   /**
+    * Shows icon in image view
+    *
+    * @param imageView adjusted ImageView
+    * @param icon      name of icon
+    */
+   public void setIcon(ImageView imageView, String icon) {
+      Rectangle2D viewport = viewports.get(icon);
+      if (viewport == null) {
+         throw new IllegalArgumentException("Atlas has no icon " + icon);
+      }
+      imageView.setImage(image);
+      imageView.setViewport(viewport);
+   }
+
+   /**
+    * Creates image view of icon
+    *
+    * @param icon name of icon
+    * @return new ImageView
+    */
+   public ImageView icon(String icon) {
+      ImageView imageView = new ImageView();
+      setIcon(imageView, icon);
+      return imageView;
+   }
+}
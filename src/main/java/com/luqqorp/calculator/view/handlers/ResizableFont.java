@@ -0,0 +1,75 @@
+package com.luqqorp.calculator.view.handlers;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+
+import java.util.List;
+
+/**
+ * This class changes font of resolved nodes in proportion to window size.
+ * Font is taken from {@link FontCache} and set only when its quantized size is changed,
+ * so resize event allocates nothing
+ */
+public class ResizableFont {
+   /**
+    * Cache of created fonts
+    */
+   private final FontCache fontCache;
+   /**
+    * Font family
+    */
+   private final String family;
+   /**
+    * Font posture
+    */
+   private final FontPosture posture;
+   /**
+    * Ratio of window size to font size
+    */
+   private final double ratio;
+   /**
+    * Font properties of resized nodes
+    */
+   private final List<ObjectProperty<Font>> targets;
+   /**
+    * The last applied quantized size, 0 before the first resize
+    */
+   private int size;
+
+   /**
+    * Constructs resizable font of nodes
+    *
+    * @param fontCache cache of created fonts
+    * @param family    font family
+    * @param posture   font posture
+    * @param ratio     ratio of window size to font size
+    * @param targets   font properties of resized nodes
+    */
+   public ResizableFont(FontCache fontCache, String family, FontPosture posture, double ratio, List<ObjectProperty<Font>> targets) {
+      this.fontCache = fontCache;
+      this.family = family;
+      this.posture = posture;
+      this.ratio = ratio;
+      this.targets = List.copyOf(targets);
+   }
+
+   /**
+    * Sets font of size in proportion to window size
+    *
+    * @param windowSize new size of window
+    * @return true if font is changed
+    */
+   public boolean resize(double windowSize) {
+      int newSize = FontCache.quantize(windowSize / ratio);
+      if (newSize == size) {
+         return false;
+      }
+      size = newSize;
+      Font font = fontCache.font(family, posture, newSize);
+      for (int i = 0; i < targets.size(); i++) {
+         targets.get(i).set(font);
+      }
+      return true;
+   }
+}
@@ -0,0 +1,143 @@
+package com.luqqorp.calculator.view.listeners;
+
+import javafx.animation.AnimationTimer;
+import lombok.Getter;
+
+/**
+ * This class keeps the last dragged point and applies it once per JavaFX pulse.
+ * Points dragged between pulses replace each other, the pending point is applied
+ * at once on release, so the final size is never dropped. The pulse that is requested
+ * before release finds no pending point and does nothing.
+ * Methods are called only by the application thread
+ */
+final class DragCoalescer {
+   /**
+    * This interface presents a target of applied dragged points, e.g. stage resize
+    */
+   @FunctionalInterface
+   interface DragTarget {
+      /**
+       * Applies dragged point
+       *
+       * @param sceneX  scene horizontal point
+       * @param sceneY  scene vertical point
+       * @param screenX screen horizontal point
+       * @param screenY screen vertical point
+       */
+      void apply(double sceneX, double sceneY, double screenX, double screenY);
+   }
+
+   /**
+    * Target of applied points
+    */
+   private final DragTarget target;
+   /**
+    * Requests {@link #applyDrag()} on the next pulse
+    */
+   private final Runnable pulseRequest;
+   /**
+    * Shows if pulse is requested
+    */
+   private boolean requested;
+   /**
+    * Shows if dragged point is not applied yet
+    */
+   private boolean pending;
+   /**
+    * The last dragged scene horizontal point
+    */
+   private double sceneX;
+   /**
+    * The last dragged scene vertical point
+    */
+   private double sceneY;
+   /**
+    * The last dragged screen horizontal point
+    */
+   private double screenX;
+   /**
+    * The last dragged screen vertical point
+    */
+   private double screenY;
+   /**
+    * Count of drag events since the last reset
+    */
+   @Getter
+   private long draggedEvents;
+   /**
+    * Count of applied points since the last reset
+    */
+   @Getter
+   private long appliedDrags;
+
+   /**
+    * Constructs coalescer that applies points by animation timer of JavaFX pulses
+    *
+    * @param target target of applied points
+    */
+   DragCoalescer(DragTarget target) {
+      this.target = target;
+      AnimationTimer timer = new AnimationTimer() {
+         @Override
+         public void handle(long now) {
+            stop();
+            applyDrag();
+         }
+      };
+      this.pulseRequest = timer::start;
+   }
+
+   /**
+    * Constructs coalescer with adjusted request of the next pulse
+    *
+    * @param target       target of applied points
+    * @param pulseRequest runs {@link #applyDrag()} on the next pulse
+    */
+   DragCoalescer(DragTarget target, Runnable pulseRequest) {
+      this.target = target;
+      this.pulseRequest = pulseRequest;
+   }
+
+   /**
+    * Resets counts of drag events and applied points, e.g. when mouse is pressed
+    */
+   void reset() {
+      draggedEvents = 0;
+      appliedDrags = 0;
+   }
+
+   /**
+    * Keeps dragged point until the next pulse
+    */
+   void drag(double sceneX, double sceneY, double screenX, double screenY) {
+      draggedEvents++;
+      this.sceneX = sceneX;
+      this.sceneY = sceneY;
+      this.screenX = screenX;
+      this.screenY = screenY;
+      pending = true;
+      if (!requested) {
+         requested = true;
+         pulseRequest.run();
+      }
+   }
+
+   /**
+    * Applies the last dragged point on pulse
+    */
+   void applyDrag() {
+      requested = false;
+      release();
+   }
+
+   /**
+    * Applies the last dragged point at once, e.g. when mouse is released
+    */
+   void release() {
+      if (pending) {
+         pending = false;
+         appliedDrags++;
+         target.apply(sceneX, sceneY, screenX, screenY);
+      }
+   }
+}
@@ -7,10 +7,17 @@ import javafx.scene.Cursor;
 import javafx.scene.Scene;
 import javafx.scene.input.MouseEvent;
 import javafx.stage.Stage;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
 
 /**
- * This class is listener for stage resize
+ * This class is listener for stage resize. Every change of stage size or position
+ * relayouts all bound nodes, so dragged points are applied once per JavaFX pulse
+ * by {@link DragCoalescer}, the final size is applied on release
  */
+@Slf4j
 public class ResizeListener implements EventHandler<MouseEvent> {
    /**
     * Adjusted Stage
@@ -36,6 +43,19 @@ public class ResizeListener implements EventHandler<MouseEvent> {
     * Initial start vertical walk
     */
    private double limitWY = 0;
+   /**
+    * Applies the last dragged point once per pulse
+    */
+   private final DragCoalescer dragCoalescer = new DragCoalescer(this::applyDrag);
+   /**
+    * Time of mouse press in nanoseconds
+    */
+   private long pressTime;
+   /**
+    * Gets counts of the finished resize, logs them by default
+    */
+   @Setter
+   private ResizeReport resizeReport = ResizeListener::logReport;
 
    /**
     * Construct listener and initializes stage
@@ -46,6 +66,21 @@ public class ResizeListener implements EventHandler<MouseEvent> {
       this.stage = stage;
    }
 
+   /**
+    * Handler of counts of finished resize
+    */
+   @FunctionalInterface
+   public interface ResizeReport {
+      /**
+       * Reports finished resize
+       *
+       * @param draggedEvents  count of drag events
+       * @param appliedResizes count of applied stage resizes
+       * @param durationNanos  duration of resize in nanoseconds
+       */
+      void report(long draggedEvents, long appliedResizes, long durationNanos);
+   }
+
    /**
     * Handles the resize processes and mouse cursor
     *
@@ -65,15 +100,41 @@ public class ResizeListener implements EventHandler<MouseEvent> {
          } else if (MouseEvent.MOUSE_PRESSED.equals(mouseEventType)) {
             stage.getScene().getRoot().requestFocus();
             setLimits(mouseEvent, mouseEventX, mouseEventY);
+            pressTime = System.nanoTime();
+            dragCoalescer.reset();
          } else if (MouseEvent.MOUSE_RELEASED.equals(mouseEventType)) {
+            dragCoalescer.release();
+            if (dragCoalescer.getDraggedEvents() > 0) {
+               resizeReport.report(dragCoalescer.getDraggedEvents(), dragCoalescer.getAppliedDrags(), System.nanoTime() - pressTime);
+            }
             cursorEvent = Cursor.DEFAULT;
          } else if (MouseEvent.MOUSE_DRAGGED.equals(mouseEventType) && !Cursor.DEFAULT.equals(cursorEvent)) {
-            northWestNorthEastResize(mouseEvent, mouseEventY);
-            northWestWestSouthWestResize(mouseEvent, mouseEventX);
+            dragCoalescer.drag(mouseEventX, mouseEventY, mouseEvent.getScreenX(), mouseEvent.getScreenY());
          }
       }
    }
 
+   /**
+    * Applies dragged point to stage
+    */
+   private void applyDrag(double sceneX, double sceneY, double screenX, double screenY) {
+      northWestNorthEastResize(screenY, sceneY);
+      northWestWestSouthWestResize(screenX, sceneX);
+   }
+
+   /**
+    * Logs counts of finished resize at debug level
+    *
+    * @param draggedEvents  count of drag events
+    * @param appliedResizes count of applied stage resizes
+    * @param durationNanos  duration of resize in nanoseconds
+    */
+   private static void logReport(long draggedEvents, long appliedResizes, long durationNanos) {
+      double seconds = Math.max(durationNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+      log.debug("Resize: {} drag events ({} per second), {} applied layouts ({} per second)",
+              draggedEvents, Math.round(draggedEvents / seconds), appliedResizes, Math.round(appliedResizes / seconds));
+   }
+
    /**
     * Set started point and limit points of scree for resizing
     *
@@ -126,13 +187,13 @@ public class ResizeListener implements EventHandler<MouseEvent> {
     * Calls north and south resize for
     * north-west and north-east resize
     *
-    * @param mouseEvent  mouse events used for points to set limits
+    * @param screenY     mouse vertical point on screen
     * @param mouseEventY mouse vertical point
     */
-   private void northWestNorthEastResize(MouseEvent mouseEvent, double mouseEventY) {
+   private void northWestNorthEastResize(double screenY, double mouseEventY) {
       if (!Cursor.W_RESIZE.equals(cursorEvent) && !Cursor.E_RESIZE.equals(cursorEvent)) {
          if (Cursor.NW_RESIZE.equals(cursorEvent) || Cursor.N_RESIZE.equals(cursorEvent) || Cursor.NE_RESIZE.equals(cursorEvent)) {
-            northHeightResize(mouseEvent, mouseEventY);
+            northHeightResize(screenY, mouseEventY);
          } else {
             southHeightResize(mouseEventY);
          }
@@ -143,13 +204,13 @@ public class ResizeListener implements EventHandler<MouseEvent> {
     * Calls west and east resize for
     * north-west and south-west resize
     *
-    * @param mouseEvent  mouse events used for points to set limits
+    * @param screenX     mouse horizontal point on screen
     * @param mouseEventX mouse horizontal point
     */
-   private void northWestWestSouthWestResize(MouseEvent mouseEvent, double mouseEventX) {
+   private void northWestWestSouthWestResize(double screenX, double mouseEventX) {
       if (!Cursor.N_RESIZE.equals(cursorEvent) && !Cursor.S_RESIZE.equals(cursorEvent)) {
          if (Cursor.NW_RESIZE.equals(cursorEvent) || Cursor.W_RESIZE.equals(cursorEvent) || Cursor.SW_RESIZE.equals(cursorEvent)) {
-            westWidthResize(mouseEvent, mouseEventX);
+            westWidthResize(screenX, mouseEventX);
          } else {
             eastResize(mouseEventX);
          }
@@ -177,17 +238,16 @@ public class ResizeListener implements EventHandler<MouseEvent> {
     * on mouse horizontal dragging, considers
     * walk resize not to cross the limit
     *
-    * @param mouseEvent  mouse events used for points to set limits
+    * @param screenX     mouse horizontal point on screen
     * @param mouseEventX mouse horizontal point
     */
-   private void westWidthResize(MouseEvent mouseEvent, double mouseEventX) {
+   private void westWidthResize(double screenX, double mouseEventX) {
        if (stage.getWidth() > CalculatorGraphic.MIN_WIDTH || mouseEventX < 0) {
-           double value = stage.getX() - mouseEvent.getScreenX() + stage.getWidth();
+           double value = stage.getX() - screenX + stage.getWidth();
            if (value < CalculatorGraphic.MIN_WIDTH) {
                value = CalculatorGraphic.MIN_WIDTH;
            }
            stage.setWidth(value);
-           double screenX = mouseEvent.getScreenX();
            if (screenX > limitWX) {
                screenX = limitWX;
            }
@@ -216,17 +276,16 @@ public class ResizeListener implements EventHandler<MouseEvent> {
     * on mouse vertical dragging, considers
     * walk resize not to cross the limit
     *
-    * @param mouseEvent  mouse events used for points to set limits
+    * @param screenY     mouse vertical point on screen
     * @param mouseEventY mouse vertical point
     */
-   private void northHeightResize(MouseEvent mouseEvent, double mouseEventY) {
+   private void northHeightResize(double screenY, double mouseEventY) {
        if (stage.getHeight() > CalculatorGraphic.MIN_HEIGHT || mouseEventY < 0) {
-           double value = stage.getY() - mouseEvent.getScreenY() + stage.getHeight();
+           double value = stage.getY() - screenY + stage.getHeight();
            if (value < CalculatorGraphic.MIN_HEIGHT) {
                value = CalculatorGraphic.MIN_HEIGHT;
            }
            stage.setHeight(value);
-           double screenY = mouseEvent.getScreenY();
            if (screenY > limitWY) {
                screenY = limitWY;
            }
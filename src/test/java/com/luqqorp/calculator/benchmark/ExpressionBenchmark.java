@@ -0,0 +1,52 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.ExpressionEvaluator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of short expression texts evaluated by a single reused evaluator
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ExpressionBenchmark {
+   /**
+    * Short expressions of add, subtract, multiply, square and repeated equals
+    */
+   private static final String[] ARITHMETIC = {"5 + 3 × 3 =", "71 + = =", "0.5 + 12 - 4 =", "9 sqr × 2 =", "12 ± + 7 ="};
+   /**
+    * Short expressions of division, fraction and square root
+    */
+   private static final String[] DIVISION = {"5 + 3 ÷ 3 =", "1 ÷ 7 =", "41 1/x", "2 √ × 3 =", "100 ÷ 8 ="};
+
+   @Param({"arithmetic", "division"})
+   private String expressions;
+
+   private String[] texts;
+   private ExpressionEvaluator evaluator;
+   private int index;
+
+   @Setup
+   public void setup() {
+      texts = expressions.equals("arithmetic") ? ARITHMETIC : DIVISION;
+      evaluator = new ExpressionEvaluator();
+   }
+
+   @Benchmark
+   public BigDecimal evaluate() throws Exception {
+      return evaluator.evaluate(texts[index++ % texts.length]);
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(ExpressionBenchmark.class.getSimpleName()).build()).run();
+   }
+}
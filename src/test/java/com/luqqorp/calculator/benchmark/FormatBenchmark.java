@@ -0,0 +1,65 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.controller.utils.DecimalViewFormer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of result and input texts formed by separate sessions,
+ * run by main method with 1, 2, 4... threads up to count of available cores
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class FormatBenchmark {
+   /**
+    * Scale of results of fixed scale calculations
+    */
+   private static final int RESULT_SCALE = 20050;
+
+   @Param({"short", "result"})
+   private String values;
+
+   private BigDecimal[] decimals;
+   private DecimalViewFormer viewFormer;
+   private int index;
+
+   @Setup
+   public void setup() {
+      viewFormer = new DecimalViewFormer();
+      if (values.equals("short")) {
+         decimals = new BigDecimal[]{new BigDecimal("163116"), new BigDecimal("-0.4197530864197531"),
+                 new BigDecimal("2052.52"), new BigDecimal("8.006952976513278e-7"), new BigDecimal("1e9999")};
+      } else {
+         decimals = new BigDecimal[]{divide(8, 3), divide(1, 463), divide(196, 789).movePointLeft(6),
+                 divide(5, 3).multiply(BigDecimal.valueOf(3)), divide(10, 9).movePointRight(9998)};
+      }
+   }
+
+   @Benchmark
+   public String format() {
+      BigDecimal decimal = decimals[index++ % decimals.length];
+      viewFormer.formResultDecimalText(decimal);
+      return viewFormer.formatInputNumber(decimal);
+   }
+
+   private static BigDecimal divide(long dividend, long divisor) {
+      return BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), RESULT_SCALE, RoundingMode.HALF_UP);
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      int cores = Runtime.getRuntime().availableProcessors();
+      for (int threads = 1; threads <= cores; threads <<= 1) {
+         new Runner(new OptionsBuilder().include(FormatBenchmark.class.getSimpleName()).threads(threads).build()).run();
+      }
+   }
+}
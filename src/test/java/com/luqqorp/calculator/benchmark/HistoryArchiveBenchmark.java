@@ -0,0 +1,125 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.controller.utils.PagedHistoryList;
+import com.luqqorp.calculator.model.HistoryArchive;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures history tab over archive of a million entries: open of archive with the first
+ * screen of rows, rows read by scrolling from the newest entry and by jumps to random positions
+ */
+public class HistoryArchiveBenchmark {
+   /**
+    * Rows shown by history tab at once
+    */
+   private static final int VISIBLE_ROWS = 12;
+
+   @State(Scope.Benchmark)
+   public static class Archive {
+      @Param({"1000000"})
+      private int entries;
+
+      private Path directory;
+      private Path file;
+
+      @Setup(Level.Trial)
+      public void setup() throws IOException {
+         directory = Files.createTempDirectory("history");
+         file = directory.resolve("history");
+         try (HistoryArchive archive = HistoryArchive.open(file)) {
+            for (int i = 0; i < entries; i++) {
+               archive.append(i + " + " + (i % 97) + " =", String.valueOf(i + i % 97));
+            }
+         }
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown() throws IOException {
+         try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+               Files.delete(path);
+            }
+         }
+         Files.delete(directory);
+      }
+   }
+
+   @State(Scope.Benchmark)
+   public static class Tab {
+      private HistoryArchive archive;
+      private PagedHistoryList rows;
+      private int position;
+
+      @Setup(Level.Trial)
+      public void setup(Archive archive) throws IOException {
+         this.archive = HistoryArchive.open(archive.file);
+         rows = new PagedHistoryList(this.archive);
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown() throws IOException {
+         archive.close();
+      }
+   }
+
+   @Benchmark
+   @BenchmarkMode(Mode.SingleShotTime)
+   @OutputTimeUnit(TimeUnit.MICROSECONDS)
+   @Warmup(iterations = 10)
+   @Measurement(iterations = 20)
+   @Fork(1)
+   public void open(Archive archive, Blackhole blackhole) throws IOException {
+      try (HistoryArchive opened = HistoryArchive.open(archive.file)) {
+         PagedHistoryList rows = new PagedHistoryList(opened);
+         for (int i = 0; i < VISIBLE_ROWS; i++) {
+            blackhole.consume(rows.get(i));
+         }
+      }
+   }
+
+   @Benchmark
+   @BenchmarkMode(Mode.Throughput)
+   @OutputTimeUnit(TimeUnit.MILLISECONDS)
+   @OperationsPerInvocation(VISIBLE_ROWS)
+   @Warmup(iterations = 3, time = 1)
+   @Measurement(iterations = 5, time = 1)
+   @Fork(1)
+   public void scroll(Tab tab, Blackhole blackhole) {
+      if (tab.position + VISIBLE_ROWS > tab.rows.size()) {
+         tab.position = 0;
+      }
+      for (int i = 0; i < VISIBLE_ROWS; i++) {
+         blackhole.consume(tab.rows.get(tab.position + i));
+      }
+      tab.position += VISIBLE_ROWS;
+   }
+
+   @Benchmark
+   @BenchmarkMode(Mode.Throughput)
+   @OutputTimeUnit(TimeUnit.MILLISECONDS)
+   @OperationsPerInvocation(VISIBLE_ROWS)
+   @Warmup(iterations = 3, time = 1)
+   @Measurement(iterations = 5, time = 1)
+   @Fork(1)
+   public void jump(Tab tab, Blackhole blackhole) {
+      int position = ThreadLocalRandom.current().nextInt(tab.rows.size() - VISIBLE_ROWS);
+      for (int i = 0; i < VISIBLE_ROWS; i++) {
+         blackhole.consume(tab.rows.get(position + i));
+      }
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(HistoryArchiveBenchmark.class.getSimpleName()).build()).run();
+   }
+}
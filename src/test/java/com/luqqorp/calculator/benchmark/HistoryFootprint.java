@@ -0,0 +1,54 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.data.History;
+import com.luqqorp.calculator.model.data.Operator;
+
+import java.math.BigDecimal;
+
+/**
+ * Measures heap retained by history of long expression, e.g. "1 sqr negate + 2 sqr negate + ...",
+ * run by main method with count of operations as the first argument, 10000 by default
+ */
+public class HistoryFootprint {
+   /**
+    * Count of measured histories, their average size is printed
+    */
+   private static final int HISTORIES = 20;
+
+   public static void main(String[] args) throws Exception {
+      int steps = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+      History[] histories = new History[HISTORIES];
+      long before = usedMemory();
+      for (int i = 0; i < histories.length; i++) {
+         histories[i] = expression(steps);
+      }
+      long after = usedMemory();
+      System.out.printf("%d operations: %d bytes per history, %d units%n", steps,
+              (after - before) / histories.length, histories[0].getHistoryUnits().size());
+   }
+
+   /**
+    * Builds history of expression with non-binary operations, each value is squared and negated
+    */
+   private static History expression(int steps) throws Exception {
+      Calculation calculation = new Calculation();
+      Operator[] operators = {Operator.SQUARE, Operator.NEGATE, Operator.ADD};
+      for (int i = 0; i < steps; i++) {
+         if (i % operators.length == 0) {
+            calculation.editCurrentDecimal(BigDecimal.valueOf(i % 7 + 1));
+         }
+         calculation.createOperation(operators[i % operators.length]);
+      }
+      return calculation.getHistory();
+   }
+
+   private static long usedMemory() throws InterruptedException {
+      Runtime runtime = Runtime.getRuntime();
+      for (int i = 0; i < 5; i++) {
+         System.gc();
+         Thread.sleep(50);
+      }
+      return runtime.totalMemory() - runtime.freeMemory();
+   }
+}
@@ -0,0 +1,160 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.JournaledCalculation;
+import com.luqqorp.calculator.model.data.Operator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures keystrokes "digit + digit × digit =" of plain and journaled calculation,
+ * their difference is the cost of journal per keystroke, and recovery of the last session
+ * from journal of a million records with periodic snapshots and without them
+ */
+public class JournalBenchmark {
+   private static final BigDecimal[] DIGITS = new BigDecimal[10];
+   /**
+    * Keys in one expression "digit + digit × digit ="
+    */
+   private static final int EXPRESSION_KEYS = 6;
+
+   static {
+      for (int i = 0; i < DIGITS.length; i++) {
+         DIGITS[i] = BigDecimal.valueOf(i + 1);
+      }
+   }
+
+   @State(Scope.Benchmark)
+   public static class Keystrokes {
+      @Param({"plain", "journaled"})
+      private String engine;
+
+      private Path directory;
+      private Calculation calculation;
+      private int digit;
+
+      @Setup(Level.Trial)
+      public void setup() throws IOException {
+         directory = Files.createTempDirectory("journal");
+         calculation = engine.equals("plain") ? new Calculation()
+                 : JournaledCalculation.open(directory.resolve("session.journal"), 64 << 20);
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown() throws IOException {
+         if (calculation instanceof JournaledCalculation) {
+            ((JournaledCalculation) calculation).close();
+         }
+         delete(directory);
+      }
+   }
+
+   @State(Scope.Benchmark)
+   public static class Recovery {
+      @Param({"1000000"})
+      private int records;
+
+      @Param({"1024", "2147483647"})
+      private int snapshotInterval;
+
+      private Path directory;
+      private Path journal;
+      /**
+       * Generation of recorded journal, it is linked as journal before every recovery
+       */
+      private Path recorded;
+      private JournaledCalculation calculation;
+
+      @Setup(Level.Trial)
+      public void setup() throws Exception {
+         directory = Files.createTempDirectory("journal");
+         journal = directory.resolve("session.journal");
+         try (JournaledCalculation recording = JournaledCalculation.open(journal, 64 << 20, snapshotInterval, 256)) {
+            for (int i = 0; i < records / EXPRESSION_KEYS; i++) {
+               expression(recording, i % DIGITS.length);
+            }
+         }
+         try (Stream<Path> files = Files.list(directory)) {
+            recorded = files.findFirst().orElseThrow();
+         }
+         Files.move(recorded, directory.resolve("recorded"));
+         recorded = directory.resolve("recorded");
+      }
+
+      @Setup(Level.Invocation)
+      public void link() throws IOException {
+         Files.createLink(journal.resolveSibling(journal.getFileName() + ".1"), recorded);
+      }
+
+      @TearDown(Level.Invocation)
+      public void clean() throws IOException {
+         calculation.close();
+         try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+               if (!file.equals(recorded)) {
+                  Files.delete(file);
+               }
+            }
+         }
+      }
+
+      @TearDown(Level.Trial)
+      public void tearDown() throws IOException {
+         delete(directory);
+      }
+   }
+
+   @Benchmark
+   @BenchmarkMode(Mode.AverageTime)
+   @OutputTimeUnit(TimeUnit.NANOSECONDS)
+   @OperationsPerInvocation(EXPRESSION_KEYS)
+   @Warmup(iterations = 3, time = 1)
+   @Measurement(iterations = 5, time = 1)
+   @Fork(1)
+   public BigDecimal keystroke(Keystrokes keystrokes) throws Exception {
+      keystrokes.digit = (keystrokes.digit + 1) % DIGITS.length;
+      return expression(keystrokes.calculation, keystrokes.digit);
+   }
+
+   @Benchmark
+   @BenchmarkMode(Mode.SingleShotTime)
+   @OutputTimeUnit(TimeUnit.MILLISECONDS)
+   @Warmup(iterations = 5)
+   @Measurement(iterations = 10)
+   @Fork(1)
+   public int recovery(Recovery recovery) throws IOException {
+      recovery.calculation = JournaledCalculation.open(recovery.journal, 64 << 20);
+      return recovery.calculation.getReplayedRecords();
+   }
+
+   private static BigDecimal expression(Calculation calculation, int digit) throws Exception {
+      calculation.editCurrentDecimal(DIGITS[digit]);
+      calculation.createOperation(Operator.ADD);
+      calculation.editCurrentDecimal(DIGITS[(digit + 3) % DIGITS.length]);
+      calculation.createOperation(Operator.MULTIPLY);
+      calculation.editCurrentDecimal(DIGITS[(digit + 7) % DIGITS.length]);
+      return calculation.getResultDecimal();
+   }
+
+   private static void delete(Path directory) throws IOException {
+      try (Stream<Path> files = Files.list(directory)) {
+         for (Path file : (Iterable<Path>) files::iterator) {
+            Files.delete(file);
+         }
+      }
+      Files.delete(directory);
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(JournalBenchmark.class.getSimpleName()).build()).run();
+   }
+}
@@ -0,0 +1,63 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.ProgramCompiler;
+import com.luqqorp.calculator.model.ProgramPlan;
+import com.luqqorp.calculator.model.data.Operator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares pricing program "x × rate + fee =" executed by compiled plan
+ * and the same keys pressed in cleared calculation
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ProgramBenchmark {
+   private static final String PROGRAM = "x × rate + fee =";
+   private static final BigDecimal RATE = new BigDecimal("1.15");
+   private static final BigDecimal FEE = new BigDecimal("2.5");
+
+   private final ProgramCompiler compiler = new ProgramCompiler();
+   private final Calculation calculation = new Calculation();
+   private final BigDecimal[] prices = new BigDecimal[64];
+   private int index;
+
+   @Setup
+   public void setup() {
+      for (int i = 0; i < prices.length; i++) {
+         prices[i] = BigDecimal.valueOf(100 + i * 37, 2);
+      }
+   }
+
+   @Benchmark
+   public BigDecimal plan() throws Exception {
+      ProgramPlan plan = compiler.compile(PROGRAM);
+      return plan.execute(prices[index++ & 63], RATE, FEE);
+   }
+
+   @Benchmark
+   public BigDecimal calculation() throws Exception {
+      calculation.clearAll();
+      calculation.memoryClear();
+      calculation.editCurrentDecimal(prices[index++ & 63]);
+      calculation.createOperation(Operator.MULTIPLY);
+      calculation.editCurrentDecimal(RATE);
+      calculation.createOperation(Operator.ADD);
+      calculation.editCurrentDecimal(FEE);
+      return calculation.getResultDecimal();
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(ProgramBenchmark.class.getSimpleName()).build()).run();
+   }
+}
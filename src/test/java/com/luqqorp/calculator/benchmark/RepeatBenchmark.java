@@ -0,0 +1,55 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.data.Operator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares equals pressed one by one and repeated equals of compound expressions,
+ * e.g. "1.05 × = = = ..." and "5 + = = = ..."
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RepeatBenchmark {
+   @Param({"ADD", "MULTIPLY"})
+   public Operator operator;
+   @Param({"100", "1000"})
+   public int count;
+
+   private final Calculation calculation = new Calculation();
+
+   @Benchmark
+   public BigDecimal pressed() throws Exception {
+      start();
+      for (int i = 1; i < count; i++) {
+         calculation.getResultDecimal();
+      }
+      return calculation.getResultDecimal();
+   }
+
+   @Benchmark
+   public BigDecimal repeated() throws Exception {
+      start();
+      return calculation.repeatResultDecimal(count);
+   }
+
+   private void start() throws Exception {
+      calculation.clearAll();
+      calculation.editCurrentDecimal(new BigDecimal("1.05"));
+      calculation.createOperation(operator);
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(RepeatBenchmark.class.getSimpleName()).build()).run();
+   }
+}
@@ -0,0 +1,103 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.view.handlers.FontCache;
+import com.luqqorp.calculator.view.handlers.ResizableFont;
+import javafx.beans.property.ObjectProperty;
+import javafx.scene.layout.Pane;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+import javafx.scene.text.Text;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-event cost of window height resize by looking up nodes and creating fonts
+ * on every event, as before, with resolved nodes and cached fonts.
+ * Buttons need running JavaFX toolkit, so text nodes with the same ids take their place
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ResizeBenchmark {
+   private static final String[][] SELECTORS = {
+           {"#btn-1", "#btn-2", "#btn-3", "#btn-4", "#btn-5", "#btn-6", "#btn-7", "#btn-8", "#btn-9", "#btn-0"},
+           {"#btn-c", "#btn-ce"},
+           {"#btn-undo", "#btn-percent", "#btn-sqrt"},
+           {"#btn-equals", "#btn-multiply", "#btn-divide"},
+           {"#btn-1x", "#btn-square"},
+           {"#btn-dot", "#btn-minus"},
+           {"#btn-negate", "#btn-plus"}};
+   private static final String[] FAMILIES = {"Segoe UI Semibold", "Segoe UI", "Segoe MDL2 Assets",
+           "Times New Roman", "Times New Roman", "Times New Roman", "Times New Roman"};
+   private static final FontPosture[] POSTURES = {FontPosture.REGULAR, FontPosture.REGULAR, FontPosture.REGULAR,
+           FontPosture.ITALIC, FontPosture.ITALIC, FontPosture.ITALIC, FontPosture.ITALIC};
+   private static final double[] RATIOS = {22, 31.3, 31.3, 18, 21, 35, 20};
+   /**
+    * Heights of window dragged from 500 to 800 pixels and back
+    */
+   private static final int HEIGHTS = 600;
+
+   private Pane root;
+   private final List<ResizableFont> fonts = new ArrayList<>();
+   private int event;
+
+   @Setup
+   public void setup() {
+      root = new Pane();
+      FontCache fontCache = new FontCache();
+      for (int i = 0; i < SELECTORS.length; i++) {
+         List<ObjectProperty<Font>> targets = new ArrayList<>();
+         for (String selector : SELECTORS[i]) {
+            Text node = new Text("0");
+            node.setId(selector.substring(1));
+            root.getChildren().add(node);
+            targets.add(node.fontProperty());
+         }
+         fonts.add(new ResizableFont(fontCache, FAMILIES[i], POSTURES[i], RATIOS[i], targets));
+      }
+   }
+
+   @Benchmark
+   public Object lookupAndCreate() {
+      double height = nextHeight();
+      Object node = null;
+      for (int i = 0; i < SELECTORS.length; i++) {
+         for (String selector : SELECTORS[i]) {
+            Text text = (Text) root.lookup(selector);
+            text.setFont(Font.font(FAMILIES[i], POSTURES[i], (int) (height / RATIOS[i])));
+            node = text;
+         }
+      }
+      return node;
+   }
+
+   @Benchmark
+   public int cached() {
+      double height = nextHeight();
+      int changed = 0;
+      for (ResizableFont font : fonts) {
+         if (font.resize(height)) {
+            changed++;
+         }
+      }
+      return changed;
+   }
+
+   private double nextHeight() {
+      event = (event + 1) % HEIGHTS;
+      return 500 + Math.abs(HEIGHTS / 2 - event);
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(ResizeBenchmark.class.getSimpleName()).build()).run();
+   }
+}
@@ -0,0 +1,79 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.data.Operator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares long mixed sessions of chained division, fraction and multiply
+ * on fixed scale and exact rational calculations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SessionBenchmark {
+   /**
+    * Repeated part of session, numbers are entered as is
+    */
+   private static final String SESSION_STEP = "7 ÷ 3 × 11 + 5 ÷ 9 - 2 × 13 ÷ 17 = 1/x + 0.5 = ÷ 6 × 6 =";
+
+   @Param({"10", "50"})
+   private int steps;
+
+   @Param({"fixed", "exact"})
+   private String engine;
+
+   private String[] keys;
+   private Calculation calculation;
+
+   @Setup
+   public void setup() {
+      keys = SESSION_STEP.split(" ");
+      calculation = new Calculation(engine.equals("exact"));
+   }
+
+   @Benchmark
+   public BigDecimal session() throws Exception {
+      calculation.clearAll();
+      BigDecimal result = BigDecimal.ZERO;
+      for (int i = 0; i < steps; i++) {
+         for (String key : keys) {
+            result = press(key);
+         }
+      }
+      return result;
+   }
+
+   private BigDecimal press(String key) throws Exception {
+      switch (key) {
+         case "+":
+            return calculation.createOperation(Operator.ADD);
+         case "-":
+            return calculation.createOperation(Operator.SUBTRACT);
+         case "×":
+            return calculation.createOperation(Operator.MULTIPLY);
+         case "÷":
+            return calculation.createOperation(Operator.DIVIDE);
+         case "1/x":
+            return calculation.createOperation(Operator.ONE_BY_X);
+         case "=":
+            return calculation.getResultDecimal();
+         default:
+            calculation.editCurrentDecimal(new BigDecimal(key));
+            return calculation.getCurrentDecimal();
+      }
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(SessionBenchmark.class.getSimpleName()).build()).run();
+   }
+}
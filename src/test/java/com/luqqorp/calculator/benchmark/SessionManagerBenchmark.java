@@ -0,0 +1,79 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.SessionManager;
+import com.luqqorp.calculator.model.data.Operator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of session manager: threads solve "digit + digit =" in random sessions of 100,000.
+ * With limit of live sessions the least recently used ones are evicted before every
+ * iteration, so iterations also restore evicted sessions.
+ * {@link #main(String[])} runs it for 1, 2, 4... threads up to count of cores,
+ * throughput of linear scaling grows as count of threads
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionManagerBenchmark {
+   private static final BigDecimal[] DIGITS = new BigDecimal[10];
+
+   static {
+      for (int i = 0; i < DIGITS.length; i++) {
+         DIGITS[i] = BigDecimal.valueOf(i + 1);
+      }
+   }
+
+   @Param({"100000"})
+   private int sessions;
+
+   @Param({"100000", "10000"})
+   private int maxLiveSessions;
+
+   private SessionManager manager;
+   private long[] ids;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      manager = new SessionManager(Calculation::new, maxLiveSessions, 1, TimeUnit.DAYS);
+      ids = new long[sessions];
+      for (int i = 0; i < sessions; i++) {
+         ids[i] = manager.create();
+      }
+   }
+
+   @Setup(Level.Iteration)
+   public void evict() {
+      manager.evictIdle();
+   }
+
+   @Benchmark
+   public BigDecimal expression() throws Exception {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      BigDecimal digit = DIGITS[random.nextInt(DIGITS.length)];
+      return manager.apply(ids[random.nextInt(ids.length)], calculation -> {
+         calculation.editCurrentDecimal(digit);
+         calculation.createOperation(Operator.ADD);
+         calculation.editCurrentDecimal(digit);
+         return calculation.getResultDecimal();
+      });
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      int cores = Runtime.getRuntime().availableProcessors();
+      for (int threads = 1; threads <= cores; threads *= 2) {
+         new Runner(new OptionsBuilder().include(SessionManagerBenchmark.class.getSimpleName())
+                 .threads(threads).build()).run();
+      }
+   }
+}
@@ -0,0 +1,61 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.CalculationSnapshot;
+import com.luqqorp.calculator.model.data.Operator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures snapshot and restore of a typical session "12.5 M+ + 7 × 3 ÷ 9 ±"
+ * with a pending expression, two units of history and memory value
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+   @Param({"fixed", "exact"})
+   private String engine;
+
+   private Calculation calculation;
+   private CalculationSnapshot snapshot;
+
+   @Setup
+   public void setup() throws Exception {
+      calculation = engine.equals("fixed") ? new Calculation() : new Calculation(true);
+      calculation.editCurrentDecimal(new BigDecimal("12.5"));
+      calculation.memoryAdd();
+      calculation.createOperation(Operator.ADD);
+      calculation.editCurrentDecimal(new BigDecimal("7"));
+      calculation.createOperation(Operator.MULTIPLY);
+      calculation.editCurrentDecimal(new BigDecimal("3"));
+      calculation.createOperation(Operator.DIVIDE);
+      calculation.editCurrentDecimal(new BigDecimal("9"));
+      calculation.createOperation(Operator.NEGATE);
+      snapshot = calculation.snapshot();
+   }
+
+   @Benchmark
+   public CalculationSnapshot snapshot() {
+      return calculation.snapshot();
+   }
+
+   @Benchmark
+   public Calculation restore() {
+      calculation.restore(snapshot);
+      return calculation;
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(SnapshotBenchmark.class.getSimpleName()).build()).run();
+   }
+}
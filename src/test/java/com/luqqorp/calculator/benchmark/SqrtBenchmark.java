@@ -0,0 +1,65 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.handler.ExpressionResolver;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares square root of previous Newton loop with square root of resolver
+ * across supported magnitudes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqrtBenchmark {
+   @Param({"1e-9999", "2e-5000", "0.5", "2", "12345678.9", "4e100", "3e5000", "9.9999999999999994e9999"})
+   private String magnitude;
+
+   private BigDecimal value;
+   private final ExpressionResolver resolver = new ExpressionResolver();
+
+   @Setup
+   public void setup() {
+      value = new BigDecimal(magnitude);
+   }
+
+   @Benchmark
+   public BigDecimal newtonLoop() {
+      return newtonSqrt(value);
+   }
+
+   @Benchmark
+   public BigDecimal fixedScale() throws Exception {
+      return resolver.calculate(value, value, Operator.SQRT);
+   }
+
+   /**
+    * Square root loop used by ExpressionResolver before
+    */
+   private static BigDecimal newtonSqrt(BigDecimal value) {
+      BigInteger n = value.movePointRight(ExpressionResolver.SCALE << 1).toBigInteger();
+      int bits = (n.bitLength() + 1) >> 1;
+      BigInteger ix = n.shiftRight(bits);
+      BigInteger ixPrev;
+      do {
+         ixPrev = ix;
+         ix = ix.add(n.divide(ix)).shiftRight(1);
+         Thread.yield();
+      } while (ix.compareTo(ixPrev) != 0);
+      return new BigDecimal(ix, ExpressionResolver.SCALE);
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(SqrtBenchmark.class.getSimpleName()).build()).run();
+   }
+}
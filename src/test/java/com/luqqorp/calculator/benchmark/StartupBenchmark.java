@@ -0,0 +1,63 @@
+package com.luqqorp.calculator.benchmark;
+
+import com.luqqorp.calculator.controller.CalculatorController;
+import com.luqqorp.calculator.view.CalculatorGraphic;
+import com.luqqorp.calculator.view.StandardCalcView;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares cold start of view, parsing of FXML with controller injection
+ * and precompiled view. Every measurement is done by a new JVM, as on relaunch of application.
+ * JavaFX toolkit is started, so benchmark needs display
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+   @Setup
+   public void startToolkit() throws InterruptedException {
+      CountDownLatch started = new CountDownLatch(1);
+      Platform.startup(started::countDown);
+      started.await();
+   }
+
+   @TearDown
+   public void exitToolkit() {
+      Platform.exit();
+   }
+
+   @Benchmark
+   public Parent fxml() throws Exception {
+      return onApplicationThread(() -> FXMLLoader.load(CalculatorGraphic.class.getResource(CalculatorGraphic.STANDARD_CALC_FXML)));
+   }
+
+   @Benchmark
+   public Parent precompiled() throws Exception {
+      return onApplicationThread(() -> new StandardCalcView(new CalculatorController()).build());
+   }
+
+   private static Parent onApplicationThread(Callable<Parent> view) throws Exception {
+      FutureTask<Parent> task = new FutureTask<>(view);
+      Platform.runLater(task);
+      return task.get();
+   }
+
+   public static void main(String[] args) throws RunnerException {
+      new Runner(new OptionsBuilder().include(StartupBenchmark.class.getSimpleName()).build()).run();
+   }
+}
@@ -0,0 +1,178 @@
+package com.luqqorp.calculator.controller.utils;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.data.Operator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalculationDispatcherTest {
+   /**
+    * Thread that takes place of JavaFX application thread
+    */
+   private final ExecutorService applicationThread = Executors.newSingleThreadExecutor();
+   private final ExecutorService computingThread = Executors.newSingleThreadExecutor();
+   private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+   private final List<Boolean> busy = Collections.synchronizedList(new ArrayList<>());
+   private final CalculationDispatcher dispatcher = new CalculationDispatcher(computingThread, applicationThread::execute, busy::add);
+
+   @AfterEach
+   void shutdown() {
+      applicationThread.shutdownNow();
+      computingThread.shutdownNow();
+   }
+
+   @Test
+   void testKeysAreHandledInOrder() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      onApplicationThread(() -> {
+         dispatcher.run(() -> handled.add("1"));
+         dispatcher.compute(() -> {
+            release.await();
+            return "2";
+         }, handled::add, e -> handled.add(e.toString()));
+         dispatcher.run(() -> handled.add("3"));
+         dispatcher.compute(() -> "4", handled::add, e -> handled.add(e.toString()));
+         dispatcher.run(() -> handled.add("5"));
+      });
+      assertEquals(Collections.singletonList("1"), handled);
+      release.countDown();
+      awaitIdle();
+      assertEquals(Arrays.asList("1", "2", "3", "4", "5"), handled);
+      assertEquals(Arrays.asList(true, false, true, false), busy);
+   }
+
+   @Test
+   void testClearCancelsComputation() throws Exception {
+      Calculation calculation = new Calculation();
+      calculation.editCurrentDecimal(BigDecimal.ONE);
+      calculation.createOperation(Operator.DIVIDE);
+      calculation.editCurrentDecimal(new BigDecimal("3"));
+      onApplicationThread(() -> {
+         dispatcher.compute(() -> calculation.repeatResultDecimal(Long.MAX_VALUE), result -> handled.add("result"),
+                 e -> handled.add(e.toString()));
+         dispatcher.run(() -> handled.add("queued"));
+      });
+      Thread.sleep(50);
+      onApplicationThread(() -> dispatcher.cancel(() -> handled.add("clear")));
+      awaitIdle();
+      assertEquals(Collections.singletonList("clear"), handled);
+
+      // the next operation is not interrupted by cancelled one
+      calculation.clearAll();
+      onApplicationThread(() -> dispatcher.compute(() -> calculation.createOperation(Operator.SQRT),
+              result -> handled.add("sqrt"), e -> handled.add(e.toString())));
+      awaitIdle();
+      assertEquals(Arrays.asList("clear", "sqrt"), handled);
+   }
+
+   @Test
+   void testPreparationIsNotCancelled() throws Exception {
+      CountDownLatch release = new CountDownLatch(1);
+      onApplicationThread(() -> {
+         dispatcher.prepare(() -> {
+            release.await();
+            return "recovered";
+         }, handled::add, e -> handled.add(e.toString()));
+         dispatcher.run(() -> handled.add("dropped"));
+         dispatcher.cancel(() -> handled.add("clear"));
+      });
+      assertTrue(handled.isEmpty());
+      release.countDown();
+      awaitIdle();
+      assertEquals(Arrays.asList("recovered", "clear"), handled);
+   }
+
+   @Test
+   void testShutdownClosesAfterComputation() throws Exception {
+      CountDownLatch started = new CountDownLatch(1);
+      onApplicationThread(() -> {
+         dispatcher.prepare(() -> {
+            started.countDown();
+            Thread.sleep(50);
+            handled.add("recovered");
+            return "recovered";
+         }, result -> {
+         }, e -> handled.add(e.toString()));
+         dispatcher.compute(() -> handled.add("dropped"), result -> {
+         }, e -> handled.add(e.toString()));
+      });
+      started.await();
+      assertTrue(applicationThread.submit(() -> dispatcher.shutdown(() -> handled.add("closed"), 10000)).get());
+      assertEquals(Arrays.asList("recovered", "closed"), handled);
+   }
+
+   @Test
+   void testCancelAtEndOfComputationDoesNotInterruptNextOne() throws Exception {
+      CountDownLatch interrupting = new CountDownLatch(1);
+      CountDownLatch finished = new CountDownLatch(1);
+      AtomicBoolean lateInterrupt = new AtomicBoolean();
+      // the first interruption, by cancel, is delayed until operation is finished or for 100 ms if it cannot finish
+      ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable) {
+         @Override
+         public void interrupt() {
+            if (interrupting.getCount() > 0) {
+               interrupting.countDown();
+               try {
+                  lateInterrupt.set(finished.await(100, TimeUnit.MILLISECONDS));
+               } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+               }
+            }
+            super.interrupt();
+         }
+      });
+      CalculationDispatcher dispatcher = new CalculationDispatcher(worker, runnable -> {
+         finished.countDown();
+         applicationThread.execute(runnable);
+      }, busy::add);
+      try {
+         CountDownLatch started = new CountDownLatch(1);
+         onApplicationThread(() -> dispatcher.compute(() -> {
+            started.countDown();
+            interrupting.await();
+            return "cancelled";
+         }, handled::add, e -> handled.add(e.toString())));
+         started.await();
+         onApplicationThread(() -> dispatcher.cancel(() -> {
+         }));
+         onApplicationThread(() -> dispatcher.compute(() -> Thread.currentThread().isInterrupted() ? "interrupted" : "next",
+                 handled::add, e -> handled.add(e.toString())));
+         long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+         while (applicationThread.submit(dispatcher::isComputing).get()) {
+            assertTrue(System.nanoTime() < deadline, "computation is not done");
+            Thread.sleep(5);
+         }
+      } finally {
+         worker.shutdownNow();
+      }
+      assertFalse(lateInterrupt.get(), "thread is interrupted after operation is finished");
+      assertEquals(Collections.singletonList("next"), handled);
+   }
+
+   private void onApplicationThread(Runnable task) throws Exception {
+      applicationThread.submit(task).get(10, TimeUnit.SECONDS);
+   }
+
+   private void awaitIdle() throws Exception {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (applicationThread.submit(dispatcher::isComputing).get()) {
+         assertTrue(System.nanoTime() < deadline, "computation is not done");
+         Thread.sleep(5);
+      }
+   }
+}
@@ -0,0 +1,225 @@
+package com.luqqorp.calculator.controller.utils;
+
+import com.luqqorp.calculator.model.handler.ExpressionResolver;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DecimalTextFormatterTest {
+   private static final int SAMPLES = 20000;
+   private static final int THREADS = 64;
+   private final Random random = new Random(20221018);
+   private final PatternFormatter patternFormatter = new PatternFormatter();
+
+   @Test
+   void testResultsOfDivision() {
+      testText("2.666666666666667", "2.666666666666667", divide(8, 3));
+      testText("0.024390243902439", "0.024390243902439", divide(1, 41));
+      testText("8.006952976513278e-7", "8.006952976513278e-7", divide(196, 789).divide(BigDecimal.valueOf(365 * 850L), ExpressionResolver.SCALE, RoundingMode.HALF_UP));
+      testText("0.0021598272138229", "0.0021598272138229", divide(1, 463));
+      testText("5", "5", divide(5, 3).multiply(BigDecimal.valueOf(3)));
+      testText("1.e+16", "1e16", new BigDecimal("1e16"));
+      testText("1.e-9999", "1e-9999", new BigDecimal("1e-9999"));
+      testText("-9.999999999999999e+9999", "-9.999999999999999e9999", new BigDecimal("-9.9999999999999994e9999"));
+      testText("64,322,966,400", "64,322,966,400", new BigDecimal("64322966400"));
+      testText("0.00000000000000012", "0.00000000000000012", new BigDecimal("1.2e-16"));
+      testText("5.e-16", "5e-16", new BigDecimal("5e-16").setScale(ExpressionResolver.SCALE));
+      testText("0.0000000000000005", "0.0000000000000005", new BigDecimal("5e-16"));
+   }
+
+   @Test
+   void testFormatsAsDecimalPatterns() {
+      for (BigDecimal value : corpus()) {
+         assertEquals(patternFormatter.formOperateDecimalText(value), DecimalTextFormatter.layout(value).resultText(), value.toString());
+         assertEquals(patternFormatter.formatInputNumber(value, false), DecimalTextFormatter.layout(value).inputText(false), value.toString());
+         assertEquals(patternFormatter.formatInputNumber(value, true), DecimalTextFormatter.layout(value).inputText(true), value.toString());
+      }
+   }
+
+   @Test
+   void testConcurrentFormatting() throws Exception {
+      List<BigDecimal> corpus = corpus();
+      List<BigDecimal> values = new ArrayList<>(corpus.subList(corpus.size() - 2000, corpus.size()));
+      for (int i = 0; i < 8; i++) {
+         values.add(divide(random.nextInt(1000) + 1, random.nextInt(1000) + 1).scaleByPowerOfTen(random.nextInt(20000) - 10000));
+      }
+      List<String> expected = new ArrayList<>();
+      for (BigDecimal value : values) {
+         expected.add(DecimalTextFormatter.layout(value).resultText() + " " + DecimalTextFormatter.layout(value).inputText(false));
+      }
+
+      ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> mismatches = new ArrayList<>();
+      for (int thread = 0; thread < THREADS; thread++) {
+         int offset = thread * 61;
+         mismatches.add(executor.submit(() -> {
+            DecimalViewFormer viewFormer = new DecimalViewFormer();
+            start.await();
+            int count = 0;
+            for (int i = 0; i < values.size(); i++) {
+               int index = (offset + i) % values.size();
+               BigDecimal value = values.get(index);
+               String text = viewFormer.formOperateDecimalText(value) + " " + viewFormer.formatInputNumber(value);
+               if (!text.equals(expected.get(index))) {
+                  count++;
+               }
+            }
+            return count;
+         }));
+      }
+      start.countDown();
+      for (Future<Integer> mismatch : mismatches) {
+         assertEquals(0, mismatch.get());
+      }
+      executor.shutdown();
+   }
+
+   private void testText(String expectedResult, String expectedInput, BigDecimal value) {
+      assertEquals(expectedResult, DecimalTextFormatter.layout(value).resultText());
+      assertEquals(expectedInput, DecimalTextFormatter.layout(value).inputText(false));
+   }
+
+   private static BigDecimal divide(long dividend, long divisor) {
+      return BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), ExpressionResolver.SCALE, RoundingMode.HALF_UP);
+   }
+
+   /**
+    * Creates values of all layouts: plain, small fraction, exponent
+    * and long period values as 5.000...01 around trimmed zero ends
+    */
+   private List<BigDecimal> corpus() {
+      List<BigDecimal> values = new ArrayList<>();
+      for (int scale = -5; scale < 80; scale++) {
+         values.add(BigDecimal.ZERO.setScale(scale));
+      }
+      for (int i = 0; i < 100; i++) {
+         values.add(divide(random.nextInt(100000) - 50000, random.nextInt(10000) + 1));
+      }
+      for (int zeros = 0; zeros < 60; zeros++) {
+         for (int ends = 0; ends < 40; ends += 3) {
+            BigInteger unscaled = BigInteger.valueOf(5).multiply(BigInteger.TEN.pow(zeros + 1)).add(BigInteger.ONE).multiply(BigInteger.TEN.pow(ends));
+            values.add(new BigDecimal(unscaled, zeros + 1 + ends));
+            values.add(new BigDecimal(unscaled.negate(), zeros + 1 + ends + random.nextInt(5)));
+         }
+      }
+      for (int i = 0; i < SAMPLES; i++) {
+         int digits = 1 + random.nextInt(40);
+         BigInteger unscaled = new BigInteger(digits * 4, random).mod(BigInteger.TEN.pow(digits));
+         if (random.nextInt(4) == 0) {
+            unscaled = unscaled.multiply(BigInteger.TEN.pow(random.nextInt(35)));
+         }
+         if (random.nextBoolean()) {
+            unscaled = unscaled.negate();
+         }
+         values.add(new BigDecimal(unscaled, random.nextInt(80) - 30));
+      }
+      for (int i = 0; i < SAMPLES; i++) {
+         long unscaled = 1 + random.nextInt(99);
+         values.add(BigDecimal.valueOf(unscaled, random.nextInt(60) - 30));
+         values.add(BigDecimal.valueOf(5 * (long) Math.pow(10, random.nextInt(18)) + random.nextInt(2), random.nextInt(40)));
+      }
+      return values;
+   }
+
+   /**
+    * Formatting by DecimalFormat patterns, as it was done before formatting by digits
+    */
+   private static class PatternFormatter {
+      private final DecimalFormat df = new DecimalFormat();
+
+      String formatInputNumber(BigDecimal decimal, boolean hasDot) {
+         formOperateDecimalText(decimal);
+         df.setDecimalSeparatorAlwaysShown(hasDot);
+         return df.format(decimal).toLowerCase();
+      }
+
+      String formOperateDecimalText(BigDecimal unitValue) {
+         df.setRoundingMode(RoundingMode.HALF_UP);
+         df.applyPattern("0.#################");
+         if (exponentCheck(unitValue)) {
+            return exponentHandle(unitValue);
+         } else if (unitValue.abs().toPlainString().startsWith("0.")) {
+            df.setMaximumFractionDigits(16);
+            return df.format(unitValue);
+         }
+         int integerLength = unitValue.abs().toBigInteger().toString().length();
+         df.applyPattern("#,###.################");
+         df.setMaximumFractionDigits(16 - integerLength);
+         return df.format(unitValue);
+      }
+
+      private String exponentHandle(BigDecimal decimal) {
+         if (firstExpCheck(decimal.abs().toPlainString())) {
+            df.applyPattern("0.#################");
+            return df.format(decimal);
+         }
+         df.applyPattern("0.###############E0");
+         String textValue = df.format(decimal);
+         int e = textValue.indexOf('E');
+         String beforeEValue = zeroEndsTrim(textValue.substring(0, e));
+         if (!beforeEValue.contains(".")) {
+            beforeEValue += ".";
+         }
+         String postEValue = textValue.substring(e).toLowerCase();
+         if (!postEValue.contains("e-")) {
+            postEValue = postEValue.replace("e", "e+");
+         }
+         String expValue = beforeEValue + postEValue;
+         if (Integer.parseInt(expValue.substring(expValue.indexOf('e') + 2)) < 4) {
+            df.applyPattern("0.###############");
+            expValue = df.format(decimal);
+         }
+         return expValue;
+      }
+
+      private boolean firstExpCheck(String plainValue) {
+         boolean expCheck = false;
+         boolean underFiveExp = false;
+         if (plainValue.startsWith("0.")) {
+            int a = 0;
+            for (int i = 2; i < 18; i++) {
+               if (plainValue.charAt(i) == '0') {
+                  a++;
+                  expCheck = a == 15;
+               } else {
+                  underFiveExp = plainValue.charAt(i) < '5';
+                  break;
+               }
+            }
+         }
+         return expCheck && (underFiveExp || plainValue.length() <= 18);
+      }
+
+      private boolean exponentCheck(BigDecimal value) {
+         boolean limitValueToExponent = value.abs().compareTo(new BigDecimal("10000000000000000")) >= 0;
+         String decimalText = zeroEndsTrim(value.abs().toPlainString());
+         boolean periodExponent = decimalText.contains(".") && decimalText.length() > 18 && decimalText.contains(".000");
+         return limitValueToExponent || periodExponent;
+      }
+
+      private String zeroEndsTrim(String currentDecimal) {
+         StringBuilder sb = new StringBuilder(currentDecimal);
+         if (!currentDecimal.contains("e") && currentDecimal.contains(".")) {
+            for (int i = 0; i < 30; i++) {
+               if (sb.toString().endsWith("0") && sb.toString().length() > 1) {
+                  sb.deleteCharAt(sb.toString().length() - 1);
+               }
+            }
+         }
+         return sb.toString();
+      }
+   }
+}
@@ -0,0 +1,186 @@
+package com.luqqorp.calculator.controller.utils;
+
+import com.luqqorp.calculator.model.Calculation;
+import com.luqqorp.calculator.model.data.HistoryStore;
+import com.luqqorp.calculator.model.data.HistoryUnit;
+import com.luqqorp.calculator.model.data.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryViewFormerTest {
+   private static final String[] KEYS = {"+", "-", "×", "÷", "√", "sqr", "1/x", "%", "±", "ce", "=", "7", "0.5", "12"};
+   private Calculation calculation = new Calculation();
+   private HistoryViewFormer historyViewFormer = new HistoryViewFormer();
+
+   @Test
+   void testHistoryText() throws Exception {
+      testHistory("34 + 41 1/x", "34 + 1/(41)");
+      testHistory("4 + 3 % %", "4 + 0.0048");
+      testHistory("4 + 3 % + %", "4 + 0.12 + 0.169744");
+      testHistory("196 ÷ 789 ÷ 365 ÷ 850 ÷", "196 ÷ 789 ÷ 365 ÷ 850 ÷ ");
+      testHistory("427 √ √", "√(√(427))");
+      testHistory("5 + 25 sqr sqr", "5 + sqr(sqr(25))");
+      testHistory("5 + 25 sqr sqr +", "5 + sqr(sqr(25)) + ");
+      testHistory("35817 + 70937 +", "35817 + 70937 + ");
+      testHistory("200 + 100 = + ce", "300 + ");
+   }
+
+   @Test
+   void testKeptViewsAreTheSameAsNewViews() throws Exception {
+      testKeptViews(new Random(20221019), HistoryStore.UNBOUNDED);
+   }
+
+   @Test
+   void testKeptViewsOfFullHistory() throws Exception {
+      testKeptViews(new Random(20221021), 3);
+   }
+
+   @Test
+   void testFullHistoryShowsTheLastUnits() throws Exception {
+      calculation = new Calculation(false, 2, HistoryStore.OverflowPolicy.DROP_OLDEST);
+      historyViewFormer = new HistoryViewFormer();
+      operate("1 + 2 + 3 sqr");
+      assertEquals("2 + sqr(3)", historyViewFormer.getHistoryText(calculation.getHistory()));
+      operate("ce");
+      assertEquals("2 + ", historyViewFormer.getHistoryText(calculation.getHistory()));
+   }
+
+   private void testKeptViews(Random random, int historyCapacity) throws Exception {
+      for (int session = 0; session < 50; session++) {
+         calculation = new Calculation(false, historyCapacity, HistoryStore.OverflowPolicy.DROP_OLDEST);
+         historyViewFormer = new HistoryViewFormer();
+         StringBuilder log = new StringBuilder();
+         for (int i = 0; i < 30; i++) {
+            String key = KEYS[random.nextInt(KEYS.length)];
+            log.append(key).append(' ');
+            try {
+               press(key);
+            } catch (Exception e) {
+               calculation.clearAll();
+            }
+            String expected = new HistoryViewFormer().getHistoryText(calculation.getHistory());
+            assertEquals(expected, historyViewFormer.getHistoryText(calculation.getHistory()), log.toString() + calculation.getHistory());
+         }
+      }
+   }
+
+   @Test
+   void testUnchangedHistoryTextIsReused() throws Exception {
+      operate("1 + 2 + 3 ×");
+      String text = historyViewFormer.getHistoryText(calculation.getHistory());
+      calculation.editCurrentDecimal(new BigDecimal("45"));
+      assertSame(text, historyViewFormer.getHistoryText(calculation.getHistory()));
+   }
+
+   @Test
+   void testLongNestedViewIsTruncated() throws Exception {
+      calculation = new Calculation();
+      historyViewFormer = new HistoryViewFormer();
+      operate("5 +");
+      calculation.editCurrentDecimal(BigDecimal.ONE);
+      for (int i = 0; i < 3000; i++) {
+         calculation.createOperation(Operator.SQUARE);
+         historyViewFormer.getHistoryText(calculation.getHistory());
+      }
+      String text = historyViewFormer.getHistoryText(calculation.getHistory());
+      assertEquals(4 + HistoryViewFormer.MAX_UNIT_LENGTH, text.length());
+      assertTrue(text.startsWith("5 + sqr(sqr(sqr("));
+      assertTrue(text.contains("sqr(sqr" + NestedText.ELLIPSIS + ")))"));
+      assertTrue(text.endsWith(")))"));
+   }
+
+   @Test
+   void testTruncatedNestedViewIsHeadAndTail() {
+      Random random = new Random(20221020);
+      Operator[] operators = {Operator.SQRT, Operator.SQUARE, Operator.ONE_BY_X, Operator.NEGATE, Operator.PERCENT};
+      Map<Operator, String> signMap = new EnumMap<>(Operator.class);
+      signMap.put(Operator.SQUARE, "sqr");
+      signMap.put(Operator.ONE_BY_X, "1/");
+      signMap.put(Operator.SQRT, "√");
+      signMap.put(Operator.NEGATE, "negate");
+      for (int i = 0; i < 2000; i++) {
+         HistoryUnit historyUnit = new HistoryUnit(BigDecimal.ONE);
+         int count = random.nextInt(60);
+         for (int j = 0; j < count; j++) {
+            historyUnit.addNonBinary(operators[random.nextInt(random.nextInt(20) == 0 ? operators.length : operators.length - 1)]);
+         }
+         NestedText nestedText = new NestedText(String.valueOf(random.nextInt(100000)), historyUnit, signMap);
+         StringBuilder full = new StringBuilder();
+         nestedText.appendTo(full);
+         assertEquals(full.length(), nestedText.length());
+
+         int maxLength = 2 + random.nextInt(100);
+         StringBuilder truncated = new StringBuilder("history ");
+         nestedText.appendTruncated(truncated, maxLength);
+         String expected = full.toString();
+         if (expected.length() > maxLength) {
+            int headLength = (maxLength - NestedText.ELLIPSIS.length()) / 2;
+            int tailLength = maxLength - NestedText.ELLIPSIS.length() - headLength;
+            expected = expected.substring(0, headLength) + NestedText.ELLIPSIS + expected.substring(expected.length() - tailLength);
+         }
+         assertEquals("history " + expected, truncated.toString());
+      }
+   }
+
+   private void testHistory(String commandsSequence, String expectedHistory) throws Exception {
+      calculation = new Calculation();
+      historyViewFormer = new HistoryViewFormer();
+      operate(commandsSequence);
+      assertEquals(expectedHistory, historyViewFormer.getHistoryText(calculation.getHistory()));
+   }
+
+   private void operate(String commandsSequence) throws Exception {
+      for (String key : commandsSequence.split(" ")) {
+         press(key);
+         historyViewFormer.getHistoryText(calculation.getHistory());
+      }
+   }
+
+   private void press(String key) throws Exception {
+      switch (key) {
+         case "+":
+            calculation.createOperation(Operator.ADD);
+            break;
+         case "-":
+            calculation.createOperation(Operator.SUBTRACT);
+            break;
+         case "×":
+            calculation.createOperation(Operator.MULTIPLY);
+            break;
+         case "÷":
+            calculation.createOperation(Operator.DIVIDE);
+            break;
+         case "√":
+            calculation.createOperation(Operator.SQRT);
+            break;
+         case "sqr":
+            calculation.createOperation(Operator.SQUARE);
+            break;
+         case "1/x":
+            calculation.createOperation(Operator.ONE_BY_X);
+            break;
+         case "%":
+            calculation.createOperation(Operator.PERCENT);
+            break;
+         case "±":
+            calculation.createOperation(Operator.NEGATE);
+            break;
+         case "ce":
+            calculation.clearEnter();
+            break;
+         case "=":
+            calculation.getResultDecimal();
+            break;
+         default:
+            calculation.editCurrentDecimal(new BigDecimal(key));
+      }
+   }
+}
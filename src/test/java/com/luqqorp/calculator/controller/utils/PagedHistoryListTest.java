@@ -0,0 +1,49 @@
+package com.luqqorp.calculator.controller.utils;
+
+import com.luqqorp.calculator.model.HistoryArchive;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PagedHistoryListTest {
+   @TempDir
+   Path directory;
+
+   @Test
+   void testNewestEntryIsFirst() throws Exception {
+      try (HistoryArchive archive = HistoryArchive.open(directory.resolve("history"))) {
+         int count = PagedHistoryList.PAGE_SIZE * (PagedHistoryList.MAX_PAGES + 2) + 5;
+         for (int i = 0; i < count; i++) {
+            archive.append(i + " =", String.valueOf(i));
+         }
+         PagedHistoryList entries = new PagedHistoryList(archive);
+         assertEquals(count, entries.size());
+         for (int i = 0; i < count; i++) {
+            assertEquals(String.valueOf(count - 1 - i), entries.get(i).getResult());
+         }
+         assertEquals("0 =", entries.get(count - 1).getExpression());
+
+         List<String> changes = new ArrayList<>();
+         entries.addListener((ListChangeListener<Object>) change -> {
+            while (change.next()) {
+               changes.add(change.getFrom() + ".." + change.getTo());
+            }
+         });
+         entries.sync();
+         archive.append("new =", "1");
+         archive.append("newest =", "10");
+         assertEquals(count, entries.size());
+         entries.sync();
+         assertEquals(List.of("0..2"), changes);
+         assertEquals("newest =", entries.get(0).getExpression());
+         assertEquals("new =", entries.get(1).getExpression());
+         assertEquals(String.valueOf(count - 1), entries.get(2).getResult());
+      }
+   }
+}
@@ -0,0 +1,50 @@
+package com.luqqorp.calculator.controller.utils;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ViewUpdateCoalescerTest {
+   /**
+    * Counts of requested pulses
+    */
+   private int pulseRequests;
+   private final ViewUpdateCoalescer viewUpdates = new ViewUpdateCoalescer(() -> pulseRequests++);
+   private final StringProperty mainText = new SimpleStringProperty("0");
+   private final StringProperty historyText = new SimpleStringProperty("");
+
+   @Test
+   void testAutoRepeatIsAppliedOncePerPulse() {
+      List<String> layouts = new ArrayList<>();
+      mainText.addListener((observable, oldValue, newValue) -> layouts.add(newValue));
+      historyText.addListener((observable, oldValue, newValue) -> layouts.add(newValue));
+
+      // 50 key repeats of "7 +" between two pulses
+      StringBuilder number = new StringBuilder();
+      for (int i = 0; i < 50; i++) {
+         number.append('7');
+         viewUpdates.setText(mainText, number.toString());
+         viewUpdates.setText(historyText, number + " + ");
+      }
+      assertEquals(1, pulseRequests);
+      assertEquals(0, layouts.size());
+      viewUpdates.applyUpdates();
+      assertEquals(2, layouts.size());
+      assertEquals(number.toString(), mainText.get());
+      assertEquals(number + " + ", historyText.get());
+
+      viewUpdates.setText(mainText, "0");
+      viewUpdates.applyUpdates();
+      viewUpdates.applyUpdates();
+      assertEquals(2, pulseRequests);
+      assertEquals(3, layouts.size());
+      assertEquals(101, viewUpdates.getRequestedUpdates());
+      assertEquals(3, viewUpdates.getAppliedUpdates());
+      assertEquals(2, viewUpdates.getPulses());
+   }
+}
@@ -0,0 +1,126 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.HistoryStore;
+import com.luqqorp.calculator.model.data.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalculationSnapshotTest {
+   /**
+    * Keys of session, the session is restored before every key
+    */
+   private static final String SESSION = "5 m+ + 3 √ × 2 = sqr = 1/x ÷ 7 ± % - 0.125 = ce 9 + = = mr c "
+           + "1 ÷ 3 × 3 = 1E9999 × 9 = c 4 - 2 1/x 1/x √ mc 6 ×";
+
+   @Test
+   void testRestoredSessionIsIdentical() throws Exception {
+      testSession(Calculation::new);
+      testSession(() -> new Calculation(true));
+      testSession(() -> new Calculation(true, 2, HistoryStore.OverflowPolicy.DROP_OLDEST));
+   }
+
+   @Test
+   void testTypicalSnapshotIsCompact() throws Exception {
+      Calculation calculation = new Calculation();
+      for (String key : "12.5 m+ + 7 × 3 ± ±".split(" ")) {
+         press(calculation, key);
+      }
+      assertTrue(calculation.snapshot().size() <= 32, calculation.snapshot().toString());
+   }
+
+   @Test
+   void testSnapshotIsImmutable() throws Exception {
+      Calculation calculation = new Calculation();
+      press(calculation, "5");
+      CalculationSnapshot snapshot = calculation.snapshot();
+      byte[] bytes = snapshot.toByteArray();
+      bytes[0]++;
+      press(calculation, "+");
+      assertEquals(CalculationSnapshot.of(snapshot.toByteArray()), snapshot);
+      assertNotEquals(snapshot, calculation.snapshot());
+      calculation.restore(snapshot);
+      assertEquals(snapshot, calculation.snapshot());
+   }
+
+   @Test
+   void testSnapshotOfAnotherMode() {
+      CalculationSnapshot snapshot = new Calculation().snapshot();
+      Calculation exact = new Calculation(true);
+      CalculationSnapshot exactSnapshot = exact.snapshot();
+      assertThrows(IllegalArgumentException.class, () -> exact.restore(snapshot));
+      assertEquals(exactSnapshot, exact.snapshot());
+      byte[] extended = new byte[exactSnapshot.size() + 1];
+      System.arraycopy(exactSnapshot.toByteArray(), 0, extended, 0, exactSnapshot.size());
+      assertThrows(IllegalArgumentException.class, () -> exact.restore(CalculationSnapshot.of(extended)));
+   }
+
+   /**
+    * Presses keys of session by calculation which is restored before every key
+    * and by calculation without snapshots, results, history and snapshots should be the same
+    */
+   private void testSession(Supplier<Calculation> factory) throws Exception {
+      Calculation reference = factory.get();
+      CalculationSnapshot snapshot = factory.get().snapshot();
+      for (String key : SESSION.split(" ")) {
+         Calculation restored = factory.get();
+         restored.restore(snapshot);
+         assertEquals(snapshot, restored.snapshot());
+         String expected = press(reference, key);
+         assertEquals(expected, press(restored, key), key);
+         assertEquals(reference.getHistory().toString(), restored.getHistory().toString(), key);
+         assertEquals(reference.isCurrentValNew(), restored.isCurrentValNew(), key);
+         snapshot = restored.snapshot();
+         assertArrayEquals(reference.snapshot().toByteArray(), snapshot.toByteArray(), key);
+      }
+   }
+
+   static String press(Calculation calculation, String key) {
+      try {
+         switch (key) {
+            case "+":
+               return String.valueOf(calculation.createOperation(Operator.ADD));
+            case "-":
+               return String.valueOf(calculation.createOperation(Operator.SUBTRACT));
+            case "×":
+               return String.valueOf(calculation.createOperation(Operator.MULTIPLY));
+            case "÷":
+               return String.valueOf(calculation.createOperation(Operator.DIVIDE));
+            case "±":
+               return String.valueOf(calculation.createOperation(Operator.NEGATE));
+            case "√":
+               return String.valueOf(calculation.createOperation(Operator.SQRT));
+            case "sqr":
+               return String.valueOf(calculation.createOperation(Operator.SQUARE));
+            case "1/x":
+               return String.valueOf(calculation.createOperation(Operator.ONE_BY_X));
+            case "%":
+               return String.valueOf(calculation.createOperation(Operator.PERCENT));
+            case "=":
+               return String.valueOf(calculation.getResultDecimal());
+            case "ce":
+               return String.valueOf(calculation.clearEnter());
+            case "c":
+               return String.valueOf(calculation.clearAll());
+            case "m+":
+               return String.valueOf(calculation.memoryAdd());
+            case "mr":
+               return String.valueOf(calculation.setCurrentDecimalFromMemory());
+            case "mc":
+               return String.valueOf(calculation.memoryClear());
+            default:
+               calculation.editCurrentDecimal(new BigDecimal(key));
+               return String.valueOf(calculation.getCurrentDecimal());
+         }
+      } catch (Exception e) {
+         return e.getClass().getSimpleName();
+      }
+   }
+}
@@ -0,0 +1,139 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.HistoryStore;
+import com.luqqorp.calculator.model.data.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class CalculationStateTest {
+   /**
+    * Keys of every class of state transitions, zero and number keys, memory keys
+    */
+   private static final String[] KEYS = {"+", "×", "÷", "%", "±", "sqr", "=", "ce", "c", "mr", "mc", "m+", "0", "5"};
+   private static final int MAX_LENGTH = 5;
+
+   @Test
+   void testAllShortSequencesAreTheSameAsLegacyCalculation() {
+      int[] sequence = new int[MAX_LENGTH];
+      for (int length = 1; length <= MAX_LENGTH; length++) {
+         testSequences(sequence, 0, length);
+      }
+   }
+
+   /**
+    * Tests all sequences of length with adjusted first keys
+    */
+   private void testSequences(int[] sequence, int index, int length) {
+      if (index == length) {
+         testSequence(sequence, length);
+         return;
+      }
+      for (int key = 0; key < KEYS.length; key++) {
+         sequence[index] = key;
+         testSequences(sequence, index + 1, length);
+      }
+   }
+
+   private void testSequence(int[] sequence, int length) {
+      Calculation calculation = new Calculation();
+      LegacyCalculation legacy = new LegacyCalculation();
+      StringBuilder keys = new StringBuilder();
+      for (int i = 0; i < length; i++) {
+         String key = KEYS[sequence[i]];
+         keys.append(key).append(' ');
+         String expected = press(legacy, key);
+         String actual = press(calculation, key);
+         assertEquals(expected, actual, keys.toString());
+         assertEquals(legacy.getCurrentDecimal(), calculation.getCurrentDecimal(), keys.toString());
+         assertEquals(legacy.isCurrentValNew(), calculation.isCurrentValNew(), keys.toString());
+         assertHistory(legacy.getHistory().getHistoryUnits(), calculation.getHistory().getHistoryUnits(), keys.toString());
+         if (expected.startsWith("!")) {
+            return;
+         }
+      }
+   }
+
+   private static void assertHistory(HistoryStore expected, HistoryStore actual, String keys) {
+      assertEquals(expected.size(), actual.size(), keys);
+      for (int i = 0; i < expected.size(); i++) {
+         if (!expected.get(i).equals(actual.get(i))) {
+            fail(keys + expected + " " + actual);
+         }
+      }
+   }
+
+   private static String press(Calculation calculation, String key) {
+      try {
+         switch (key) {
+            case "=":
+               return calculation.getResultDecimal().toString();
+            case "ce":
+               return calculation.clearEnter().toString();
+            case "c":
+               return calculation.clearAll().toString();
+            case "mr":
+               return calculation.setCurrentDecimalFromMemory().toString();
+            case "mc":
+               return calculation.memoryClear().toString();
+            case "m+":
+               return calculation.memoryAdd().toString();
+            case "0":
+            case "5":
+               calculation.editCurrentDecimal(new BigDecimal(key));
+               return calculation.getCurrentDecimal().toString();
+            default:
+               return calculation.createOperation(operator(key)).toString();
+         }
+      } catch (Exception e) {
+         return "!" + e;
+      }
+   }
+
+   private static String press(LegacyCalculation calculation, String key) {
+      try {
+         switch (key) {
+            case "=":
+               return calculation.getResultDecimal().toString();
+            case "ce":
+               return calculation.clearEnter().toString();
+            case "c":
+               return calculation.clearAll().toString();
+            case "mr":
+               return calculation.setCurrentDecimalFromMemory().toString();
+            case "mc":
+               return calculation.memoryClear().toString();
+            case "m+":
+               return calculation.memoryAdd().toString();
+            case "0":
+            case "5":
+               calculation.editCurrentDecimal(new BigDecimal(key));
+               return calculation.getCurrentDecimal().toString();
+            default:
+               return calculation.createOperation(operator(key)).toString();
+         }
+      } catch (Exception e) {
+         return "!" + e;
+      }
+   }
+
+   private static Operator operator(String key) {
+      switch (key) {
+         case "+":
+            return Operator.ADD;
+         case "×":
+            return Operator.MULTIPLY;
+         case "÷":
+            return Operator.DIVIDE;
+         case "%":
+            return Operator.PERCENT;
+         case "±":
+            return Operator.NEGATE;
+         default:
+            return Operator.SQUARE;
+      }
+   }
+}
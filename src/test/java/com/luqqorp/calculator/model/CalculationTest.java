@@ -1,5 +1,6 @@
 package com.luqqorp.calculator.model;
 
+import com.luqqorp.calculator.model.data.HistoryUnit;
 import com.luqqorp.calculator.model.data.Operator;
 import com.luqqorp.calculator.model.exceptions.CannotDivideByZeroException;
 import com.luqqorp.calculator.model.exceptions.InvalidInputException;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -43,6 +46,76 @@ class CalculationTest {
       commands.put("=", () -> calculator.getResultDecimal());
    }
 
+   @Test
+   void testCompletedExpressions() throws Exception {
+      Calculation calculation = new Calculation();
+      List<String> completed = new ArrayList<>();
+      calculation.setCompletionListener(completions(completed));
+      calculation.editCurrentDecimal(BigDecimal.valueOf(5));
+      calculation.createOperation(Operator.ADD);
+      calculation.editCurrentDecimal(BigDecimal.valueOf(3));
+      calculation.getResultDecimal();
+      calculation.getResultDecimal();
+      calculation.editCurrentDecimal(BigDecimal.valueOf(9));
+      calculation.createOperation(Operator.SQRT);
+      calculation.getResultDecimal();
+      calculation.clearAll();
+      calculation.editCurrentDecimal(BigDecimal.valueOf(7));
+      calculation.getResultDecimal();
+      calculation.createOperation(Operator.MULTIPLY);
+      calculation.repeatResultDecimal(4);
+      assertEquals(List.of("5 ADD 3= 8", "8 ADD 3= 11", "9nb ADD 3= 6", "7= 7",
+              "7 MULTIPLY 7= 49", "49 MULTIPLY 7= 343", "343 MULTIPLY 7= 2401", "2401 MULTIPLY 7= 16807"), completed);
+   }
+
+   @Test
+   void testHeldEqualsCompleteAsPressedEquals() throws Exception {
+      testHeldEquals("5 + 3 =", 100);
+      testHeldEquals("-100 + 0.25 =", 1000);
+      testHeldEquals("1.1 × =", 500);
+      testHeldEquals("10 × =", 500);
+      testHeldEquals("0.1 × =", 500);
+      testHeldEquals("3 ÷ =", 5);
+      testHeldEquals("5 =", 50);
+   }
+
+   /**
+    * Compares completed expressions of equals pressed one by one and held equals of the same expression
+    */
+   private void testHeldEquals(String expression, int count) throws Exception {
+      Calculation pressed = new Calculation();
+      Calculation held = new Calculation();
+      new ExpressionEvaluator(pressed).evaluate(expression);
+      new ExpressionEvaluator(held).evaluate(expression);
+      List<String> pressedCompleted = new ArrayList<>();
+      List<String> heldCompleted = new ArrayList<>();
+      pressed.setCompletionListener(completions(pressedCompleted));
+      held.setCompletionListener(completions(heldCompleted));
+      String expected = resultText(() -> {
+         for (int i = 0; i < count; i++) {
+            pressed.getResultDecimal();
+         }
+         return pressed.getCurrentDecimal();
+      });
+      assertEquals(expected, resultText(() -> held.repeatResultDecimal(count)), expression);
+      assertEquals(pressedCompleted, heldCompleted, expression);
+   }
+
+   /**
+    * Creates listener that adds completed expressions as text, e.g. "5 ADD 3= 8"
+    */
+   private static Calculation.CompletionListener completions(List<String> completed) {
+      return (history, result) -> {
+         StringBuilder expression = new StringBuilder();
+         for (int i = 0; i < history.getHistoryUnits().size(); i++) {
+            HistoryUnit unit = history.getHistoryUnits().get(i);
+            expression.append(unit.getValue()).append(unit.getNonBinaryCount() > 0 ? "nb" : "")
+                    .append(unit.getBinary() == null ? "" : " " + unit.getBinary() + " ");
+         }
+         completed.add(expression + "= " + result.stripTrailingZeros());
+      };
+   }
+
    @Test
    void testAdd() throws Exception {
       testCalculation("= = = = = = = + = = + = + = + = +", "0", 1, "0");
@@ -615,6 +688,59 @@ class CalculationTest {
       testCalculation("500 m- m- m- + 100 + mr =", "-900", 0, "-1,500");
    }
 
+   @Test
+   void testRepeatedEquals() throws Exception {
+      String maximum = "10000000000 sqr × = = = = × = = = = × = × = = = = ÷ 10 = × = × 10 =";
+      testRepeatedEquals("5 + =", 1000);
+      testRepeatedEquals("5 + 3", 1000);
+      testRepeatedEquals("5 + 3 = 2", 1000);
+      testRepeatedEquals("5 + 3 = sqr", 10);
+      testRepeatedEquals("-100 + 0.25 =", 1000);
+      testRepeatedEquals("100 - 0.3 =", 1000);
+      testRepeatedEquals("0 + 0.00 =", 100);
+      testRepeatedEquals(maximum + " + 0.5 × 2 =", 20);
+      testRepeatedEquals(maximum + " + =", 20);
+      testRepeatedEquals(maximum + " ± - =", 20);
+      testRepeatedEquals("10 × =", 20000);
+      testRepeatedEquals("0.1 × =", 20000);
+      testRepeatedEquals("-0.5 × =", 1000);
+      testRepeatedEquals("0.001 × =", 5000);
+      testRepeatedEquals("1.1 × =", 500);
+      testRepeatedEquals("-1.0 ×", 300);
+      testRepeatedEquals("7 × 0 =", 100);
+      testRepeatedEquals("3 ÷ =", 5);
+      testRepeatedEquals("5 =", 50);
+   }
+
+   /**
+    * Compares equals pressed one by one and repeated equals of the same expression
+    */
+   private void testRepeatedEquals(String expression, int count) throws Exception {
+      Calculation pressed = new Calculation();
+      Calculation repeated = new Calculation();
+      new ExpressionEvaluator(pressed).evaluate(expression);
+      new ExpressionEvaluator(repeated).evaluate(expression);
+      String expected = resultText(() -> {
+         for (int i = 0; i < count; i++) {
+            pressed.getResultDecimal();
+         }
+         return pressed.getCurrentDecimal();
+      });
+      assertEquals(expected, resultText(() -> repeated.repeatResultDecimal(count)), expression);
+      assertEquals(pressed.getCurrentDecimal(), repeated.getCurrentDecimal(), expression);
+      assertEquals(pressed.getHistory().getHistoryUnits().toString(), repeated.getHistory().getHistoryUnits().toString(), expression);
+      assertEquals(resultText(() -> pressed.createOperation(Operator.PERCENT)),
+              resultText(() -> repeated.createOperation(Operator.PERCENT)), expression);
+   }
+
+   private String resultText(Operation operation) {
+      try {
+         return operation.doOperation().toString();
+      } catch (Exception e) {
+         return e.toString();
+      }
+   }
+
    private void testCalculation(String commandsSequence, String expectedDecimal, int expectedHistorySize, String expectedMemory) throws Exception {
       BigDecimal actualDecimal = operateDecimal(commandsSequence);
       String actualDecimalValueText = formatValue(expectedDecimal, actualDecimal);
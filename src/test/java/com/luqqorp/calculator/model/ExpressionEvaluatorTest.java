@@ -0,0 +1,148 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.Key;
+import com.luqqorp.calculator.model.data.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpressionEvaluatorTest {
+   private static final String[] KEYS = {"+", "-", "×", "÷", "*", "/", "√", "sqr", "1/x", "%", "±", "ce", "c",
+           "m+", "m-", "mr", "mc", "=", "7", "0.5", "12", "-3", "1e3", "123456789012345678901"};
+   private final ExpressionEvaluator evaluator = new ExpressionEvaluator();
+
+   @Test
+   void testExpressions() throws Exception {
+      testExpression("24", "5 + 3 × 3 =");
+      testExpression("213", "71 + = =");
+      testExpression("6", "1 + = + = =");
+      testExpression("39", "73 + 34 ± =");
+      testExpression("1500", "500 m+ m+ m+ mr");
+      testExpression("2100", "500 m+ m+ m+ + 100 + mr =");
+      testExpression("0.25", "  0.5\tsqr \n");
+      testExpression("0", "");
+      testExpression("8", "2 * 8 / 2 =");
+   }
+
+   @Test
+   void testUnknownKey() {
+      assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate("5 + x ="));
+      assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate("5 ++ 3"));
+   }
+
+   @Test
+   void testEvaluatorPressesKeysAsCalculation() {
+      Random random = new Random(20221023);
+      for (int i = 0; i < 2000; i++) {
+         StringBuilder expression = new StringBuilder();
+         int count = 1 + random.nextInt(12);
+         for (int j = 0; j < count; j++) {
+            expression.append(KEYS[random.nextInt(KEYS.length)]).append(' ');
+         }
+         String expected = pressKeys(new Calculation(), expression.toString());
+         String actual;
+         try {
+            actual = evaluator.evaluate(expression.toString()).toString();
+         } catch (Exception e) {
+            actual = e.getClass().getSimpleName();
+         }
+         assertEquals(expected, actual, expression.toString());
+      }
+   }
+
+   @Test
+   void testTokenizer() {
+      KeyTokenizer tokenizer = new KeyTokenizer().reset("12.50 1/x ×  sqr -0.5");
+      tokenizer.next();
+      assertEquals(Key.NUMBER, tokenizer.getKey());
+      assertEquals(new BigDecimal("12.50"), tokenizer.getNumber());
+      tokenizer.next();
+      assertEquals(Key.ONE_BY_X, tokenizer.getKey());
+      assertNull(tokenizer.getNumber());
+      tokenizer.next();
+      assertEquals(Operator.MULTIPLY, tokenizer.getKey().operator);
+      tokenizer.next();
+      assertEquals(Key.SQUARE, tokenizer.getKey());
+      tokenizer.next();
+      assertEquals(new BigDecimal("-0.5"), tokenizer.getNumber());
+      assertEquals(false, tokenizer.next());
+   }
+
+   private void testExpression(String expected, String expression) throws Exception {
+      assertEquals(0, new BigDecimal(expected).compareTo(evaluator.evaluate(expression)), expression);
+   }
+
+   /**
+    * Presses keys one by one in new calculation as calculation test does
+    */
+   private static String pressKeys(Calculation calculation, String expression) {
+      BigDecimal result = BigDecimal.ZERO;
+      try {
+         for (String key : expression.trim().split(" ")) {
+            switch (key) {
+               case "+":
+                  result = calculation.createOperation(Operator.ADD);
+                  break;
+               case "-":
+                  result = calculation.createOperation(Operator.SUBTRACT);
+                  break;
+               case "×":
+               case "*":
+                  result = calculation.createOperation(Operator.MULTIPLY);
+                  break;
+               case "÷":
+               case "/":
+                  result = calculation.createOperation(Operator.DIVIDE);
+                  break;
+               case "√":
+                  result = calculation.createOperation(Operator.SQRT);
+                  break;
+               case "sqr":
+                  result = calculation.createOperation(Operator.SQUARE);
+                  break;
+               case "1/x":
+                  result = calculation.createOperation(Operator.ONE_BY_X);
+                  break;
+               case "%":
+                  result = calculation.createOperation(Operator.PERCENT);
+                  break;
+               case "±":
+                  result = calculation.createOperation(Operator.NEGATE);
+                  break;
+               case "ce":
+                  result = calculation.clearEnter();
+                  break;
+               case "c":
+                  result = calculation.clearAll();
+                  break;
+               case "m+":
+                  result = calculation.memoryAdd();
+                  break;
+               case "m-":
+                  result = calculation.memorySubstract();
+                  break;
+               case "mr":
+                  result = calculation.setCurrentDecimalFromMemory();
+                  break;
+               case "mc":
+                  result = calculation.memoryClear();
+                  break;
+               case "=":
+                  result = calculation.getResultDecimal();
+                  break;
+               default:
+                  calculation.editCurrentDecimal(new BigDecimal(key));
+                  result = calculation.getCurrentDecimal();
+            }
+         }
+      } catch (Exception e) {
+         return e.getClass().getSimpleName();
+      }
+      return result.toString();
+   }
+}
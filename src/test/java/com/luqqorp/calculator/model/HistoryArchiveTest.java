@@ -0,0 +1,61 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.HistoryEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HistoryArchiveTest {
+   @TempDir
+   Path directory;
+
+   @Test
+   void testEntriesAreKeptAfterReopen() throws Exception {
+      Path file = directory.resolve("history");
+      try (HistoryArchive archive = HistoryArchive.open(file)) {
+         for (int i = 0; i < 100; i++) {
+            archive.append(i + " + 1 =", String.valueOf(i + 1));
+         }
+         assertEquals(new HistoryEntry("7 + 1 =", "8"), archive.read(7, 8).get(0));
+      }
+      try (HistoryArchive archive = HistoryArchive.open(file)) {
+         assertEquals(100, archive.size());
+         archive.append("√(9) =", "3");
+         List<HistoryEntry> entries = archive.read(98, 101);
+         assertEquals(3, entries.size());
+         assertEquals(new HistoryEntry("98 + 1 =", "99"), entries.get(0));
+         assertEquals(new HistoryEntry("√(9) =", "3"), entries.get(2));
+         assertEquals(0, archive.read(0, 0).size());
+         assertEquals(101, archive.read(0, 101).size());
+         assertThrows(IndexOutOfBoundsException.class, () -> archive.read(100, 102));
+      }
+   }
+
+   @Test
+   void testTornEntryIsRemoved() throws Exception {
+      Path file = directory.resolve("history");
+      try (HistoryArchive archive = HistoryArchive.open(file)) {
+         archive.append("1 + 1 =", "2");
+         archive.append("2 + 2 =", "4");
+      }
+      try (FileChannel data = FileChannel.open(file, StandardOpenOption.WRITE)) {
+         data.truncate(data.size() - 1);
+      }
+      try (FileChannel index = FileChannel.open(directory.resolve("history.index"), StandardOpenOption.WRITE)) {
+         index.write(ByteBuffer.allocate(3), index.size());
+      }
+      try (HistoryArchive archive = HistoryArchive.open(file)) {
+         assertEquals(1, archive.size());
+         archive.append("3 + 3 =", "6");
+         assertEquals(new HistoryEntry("3 + 3 =", "6"), archive.read(1, 2).get(0));
+      }
+   }
+}
@@ -0,0 +1,101 @@
+package com.luqqorp.calculator.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static com.luqqorp.calculator.model.CalculationSnapshotTest.press;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournaledCalculationTest {
+   private static final String SESSION = "5 m+ + 3 √ × 2 = sqr = 1/x ÷ 7 ± % - 0.125 = ce 9 + = = mr c "
+           + "1 ÷ 3 × 3 = 1E9999 × 9 = c 4 - 2 1/x 1/x √ mc 6 ×";
+
+   @TempDir
+   Path directory;
+
+   @Test
+   void testSessionIsRecovered() throws Exception {
+      testSession(1 << 20, 1024);
+      testSession(1 << 20, 3);
+      testSession(64, 5);
+   }
+
+   @Test
+   void testNewJournal() throws Exception {
+      try (JournaledCalculation calculation = JournaledCalculation.open(directory.resolve("session.journal"))) {
+         assertEquals(-1, calculation.getReplayedRecords());
+         assertArrayEquals(new Calculation().snapshot().toByteArray(), calculation.snapshot().toByteArray());
+      }
+      try (JournaledCalculation calculation = JournaledCalculation.open(directory.resolve("session.journal"))) {
+         assertEquals(0, calculation.getReplayedRecords());
+      }
+   }
+
+   @Test
+   void testTornRecordIsIgnored() throws Exception {
+      Path file = directory.resolve("session.journal");
+      CalculationSnapshot expected;
+      try (JournaledCalculation calculation = JournaledCalculation.open(file)) {
+         for (String key : "5 + 3".split(" ")) {
+            press(calculation, key);
+         }
+         expected = calculation.snapshot();
+      }
+      Path generation = generations(file)[0];
+      byte[] bytes = Files.readAllBytes(generation);
+      int end = bytes.length;
+      while (bytes[end - 1] == 0) {
+         end--;
+      }
+      bytes[end + 1] = 42;
+      bytes[end + 2] = 7;
+      Files.write(generation, bytes);
+      try (JournaledCalculation calculation = JournaledCalculation.open(file)) {
+         assertEquals(3, calculation.getReplayedRecords());
+         assertEquals(expected, calculation.snapshot());
+      }
+   }
+
+   /**
+    * Presses keys of session by journaled calculation, which is reopened after every key,
+    * and by plain calculation, their states should be the same. Then presses all keys
+    * of session without reopen and recovers them at once
+    */
+   private void testSession(int capacity, int snapshotInterval) throws Exception {
+      Path file = directory.resolve("session" + capacity + "-" + snapshotInterval + ".journal");
+      Calculation reference = new Calculation();
+      try (JournaledCalculation calculation = JournaledCalculation.open(file, capacity, snapshotInterval, 2)) {
+         for (String key : SESSION.split(" ")) {
+            assertEquals(press(reference, key), press(calculation, key), key);
+         }
+      }
+      try (JournaledCalculation calculation = JournaledCalculation.open(file, capacity, snapshotInterval, 2)) {
+         assertArrayEquals(reference.snapshot().toByteArray(), calculation.snapshot().toByteArray());
+         calculation.clearAll();
+         reference.clearAll();
+      }
+      for (String key : SESSION.split(" ")) {
+         try (JournaledCalculation calculation = JournaledCalculation.open(file, capacity, snapshotInterval, 2)) {
+            assertArrayEquals(reference.snapshot().toByteArray(), calculation.snapshot().toByteArray(), key);
+            assertEquals(press(reference, key), press(calculation, key), key);
+            assertEquals(reference.getHistory().toString(), calculation.getHistory().toString(), key);
+         }
+      }
+      try (JournaledCalculation calculation = JournaledCalculation.open(file, capacity, snapshotInterval, 2)) {
+         assertArrayEquals(reference.snapshot().toByteArray(), calculation.snapshot().toByteArray());
+      }
+      assertEquals(1, generations(file).length);
+   }
+
+   private static Path[] generations(Path file) throws IOException {
+      try (Stream<Path> files = Files.list(file.getParent())) {
+         return files.filter(path -> path.getFileName().toString().startsWith(file.getFileName() + ".")).toArray(Path[]::new);
+      }
+   }
+}
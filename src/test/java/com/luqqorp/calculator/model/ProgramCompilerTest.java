@@ -0,0 +1,79 @@
+package com.luqqorp.calculator.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProgramCompilerTest {
+   private static final String[] KEYS = {"+", "-", "×", "÷", "√", "sqr", "1/x", "%", "±", "ce", "c",
+           "m+", "m-", "mr", "mc", "=", "=", "x", "rate", "fee", "7", "0", "0.5"};
+   private static final String[] ARGUMENTS = {"0", "3", "-2", "0.25", "1e9000", "1e-9000", "12.5"};
+   private final ProgramCompiler compiler = new ProgramCompiler();
+   private final Random random = new Random(20221024);
+
+   @Test
+   void testPricingProgram() throws Exception {
+      ProgramPlan plan = compiler.compile("x × rate + fee =");
+      assertEquals(Arrays.asList("x", "rate", "fee"), plan.getParameters());
+      assertEquals(0, new BigDecimal("36.5").compareTo(plan.execute(new BigDecimal("12"), new BigDecimal("2.5"), new BigDecimal("6.5"))));
+      assertEquals(0, new BigDecimal("213").compareTo(compiler.compile("x + = =").execute(new BigDecimal("71"))));
+      assertSame(plan, compiler.compile("x × rate + fee ="));
+      assertThrows(IllegalArgumentException.class, () -> plan.execute(BigDecimal.ONE));
+      assertThrows(IllegalArgumentException.class, () -> compiler.compile("x ++ 3"));
+   }
+
+   @Test
+   void testPlansAreTheSameAsCalculation() {
+      ExpressionEvaluator evaluator = new ExpressionEvaluator(new Calculation(false));
+      ExpressionEvaluator exactEvaluator = new ExpressionEvaluator(new Calculation(true));
+      for (int i = 0; i < 3000; i++) {
+         StringBuilder program = new StringBuilder();
+         int count = 1 + random.nextInt(14);
+         for (int j = 0; j < count; j++) {
+            program.append(KEYS[random.nextInt(KEYS.length)]).append(' ');
+         }
+         ProgramPlan plan = compiler.compile(program.toString());
+         BigDecimal[] arguments = new BigDecimal[plan.getParameters().size()];
+         for (int j = 0; j < arguments.length; j++) {
+            arguments[j] = new BigDecimal(ARGUMENTS[random.nextInt(ARGUMENTS.length)]);
+         }
+         StringBuilder expression = new StringBuilder();
+         for (String key : program.toString().split(" ")) {
+            int slot = plan.getParameters().indexOf(key);
+            expression.append(slot < 0 ? key : arguments[slot].toString()).append(' ');
+         }
+         boolean exactMode = i % 3 == 0;
+         String expected = evaluate(exactMode ? exactEvaluator : evaluator, expression.toString());
+         String actual;
+         try {
+            actual = plan.execute(exactMode, arguments).toString();
+         } catch (Exception e) {
+            actual = e.toString();
+         }
+         assertEquals(expected, actual, plan.toString() + " " + Arrays.toString(arguments));
+      }
+   }
+
+   @Test
+   void testFixedScalePlan() throws Exception {
+      ExpressionEvaluator evaluator = new ExpressionEvaluator();
+      ProgramPlan plan = compiler.compile("x ÷ y + x % =");
+      assertEquals(evaluator.evaluate("7 ÷ 3 + 7 % ="), plan.execute(new BigDecimal("7"), new BigDecimal("3")));
+      assertEquals(evaluate(evaluator, "7 ÷ 0 + 7 % ="), assertThrows(Exception.class,
+              () -> plan.execute(new BigDecimal("7"), BigDecimal.ZERO)).toString());
+   }
+
+   private static String evaluate(ExpressionEvaluator evaluator, String expression) {
+      try {
+         return evaluator.evaluate(expression).toString();
+      } catch (Exception e) {
+         return e.toString();
+      }
+   }
+}
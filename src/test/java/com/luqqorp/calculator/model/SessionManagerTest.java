@@ -0,0 +1,200 @@
+package com.luqqorp.calculator.model;
+
+import com.luqqorp.calculator.model.data.HistoryStore;
+import com.luqqorp.calculator.model.data.Operator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionManagerTest {
+   private final AtomicLong time = new AtomicLong();
+
+   @Test
+   void testSessionsAreIndependent() throws Exception {
+      SessionManager manager = new SessionManager();
+      long first = manager.create();
+      long second = manager.create();
+      manager.apply(first, calculation -> enter(calculation, "5"));
+      manager.apply(second, calculation -> enter(calculation, "7"));
+      manager.apply(first, calculation -> calculation.createOperation(Operator.SQUARE));
+      assertEquals("25", manager.apply(first, Calculation::getCurrentDecimal).toString());
+      assertEquals("7", manager.apply(second, Calculation::getCurrentDecimal).toString());
+   }
+
+   @Test
+   void testIdleSessionIsRestored() throws Exception {
+      SessionManager manager = new SessionManager(Calculation::new, SessionManager.UNBOUNDED, 10, time::get);
+      long id = manager.create();
+      SessionManager.SessionAction<BigDecimal> steps = calculation -> {
+         enter(calculation, "5");
+         calculation.memoryAdd();
+         calculation.createOperation(Operator.ADD);
+         enter(calculation, "3");
+         calculation.createOperation(Operator.SQRT);
+         return calculation.createOperation(Operator.MULTIPLY);
+      };
+      Calculation reference = new Calculation();
+      assertEquals(steps.apply(reference), manager.apply(id, steps));
+      time.set(5);
+      assertEquals(0, manager.evictIdle());
+      time.set(10);
+      assertEquals(1, manager.evictIdle());
+      assertEquals(0, manager.liveCount());
+      assertEquals(1, manager.evictedCount());
+      assertEquals(reference.getHistory().toString(), manager.apply(id, calculation -> calculation.getHistory().toString()));
+      assertEquals(1, manager.liveCount());
+      assertEquals(reference.getResultDecimal(), manager.apply(id, Calculation::getResultDecimal));
+      assertEquals(reference.setCurrentDecimalFromMemory(), manager.apply(id, Calculation::setCurrentDecimalFromMemory));
+   }
+
+   @Test
+   void testExactSessionIsRestored() throws Exception {
+      SessionManager manager = new SessionManager(() -> new Calculation(true, 2, HistoryStore.OverflowPolicy.DROP_OLDEST),
+              0, Long.MAX_VALUE, time::get);
+      long id = manager.create();
+      manager.apply(id, calculation -> {
+         enter(calculation, "1");
+         calculation.createOperation(Operator.DIVIDE);
+         enter(calculation, "3");
+         return calculation.createOperation(Operator.MULTIPLY);
+      });
+      assertEquals(1, manager.evictIdle());
+      manager.apply(id, calculation -> enter(calculation, "3"));
+      assertEquals(0, BigDecimal.ONE.compareTo(manager.apply(id, Calculation::getResultDecimal)));
+   }
+
+   @Test
+   void testLeastRecentlyUsedSessionIsEvicted() throws Exception {
+      SessionManager manager = new SessionManager(Calculation::new, 2, Long.MAX_VALUE, time::get);
+      long first = manager.create();
+      time.set(1);
+      long second = manager.create();
+      time.set(2);
+      long third = manager.create();
+      time.set(3);
+      manager.apply(first, calculation -> enter(calculation, "1"));
+      assertEquals(1, manager.evictIdle());
+      assertEquals(2, manager.liveCount());
+      assertTrue(manager.contains(second));
+      assertEquals("0", manager.apply(second, Calculation::getCurrentDecimal).toString());
+      assertEquals("1", manager.apply(first, Calculation::getCurrentDecimal).toString());
+      assertTrue(manager.contains(third));
+   }
+
+   @Test
+   void testClosedSessionIsNotFound() throws Exception {
+      SessionManager manager = new SessionManager(Calculation::new, 0, Long.MAX_VALUE, time::get);
+      long live = manager.create();
+      assertTrue(manager.close(live));
+      long evicted = manager.create();
+      manager.evictIdle();
+      assertTrue(manager.close(evicted));
+      assertFalse(manager.close(evicted));
+      assertFalse(manager.contains(live));
+      assertThrows(NoSuchElementException.class, () -> manager.apply(evicted, Calculation::getCurrentDecimal));
+      assertThrows(NoSuchElementException.class, () -> manager.apply(42, Calculation::getCurrentDecimal));
+   }
+
+   @Test
+   void testSessionHasSingleWriterDuringEviction() throws Exception {
+      SessionManager manager = new SessionManager(Calculation::new, 0, Long.MAX_VALUE, time::get);
+      long id = manager.create();
+      int threads = 4;
+      int additions = 2000;
+      ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+      try {
+         List<Future<?>> futures = new ArrayList<>();
+         for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+               for (int j = 0; j < additions; j++) {
+                  manager.apply(id, calculation -> {
+                     calculation.editCurrentDecimal(BigDecimal.ONE);
+                     return calculation.memoryAdd();
+                  });
+               }
+               return null;
+            }));
+         }
+         Future<?> evictor = executor.submit(() -> {
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+               manager.evictIdle();
+            }
+         });
+         for (Future<?> future : futures) {
+            future.get();
+         }
+         evictor.get();
+      } finally {
+         executor.shutdown();
+      }
+      assertEquals(BigDecimal.valueOf(threads * additions), manager.apply(id, Calculation::setCurrentDecimalFromMemory));
+   }
+
+   @Test
+   void testBlockedSessionDoesNotBlockOtherSessionsDuringEviction() throws Exception {
+      SessionManager manager = new SessionManager(Calculation::new, 0, Long.MAX_VALUE, time::get);
+      long blocked = manager.create();
+      long sameBin = blocked;
+      for (int i = 0; i < 16; i++) {
+         sameBin = manager.create();
+      }
+      long closed = sameBin;
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      Thread evictor = new Thread(manager::evictIdle);
+      try {
+         Future<?> action = executor.submit(() -> manager.apply(blocked, calculation -> {
+            started.countDown();
+            await(release);
+            return enter(calculation, "5");
+         }));
+         started.await();
+         evictor.start();
+         while (evictor.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+         }
+         // closed session shares bin of map with blocked one, created sessions make map grow
+         Future<?> others = executor.submit(() -> {
+            assertTrue(manager.close(closed));
+            for (int i = 0; i < 16; i++) {
+               manager.create();
+            }
+            return null;
+         });
+         others.get(5, TimeUnit.SECONDS);
+         release.countDown();
+         action.get();
+         evictor.join();
+      } finally {
+         release.countDown();
+         executor.shutdown();
+      }
+      assertFalse(manager.contains(closed));
+      assertEquals("5", manager.apply(blocked, Calculation::getCurrentDecimal).toString());
+   }
+
+   private static BigDecimal enter(Calculation calculation, String value) {
+      calculation.editCurrentDecimal(new BigDecimal(value));
+      return calculation.getCurrentDecimal();
+   }
+
+   private static void await(CountDownLatch latch) {
+      try {
+         latch.await();
+      } catch (InterruptedException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+}
@@ -0,0 +1,83 @@
+package com.luqqorp.calculator.model.data;
+
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HistoryStoreTest {
+   private final Random random = new Random(20221022);
+
+   @Test
+   void testStoreIsTheSameAsList() throws Exception {
+      testStore(new HistoryStore(), Integer.MAX_VALUE);
+      testStore(new HistoryStore(1, HistoryStore.OverflowPolicy.DROP_OLDEST), 1);
+      testStore(new HistoryStore(20, HistoryStore.OverflowPolicy.DROP_OLDEST), 20);
+   }
+
+   @Test
+   void testFullStoreRejectsUnits() throws Exception {
+      HistoryStore store = new HistoryStore(2, HistoryStore.OverflowPolicy.REJECT);
+      HistoryUnit first = new HistoryUnit(BigDecimal.ONE);
+      store.add(first);
+      store.add(new HistoryUnit(BigDecimal.TEN));
+      assertThrows(OverflowException.class, () -> store.add(new HistoryUnit(BigDecimal.ZERO)));
+      assertEquals(2, store.size());
+      assertSame(first, store.get(0));
+   }
+
+   @Test
+   void testPackedNonBinaries() {
+      HistoryUnit historyUnit = new HistoryUnit(BigDecimal.ONE);
+      HistoryUnit sameUnit = new HistoryUnit(BigDecimal.ONE);
+      for (int i = 0; i < 100; i++) {
+         Operator operator = Operator.ofOrdinal(Operator.SQUARE.ordinal() + i % 5);
+         historyUnit.addNonBinary(operator);
+         sameUnit.addNonBinary(operator);
+         assertEquals(operator, historyUnit.getNonBinary(i));
+      }
+      assertEquals(100, historyUnit.getNonBinaryCount());
+      assertEquals(sameUnit, historyUnit);
+      sameUnit.addNonBinary(Operator.SQRT);
+      assertNotEquals(sameUnit, historyUnit);
+   }
+
+   private void testStore(HistoryStore store, int capacity) throws Exception {
+      List<HistoryUnit> list = new ArrayList<>();
+      long dropped = 0;
+      for (int i = 0; i < 5000; i++) {
+         if (random.nextInt(3) == 0) {
+            assertSame(list.isEmpty() ? null : list.remove(list.size() - 1), store.pollLast());
+         } else {
+            HistoryUnit historyUnit = new HistoryUnit(BigDecimal.valueOf(i));
+            store.add(historyUnit);
+            list.add(historyUnit);
+            if (list.size() > capacity) {
+               list.remove(0);
+               dropped++;
+            }
+         }
+         assertEquals(list.size(), store.size());
+         assertEquals(dropped, store.getDroppedCount());
+         for (int j = 0; j < list.size(); j++) {
+            assertSame(list.get(j), store.get(j));
+         }
+         if (!list.isEmpty()) {
+            assertSame(list.get(list.size() - 1), store.getLast());
+         }
+      }
+      while (!list.isEmpty()) {
+         assertSame(list.remove(list.size() - 1), store.pollLast());
+      }
+      assertNull(store.pollLast());
+   }
+}
@@ -0,0 +1,111 @@
+package com.luqqorp.calculator.model.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StateWriterTest {
+
+   @Test
+   void testNumbers() {
+      long[] values = {0, 1, -1, 63, -64, 64, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+      StateWriter writer = new StateWriter();
+      for (long value : values) {
+         writer.writeSignedVarint(value);
+         writer.writeInteger(BigInteger.valueOf(value));
+      }
+      StateReader reader = new StateReader(writer.toByteArray());
+      for (long value : values) {
+         assertEquals(value, reader.readSignedVarint());
+         assertEquals(BigInteger.valueOf(value), reader.readInteger());
+      }
+      assertTrue(reader.isFinished());
+   }
+
+   @Test
+   void testDecimalsKeepScale() {
+      BigDecimal[] decimals = {BigDecimal.ZERO, new BigDecimal("0.00"), new BigDecimal("5"), new BigDecimal("-2.5"),
+              new BigDecimal("1E+9999"), new BigDecimal("-1E-9999"), new BigDecimal("9.9999999999999995e9999"),
+              new BigDecimal("0.3333333333333333333333333333333333333333333333333333333333"),
+              new BigDecimal(BigInteger.TEN.pow(400).negate(), Integer.MIN_VALUE),
+              new BigDecimal(BigInteger.ONE, Integer.MAX_VALUE)};
+      StateWriter writer = new StateWriter();
+      for (BigDecimal decimal : decimals) {
+         writer.writeDecimal(decimal);
+      }
+      writer.writeDecimal(null);
+      StateReader reader = new StateReader(writer.toByteArray());
+      for (BigDecimal decimal : decimals) {
+         BigDecimal read = reader.readDecimal();
+         assertEquals(decimal, read);
+         assertEquals(decimal.scale(), read.scale());
+      }
+      assertNull(reader.readDecimal());
+      assertTrue(reader.isFinished());
+   }
+
+   @Test
+   void testSharedDecimalsStayShared() {
+      BigDecimal shared = new BigDecimal("1");
+      BigDecimal equal = new BigDecimal("1");
+      StateWriter writer = new StateWriter();
+      writer.writeDecimal(shared);
+      writer.writeDecimal(equal);
+      writer.writeDecimal(shared);
+      StateReader reader = new StateReader(writer.toByteArray());
+      BigDecimal first = reader.readDecimal();
+      BigDecimal second = reader.readDecimal();
+      assertNotSame(first, second);
+      assertSame(first, reader.readDecimal());
+      assertTrue(reader.isFinished());
+   }
+
+   @Test
+   void testShortValuesTakeFewBytes() {
+      StateWriter writer = new StateWriter();
+      writer.writeDecimal(new BigDecimal("5"));
+      writer.writeOperator(Operator.NEGATE);
+      writer.writeOperator(null);
+      writer.writeRational(Rational.of(BigInteger.ONE, BigInteger.valueOf(3)));
+      assertEquals(6, writer.toByteArray().length);
+   }
+
+   @Test
+   void testRationalsAndOperators() {
+      Rational big = Rational.of(BigInteger.TEN.pow(100).add(BigInteger.ONE), BigInteger.valueOf(-7));
+      StateWriter writer = new StateWriter();
+      writer.writeRational(big);
+      writer.writeRational(null);
+      writer.writeRational(Rational.ZERO);
+      for (Operator operator : Operator.values()) {
+         writer.writeOperator(operator);
+      }
+      StateReader reader = new StateReader(writer.toByteArray());
+      assertEquals(big, reader.readRational());
+      assertNull(reader.readRational());
+      assertEquals(Rational.ZERO, reader.readRational());
+      for (Operator operator : Operator.values()) {
+         assertEquals(operator, reader.readOperator());
+      }
+      assertTrue(reader.isFinished());
+   }
+
+   @Test
+   void testTruncatedState() {
+      StateWriter writer = new StateWriter();
+      writer.writeInteger(BigInteger.TEN.pow(100));
+      byte[] bytes = writer.toByteArray();
+      byte[] truncated = new byte[bytes.length - 1];
+      System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+      assertThrows(IllegalArgumentException.class, () -> new StateReader(truncated).readInteger());
+      assertThrows(IllegalArgumentException.class, () -> new StateReader(new byte[]{(byte) 0x80}).readVarint());
+   }
+}
@@ -0,0 +1,209 @@
+package com.luqqorp.calculator.model.handler;
+
+import com.luqqorp.calculator.model.data.Operator;
+import com.luqqorp.calculator.model.data.StateWriter;
+import com.luqqorp.calculator.model.exceptions.OverflowException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpressionResolverTest {
+   private static final BigDecimal MAX_SUPPORTED_VALUE = new BigDecimal("9.9999999999999995e9999");
+   private static final BigDecimal MIN_SUPPORTED_VALUE = new BigDecimal("1e-9999");
+   private static final BigDecimal ZERO_ROUND_LIMIT = new BigDecimal("1e-20000");
+   /**
+    * Fixed scale quotients have 20050 fraction digits, so division is checked on fewer samples
+    */
+   private static final int DIVISION_SAMPLES = 500;
+   private final ExpressionResolver resolver = new ExpressionResolver();
+   private final Random random = new Random(20221017);
+
+   @Test
+   void testAddSubtractMultiply() throws Exception {
+      assertEquals(new BigDecimal("8"), resolver.calculate(new BigDecimal("5"), new BigDecimal("3"), Operator.ADD));
+      assertEquals(new BigDecimal("-1.25"), resolver.calculate(new BigDecimal("0.5"), new BigDecimal("1.75"), Operator.SUBTRACT));
+      assertEquals(new BigDecimal("0.375"), resolver.calculate(new BigDecimal("1.5"), new BigDecimal("0.25"), Operator.MULTIPLY));
+      assertEquals(BigDecimal.ZERO, resolver.calculate(new BigDecimal("2.5"), new BigDecimal("2.5"), Operator.SUBTRACT));
+   }
+
+   @Test
+   void testArithmeticOfLargeOperands() throws Exception {
+      BigDecimal max = new BigDecimal("999999999999999999");
+      BigDecimal min = max.negate();
+      BigDecimal fraction = new BigDecimal("0.999999999999999999");
+      assertEquals(new BigDecimal("1999999999999999998"), resolver.calculate(max, max, Operator.ADD));
+      assertEquals(new BigDecimal("-1999999999999999998"), resolver.calculate(min, max, Operator.SUBTRACT));
+      assertEquals(new BigDecimal("999999999999999998000000000000000001"), resolver.calculate(max, max, Operator.MULTIPLY));
+      assertEquals(new BigDecimal("999999999999999999.999999999999999999"), resolver.calculate(max, fraction, Operator.ADD));
+      assertEquals(new BigDecimal("-999999999999999998.000000000000000001"), resolver.calculate(fraction, min, Operator.MULTIPLY));
+   }
+
+   @Test
+   void testFixedScaleSqrtIsTruncatedRoot() {
+      BigDecimal ulp = BigDecimal.ONE.movePointLeft(ExpressionResolver.SCALE);
+      for (String text : new String[]{"1e-9999", "2e-9999", "0.0000000000000001", "0.5", "2", "3", "4", "10", "12345678.9",
+              "9999999999999999", "1e5000", "7e5001", "9.9999999999999994e9999"}) {
+         BigDecimal value = new BigDecimal(text);
+         BigDecimal root = ExpressionResolver.sqrt(value);
+         assertEquals(ExpressionResolver.SCALE, root.scale(), text);
+         assertTrue(root.multiply(root).compareTo(value) <= 0, text);
+         assertTrue(root.add(ulp).pow(2).compareTo(value) > 0, text);
+      }
+   }
+
+   @Test
+   void testFixedScaleSqrtIsCancelledByInterrupt() {
+      Thread.currentThread().interrupt();
+      try {
+         assertThrows(CancellationException.class, () -> ExpressionResolver.sqrt(new BigDecimal("1e9998")));
+      } finally {
+         Thread.interrupted();
+      }
+   }
+
+   @Test
+   void testSqrtOfPerfectSquares() throws Exception {
+      for (String text : new String[]{"4", "0.25", "1.44", "1e-28", "1e9998", "152415787532388367501905199875019052100"}) {
+         BigDecimal value = new BigDecimal(text);
+         BigDecimal root = value.sqrt(MathContext.DECIMAL128);
+         assertEquals(0, root.compareTo(resolver.calculate(value, value, Operator.SQRT)), text);
+      }
+   }
+
+   @Test
+   void testExactModeKeepsRationalResults() throws Exception {
+      ExpressionResolver exact = new ExpressionResolver(true);
+      BigDecimal three = new BigDecimal("3");
+      BigDecimal third = exact.calculate(BigDecimal.ONE, three, Operator.DIVIDE);
+      assertEquals(0, BigDecimal.ONE.compareTo(exact.calculate(third, three, Operator.MULTIPLY)));
+
+      BigDecimal seven = new BigDecimal("7");
+      BigDecimal seventh = exact.calculate(BigDecimal.ONE, seven, Operator.DIVIDE);
+      BigDecimal one = exact.calculate(seventh, seven, Operator.MULTIPLY);
+      assertEquals(BigDecimal.ZERO, exact.calculate(one, BigDecimal.ONE, Operator.SUBTRACT));
+
+      BigDecimal fraction = exact.calculate(three, three, Operator.ONE_BY_X);
+      assertEquals(0, three.compareTo(exact.calculate(fraction, fraction, Operator.ONE_BY_X)));
+   }
+
+   @Test
+   void testExactModeFallsBackToDecimals() throws Exception {
+      ExpressionResolver exact = new ExpressionResolver(true);
+      BigDecimal two = new BigDecimal("2");
+      BigDecimal root = exact.calculate(two, two, Operator.SQRT);
+      assertEquals(ExpressionResolver.sqrt(two), root);
+      assertEquals(0, new BigDecimal("0.04").compareTo(exact.calculate(two, two, Operator.PERCENT)));
+   }
+
+   @Test
+   void testRepeatsStopBeforeLimits() {
+      BigDecimal ten = BigDecimal.TEN;
+      assertEquals(9998, resolver.countRepeats(Operator.MULTIPLY, ten, ten, Long.MAX_VALUE));
+      assertEquals(0, new BigDecimal("1e9999").compareTo(resolver.repeat(Operator.MULTIPLY, ten, ten, 9998)));
+      assertEquals(9998, resolver.countRepeats(Operator.MULTIPLY, ten, ten.negate(), Long.MAX_VALUE));
+      assertEquals(10000, resolver.countRepeats(Operator.MULTIPLY, ten, new BigDecimal("0.1"), Long.MAX_VALUE));
+      assertEquals(100, resolver.countRepeats(Operator.MULTIPLY, ten, new BigDecimal("-1.0"), 100));
+
+      BigDecimal quarter = new BigDecimal("0.25");
+      assertEquals(3, resolver.countRepeats(Operator.ADD, BigDecimal.ONE.negate(), quarter, 100));
+      assertEquals(new BigDecimal("-0.25"), resolver.repeat(Operator.ADD, BigDecimal.ONE.negate(), quarter, 3));
+      assertEquals(3, resolver.countRepeats(Operator.SUBTRACT, BigDecimal.ONE, quarter, 100));
+      assertEquals(100, resolver.countRepeats(Operator.SUBTRACT, BigDecimal.ONE, quarter.negate(), 100));
+      assertEquals(8, resolver.countRepeats(Operator.ADD, new BigDecimal("1e9999"), new BigDecimal("1e9999"), 100));
+
+      assertEquals(0, resolver.countRepeats(Operator.DIVIDE, ten, ten, 100));
+      assertEquals(0, new ExpressionResolver(true).countRepeats(Operator.ADD, ten, ten, 100));
+   }
+
+   @Test
+   void testPredictedLimitsMatchComputedLimits() {
+      for (int i = 0; i < DIVISION_SAMPLES; i++) {
+         BigDecimal first = limitDecimal();
+         BigDecimal second = limitDecimal();
+         for (Operator operator : new Operator[]{Operator.MULTIPLY, Operator.DIVIDE, Operator.SQUARE, Operator.ONE_BY_X}) {
+            BigDecimal exact;
+            if (operator == Operator.MULTIPLY) {
+               exact = first.multiply(second);
+            } else if (operator == Operator.DIVIDE) {
+               exact = first.divide(second, ExpressionResolver.SCALE, RoundingMode.HALF_UP);
+            } else if (operator == Operator.SQUARE) {
+               exact = second.multiply(second);
+            } else {
+               exact = BigDecimal.ONE.divide(second, ExpressionResolver.SCALE, RoundingMode.HALF_UP);
+            }
+            String expression = first + " " + operator + " " + second;
+            if (exact.abs().compareTo(ZERO_ROUND_LIMIT) < 0) {
+               assertEquals(BigDecimal.ZERO, calculateQuietly(first, second, operator), expression);
+            } else if (exact.abs().compareTo(MAX_SUPPORTED_VALUE) >= 0 || exact.abs().compareTo(MIN_SUPPORTED_VALUE) < 0) {
+               assertThrows(OverflowException.class, () -> resolver.calculate(first, second, operator), expression);
+            } else {
+               assertEquals(exact, calculateQuietly(first, second, operator), expression);
+            }
+         }
+      }
+   }
+
+   @Test
+   void testOverflowOfLongOperandsIsPredicted() {
+      BigDecimal longOperand = new BigDecimal(BigInteger.TEN.pow(5000).subtract(BigInteger.ONE), -4000);
+      assertThrows(OverflowException.class, () -> resolver.calculate(longOperand, longOperand, Operator.MULTIPLY));
+      assertThrows(OverflowException.class, () -> resolver.calculate(longOperand, longOperand, Operator.SQUARE));
+   }
+
+   /**
+    * Overflows of 1e5000 and 1e-5001 are predicted, overflows of the other operands are found after results are computed
+    */
+   @Test
+   void testPredictedOverflowLeavesComputedState() {
+      for (String text : new String[]{"1e5000", "9.9999999999999999e4999", "1e-5001", "1.1e-5000"}) {
+         for (Operator operator : new Operator[]{Operator.MULTIPLY, Operator.SQUARE}) {
+            for (boolean isNew : new boolean[]{true, false}) {
+               ExpressionResolver overflowing = new ExpressionResolver();
+               overflowing.setValues(BigDecimal.ONE);
+               overflowing.setValues(new BigDecimal(text));
+               overflowing.setValues(new BigDecimal(text));
+               byte[] before = state(overflowing);
+               assertThrows(OverflowException.class, () -> overflowing.resolve(operator, isNew), text + " " + operator);
+               assertArrayEquals(before, state(overflowing), text + " " + operator + " " + isNew);
+            }
+         }
+      }
+   }
+
+   private static byte[] state(ExpressionResolver resolver) {
+      StateWriter writer = new StateWriter();
+      resolver.writeState(writer);
+      return writer.toByteArray();
+   }
+
+   private BigDecimal calculateQuietly(BigDecimal first, BigDecimal second, Operator operator) {
+      try {
+         return resolver.calculate(first, second, operator);
+      } catch (Exception e) {
+         throw new AssertionError(first + " " + operator + " " + second, e);
+      }
+   }
+
+   /**
+    * Creates non-zero decimal with exponent close to limits of supported values
+    */
+   private BigDecimal limitDecimal() {
+      int[] exponents = {-20000, -10000, -9999, -5000, 0, 4999, 5000, 9999};
+      int exponent = exponents[random.nextInt(exponents.length)] + random.nextInt(3) - 1;
+      BigDecimal unscaled = random.nextBoolean() ? new BigDecimal("9.9999999999999995") : BigDecimal.valueOf(1 + random.nextInt(99), 1);
+      if (random.nextBoolean()) {
+         unscaled = unscaled.negate();
+      }
+      return unscaled.scaleByPowerOfTen(exponent);
+   }
+}
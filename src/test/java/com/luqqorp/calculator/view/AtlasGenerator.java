@@ -0,0 +1,162 @@
+package com.luqqorp.calculator.view;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class packs icons into sprite atlases, one atlas per directory of icons.
+ * Atlas is a PNG image with transparent padding between icons and a properties file
+ * of icon viewports in format {@code name=x,y,width,height}. Run {@link #main(String[])}
+ * after changes of icons, AtlasGeneratorTest fails while atlases are stale
+ */
+public class AtlasGenerator {
+   /**
+    * Directories of icons, name of directory is name of atlas
+    */
+   public static final Path ICONS = Paths.get("src/main/icons");
+   /**
+    * Directory of generated atlases
+    */
+   public static final Path ASSETS = Paths.get("src/main/resources", CalculatorGraphic.ASSETS_PATH);
+   /**
+    * Suffix of atlas names
+    */
+   public static final String ATLAS_SUFFIX = "-atlas";
+   /**
+    * Maximal width of atlas
+    */
+   private static final int MAX_WIDTH = 64;
+   /**
+    * Transparent pixels between icons, so smoothed icons do not take pixels of neighbours
+    */
+   private static final int PADDING = 1;
+
+   public static void main(String[] args) throws IOException {
+      for (Path directory : atlasDirectories()) {
+         String atlas = directory.getFileName() + ATLAS_SUFFIX;
+         Map<String, BufferedImage> icons = readIcons(directory);
+         Map<String, int[]> viewports = pack(icons);
+         ImageIO.write(draw(icons, viewports), "png", ASSETS.resolve(atlas + ".png").toFile());
+         Files.write(ASSETS.resolve(atlas + ".properties"), index(viewports).getBytes(StandardCharsets.ISO_8859_1));
+      }
+   }
+
+   /**
+    * Returns directories of icons
+    *
+    * @return directories in order of names
+    * @throws IOException if directories cannot be listed
+    */
+   public static List<Path> atlasDirectories() throws IOException {
+      try (Stream<Path> directories = Files.list(ICONS)) {
+         return directories.filter(Files::isDirectory).sorted().collect(Collectors.toList());
+      }
+   }
+
+   /**
+    * Reads icons of directory
+    *
+    * @param directory directory of PNG icons
+    * @return icons by names in order of names
+    * @throws IOException if icon cannot be read
+    */
+   public static Map<String, BufferedImage> readIcons(Path directory) throws IOException {
+      Map<String, BufferedImage> icons = new LinkedHashMap<>();
+      try (Stream<Path> files = Files.list(directory)) {
+         for (Path file : files.filter(path -> path.toString().endsWith(".png")).sorted().collect(Collectors.toList())) {
+            String name = file.getFileName().toString();
+            icons.put(name.substring(0, name.length() - ".png".length()), ImageIO.read(file.toFile()));
+         }
+      }
+      return icons;
+   }
+
+   /**
+    * Places icons on shelves from the highest to the lowest
+    *
+    * @param icons icons by names
+    * @return viewports by names in order of names
+    */
+   private static Map<String, int[]> pack(Map<String, BufferedImage> icons) {
+      List<String> names = new ArrayList<>(icons.keySet());
+      names.sort(Comparator.comparingInt((String name) -> -icons.get(name).getHeight()).thenComparing(name -> name));
+      Map<String, int[]> viewports = new LinkedHashMap<>();
+      int x = PADDING;
+      int y = PADDING;
+      int shelfHeight = 0;
+      for (String name : names) {
+         BufferedImage icon = icons.get(name);
+         if (x + icon.getWidth() + PADDING > MAX_WIDTH) {
+            x = PADDING;
+            y += shelfHeight + PADDING;
+            shelfHeight = 0;
+         }
+         viewports.put(name, new int[]{x, y, icon.getWidth(), icon.getHeight()});
+         x += icon.getWidth() + PADDING;
+         shelfHeight = Math.max(shelfHeight, icon.getHeight());
+      }
+      Map<String, int[]> sorted = new LinkedHashMap<>();
+      icons.keySet().forEach(name -> sorted.put(name, viewports.get(name)));
+      return sorted;
+   }
+
+   private static BufferedImage draw(Map<String, BufferedImage> icons, Map<String, int[]> viewports) {
+      int width = 0;
+      int height = 0;
+      for (int[] viewport : viewports.values()) {
+         width = Math.max(width, viewport[0] + viewport[2] + PADDING);
+         height = Math.max(height, viewport[1] + viewport[3] + PADDING);
+      }
+      BufferedImage atlas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+      for (Map.Entry<String, int[]> entry : viewports.entrySet()) {
+         BufferedImage icon = icons.get(entry.getKey());
+         int[] viewport = entry.getValue();
+         atlas.setRGB(viewport[0], viewport[1], viewport[2], viewport[3],
+                 icon.getRGB(0, 0, viewport[2], viewport[3], null, 0, viewport[2]), 0, viewport[2]);
+      }
+      return atlas;
+   }
+
+   private static String index(Map<String, int[]> viewports) {
+      StringBuilder index = new StringBuilder("# Generated by AtlasGenerator from src/main/icons, do not edit\n");
+      for (Map.Entry<String, int[]> entry : viewports.entrySet()) {
+         int[] viewport = entry.getValue();
+         index.append(entry.getKey()).append('=').append(viewport[0]).append(',').append(viewport[1]).append(',')
+                 .append(viewport[2]).append(',').append(viewport[3]).append('\n');
+      }
+      return index.toString();
+   }
+
+   /**
+    * Returns generated atlas image of directory
+    *
+    * @param directory directory of icons
+    * @return atlas file
+    */
+   public static File atlasImage(Path directory) {
+      return ASSETS.resolve(directory.getFileName() + ATLAS_SUFFIX + ".png").toFile();
+   }
+
+   /**
+    * Returns generated atlas index of directory
+    *
+    * @param directory directory of icons
+    * @return index file
+    */
+   public static Path atlasIndex(Path directory) {
+      return ASSETS.resolve(directory.getFileName() + ATLAS_SUFFIX + ".properties");
+   }
+}
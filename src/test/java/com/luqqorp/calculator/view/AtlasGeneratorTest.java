@@ -0,0 +1,40 @@
+package com.luqqorp.calculator.view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AtlasGeneratorTest {
+
+   @Test
+   void testAtlasesHaveAllIcons() throws Exception {
+      for (Path directory : AtlasGenerator.atlasDirectories()) {
+         Map<String, BufferedImage> icons = AtlasGenerator.readIcons(directory);
+         BufferedImage atlas = ImageIO.read(AtlasGenerator.atlasImage(directory));
+         Properties index = new Properties();
+         try (Reader reader = Files.newBufferedReader(AtlasGenerator.atlasIndex(directory))) {
+            index.load(reader);
+         }
+         assertEquals(icons.keySet(), index.stringPropertyNames(), "atlas of " + directory + " is stale, run AtlasGenerator");
+         for (Map.Entry<String, BufferedImage> entry : icons.entrySet()) {
+            BufferedImage icon = entry.getValue();
+            String[] viewport = index.getProperty(entry.getKey()).split(",");
+            int width = icon.getWidth();
+            int height = icon.getHeight();
+            assertEquals(width + "," + height, viewport[2] + "," + viewport[3], entry.getKey());
+            assertArrayEquals(icon.getRGB(0, 0, width, height, null, 0, width),
+                    atlas.getRGB(Integer.parseInt(viewport[0]), Integer.parseInt(viewport[1]), width, height, null, 0, width),
+                    entry.getKey() + " of " + directory + " is stale, run AtlasGenerator");
+         }
+      }
+   }
+}
@@ -1,5 +1,6 @@
 package com.luqqorp.calculator.view;
 
+import com.luqqorp.calculator.controller.CalculatorController;
 import com.luqqorp.calculator.utils.NodesInformation;
 import javafx.application.Platform;
 import javafx.geometry.Bounds;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 import org.testfx.api.FxToolkit;
 import org.testfx.framework.junit5.ApplicationTest;
 import org.testfx.util.WaitForAsyncUtils;
@@ -21,7 +23,7 @@ import org.testfx.util.WaitForAsyncUtils;
 import java.awt.*;
 import java.awt.event.InputEvent;
 import java.awt.event.MouseEvent;
-import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.TimeoutException;
 
@@ -39,8 +41,12 @@ class CalculatorGraphicTest extends ApplicationTest {
    private static int BORDER = 2;
    private static Robot robot;
 
+   @TempDir
+   static Path dataDirectory;
+
    @BeforeAll
    static void setupRobot() {
+      System.setProperty(CalculatorController.DATA_DIRECTORY_PROPERTY, dataDirectory.toString());
       try {
          robot = new Robot();
       } catch (AWTException e) {
@@ -52,14 +58,10 @@ class CalculatorGraphicTest extends ApplicationTest {
    void load() throws Exception {
       FxToolkit.registerPrimaryStage();
       setupStage((stage -> {
-         try {
-            calculatorGraphic.calcStage(stage);
-            primaryStage = stage;
-            nodesInformation = new NodesInformation(stage.getScene());
-            mainButtons = nodesInformation.getMainButtons();
-         } catch (IOException e) {
-            e.printStackTrace();
-         }
+         calculatorGraphic.calcStage(stage);
+         primaryStage = stage;
+         nodesInformation = new NodesInformation(stage.getScene());
+         mainButtons = nodesInformation.getMainButtons();
       }));
       FxToolkit.showStage();
    }
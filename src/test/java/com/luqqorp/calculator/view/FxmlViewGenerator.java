@@ -0,0 +1,472 @@
+package com.luqqorp.calculator.view;
+
+import com.luqqorp.calculator.controller.CalculatorController;
+import javafx.fxml.FXML;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * This class turns standard calculator FXML into {@link StandardCalcView}, plain code
+ * that creates the same nodes and wires {@link CalculatorController} directly.
+ * Types of attributes are taken from JavaFX classes, so the view is checked
+ * at compile time. Run {@link #main(String[])} after changes of FXML,
+ * FxmlViewGeneratorTest fails while the view is stale
+ */
+public class FxmlViewGenerator {
+   /**
+    * Source of generated view
+    */
+   public static final Path VIEW_SOURCE = Paths.get("src/main/java/com/luqqorp/calculator/view/StandardCalcView.java");
+   /**
+    * Ids of nodes whose content is built on the first open
+    */
+   private static final Set<String> LAZY_IDS = new HashSet<>(Arrays.asList("option-scroll", "history-tab"));
+   private static final String FX_NAMESPACE = "fx:";
+   private static final String INDENT = "   ";
+
+   /**
+    * Imported classes by simple names
+    */
+   private final Map<String, String> imports = new HashMap<>();
+   /**
+    * Classes used by generated code
+    */
+   private final Set<String> usedClasses = new TreeSet<>();
+   /**
+    * Generated methods in order of nodes
+    */
+   private final List<StringBuilder> methods = new ArrayList<>();
+   /**
+    * Constants of resources by their paths
+    */
+   private final Map<String, String> resources = new LinkedHashMap<>();
+   /**
+    * Used names of variables and methods
+    */
+   private final Set<String> names = new HashSet<>(Arrays.asList("controller", "build"));
+
+   public static void main(String[] args) throws Exception {
+      Files.write(VIEW_SOURCE, generate().getBytes(StandardCharsets.UTF_8));
+   }
+
+   /**
+    * Generates source of view from FXML
+    *
+    * @return source of {@link StandardCalcView}
+    * @throws Exception if FXML cannot be read or has unsupported content
+    */
+   public static String generate() throws Exception {
+      try (InputStream fxml = FxmlViewGenerator.class.getResourceAsStream(CalculatorGraphic.STANDARD_CALC_FXML)) {
+         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+         Document document = factory.newDocumentBuilder().parse(fxml);
+         return new FxmlViewGenerator().generate(document);
+      }
+   }
+
+   private String generate(Document document) throws Exception {
+      for (Node node = document.getFirstChild(); node != null; node = node.getNextSibling()) {
+         if (node instanceof ProcessingInstruction && ((ProcessingInstruction) node).getTarget().equals("import")) {
+            String className = ((ProcessingInstruction) node).getData().trim();
+            imports.put(className.substring(className.lastIndexOf('.') + 1), className);
+         }
+      }
+      Element root = document.getDocumentElement();
+      String rootType = simpleName(typeOf(root));
+      String rootMethod = element(root, null);
+
+      StringBuilder source = new StringBuilder();
+      source.append("package com.luqqorp.calculator.view;\n\n");
+      usedClasses.add(CalculatorController.class.getName());
+      for (String className : usedClasses) {
+         source.append("import ").append(className).append(";\n");
+      }
+      source.append("\n/**\n")
+              .append(" * Standard calculator view built by plain code instead of parsing FXML on start.\n")
+              .append(" * Content of option scroll and history tab is built on the first open, see {@link LazyContent}.\n")
+              .append(" * Generated by FxmlViewGenerator from standard_calc.fxml, do not edit\n")
+              .append(" */\n")
+              .append("public class StandardCalcView {\n");
+      for (Map.Entry<String, String> resource : resources.entrySet()) {
+         source.append(INDENT).append("/**\n")
+                 .append(INDENT).append(" * Resource ").append(resource.getKey()).append('\n')
+                 .append(INDENT).append(" */\n")
+                 .append(INDENT).append("private static final String ").append(resource.getValue())
+                 .append(" = StandardCalcView.class.getResource(").append(literal(resource.getKey())).append(").toExternalForm();\n");
+      }
+      source.append(INDENT).append("/**\n")
+              .append(INDENT).append(" * Controller of nodes\n")
+              .append(INDENT).append(" */\n")
+              .append(INDENT).append("private final CalculatorController controller;\n\n")
+              .append(INDENT).append("/**\n")
+              .append(INDENT).append(" * Constructs view of controller\n")
+              .append(INDENT).append(" *\n")
+              .append(INDENT).append(" * @param controller controller of nodes\n")
+              .append(INDENT).append(" */\n")
+              .append(INDENT).append("public StandardCalcView(CalculatorController controller) {\n")
+              .append(INDENT).append(INDENT).append("this.controller = controller;\n")
+              .append(INDENT).append("}\n\n")
+              .append(INDENT).append("/**\n")
+              .append(INDENT).append(" * Builds nodes of view and wires them with controller\n")
+              .append(INDENT).append(" *\n")
+              .append(INDENT).append(" * @return root of view\n")
+              .append(INDENT).append(" */\n")
+              .append(INDENT).append("public ").append(rootType).append(" build() {\n")
+              .append(INDENT).append(INDENT).append("return ").append(rootMethod).append(";\n")
+              .append(INDENT).append("}\n");
+      for (StringBuilder method : methods) {
+         source.append('\n').append(method);
+      }
+      source.append("}\n");
+      return source.toString();
+   }
+
+   /**
+    * Generates creation of node element, element with content gets its own method
+    *
+    * @param element node element
+    * @param body    statements of parent method
+    * @return expression of created node
+    */
+   private String element(Element element, StringBuilder body) throws Exception {
+      Class<?> type = typeOf(element);
+      String id = element.getAttribute("id");
+      String fxId = element.getAttribute(FX_NAMESPACE + "id");
+      String name = uniqueName(!fxId.isEmpty() ? fxId : !id.isEmpty() ? id : simpleName(type));
+      List<Element> properties = childElements(element);
+      boolean ownMethod = body == null || properties.stream().anyMatch(FxmlViewGenerator::isContent);
+      StringBuilder statements = ownMethod ? new StringBuilder() : body;
+      StringBuilder method = new StringBuilder();
+      if (ownMethod) {
+         methods.add(method);
+      }
+
+      String declaredType = declaredType(type, fxId);
+      String diamond = declaredType.equals(simpleName(type)) ? "" : "<>";
+      statement(statements, declaredType + " " + name + " = new " + simpleName(type) + diamond + "();");
+      if (!fxId.isEmpty() && id.isEmpty()) {
+         statement(statements, name + ".setId(" + literal(fxId) + ");");
+      }
+      NamedNodeMap attributes = element.getAttributes();
+      for (int i = 0; i < attributes.getLength(); i++) {
+         attribute(type, name, attributes.item(i).getNodeName(), attributes.item(i).getNodeValue(), statements);
+      }
+      List<Element> lazyProperties = new ArrayList<>();
+      for (Element property : properties) {
+         if (isContent(property) && LAZY_IDS.contains(id)) {
+            lazyProperties.add(property);
+         } else {
+            property(type, name, property, statements);
+         }
+      }
+      if (!fxId.isEmpty()) {
+         wire(fxId, name, statements);
+      }
+      if (!lazyProperties.isEmpty()) {
+         lazyContent(type, name, lazyProperties, statements);
+      }
+      if (!ownMethod) {
+         return name;
+      }
+      method.append(INDENT).append("private ").append(declaredType).append(' ').append(name).append("() {\n")
+              .append(statements);
+      statement(method, "return " + name + ";");
+      method.append(INDENT).append("}\n");
+      return name + "()";
+   }
+
+   /**
+    * Generates method that builds deferred content of node
+    */
+   private void lazyContent(Class<?> type, String name, List<Element> properties, StringBuilder statements) throws Exception {
+      String methodName = uniqueName(name + "Content");
+      StringBuilder method = new StringBuilder();
+      methods.add(method);
+      StringBuilder content = new StringBuilder();
+      for (Element property : properties) {
+         property(type, name, property, content);
+      }
+      method.append(INDENT).append("private void ").append(methodName).append('(').append(simpleName(type)).append(' ')
+              .append(name).append(") {\n").append(content).append(INDENT).append("}\n");
+      statement(statements, "LazyContent.register(" + name + ", () -> " + methodName + "(" + name + "));");
+   }
+
+   private void attribute(Class<?> type, String name, String attribute, String value, StringBuilder statements) throws Exception {
+      if (attribute.startsWith("xmlns") || attribute.startsWith(FX_NAMESPACE)) {
+         return;
+      }
+      if (attribute.contains(".")) {
+         String owner = attribute.substring(0, attribute.indexOf('.'));
+         String property = attribute.substring(attribute.indexOf('.') + 1);
+         Method setter = staticSetter(classOf(owner), property);
+         statement(statements, simpleName(classOf(owner)) + "." + setter.getName() + "(" + name + ", "
+                 + coerce(setter.getParameterTypes()[1], value) + ");");
+      } else if (attribute.startsWith("on") && value.startsWith("#")) {
+         String handler = value.substring(1);
+         if (Arrays.stream(CalculatorController.class.getMethods()).noneMatch(m -> m.getName().equals(handler))) {
+            throw new IllegalStateException("Controller has no public handler " + handler);
+         }
+         statement(statements, name + ".set" + capitalize(attribute) + "(controller::" + handler + ");");
+      } else if (attribute.equals("stylesheets")) {
+         for (String stylesheet : value.split(",")) {
+            statement(statements, name + ".getStylesheets().add(" + resource(stylesheet.trim()) + ");");
+         }
+      } else if (attribute.equals("styleClass")) {
+         for (String styleClass : value.split(",")) {
+            statement(statements, name + ".getStyleClass().add(" + literal(styleClass.trim()) + ");");
+         }
+      } else {
+         Method setter = setter(type, attribute);
+         statement(statements, name + "." + setter.getName() + "(" + coerce(setter.getParameterTypes()[0], value) + ");");
+      }
+   }
+
+   private void property(Class<?> type, String name, Element property, StringBuilder statements) throws Exception {
+      String propertyName = property.getTagName();
+      List<Element> values = childElements(property);
+      if (propertyName.contains(".")) {
+         Class<?> owner = classOf(propertyName.substring(0, propertyName.indexOf('.')));
+         Method setter = staticSetter(owner, propertyName.substring(propertyName.indexOf('.') + 1));
+         statement(statements, simpleName(owner) + "." + setter.getName() + "(" + name + ", " + value(single(values), statements) + ");");
+      } else if (propertyName.equals("children") || propertyName.equals("styleClass")) {
+         String getter = "get" + capitalize(propertyName);
+         for (Element value : values) {
+            String expression = value(value, statements);
+            statement(statements, name + "." + getter + "().add(" + expression + ");");
+         }
+      } else {
+         Method setter = setter(type, propertyName);
+         statement(statements, name + "." + setter.getName() + "(" + value(single(values), statements) + ");");
+      }
+   }
+
+   /**
+    * Generates expression of value element
+    */
+   private String value(Element element, StringBuilder statements) throws Exception {
+      switch (element.getTagName()) {
+         case "String":
+            return literal(element.getAttribute(FX_NAMESPACE + "value"));
+         case "Insets":
+            usedClasses.add(classOf("Insets").getName());
+            return "new Insets(" + number(element, "top") + ", " + number(element, "right") + ", "
+                    + number(element, "bottom") + ", " + number(element, "left") + ")";
+         case "Font":
+            usedClasses.add(classOf("Font").getName());
+            return "new Font(" + literal(element.getAttribute("name")) + ", " + number(element, "size") + ")";
+         default:
+            return element(element, statements);
+      }
+   }
+
+   /**
+    * Wires node with field of controller that has the same name
+    */
+   private void wire(String fxId, String name, StringBuilder statements) {
+      for (Field field : CalculatorController.class.getDeclaredFields()) {
+         if (field.getName().equals(fxId) && field.isAnnotationPresent(FXML.class)) {
+            statement(statements, "controller.set" + capitalize(fxId) + "(" + name + ");");
+         }
+      }
+   }
+
+   /**
+    * Returns type of node with type arguments of controller field that has the same name, e.g. items of list
+    */
+   private String declaredType(Class<?> type, String fxId) {
+      for (Field field : CalculatorController.class.getDeclaredFields()) {
+         if (field.getName().equals(fxId) && field.isAnnotationPresent(FXML.class)
+                 && field.getGenericType() instanceof ParameterizedType) {
+            StringJoiner arguments = new StringJoiner(", ", "<", ">");
+            for (Type argument : ((ParameterizedType) field.getGenericType()).getActualTypeArguments()) {
+               Class<?> argumentType = (Class<?>) argument;
+               usedClasses.add((argumentType.getEnclosingClass() == null ? argumentType : argumentType.getEnclosingClass()).getName());
+               arguments.add(simpleName(argumentType));
+            }
+            return simpleName(type) + arguments;
+         }
+      }
+      return simpleName(type);
+   }
+
+   private String coerce(Class<?> type, String value) {
+      if (type == double.class || type == Double.class) {
+         return doubleLiteral(value);
+      } else if (type == int.class || type == boolean.class) {
+         return value;
+      } else if (type == String.class) {
+         return literal(value);
+      } else if (type.isEnum()) {
+         usedClasses.add((type.getEnclosingClass() == null ? type : type.getEnclosingClass()).getName());
+         return simpleName(type) + "." + value;
+      }
+      throw new IllegalStateException("Unsupported type " + type + " of value " + value);
+   }
+
+   private String number(Element element, String attribute) {
+      String value = element.getAttribute(attribute);
+      return doubleLiteral(value.isEmpty() ? "0" : value);
+   }
+
+   private static String doubleLiteral(String value) {
+      double number = Double.parseDouble(value);
+      if (number == Double.POSITIVE_INFINITY) {
+         return "Double.POSITIVE_INFINITY";
+      } else if (number == Double.NEGATIVE_INFINITY) {
+         return "Double.NEGATIVE_INFINITY";
+      } else if (number == Double.MAX_VALUE) {
+         return "Double.MAX_VALUE";
+      }
+      return String.valueOf(number);
+   }
+
+   /**
+    * Creates constant of resource that is located relative to FXML
+    */
+   private String resource(String location) {
+      if (!location.startsWith("@")) {
+         throw new IllegalStateException("Unsupported location " + location);
+      }
+      String path = "/" + location.substring(1);
+      return resources.computeIfAbsent(path, key -> key.substring(key.lastIndexOf('/') + 1)
+              .replaceAll("[^A-Za-z0-9]", "_").toUpperCase());
+   }
+
+   private static String literal(String value) {
+      if (value.startsWith("%") || value.startsWith("$")) {
+         throw new IllegalStateException("Unsupported value " + value);
+      }
+      if (value.startsWith("\\")) {
+         value = value.substring(1);
+      }
+      StringBuilder literal = new StringBuilder("\"");
+      for (char c : value.toCharArray()) {
+         if (c == '"' || c == '\\') {
+            literal.append('\\').append(c);
+         } else if (c < ' ' || c > '~') {
+            literal.append(String.format("\\u%04X", (int) c));
+         } else {
+            literal.append(c);
+         }
+      }
+      return literal.append('"').toString();
+   }
+
+   private Class<?> typeOf(Element element) throws ClassNotFoundException {
+      Class<?> type = classOf(element.getTagName());
+      usedClasses.add(type.getName());
+      return type;
+   }
+
+   private Class<?> classOf(String simpleName) throws ClassNotFoundException {
+      String className = imports.get(simpleName);
+      if (className == null) {
+         throw new ClassNotFoundException(simpleName + " is not imported by FXML");
+      }
+      Class<?> type = Class.forName(className, false, FxmlViewGenerator.class.getClassLoader());
+      usedClasses.add(type.getName());
+      return type;
+   }
+
+   private static String simpleName(Class<?> type) {
+      return type.getEnclosingClass() == null ? type.getSimpleName() : simpleName(type.getEnclosingClass()) + "." + type.getSimpleName();
+   }
+
+   private static Method setter(Class<?> type, String property) {
+      String setterName = "set" + capitalize(property);
+      for (Method method : type.getMethods()) {
+         if (method.getName().equals(setterName) && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers())) {
+            return method;
+         }
+      }
+      throw new IllegalStateException(type.getSimpleName() + " has no property " + property);
+   }
+
+   private static Method staticSetter(Class<?> type, String property) {
+      String setterName = "set" + capitalize(property);
+      for (Method method : type.getMethods()) {
+         if (method.getName().equals(setterName) && method.getParameterCount() == 2 && Modifier.isStatic(method.getModifiers())) {
+            return method;
+         }
+      }
+      throw new IllegalStateException(type.getSimpleName() + " has no static property " + property);
+   }
+
+   private static boolean isContent(Element property) {
+      return property.getTagName().equals("children") || property.getTagName().equals("content");
+   }
+
+   private static List<Element> childElements(Element element) {
+      List<Element> elements = new ArrayList<>();
+      for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+         if (node instanceof Element) {
+            elements.add((Element) node);
+         }
+      }
+      return elements;
+   }
+
+   private static Element single(List<Element> values) {
+      if (values.size() != 1) {
+         throw new IllegalStateException("Property has " + values.size() + " values");
+      }
+      return values.get(0);
+   }
+
+   /**
+    * Creates unique java name from id of node
+    */
+   private String uniqueName(String id) {
+      StringBuilder name = new StringBuilder();
+      boolean upper = false;
+      for (char c : id.toCharArray()) {
+         if (Character.isLetterOrDigit(c)) {
+            name.append(upper ? Character.toUpperCase(c) : c);
+            upper = false;
+         } else {
+            upper = name.length() > 0;
+         }
+      }
+      name.setCharAt(0, Character.toLowerCase(name.charAt(0)));
+      if (Character.isDigit(name.charAt(0))) {
+         name.insert(0, '_');
+      }
+      String unique = name.toString();
+      for (int i = 2; !names.add(unique); i++) {
+         unique = name.toString() + i;
+      }
+      return unique;
+   }
+
+   private static String capitalize(String name) {
+      return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+   }
+
+   private static void statement(StringBuilder statements, String statement) {
+      statements.append(INDENT).append(INDENT).append(statement).append('\n');
+   }
+}
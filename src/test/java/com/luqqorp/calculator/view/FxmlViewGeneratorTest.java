@@ -0,0 +1,17 @@
+package com.luqqorp.calculator.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FxmlViewGeneratorTest {
+
+   @Test
+   void testViewIsGeneratedFromFxml() throws Exception {
+      String view = new String(Files.readAllBytes(FxmlViewGenerator.VIEW_SOURCE), StandardCharsets.UTF_8);
+      assertEquals(FxmlViewGenerator.generate(), view, "StandardCalcView is stale, run FxmlViewGenerator");
+   }
+}
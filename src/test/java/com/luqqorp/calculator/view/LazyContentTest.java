@@ -0,0 +1,34 @@
+package com.luqqorp.calculator.view;
+
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyContentTest {
+   private final List<String> built = new ArrayList<>();
+
+   @Test
+   void testContentIsBuiltOnce() {
+      Pane tab = new Pane();
+      LazyContent.register(tab, () -> built.add("content"));
+      LazyContent.whenBuilt(tab, () -> built.add("icons"));
+      assertFalse(LazyContent.isBuilt(tab));
+      assertTrue(built.isEmpty());
+
+      LazyContent.build(tab);
+      LazyContent.build(tab);
+      assertTrue(LazyContent.isBuilt(tab));
+      assertEquals(Arrays.asList("content", "icons"), built);
+
+      // action after build runs at once
+      LazyContent.whenBuilt(tab, () -> built.add("scroll"));
+      assertEquals(Arrays.asList("content", "icons", "scroll"), built);
+   }
+}
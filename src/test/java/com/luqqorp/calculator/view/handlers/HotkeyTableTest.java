@@ -0,0 +1,68 @@
+package com.luqqorp.calculator.view.handlers;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotkeyTableTest {
+   /**
+    * Fired targets with counts of presses
+    */
+   private final List<String> fired = new ArrayList<>();
+   private final HotkeyTable<String> hotkeys = new HotkeyTable<>((target, count) -> fired.add(target + "*" + count));
+
+   HotkeyTableTest() {
+      hotkeys.putHotkey(KeyCode.DIGIT2, "2");
+      hotkeys.putHotkey(KeyCode.DIGIT5, "5");
+      hotkeys.putHotCombination(KeyCode.DIGIT2, HotkeyTable.SHIFT, "sqrt");
+   }
+
+   @Test
+   void testCombinationFallsBackToPlainKey() {
+      hotkeys.press(KeyCode.DIGIT2, HotkeyTable.SHIFT);
+      hotkeys.release();
+      hotkeys.press(KeyCode.DIGIT2, HotkeyTable.CONTROL);
+      hotkeys.release();
+      hotkeys.press(KeyCode.DIGIT2, HotkeyTable.SHIFT | HotkeyTable.ALT);
+      hotkeys.release();
+      hotkeys.press(KeyCode.DIGIT5, HotkeyTable.SHIFT);
+      hotkeys.release();
+      assertFalse(hotkeys.press(KeyCode.A, 0));
+      assertEquals(Arrays.asList("sqrt*1", "2*1", "2*1", "5*1"), fired);
+   }
+
+   @Test
+   void testRepeatsAreCollapsedAndFlushedOnRelease() {
+      assertFalse(hotkeys.press(KeyCode.DIGIT5, 0));
+      for (int i = 0; i < 9; i++) {
+         assertTrue(hotkeys.press(KeyCode.DIGIT5, 0));
+      }
+      assertEquals(Collections.singletonList("5*1"), fired);
+      hotkeys.fireRepeats();
+      assertTrue(hotkeys.press(KeyCode.DIGIT5, 0));
+      assertTrue(hotkeys.press(KeyCode.DIGIT5, 0));
+      assertEquals("5", hotkeys.release());
+      hotkeys.fireRepeats();
+      assertEquals(Arrays.asList("5*1", "5*9", "5*2"), fired);
+   }
+
+   @Test
+   void testReleaseResetsRepeatDetection() {
+      hotkeys.press(KeyCode.DIGIT5, 0);
+      hotkeys.release();
+      assertFalse(hotkeys.press(KeyCode.DIGIT5, 0));
+      // another key or combination of the same key stops repeats of held key
+      assertTrue(hotkeys.press(KeyCode.DIGIT5, 0));
+      assertFalse(hotkeys.press(KeyCode.DIGIT2, 0));
+      assertFalse(hotkeys.press(KeyCode.DIGIT2, HotkeyTable.SHIFT));
+      assertEquals(Arrays.asList("5*1", "5*1", "5*1", "2*1", "sqrt*1"), fired);
+   }
+}
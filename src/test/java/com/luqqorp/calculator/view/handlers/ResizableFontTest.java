@@ -0,0 +1,52 @@
+package com.luqqorp.calculator.view.handlers;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontPosture;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResizableFontTest {
+   private final FontCache fontCache = new FontCache();
+   private final ObjectProperty<Font> first = new SimpleObjectProperty<>();
+   private final ObjectProperty<Font> second = new SimpleObjectProperty<>();
+   private final ResizableFont resizableFont = new ResizableFont(fontCache, "Times New Roman", FontPosture.ITALIC, 20,
+           Arrays.asList(first, second));
+
+   @Test
+   void testFontsAreCachedByQuantizedSize() {
+      Font font = fontCache.font("Segoe UI", FontPosture.REGULAR, 24.2);
+      assertEquals(24, font.getSize());
+      assertSame(font, fontCache.font("Segoe UI", FontPosture.REGULAR, 24.9));
+      assertNotSame(font, fontCache.font("Segoe UI", FontPosture.ITALIC, 24));
+      assertNotSame(font, fontCache.font("Segoe UI", FontPosture.REGULAR, 25));
+      assertEquals(1, fontCache.font("Segoe UI", FontPosture.REGULAR, 0.5).getSize());
+      assertEquals(4, fontCache.getCreatedFonts());
+   }
+
+   @Test
+   void testFontIsSetOnlyWhenSizeIsChanged() {
+      assertTrue(resizableFont.resize(500));
+      Font font = first.get();
+      assertEquals(25, font.getSize());
+      assertSame(font, second.get());
+
+      // window is dragged within the same quantized size
+      for (int height = 501; height < 520; height++) {
+         assertFalse(resizableFont.resize(height));
+      }
+      assertTrue(resizableFont.resize(520));
+      assertEquals(26, first.get().getSize());
+      assertTrue(resizableFont.resize(505));
+      assertSame(font, first.get());
+      assertEquals(2, fontCache.getCreatedFonts());
+   }
+}
@@ -0,0 +1,61 @@
+package com.luqqorp.calculator.view.listeners;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DragCoalescerTest {
+   /**
+    * Counts of requested pulses
+    */
+   private int pulseRequests;
+   /**
+    * Applied scene horizontal points
+    */
+   private final List<Double> applied = new ArrayList<>();
+   private final DragCoalescer dragCoalescer = new DragCoalescer((sceneX, sceneY, screenX, screenY) -> applied.add(sceneX),
+           () -> pulseRequests++);
+
+   @Test
+   void testDragIsAppliedOncePerPulse() {
+      for (int i = 1; i <= 30; i++) {
+         dragCoalescer.drag(i, i, 100 + i, 100 + i);
+      }
+      assertEquals(1, pulseRequests);
+      assertEquals(0, applied.size());
+      dragCoalescer.applyDrag();
+      assertEquals(List.of(30.0), applied);
+
+      dragCoalescer.drag(31, 31, 131, 131);
+      dragCoalescer.drag(32, 32, 132, 132);
+      dragCoalescer.applyDrag();
+      dragCoalescer.applyDrag();
+      assertEquals(2, pulseRequests);
+      assertEquals(List.of(30.0, 32.0), applied);
+      assertEquals(32, dragCoalescer.getDraggedEvents());
+      assertEquals(2, dragCoalescer.getAppliedDrags());
+   }
+
+   @Test
+   void testFinalSizeIsAppliedOnRelease() {
+      dragCoalescer.drag(1, 1, 101, 101);
+      dragCoalescer.applyDrag();
+      dragCoalescer.drag(2, 2, 102, 102);
+      dragCoalescer.drag(3, 3, 103, 103);
+      dragCoalescer.release();
+      assertEquals(List.of(1.0, 3.0), applied);
+
+      // pulse requested before release finds nothing to apply
+      dragCoalescer.applyDrag();
+      assertEquals(List.of(1.0, 3.0), applied);
+
+      dragCoalescer.reset();
+      dragCoalescer.release();
+      assertEquals(2, applied.size());
+      assertEquals(0, dragCoalescer.getDraggedEvents());
+      assertEquals(0, dragCoalescer.getAppliedDrags());
+   }
+}